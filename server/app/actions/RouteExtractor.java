@@ -31,6 +31,7 @@ public final class RouteExtractor {
   // Example: something like /$id<[^/]+>
   // This is the pattern used to break the route apart
   private static final String INDEX_PATTERN = "\\$(.+?)<\\[\\^/\\]\\+>";
+  private static final Pattern COMPILED_INDEX_PATTERN = Pattern.compile(INDEX_PATTERN);
 
   /**
    * @param routePattern Get the routePattern from an instance of {@link play.mvc.Http.Request} like
@@ -52,6 +53,19 @@ public final class RouteExtractor {
     this(request.attrs().get(Router.Attrs.HANDLER_DEF).path(), request.path());
   }
 
+  /**
+   * Returns the route pattern with each path parameter written as {@code :name}, which is stable
+   * across requests to the same route.
+   *
+   * <p>Example: {@code /programs/$programId<[^/]+>/edit} becomes {@code /programs/:programId/edit}
+   *
+   * @param routePattern Get the routePattern from an instance of {@link play.mvc.Http.Request} like
+   *     this {@code request.attrs().get(Router.Attrs.HANDLER_DEF).path()}
+   */
+  public static String toRouteTemplate(String routePattern) {
+    return COMPILED_INDEX_PATTERN.matcher(routePattern).replaceAll(":$1");
+  }
+
   /** Create a map containing all the matching path parameters and associated values */
   private ImmutableMap<String, String> extract() {
     Pattern pattern = Pattern.compile(this.replaceRoutePatternWithGroup());
@@ -66,14 +80,12 @@ public final class RouteExtractor {
   }
 
   private String replaceRoutePatternWithGroup() {
-    Pattern pattern = Pattern.compile(INDEX_PATTERN);
-    Matcher matcher = pattern.matcher(this.routePattern);
+    Matcher matcher = COMPILED_INDEX_PATTERN.matcher(this.routePattern);
     return matcher.replaceAll("([^/]+)");
   }
 
   private Map<Integer, String> extractPositions() {
-    Pattern pattern = Pattern.compile(INDEX_PATTERN);
-    Matcher matcher = pattern.matcher(this.routePattern);
+    Matcher matcher = COMPILED_INDEX_PATTERN.matcher(this.routePattern);
     Map<Integer, String> results = new HashMap<>();
 
     int index = 0;
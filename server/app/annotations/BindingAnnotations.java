@@ -50,4 +50,13 @@ public final class BindingAnnotations {
   @Target({FIELD, PARAMETER, METHOD})
   @Retention(RUNTIME)
   public @interface StartupJobsProviderName {}
+
+  /**
+   * Holds the {@link services.email.EmailSendClient} that sends through the configured {@link
+   * services.email.EmailSendProvider} right away, rather than through the email outbox.
+   */
+  @Qualifier
+  @Target({FIELD, PARAMETER, METHOD})
+  @Retention(RUNTIME)
+  public @interface EmailSendProviderClient {}
 }
@@ -4,7 +4,6 @@ import auth.controllers.MissingOptionalException;
 import com.google.common.base.Preconditions;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.concurrent.CompletionException;
 import javax.inject.Inject;
 import models.ApiKeyModel;
 import org.pac4j.core.context.WebContext;
@@ -90,19 +89,6 @@ public class ProfileUtils {
         || IDCS_PLACEHOLDER_TEST_EMAIL_LOWERCASE.equals(userEmailLowercase);
   }
 
-  /** Return true if the account referenced by the profile exists. */
-  public boolean validCiviFormProfile(CiviFormProfile profile) {
-    try {
-      profile.getAccount().join();
-      return true;
-    } catch (CompletionException e) {
-      if (e.getCause() instanceof AccountNonexistentException) {
-        return false;
-      }
-      throw new RuntimeException(e);
-    }
-  }
-
   /** Retrieves the applicant id from the user profile, if present. */
   public Optional<Long> getApplicantId(Http.Request request) {
     Optional<CiviFormProfile> profile = optionalCurrentUserProfile(request);
@@ -0,0 +1,129 @@
+package auth;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableSet;
+import java.util.Optional;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import play.cache.NamedCache;
+import play.cache.SyncCacheApi;
+import services.cache.CacheInvalidator;
+import services.cache.NamedCaches;
+
+/**
+ * Remembers which sessions of which accounts were recently found to be valid, so that {@link
+ * filters.ValidAccountFilter} doesn't need to load the account from the database on every request.
+ *
+ * <p>Entries are stored in the "valid-sessions" named cache, keyed by account id, with the set of
+ * session ids known to be valid for that account as the value. Anything that removes a session or
+ * deletes an account must invalidate the cache. Invalidations go through the {@link
+ * CacheInvalidator}, so when it shares them between servers they take effect everywhere;
+ * otherwise other servers pick up the change once their entries expire.
+ *
+ * <p>The cache's maximum size is set in application.conf, so it doesn't grow with the number of
+ * active accounts. An account evicted early just has its sessions checked against the database.
+ *
+ * <p>A session is checked against the database before it is marked valid, and it may end in
+ * between. So that the check can't put an ended session back in the cache, each account has a
+ * generation that every invalidation of its sessions increments, on this server or another.
+ * Sessions are only marked valid if the generation hasn't changed since before they were checked.
+ */
+@Singleton
+public final class ValidSessionCache {
+
+  // When invalidations aren't shared between servers, the cache expiration time bounds how long a
+  // session that was ended on another server is still accepted by this server. Keep it short since
+  // accepting a session that has been logged out is what session replay protection prevents.
+  private static final int CACHE_EXPIRATION_TIME_SECONDS = 30;
+
+  private static final String CACHE_NAME = "valid-sessions";
+
+  // Accounts share generations, so memory use doesn't grow with the number of accounts. An
+  // invalidation of an account that shares a generation only means a session of another account
+  // isn't marked valid, and is checked against the database again on its next request.
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final SyncCacheApi validSessionCache;
+  private final CacheInvalidator cacheInvalidator;
+
+  // Guarded by this.
+  private final long[] generations = new long[GENERATION_STRIPES];
+
+  @Inject
+  public ValidSessionCache(
+      @NamedCache(CACHE_NAME) SyncCacheApi validSessionCache,
+      CacheInvalidator cacheInvalidator,
+      NamedCaches namedCaches) {
+    this.validSessionCache = checkNotNull(validSessionCache);
+    this.cacheInvalidator = checkNotNull(cacheInvalidator);
+    namedCaches.addInvalidationListener(CACHE_NAME, this::incrementGenerations);
+  }
+
+  /** Returns true if the session was recently found to be valid for the account. */
+  public boolean isKnownValid(long accountId, String sessionId) {
+    return getSessionIds(accountId).contains(Strings.nullToEmpty(sessionId));
+  }
+
+  /**
+   * Returns the generation of the account's sessions, to pass to {@link #markValid} once a session
+   * has been checked. Read it before checking the session.
+   */
+  public synchronized long getGeneration(long accountId) {
+    return generations[stripe(accountId)];
+  }
+
+  /**
+   * Records that the session was found to be valid for the account, unless the account's sessions
+   * have been invalidated since {@code generation} was read.
+   */
+  public synchronized void markValid(long accountId, String sessionId, long generation) {
+    if (generations[stripe(accountId)] != generation) {
+      return;
+    }
+    ImmutableSet<String> sessionIds =
+        ImmutableSet.<String>builder()
+            .addAll(getSessionIds(accountId))
+            .add(Strings.nullToEmpty(sessionId))
+            .build();
+    validSessionCache.set(cacheKey(accountId), sessionIds, CACHE_EXPIRATION_TIME_SECONDS);
+  }
+
+  /** Forgets all sessions of the account, e.g. because one or more of them has ended. */
+  public void invalidateAccount(long accountId) {
+    cacheInvalidator.invalidate(CACHE_NAME, cacheKey(accountId));
+  }
+
+  /** Forgets all sessions of all accounts, e.g. because accounts have been deleted in bulk. */
+  public void invalidateAll() {
+    cacheInvalidator.invalidateAll(CACHE_NAME);
+  }
+
+  /**
+   * Called before entries are removed from the cache, so a session checked before the removal isn't
+   * written back after it.
+   */
+  private synchronized void incrementGenerations(Optional<String> cacheKey) {
+    if (cacheKey.isPresent()) {
+      generations[stripe(Long.parseLong(cacheKey.get()))]++;
+    } else {
+      for (int i = 0; i < generations.length; i++) {
+        generations[i]++;
+      }
+    }
+  }
+
+  private static int stripe(long accountId) {
+    return Math.floorMod(Long.hashCode(accountId), GENERATION_STRIPES);
+  }
+
+  private ImmutableSet<String> getSessionIds(long accountId) {
+    Optional<ImmutableSet<String>> sessionIds = validSessionCache.getOptional(cacheKey(accountId));
+    return sessionIds.orElse(ImmutableSet.of());
+  }
+
+  private static String cacheKey(long accountId) {
+    return String.valueOf(accountId);
+  }
+}
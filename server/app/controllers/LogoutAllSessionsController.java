@@ -5,6 +5,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import auth.CiviFormProfile;
 import auth.ClientIpResolver;
 import auth.ProfileUtils;
+import auth.ValidSessionCache;
 import com.google.common.collect.ImmutableList;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -31,18 +32,21 @@ public class LogoutAllSessionsController extends Controller {
   private final AccountRepository accountRepository;
   private final ClientIpResolver clientIpResolver;
   private final SettingsManifest settingsManifest;
+  private final ValidSessionCache validSessionCache;
 
   @Inject
   public LogoutAllSessionsController(
       ProfileUtils profileUtils,
       AccountRepository accountRepository,
       SettingsManifest settingsManifest,
-      ClientIpResolver clientIpResolver) {
+      ClientIpResolver clientIpResolver,
+      ValidSessionCache validSessionCache) {
 
     this.profileUtils = checkNotNull(profileUtils);
     this.accountRepository = checkNotNull(accountRepository);
     this.settingsManifest = checkNotNull(settingsManifest);
     this.clientIpResolver = checkNotNull(clientIpResolver);
+    this.validSessionCache = checkNotNull(validSessionCache);
   }
 
   public CompletionStage<Result> index(Http.Request request) {
@@ -57,6 +61,7 @@ public class LogoutAllSessionsController extends Controller {
                   logger.debug("Found account for back channel logout: {}", account.id);
                   account.clearActiveSessions();
                   account.save();
+                  validSessionCache.invalidateAccount(account.id);
                 })
             .exceptionally(
                 e -> {
@@ -93,6 +98,7 @@ public class LogoutAllSessionsController extends Controller {
         logger.debug("Found account for back channel logout: {}", account.id);
         account.clearActiveSessions();
         account.save();
+        validSessionCache.invalidateAccount(account.id);
       } else {
         logger.warn("No account found for back channel logout with authority ID");
       }
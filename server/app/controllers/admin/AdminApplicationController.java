@@ -20,11 +20,14 @@ import forms.admin.BulkStatusUpdateForm;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import javax.inject.Inject;
+import models.ApplicationExportFormat;
+import models.ApplicationExportModel;
 import models.ApplicationModel;
 import org.pac4j.play.java.Secure;
 import play.data.Form;
@@ -47,6 +50,7 @@ import services.applications.ApplicationAlreadyInStatusException;
 import services.applications.PdfExporterService;
 import services.applications.ProgramAdminApplicationService;
 import services.applications.StatusEmailNotFoundException;
+import services.export.ApplicationExportService;
 import services.export.CsvExporterService;
 import services.export.JsonExporterService;
 import services.export.PdfExporter;
@@ -72,8 +76,10 @@ public final class AdminApplicationController extends CiviFormController {
   private static final int PAGE_SIZE_BULK_STATUS = 100;
 
   private static final String REDIRECT_URI_KEY = "redirectUri";
+  private static final String EXPORT_FORMAT_KEY = "format";
 
   private final ApplicantService applicantService;
+  private final ApplicationExportService applicationExportService;
   private final PdfExporterService pdfExporterService;
   private final ProgramAdminApplicationService programAdminApplicationService;
   private final ProgramApplicationListView applicationListView;
@@ -101,6 +107,7 @@ public final class AdminApplicationController extends CiviFormController {
   public AdminApplicationController(
       ProgramService programService,
       ApplicantService applicantService,
+      ApplicationExportService applicationExportService,
       CsvExporterService csvExporterService,
       FormFactory formFactory,
       JsonExporterService jsonExporterService,
@@ -119,6 +126,7 @@ public final class AdminApplicationController extends CiviFormController {
     super(profileUtils, versionRepository);
     this.programService = checkNotNull(programService);
     this.applicantService = checkNotNull(applicantService);
+    this.applicationExportService = checkNotNull(applicationExportService);
     this.applicationListView = checkNotNull(applicationListView);
     this.applicationView = checkNotNull(applicationView);
     this.programAdminApplicationService = checkNotNull(programAdminApplicationService);
@@ -214,8 +222,10 @@ public final class AdminApplicationController extends CiviFormController {
       ProgramDefinition program = programService.getFullProgramDefinition(programId);
       checkProgramAdminAuthorization(request, program.adminName()).join();
       String filename = String.format("%s-%s.csv", program.adminName(), nowProvider.get());
-      String csv = exporterService.getProgramAllVersionsCsv(programId, filters);
-      return ok(csv)
+      // Stream the CSV a page of applications at a time rather than building it in memory, since
+      // large programs can have hundreds of thousands of applications.
+      return ok()
+          .chunked(exporterService.streamProgramAllVersionsCsv(programId, filters))
           .as(Http.MimeTypes.BINARY)
           .withHeader(
               "Content-Disposition", String.format("attachment; filename=\"%s\"", filename));
@@ -224,6 +234,94 @@ public final class AdminApplicationController extends CiviFormController {
     }
   }
 
+  /**
+   * Starts generating a CSV or JSON file containing all applications to all versions of the
+   * specified program in the background, and redirects to {@link #downloadExport} for it.
+   *
+   * <p>Use this instead of {@link #downloadAll} or {@link #downloadAllJson} for programs with too
+   * many applications to export before the request times out. The format and filters are read from
+   * the submitted form, using the same field names as the download form.
+   */
+  @Secure(authorizers = Authorizers.Labels.ANY_ADMIN)
+  public Result requestExport(Http.Request request, long programId)
+      throws ProgramNotFoundException {
+    ProgramDefinition program = programService.getFullProgramDefinition(programId);
+    try {
+      checkProgramAdminAuthorization(request, program.adminName()).join();
+    } catch (CompletionException | MissingOptionalException e) {
+      return unauthorized();
+    }
+
+    Map<String, String> formData = formFactory.form().bindFromRequest(request).rawData();
+    String format = formData.getOrDefault(EXPORT_FORMAT_KEY, "");
+    Optional<String> search = Optional.ofNullable(formData.get("search"));
+    Optional<String> fromDate = Optional.ofNullable(formData.get("fromDate"));
+    Optional<String> untilDate = Optional.ofNullable(formData.get("untilDate"));
+    Optional<String> applicationStatus = Optional.ofNullable(formData.get("applicationStatus"));
+    Optional<String> ignoreFilters = Optional.ofNullable(formData.get("ignoreFilters"));
+
+    final ApplicationExportFormat exportFormat;
+    try {
+      exportFormat = ApplicationExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      return badRequest(String.format("Unsupported export format: %s", format));
+    }
+
+    SubmittedApplicationFilter filters = SubmittedApplicationFilter.EMPTY;
+    if (ignoreFilters.orElse("").isEmpty()) {
+      filters =
+          SubmittedApplicationFilter.builder()
+              .setSearchNameFragment(search)
+              .setSubmitTimeFilter(
+                  TimeFilter.builder()
+                      .setFromTime(
+                          parseDateTimeFromQuery(dateConverter, fromDate, RelativeTimeOfDay.START))
+                      .setUntilTime(
+                          parseDateTimeFromQuery(dateConverter, untilDate, RelativeTimeOfDay.END))
+                      .build())
+              .setApplicationStatus(applicationStatus)
+              .build();
+    }
+
+    ApplicationExportModel export =
+        applicationExportService.requestExport(programId, exportFormat, filters);
+    return redirect(routes.AdminApplicationController.downloadExport(programId, export.id));
+  }
+
+  /**
+   * Redirects to the file generated by an export requested with {@link #requestExport} if it has
+   * finished, or otherwise describes its progress.
+   */
+  @Secure(authorizers = Authorizers.Labels.ANY_ADMIN)
+  public Result downloadExport(Http.Request request, long programId, long exportId)
+      throws ProgramNotFoundException {
+    ProgramDefinition program = programService.getFullProgramDefinition(programId);
+    try {
+      checkProgramAdminAuthorization(request, program.adminName()).join();
+    } catch (CompletionException | MissingOptionalException e) {
+      return unauthorized();
+    }
+
+    Optional<ApplicationExportModel> maybeExport =
+        applicationExportService.getExport(programId, exportId);
+    if (maybeExport.isEmpty()) {
+      return notFound(String.format("Export %d does not exist.", exportId));
+    }
+    ApplicationExportModel export = maybeExport.get();
+    switch (export.getStatus()) {
+      case COMPLETE:
+        return redirect(applicationExportService.getDownloadUrl(export));
+      case FAILED:
+        return internalServerError(String.format("Export %d failed.", exportId));
+      default:
+        return ok(
+            String.format(
+                "Export %d is in progress. %d applications have been exported so far. Reload this"
+                    + " page to check again.",
+                exportId, export.getExportedApplicationCount()));
+    }
+  }
+
   /**
    * Parses a date from a raw query string (e.g. 2022-01-02) and returns an instant representing
    * that date in the UTC time zone.
@@ -265,8 +363,8 @@ public final class AdminApplicationController extends CiviFormController {
             .setUntilTime(parseDateTimeFromQuery(dateConverter, untilDate, RelativeTimeOfDay.END))
             .build();
     String filename = String.format("demographics-%s.csv", nowProvider.get());
-    String csv = exporterService.getDemographicsCsv(submitTimeFilter);
-    return ok(csv)
+    return ok()
+        .chunked(exporterService.streamDemographicsCsv(submitTimeFilter))
         .as(Http.MimeTypes.BINARY)
         .withHeader("Content-Disposition", String.format("attachment; filename=\"%s\"", filename));
   }
@@ -3,6 +3,7 @@ package controllers.monitoring;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import auth.ProfileUtils;
+import com.google.common.collect.ImmutableList;
 import com.typesafe.config.Config;
 import controllers.CiviFormController;
 import io.ebean.DB;
@@ -83,18 +84,17 @@ public final class MetricsController extends CiviFormController {
                     .getQueryMetricCount()
                     .labels(name, location, className)
                     .inc((double) metric.count());
-                monitoringMetricCounters
-                    .getQueryMetricMeanLatency()
-                    .labels(name, location, className)
-                    .inc((double) metric.mean());
-                monitoringMetricCounters
-                    .getQueryMetricMaxLatency()
-                    .labels(name, location, className)
-                    .inc((double) metric.max());
                 monitoringMetricCounters
                     .getQueryMetricTotalLatency()
                     .labels(name, location, className)
                     .inc((double) metric.total());
+                monitoringMetricCounters
+                    .getQueryMetricLatency()
+                    .observe(
+                        ImmutableList.of(name, location, className),
+                        metric.count(),
+                        metric.total(),
+                        metric.max());
               });
 
       TextFormat.write004(writer, collectorRegistry.metricFamilySamples());
@@ -13,7 +13,6 @@ import controllers.BadRequestException;
 import forms.TiClientInfoForm;
 import java.util.Optional;
 import javax.inject.Inject;
-import models.AccountModel;
 import models.TrustedIntermediaryGroupModel;
 import org.pac4j.play.java.Secure;
 import play.data.Form;
@@ -26,7 +25,6 @@ import repository.SearchParameters;
 import services.applicant.ApplicantPersonalInfo;
 import services.applicant.ApplicantPersonalInfo.Representation;
 import services.applicant.exception.ApplicantNotFoundException;
-import services.pagination.PaginationInfo;
 import services.ti.AddNewApplicantReturnObject;
 import services.ti.TrustedIntermediarySearchResult;
 import services.ti.TrustedIntermediaryService;
@@ -97,12 +95,11 @@ public final class TrustedIntermediaryController {
             .setYearQuery(yearQuery)
             .build();
     TrustedIntermediarySearchResult trustedIntermediarySearchResult =
-        tiService.getManagedAccounts(searchParameters, trustedIntermediaryGroup.get());
+        tiService.getManagedAccounts(
+            searchParameters, trustedIntermediaryGroup.get(), PAGE_SIZE, page.get());
     if (!trustedIntermediarySearchResult.isSuccessful()) {
       throw new BadRequestException(trustedIntermediarySearchResult.errorMessage().get());
     }
-    PaginationInfo<AccountModel> pageInfo =
-        PaginationInfo.paginate(trustedIntermediarySearchResult.accounts(), PAGE_SIZE, page.get());
 
     Optional<String> applicantName =
         civiformProfile.getApplicant().join().getApplicantDisplayName();
@@ -112,9 +109,10 @@ public final class TrustedIntermediaryController {
             /* tiGroup= */ trustedIntermediaryGroup.get(),
             /* personalInfo= */ ApplicantPersonalInfo.ofLoggedInUser(
                 Representation.builder().setName(applicantName).build()),
-            /* managedAccounts= */ pageInfo.getPageItems(),
-            /* totalPageCount= */ pageInfo.getPageCount(),
-            /* page= */ pageInfo.getPage(),
+            /* managedAccounts= */ trustedIntermediarySearchResult.accounts(),
+            // Display 1 page when there are no clients.
+            /* totalPageCount= */ Math.max(trustedIntermediarySearchResult.pageCount(), 1),
+            /* page= */ page.get(),
             /* searchParameters= */ searchParameters,
             /* request= */ request,
             /* messages= */ messagesApi.preferred(request),
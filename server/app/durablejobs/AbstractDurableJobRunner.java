@@ -13,8 +13,10 @@ import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.inject.Provider;
 import models.PersistedDurableJobModel;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -121,64 +123,185 @@ public abstract class AbstractDurableJobRunner {
 
   private void runJob(PersistedDurableJobModel persistedDurableJob) {
     LocalDateTime startTime = nowProvider.get();
+    logJobStart(persistedDurableJob);
+
+    try {
+      persistedDurableJob.decrementRemainingAttempts().save();
+
+      // Run the job in a separate thread and block until it completes, fails, or times out and
+      // exits.
+      runJobWithTimeout(createJob(persistedDurableJob));
+
+      recordSuccess(persistedDurableJob, startTime);
+    } catch (JobNotFoundException e) {
+      deleteUnregisteredJob(persistedDurableJob, e, startTime);
+    } catch (IllegalArgumentException
+        | CancellationException
+        | InterruptedException
+        | TimeoutException
+        | ExecutionException e) {
+      recordFailure(persistedDurableJob, e, startTime);
+    }
+  }
+
+  /**
+   * Starts running a job that has already been claimed, without waiting for it. Its outcome is
+   * recorded on {@code outcomeExecutor} once it completes, fails, or times out. Its lease is
+   * released so that a failed job can be retried once its thread has exited, so a job that
+   * outlives its timeout isn't run again while it's still running.
+   *
+   * @return a future that completes once the outcome has been recorded and the job's thread has
+   *     exited
+   */
+  final CompletableFuture<Void> startJob(
+      PersistedDurableJobModel persistedDurableJob, Executor outcomeExecutor) {
+    LocalDateTime startTime = nowProvider.get();
+    logJobStart(persistedDurableJob);
+
+    DurableJob jobToRun;
+    try {
+      jobToRun = createJob(persistedDurableJob);
+    } catch (JobNotFoundException e) {
+      deleteUnregisteredJob(persistedDurableJob, e, startTime);
+      return CompletableFuture.completedFuture(null);
+    } catch (IllegalArgumentException e) {
+      recordFailure(persistedDurableJob.clearLeaseExpirationTime(), e, startTime);
+      notifyUponFinalFailure(persistedDurableJob);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    JobRun jobRun = runOnJobThread(jobToRun);
+    CompletableFuture<Void> outcomeRecorded =
+        jobRun
+            .outcome()
+            .handleAsync(
+                (unused, throwable) -> {
+                  if (throwable == null) {
+                    recordSuccess(persistedDurableJob, startTime);
+                    return null;
+                  }
+                  // Report a failure in the job the same way as when waiting for it.
+                  recordFailure(
+                      persistedDurableJob,
+                      throwable instanceof TimeoutException
+                          ? throwable
+                          : new ExecutionException(throwable),
+                      startTime);
+                  notifyUponFinalFailure(persistedDurableJob);
+                  return null;
+                },
+                outcomeExecutor);
+    return outcomeRecorded.thenCombineAsync(
+        jobRun.exited(),
+        (unused, unusedToo) -> {
+          persistedDurableJob.clearLeaseExpirationTime().save();
+          return null;
+        },
+        outcomeExecutor);
+  }
+
+  /**
+   * A job running on the durable job dispatcher.
+   *
+   * @param outcome completes once the job completes, or exceptionally with the exception it threw.
+   *     If the job is still running once the job timeout has passed since it started, it completes
+   *     with a {@link TimeoutException} and the job's thread is interrupted.
+   * @param exited completes once the job's thread has exited the job, which for a job that doesn't
+   *     stop when interrupted may be long after it timed out
+   */
+  private record JobRun(CompletableFuture<Void> outcome, CompletableFuture<Void> exited) {}
+
+  private JobRun runOnJobThread(DurableJob jobToRun) {
+    CompletableFuture<Void> outcome = new CompletableFuture<>();
+    CompletableFuture<Void> exited = new CompletableFuture<>();
+    durableJobExecutionContext
+        .current()
+        .execute(
+            () -> {
+              Thread jobThread = Thread.currentThread();
+              // Guards isRunning, so that a timeout never interrupts the thread once it has moved
+              // on from the job.
+              Object interruptLock = new Object();
+              AtomicBoolean isRunning = new AtomicBoolean(true);
+              // The timeout starts once the job does, rather than when it was queued.
+              outcome
+                  .orTimeout(getJobTimeoutMillis(), TimeUnit.MILLISECONDS)
+                  .whenComplete(
+                      (unused, throwable) -> {
+                        if (throwable instanceof TimeoutException) {
+                          synchronized (interruptLock) {
+                            if (isRunning.get()) {
+                              jobThread.interrupt();
+                            }
+                          }
+                        }
+                      });
+              try {
+                jobToRun.run();
+                outcome.complete(null);
+              } catch (Throwable e) {
+                outcome.completeExceptionally(e);
+              } finally {
+                synchronized (interruptLock) {
+                  isRunning.set(false);
+                }
+                // Clear an interrupt from the timeout so it doesn't reach the thread's next task.
+                Thread.interrupted();
+                exited.complete(null);
+              }
+            });
+    return new JobRun(outcome, exited);
+  }
+
+  private void logJobStart(PersistedDurableJobModel persistedDurableJob) {
     LOGGER.info(
         "JobRunner_ExecutingJob thread_ID={}, job_name=\"{}\", job_ID={}",
         Thread.currentThread().getId(),
         persistedDurableJob.getJobName(),
         persistedDurableJob.id);
+  }
 
-    try {
-      persistedDurableJob.decrementRemainingAttempts().save();
-
-      Optional<DurableJobName> optionalJobName =
-          DurableJobName.optionalValueOf(persistedDurableJob.getJobName());
-      if (optionalJobName.isEmpty()) {
-        throw new JobNotFoundException(
-            String.format(
-                "Job name \"%s\" not found in DurableJobName", persistedDurableJob.getJobName()));
-      }
+  private DurableJob createJob(PersistedDurableJobModel persistedDurableJob)
+      throws JobNotFoundException {
+    Optional<DurableJobName> optionalJobName =
+        DurableJobName.optionalValueOf(persistedDurableJob.getJobName());
+    if (optionalJobName.isEmpty()) {
+      throw new JobNotFoundException(
+          String.format(
+              "Job name \"%s\" not found in DurableJobName", persistedDurableJob.getJobName()));
+    }
+    return durableJobRegistry.get(optionalJobName.get()).getFactory().create(persistedDurableJob);
+  }
 
-      // Run the job in a separate thread and block until it completes, fails, or times out.
-      runJobWithTimeout(
-          durableJobRegistry.get(optionalJobName.get()).getFactory().create(persistedDurableJob));
+  private void recordSuccess(
+      PersistedDurableJobModel persistedDurableJob, LocalDateTime startTime) {
+    persistedDurableJob.setSuccessTime(nowProvider.get().toInstant(zoneOffset)).save();
 
-      persistedDurableJob.setSuccessTime(nowProvider.get().toInstant(zoneOffset)).save();
+    LOGGER.info(
+        "JobRunner_JobSucceeded job_name=\"{}\", job_ID={}, duration_s={}",
+        persistedDurableJob.getJobName(),
+        persistedDurableJob.id,
+        getJobDurationInSeconds(startTime));
+  }
 
+  private void deleteUnregisteredJob(
+      PersistedDurableJobModel persistedDurableJob,
+      JobNotFoundException e,
+      LocalDateTime startTime) {
+    // If the job is not found in the registry, it was likely removed intentionally
+    // In this case, we want to delete the job from the database because it should not be run
+    // anymore
+    if (persistedDurableJob.delete()) {
       LOGGER.info(
-          "JobRunner_JobSucceeded job_name=\"{}\", job_ID={}, duration_s={}",
-          persistedDurableJob.getJobName(),
-          persistedDurableJob.id,
-          getJobDurationInSeconds(startTime));
-    } catch (JobNotFoundException e) {
-      // If the job is not found in the registry, it was likely removed intentionally
-      // In this case, we want to delete the job from the database because it should not be run
-      // anymore
-      if (persistedDurableJob.delete()) {
-        LOGGER.info(
-            String.format(
-                "Job was not found in the registry and was deleted from the db. job_name=\"%s\"",
-                persistedDurableJob.getJobName()));
-      } else {
-        // If the delete fails, handle it like the other errors
-        String msg =
-            String.format(
-                "Job was not found in the registry and there was an error deleting the job. Error:"
-                    + " %s job_name=\"%s\", job_ID=%d, attempts_remaining=%d, duration_s=%f,"
-                    + " message: %s",
-                e.getClass().getSimpleName(),
-                persistedDurableJob.getJobName(),
-                persistedDurableJob.id,
-                persistedDurableJob.getRemainingAttempts(),
-                getJobDurationInSeconds(startTime),
-                e.getMessage());
-        LOGGER.error(msg);
-        persistedDurableJob.appendErrorMessage(msg).save();
-      }
-    } catch (IllegalArgumentException | CancellationException | InterruptedException e) {
+          String.format(
+              "Job was not found in the registry and was deleted from the db. job_name=\"%s\"",
+              persistedDurableJob.getJobName()));
+    } else {
+      // If the delete fails, handle it like the other errors
       String msg =
           String.format(
-              "JobRunner_JobFailed %s job_name=\"%s\", job_ID=%d, attempts_remaining=%d,"
-                  + " duration_s=%f,"
+              "Job was not found in the registry and there was an error deleting the job. Error:"
+                  + " %s job_name=\"%s\", job_ID=%d, attempts_remaining=%d, duration_s=%f,"
                   + " message: %s",
               e.getClass().getSimpleName(),
               persistedDurableJob.getJobName(),
@@ -188,8 +311,14 @@ public abstract class AbstractDurableJobRunner {
               e.getMessage());
       LOGGER.error(msg);
       persistedDurableJob.appendErrorMessage(msg).save();
-    } catch (TimeoutException e) {
-      String msg =
+    }
+  }
+
+  private void recordFailure(
+      PersistedDurableJobModel persistedDurableJob, Throwable e, LocalDateTime startTime) {
+    String msg;
+    if (e instanceof TimeoutException) {
+      msg =
           String.format(
               "JobRunner_JobTimeout job_name=\"%s\", job_ID=%d, attempts_remaining=%d,"
                   + " duration_s=%f",
@@ -197,10 +326,8 @@ public abstract class AbstractDurableJobRunner {
               persistedDurableJob.id,
               persistedDurableJob.getRemainingAttempts(),
               getJobDurationInSeconds(startTime));
-      LOGGER.error(msg);
-      persistedDurableJob.appendErrorMessage(msg).save();
-    } catch (ExecutionException e) {
-      String msg =
+    } else if (e instanceof ExecutionException) {
+      msg =
           String.format(
               "JobRunner_JobFailed ExecutionException job_name=\"%s\", job_ID=%d,"
                   + " attempts_remaining=%d, duration_s=%f, error_message=%s, trace=%s",
@@ -210,24 +337,48 @@ public abstract class AbstractDurableJobRunner {
               getJobDurationInSeconds(startTime),
               e.getMessage(),
               ExceptionUtils.getStackTrace(e));
-      LOGGER.error(msg);
-      persistedDurableJob.appendErrorMessage(msg).save();
+    } else {
+      msg =
+          String.format(
+              "JobRunner_JobFailed %s job_name=\"%s\", job_ID=%d, attempts_remaining=%d,"
+                  + " duration_s=%f,"
+                  + " message: %s",
+              e.getClass().getSimpleName(),
+              persistedDurableJob.getJobName(),
+              persistedDurableJob.id,
+              persistedDurableJob.getRemainingAttempts(),
+              getJobDurationInSeconds(startTime),
+              e.getMessage());
     }
+    LOGGER.error(msg);
+    persistedDurableJob.appendErrorMessage(msg).save();
   }
 
   private synchronized void runJobWithTimeout(DurableJob jobToRun)
       throws ExecutionException, InterruptedException, TimeoutException {
-    CompletableFuture<Void> future =
-        CompletableFuture.runAsync(() -> jobToRun.run(), durableJobExecutionContext.current());
+    JobRun jobRun = runOnJobThread(jobToRun);
+    try {
+      jobRun.outcome().get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof TimeoutException) {
+        throw (TimeoutException) e.getCause();
+      }
+      throw e;
+    } finally {
+      // The job stays locked by the runner's transaction until its thread exits, so it isn't run
+      // again while it's still running.
+      jobRun.exited().join();
+    }
+  }
 
+  private long getJobTimeoutMillis() {
     // We set the job timeout to 0 in test
     if (jobTimeoutMinutes == 0) {
       // Timeout test jobs after 2500ms
-      future.get(2500, TimeUnit.MILLISECONDS);
-      return;
+      return 2500;
     }
 
-    future.get(jobTimeoutMinutes, TimeUnit.MINUTES);
+    return TimeUnit.MINUTES.toMillis(jobTimeoutMinutes);
   }
 
   private double getJobDurationInSeconds(LocalDateTime startTime) {
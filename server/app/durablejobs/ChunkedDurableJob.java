@@ -0,0 +1,100 @@
+package durablejobs;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import io.ebean.DB;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import models.DurableJobCheckpointModel;
+import models.PersistedDurableJobModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import repository.PersistedDurableJobRepository;
+
+/**
+ * A {@link DurableJob} that processes its rows in chunks, in order of id.
+ *
+ * <p>Each chunk is processed in its own transaction, which also saves a {@link
+ * DurableJobCheckpointModel} recording the last id processed. If the job times out or its server
+ * stops, the retry resumes after the last committed chunk instead of starting over.
+ *
+ * <p>The number of rows processed is exported as the {@code durable_job_rows_processed} gauge and
+ * the {@code durable_job_rows_processed_total} counter, labeled by job name.
+ */
+public abstract class ChunkedDurableJob extends DurableJob {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedDurableJob.class);
+
+  private static final Gauge ROWS_PROCESSED =
+      Gauge.build()
+          .name("durable_job_rows_processed")
+          .help("Rows processed so far by the latest execution of a chunked durable job")
+          .labelNames("job_name")
+          .register();
+
+  private static final Counter ROWS_PROCESSED_TOTAL =
+      Counter.build()
+          .name("durable_job_rows_processed_total")
+          .help("Rows processed by chunked durable jobs")
+          .labelNames("job_name")
+          .register();
+
+  private final Database database = DB.getDefault();
+  private final PersistedDurableJobRepository persistedDurableJobRepository;
+  private final int chunkSize;
+
+  protected ChunkedDurableJob(
+      PersistedDurableJobRepository persistedDurableJobRepository, int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive");
+    this.persistedDurableJobRepository = Preconditions.checkNotNull(persistedDurableJobRepository);
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Returns the ids of up to {@code limit} rows to process with ids greater than {@code afterId},
+   * in ascending order. Returns an empty list once there are no more rows.
+   */
+  protected abstract ImmutableList<Long> findChunk(long afterId, int limit);
+
+  /** Processes the rows with the given ids, in the transaction that saves the checkpoint. */
+  protected abstract void processChunk(ImmutableList<Long> ids);
+
+  /** Runs once every row has been processed. Does nothing by default. */
+  protected void onFinished(long processedCount) {}
+
+  @Override
+  public final void run() {
+    PersistedDurableJobModel persistedDurableJob = getPersistedDurableJob();
+    DurableJobCheckpointModel checkpoint =
+        persistedDurableJobRepository.getCheckpoint(persistedDurableJob);
+    if (checkpoint.getProcessedCount() > 0) {
+      LOGGER.info(
+          "Resuming job_name=\"{}\", job_ID={} after {} rows, at id {}",
+          jobName(),
+          persistedDurableJob.id,
+          checkpoint.getProcessedCount(),
+          checkpoint.getLastProcessedId());
+    }
+    Gauge.Child rowsProcessed = ROWS_PROCESSED.labels(jobName());
+    rowsProcessed.set(checkpoint.getProcessedCount());
+
+    while (true) {
+      ImmutableList<Long> ids;
+      try (Transaction transaction = database.beginTransaction()) {
+        ids = findChunk(checkpoint.getLastProcessedId(), chunkSize);
+        if (ids.isEmpty()) {
+          break;
+        }
+        processChunk(ids);
+        checkpoint.recordChunk(ids.get(ids.size() - 1), ids.size()).save();
+        transaction.commit();
+      }
+      rowsProcessed.set(checkpoint.getProcessedCount());
+      ROWS_PROCESSED_TOTAL.labels(jobName()).inc(ids.size());
+    }
+
+    persistedDurableJobRepository.deleteCheckpoint(persistedDurableJob);
+    onFinished(checkpoint.getProcessedCount());
+  }
+}
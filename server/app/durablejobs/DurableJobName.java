@@ -21,6 +21,10 @@ public enum DurableJobName {
   COPY_FILE_KEY_FOR_MULTIPLE_FILE_UPLOAD("COPY_FILE_KEY_FOR_MULTIPLE_FILE_UPLOAD"),
   CONVERT_ADDRESS_SERVICE_AREA_TO_ARRAY("CONVERT_ADDRESS_SERVICE_AREA_TO_ARRAY"),
   ADD_CATEGORY_AND_TRANSLATION("ADD_CATEGORY_AND_TRANSLATION"),
+  APPLICATION_EXPORT("APPLICATION_EXPORT"),
+  APPLICATION_EXPORT_CLEANUP("APPLICATION_EXPORT_CLEANUP"),
+  EMAIL_OUTBOX_SEND("EMAIL_OUTBOX_SEND"),
+  EMAIL_OUTBOX_CLEANUP("EMAIL_OUTBOX_CLEANUP"),
 
   // job names used for tests
   TEST("TEST");
@@ -108,6 +108,22 @@ public final class DurableJobRegistry {
             Optional.of(new ImmediateJobExecutionTimeResolver())));
   }
 
+  /**
+   * Registers a factory for a given job name for jobs that are scheduled when a user requests them
+   * rather than by a {@link JobExecutionTimeResolver}. Uses {$JobType.ON_DEMAND}.
+   */
+  public void registerOnDemandJob(DurableJobName jobName, DurableJobFactory durableJobFactory) {
+    validateJobName(jobName);
+
+    registeredJobs.put(
+        jobName.getJobNameString(),
+        RegisteredJob.create(
+            durableJobFactory,
+            jobName,
+            JobType.ON_DEMAND,
+            /* jobExecutionTimeResolver= */ Optional.empty()));
+  }
+
   /**
    * Registers a factory for a given job name along with a {@link JobExecutionTimeResolver} that
    * defines the future run times of the job. Can only be used with {$JobType.RECURRING}.
@@ -1,16 +1,22 @@
 package durablejobs;
 
 import annotations.BindingAnnotations;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.typesafe.config.Config;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import models.PersistedDurableJobModel;
+import repository.DatabaseExecutionContext;
 import repository.PersistedDurableJobRepository;
 import services.email.EmailSendClient;
 
@@ -19,12 +25,30 @@ import services.email.EmailSendClient;
  *
  * <p>{@link RecurringDurableJobRunner} is a singleton and its {@code runJobs} method is {@code
  * synchronized} to prevent overlapping executions within the same server at the same time.
+ *
+ * <p>When the durable job dispatcher has more than one thread, jobs are run concurrently: each
+ * call to {@code runJobs} claims as many ready jobs as there are free threads and starts them
+ * without waiting. Claimed jobs are leased to this server rather than locked in a transaction, and
+ * the leases of running jobs are renewed on every poll. If this server stops, its jobs' leases
+ * expire and another server runs them.
  */
 @Singleton
 public final class RecurringDurableJobRunner extends AbstractDurableJobRunner {
+  private static final String THREAD_POOL_SIZE_PATH =
+      "durable_jobs.dispatcher.thread-pool-executor.fixed-pool-size";
+  // A job's lease lasts for several polls, so a slow poll doesn't let another server claim it.
+  private static final Duration MIN_LEASE_DURATION = Duration.ofMinutes(5);
+
   private final PersistedDurableJobRepository persistedDurableJobRepository;
+  private final DatabaseExecutionContext databaseExecutionContext;
   private final Provider<LocalDateTime> nowProvider;
   private final int runnerLifespanSeconds;
+  private final int maxConcurrentJobs;
+  private final Duration leaseDuration;
+  // The jobs this server is running concurrently, keyed by job id, completing once each job's
+  // outcome is recorded.
+  private final ConcurrentHashMap<Long, CompletableFuture<Void>> runningJobs =
+      new ConcurrentHashMap<>();
 
   @Inject
   public RecurringDurableJobRunner(
@@ -32,6 +56,7 @@ public final class RecurringDurableJobRunner extends AbstractDurableJobRunner {
       DurableJobExecutionContext durableJobExecutionContext,
       @BindingAnnotations.RecurringJobsProviderName DurableJobRegistry durableJobRegistry,
       PersistedDurableJobRepository persistedDurableJobRepository,
+      DatabaseExecutionContext databaseExecutionContext,
       @BindingAnnotations.Now Provider<LocalDateTime> nowProvider,
       EmailSendClient emailSendClient,
       ZoneId zoneId) {
@@ -43,8 +68,48 @@ public final class RecurringDurableJobRunner extends AbstractDurableJobRunner {
         emailSendClient,
         zoneId);
     this.persistedDurableJobRepository = Preconditions.checkNotNull(persistedDurableJobRepository);
+    this.databaseExecutionContext = Preconditions.checkNotNull(databaseExecutionContext);
     this.nowProvider = Preconditions.checkNotNull(nowProvider);
     this.runnerLifespanSeconds = config.getInt("durable_jobs.poll_interval_seconds");
+    this.maxConcurrentJobs =
+        config.hasPath(THREAD_POOL_SIZE_PATH) ? config.getInt(THREAD_POOL_SIZE_PATH) : 1;
+    Duration threePolls = Duration.ofSeconds(3L * runnerLifespanSeconds);
+    this.leaseDuration =
+        threePolls.compareTo(MIN_LEASE_DURATION) > 0 ? threePolls : MIN_LEASE_DURATION;
+  }
+
+  /**
+   * Runs the jobs that are ready. With a single durable job thread they are run one at a time, as
+   * described by {@link AbstractDurableJobRunner#runJobs}. Otherwise they are started
+   * concurrently, and this returns without waiting for them.
+   */
+  @Override
+  public synchronized void runJobs() {
+    if (maxConcurrentJobs <= 1) {
+      super.runJobs();
+      return;
+    }
+
+    // Renew the leases of the jobs still running here, so other servers don't take them over.
+    persistedDurableJobRepository.renewLeases(
+        ImmutableList.copyOf(runningJobs.keySet()), leaseDuration);
+
+    int freeThreads = maxConcurrentJobs - runningJobs.size();
+    if (freeThreads <= 0) {
+      return;
+    }
+    for (PersistedDurableJobModel job :
+        persistedDurableJobRepository.claimRecurringJobsForExecution(freeThreads, leaseDuration)) {
+      CompletableFuture<Void> outcome = startJob(job, databaseExecutionContext.current());
+      runningJobs.put(job.id, outcome);
+      outcome.whenComplete((unused, throwable) -> runningJobs.remove(job.id));
+    }
+  }
+
+  /** Returns a future that completes once the jobs that are running concurrently have finished. */
+  @VisibleForTesting
+  CompletableFuture<Void> awaitRunningJobs() {
+    return CompletableFuture.allOf(runningJobs.values().toArray(CompletableFuture[]::new));
   }
 
   /** Get the job to run or an empty optional if one does not exist */
@@ -71,4 +71,29 @@ public final class RecurringJobExecutionTimeResolvers {
           .toInstant();
     }
   }
+
+  /**
+   * Every day at 3am local time. Used for the APPLICATION_EXPORT_CLEANUP and EMAIL_OUTBOX_CLEANUP
+   * jobs.
+   */
+  public static final class Daily3Am implements JobExecutionTimeResolver {
+
+    @Override
+    public Instant resolveExecutionTime(Clock clock) {
+      return LocalDate.now(clock)
+          .plusDays(1L)
+          .atStartOfDay(clock.getZone())
+          .plus(3, ChronoUnit.HOURS)
+          .toInstant();
+    }
+  }
+
+  /** The start of the next minute. Used for the EMAIL_OUTBOX_SEND job. */
+  public static final class EveryMinute implements JobExecutionTimeResolver {
+
+    @Override
+    public Instant resolveExecutionTime(Clock clock) {
+      return Instant.now(clock).truncatedTo(ChronoUnit.MINUTES).plus(1, ChronoUnit.MINUTES);
+    }
+  }
 }
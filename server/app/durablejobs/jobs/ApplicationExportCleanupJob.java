@@ -0,0 +1,81 @@
+package durablejobs.jobs;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import durablejobs.DurableJob;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import models.ApplicationExportChunkModel;
+import models.ApplicationExportModel;
+import models.PersistedDurableJobModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import repository.ApplicationExportRepository;
+import services.cloud.ApplicantStorageClient;
+import services.cloud.FileDeletionFailureException;
+
+/**
+ * A {@link DurableJob} that deletes {@link ApplicationExportModel}s once they are older than the
+ * retention period, along with their file and any chunks that are left in applicant storage.
+ * Exports contain applicant data, so they are only kept long enough for the admin who requested
+ * them to download them.
+ *
+ * <p>If any of an export's files can't be deleted, the export is kept so the next run retries it.
+ */
+public final class ApplicationExportCleanupJob extends DurableJob {
+  private static final Logger logger = LoggerFactory.getLogger(ApplicationExportCleanupJob.class);
+
+  private final ApplicantStorageClient applicantStorageClient;
+  private final ApplicationExportRepository applicationExportRepository;
+  private final Clock clock;
+  private final Duration retentionPeriod;
+  private final PersistedDurableJobModel persistedDurableJob;
+
+  public ApplicationExportCleanupJob(
+      ApplicantStorageClient applicantStorageClient,
+      ApplicationExportRepository applicationExportRepository,
+      Clock clock,
+      Duration retentionPeriod,
+      PersistedDurableJobModel persistedDurableJob) {
+    this.applicantStorageClient = checkNotNull(applicantStorageClient);
+    this.applicationExportRepository = checkNotNull(applicationExportRepository);
+    this.clock = checkNotNull(clock);
+    this.retentionPeriod = checkNotNull(retentionPeriod);
+    this.persistedDurableJob = checkNotNull(persistedDurableJob);
+  }
+
+  @Override
+  public PersistedDurableJobModel getPersistedDurableJob() {
+    return persistedDurableJob;
+  }
+
+  @Override
+  public void run() {
+    Instant cutoff = clock.instant().minus(retentionPeriod);
+    int deletedCount = 0;
+    for (ApplicationExportModel export :
+        applicationExportRepository.getExportsCreatedBefore(cutoff)) {
+      try {
+        deleteFiles(export);
+      } catch (FileDeletionFailureException e) {
+        logger.warn("Failed to delete the files of application export {}", export.id, e);
+        continue;
+      }
+      applicationExportRepository.deleteExport(export);
+      deletedCount++;
+    }
+    logger.info("Deleted {} application exports older than {}", deletedCount, retentionPeriod);
+  }
+
+  private void deleteFiles(ApplicationExportModel export) throws FileDeletionFailureException {
+    for (ApplicationExportChunkModel chunk : applicationExportRepository.getChunks(export)) {
+      applicantStorageClient.deleteFile(chunk.getFileKey());
+    }
+    Optional<String> fileKey = export.getFileKey();
+    if (fileKey.isPresent()) {
+      applicantStorageClient.deleteFile(fileKey.get());
+    }
+  }
+}
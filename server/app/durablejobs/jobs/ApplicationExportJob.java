@@ -0,0 +1,258 @@
+package durablejobs.jobs;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import durablejobs.DurableJob;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Optional;
+import models.ApplicationExportChunkModel;
+import models.ApplicationExportModel;
+import models.ApplicationExportStatus;
+import models.ApplicationModel;
+import models.PersistedDurableJobModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import repository.ApplicationExportRepository;
+import repository.SubmittedApplicationFilter;
+import repository.TimeFilter;
+import services.cloud.ApplicantStorageClient;
+import services.cloud.FileDeletionFailureException;
+import services.cloud.FileDownloadFailureException;
+import services.cloud.FileUploadFailureException;
+import services.export.CsvExporterService;
+import services.export.JsonExporterService;
+import services.pagination.PaginationResult;
+import services.pagination.SubmitTimeSequentialAccessPaginationSpec;
+import services.program.ProgramDefinition;
+import services.program.ProgramNotFoundException;
+import services.program.ProgramService;
+
+/**
+ * Generates the file for an {@link ApplicationExportModel} and uploads it to applicant storage.
+ *
+ * <p>Applications are exported a page at a time. Each page is uploaded to applicant storage as a
+ * chunk of the file, and then recorded along with the position of its last application. If the job
+ * is interrupted, for example by a server restart or the durable job timeout, the next attempt
+ * picks up after the last recorded page, overwriting the chunk of any page that was uploaded but
+ * not recorded. Once every application has been exported the chunks are streamed from storage and
+ * uploaded as a single file, and if only that upload failed the next attempt just retries it.
+ */
+public final class ApplicationExportJob extends DurableJob {
+  private static final Logger logger = LoggerFactory.getLogger(ApplicationExportJob.class);
+
+  static final int PAGE_SIZE = 500;
+
+  private final ApplicantStorageClient applicantStorageClient;
+  private final ApplicationExportRepository applicationExportRepository;
+  private final CsvExporterService csvExporterService;
+  private final JsonExporterService jsonExporterService;
+  private final ProgramService programService;
+  private final PersistedDurableJobModel persistedDurableJob;
+
+  public ApplicationExportJob(
+      ApplicantStorageClient applicantStorageClient,
+      ApplicationExportRepository applicationExportRepository,
+      CsvExporterService csvExporterService,
+      JsonExporterService jsonExporterService,
+      ProgramService programService,
+      PersistedDurableJobModel persistedDurableJob) {
+    this.applicantStorageClient = checkNotNull(applicantStorageClient);
+    this.applicationExportRepository = checkNotNull(applicationExportRepository);
+    this.csvExporterService = checkNotNull(csvExporterService);
+    this.jsonExporterService = checkNotNull(jsonExporterService);
+    this.programService = checkNotNull(programService);
+    this.persistedDurableJob = checkNotNull(persistedDurableJob);
+  }
+
+  @Override
+  public PersistedDurableJobModel getPersistedDurableJob() {
+    return persistedDurableJob;
+  }
+
+  @Override
+  public void run() {
+    ApplicationExportModel export =
+        applicationExportRepository
+            .getExportForJob(persistedDurableJob.id)
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "No application export for job " + persistedDurableJob.id));
+    if (export.getStatus() == ApplicationExportStatus.COMPLETE) {
+      return;
+    }
+
+    try {
+      if (export.getStatus() != ApplicationExportStatus.UPLOADING) {
+        export.setStatus(ApplicationExportStatus.IN_PROGRESS).save();
+        switch (export.getExportFormat()) {
+          case CSV:
+            exportCsv(export);
+            break;
+          case JSON:
+            exportJson(export);
+            break;
+        }
+      }
+      upload(export);
+    } catch (ProgramNotFoundException | FileUploadFailureException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void exportCsv(ApplicationExportModel export)
+      throws ProgramNotFoundException, FileUploadFailureException {
+    CsvExporterService.PagedCsvExport pagedExport =
+        csvExporterService.startPagedProgramAllVersionsCsv(
+            export.getProgramId(), getFilters(export));
+    if (export.getNextChunkIndex() == 0) {
+      saveChunk(
+          export,
+          pagedExport.renderHeader(),
+          /* applications= */ ImmutableList.of(),
+          /* isLastChunk= */ false);
+    }
+    PaginationResult<ApplicationModel> page;
+    do {
+      page = getNextPage(export);
+      saveChunk(
+          export,
+          pagedExport.renderRecords(page.getPageContents()),
+          page.getPageContents(),
+          /* isLastChunk= */ !page.hasMorePages());
+    } while (page.hasMorePages());
+  }
+
+  private void exportJson(ApplicationExportModel export)
+      throws ProgramNotFoundException, FileUploadFailureException {
+    ProgramDefinition programDefinition =
+        programService.getFullProgramDefinition(export.getProgramId());
+    if (export.getNextChunkIndex() == 0) {
+      saveChunk(export, "[", /* applications= */ ImmutableList.of(), /* isLastChunk= */ false);
+    }
+    PaginationResult<ApplicationModel> page;
+    do {
+      page = getNextPage(export);
+      // Each page is rendered as a JSON array, so strip its brackets and join the pages with
+      // commas to build a single array.
+      String pageJson = jsonExporterService.exportPage(programDefinition, page);
+      String pageElements = pageJson.substring(1, pageJson.length() - 1);
+      if (!pageElements.isEmpty() && export.getExportedApplicationCount() > 0) {
+        pageElements = "," + pageElements;
+      }
+      if (!page.hasMorePages()) {
+        pageElements = pageElements + "]";
+      }
+      saveChunk(
+          export, pageElements, page.getPageContents(), /* isLastChunk= */ !page.hasMorePages());
+    } while (page.hasMorePages());
+  }
+
+  /**
+   * Uploads the next chunk of the export file and then records it. The chunk's key only depends on
+   * its index, so if the job is interrupted before the chunk is recorded, the next attempt
+   * overwrites it.
+   */
+  private void saveChunk(
+      ApplicationExportModel export,
+      String content,
+      ImmutableList<ApplicationModel> applications,
+      boolean isLastChunk)
+      throws FileUploadFailureException {
+    String chunkKey =
+        String.format(
+            "exports/program-%d/applications-%d/chunk-%06d",
+            export.getProgramId(), export.id, export.getNextChunkIndex());
+    byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    applicantStorageClient.uploadFile(chunkKey, new ByteArrayInputStream(bytes), bytes.length);
+    applicationExportRepository.saveChunk(
+        export, chunkKey, bytes.length, applications, isLastChunk);
+  }
+
+  /** Loads the page of applications following the last one saved to the export. */
+  private PaginationResult<ApplicationModel> getNextPage(ApplicationExportModel export) {
+    SubmitTimeSequentialAccessPaginationSpec paginationSpec =
+        new SubmitTimeSequentialAccessPaginationSpec(
+            PAGE_SIZE,
+            export.getLastSubmitTime().orElse(Instant.MAX),
+            export.getLastApplicationId().orElse(Long.MAX_VALUE));
+    return programService.getSubmittedProgramApplicationsAllVersions(
+        export.getProgramId(), paginationSpec, getFilters(export));
+  }
+
+  private void upload(ApplicationExportModel export) throws FileUploadFailureException {
+    String fileKey =
+        String.format(
+            "exports/program-%d/applications-%d.%s",
+            export.getProgramId(), export.id, export.getExportFormat().getValue());
+    ImmutableList<ApplicationExportChunkModel> chunks =
+        applicationExportRepository.getChunks(export);
+    long contentLength =
+        chunks.stream().mapToLong(ApplicationExportChunkModel::getByteLength).sum();
+    applicantStorageClient.uploadFile(fileKey, readChunks(chunks), contentLength);
+    applicationExportRepository.completeExport(export, fileKey, Instant.now());
+    deleteChunks(export, chunks);
+  }
+
+  /**
+   * Returns a stream of the export file that downloads one chunk at a time. A chunk that can't be
+   * downloaded is reported as an {@link IOException} from the stream, which fails the upload.
+   */
+  private InputStream readChunks(ImmutableList<ApplicationExportChunkModel> chunks) {
+    Iterator<ApplicationExportChunkModel> chunkIterator = chunks.iterator();
+    return new SequenceInputStream(
+        new Enumeration<InputStream>() {
+          @Override
+          public boolean hasMoreElements() {
+            return chunkIterator.hasNext();
+          }
+
+          @Override
+          public InputStream nextElement() {
+            try {
+              return applicantStorageClient.downloadFile(chunkIterator.next().getFileKey());
+            } catch (FileDownloadFailureException e) {
+              throw new UncheckedIOException(new IOException(e));
+            }
+          }
+        });
+  }
+
+  /**
+   * Deletes the chunks of a completed export. If a chunk's file can't be deleted, the chunks are
+   * kept so {@link ApplicationExportCleanupJob} can delete them along with the export.
+   */
+  private void deleteChunks(
+      ApplicationExportModel export, ImmutableList<ApplicationExportChunkModel> chunks) {
+    try {
+      for (ApplicationExportChunkModel chunk : chunks) {
+        applicantStorageClient.deleteFile(chunk.getFileKey());
+      }
+    } catch (FileDeletionFailureException e) {
+      logger.warn("Failed to delete the chunks of application export {}", export.id, e);
+      return;
+    }
+    applicationExportRepository.deleteChunks(export);
+  }
+
+  private static SubmittedApplicationFilter getFilters(ApplicationExportModel export) {
+    return SubmittedApplicationFilter.builder()
+        .setSearchNameFragment(export.getSearchNameFragment())
+        .setSubmitTimeFilter(
+            TimeFilter.builder()
+                .setFromTime(export.getFromTime())
+                .setUntilTime(Optional.of(export.getUntilTime()))
+                .build())
+        .setApplicationStatus(export.getApplicationStatus())
+        .build();
+  }
+}
@@ -0,0 +1,50 @@
+package durablejobs.jobs;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import durablejobs.DurableJob;
+import java.time.Clock;
+import java.time.Duration;
+import models.EmailOutboxMessageModel;
+import models.PersistedDurableJobModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import repository.EmailOutboxRepository;
+
+/**
+ * A {@link DurableJob} that deletes {@link EmailOutboxMessageModel}s once they are older than the
+ * retention period and have been sent or given up on. Messages contain applicant email addresses
+ * and content, so they are only kept long enough to debug their delivery.
+ */
+public final class EmailOutboxCleanupJob extends DurableJob {
+  private static final Logger logger = LoggerFactory.getLogger(EmailOutboxCleanupJob.class);
+
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final Clock clock;
+  private final Duration retentionPeriod;
+  private final PersistedDurableJobModel persistedDurableJob;
+
+  public EmailOutboxCleanupJob(
+      EmailOutboxRepository emailOutboxRepository,
+      Clock clock,
+      Duration retentionPeriod,
+      PersistedDurableJobModel persistedDurableJob) {
+    this.emailOutboxRepository = checkNotNull(emailOutboxRepository);
+    this.clock = checkNotNull(clock);
+    this.retentionPeriod = checkNotNull(retentionPeriod);
+    this.persistedDurableJob = checkNotNull(persistedDurableJob);
+  }
+
+  @Override
+  public PersistedDurableJobModel getPersistedDurableJob() {
+    return persistedDurableJob;
+  }
+
+  @Override
+  public void run() {
+    int deletedCount =
+        emailOutboxRepository.deleteFinishedMessagesCreatedBefore(
+            clock.instant().minus(retentionPeriod));
+    logger.info("Deleted {} email outbox messages older than {}", deletedCount, retentionPeriod);
+  }
+}
@@ -0,0 +1,126 @@
+package durablejobs.jobs;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.RateLimiter;
+import durablejobs.DurableJob;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import models.EmailOutboxMessageModel;
+import models.PersistedDurableJobModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import repository.EmailOutboxRepository;
+import services.email.EmailSendClient;
+import services.monitoring.EmailSendMetrics;
+
+/**
+ * A {@link DurableJob} that sends the emails waiting in the email outbox through the configured
+ * email provider.
+ *
+ * <p>Messages are claimed in batches, so that several servers can send at once without sending a
+ * message twice, and sent no faster than the rate limiter allows. A message that fails to send is
+ * retried with exponential backoff until it runs out of attempts.
+ */
+public final class EmailOutboxSendJob extends DurableJob {
+  private static final Logger LOGGER = LoggerFactory.getLogger(EmailOutboxSendJob.class);
+
+  private static final int BATCH_SIZE = 50;
+  // Long enough to send a full batch. A message claimed by a sender that stops is retried once
+  // the lease ends.
+  private static final Duration CLAIM_LEASE = Duration.ofMinutes(10);
+  // The job is scheduled every minute, so a run stops claiming batches after a minute.
+  private static final Duration MAX_RUN_TIME = Duration.ofMinutes(1);
+  private static final Duration FIRST_RETRY_DELAY = Duration.ofMinutes(1);
+  private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final EmailSendClient emailSendClient;
+  private final EmailSendMetrics emailSendMetrics;
+  private final RateLimiter rateLimiter;
+  private final Clock clock;
+  private final PersistedDurableJobModel persistedDurableJob;
+
+  /**
+   * @param emailSendClient the client that sends through the email provider, not the outbox
+   * @param rateLimiter limits the sends of every run of the job on this server
+   */
+  public EmailOutboxSendJob(
+      EmailOutboxRepository emailOutboxRepository,
+      EmailSendClient emailSendClient,
+      EmailSendMetrics emailSendMetrics,
+      RateLimiter rateLimiter,
+      Clock clock,
+      PersistedDurableJobModel persistedDurableJob) {
+    this.emailOutboxRepository = Preconditions.checkNotNull(emailOutboxRepository);
+    this.emailSendClient = Preconditions.checkNotNull(emailSendClient);
+    this.emailSendMetrics = Preconditions.checkNotNull(emailSendMetrics);
+    this.rateLimiter = Preconditions.checkNotNull(rateLimiter);
+    this.clock = Preconditions.checkNotNull(clock);
+    this.persistedDurableJob = Preconditions.checkNotNull(persistedDurableJob);
+  }
+
+  @Override
+  public PersistedDurableJobModel getPersistedDurableJob() {
+    return persistedDurableJob;
+  }
+
+  @Override
+  public void run() {
+    Instant stopTime = clock.instant().plus(MAX_RUN_TIME);
+    int sentCount = 0;
+    ImmutableList<EmailOutboxMessageModel> batch;
+    do {
+      batch = emailOutboxRepository.claimMessagesForSending(BATCH_SIZE, CLAIM_LEASE);
+      sentCount += sendBatch(batch);
+    } while (batch.size() == BATCH_SIZE && clock.instant().isBefore(stopTime));
+
+    int pendingCount = emailOutboxRepository.countPendingMessages();
+    emailSendMetrics.getEmailOutboxPendingCount().set(pendingCount);
+    if (sentCount > 0 || pendingCount > 0) {
+      LOGGER.info("Sent {} emails from the outbox, {} pending", sentCount, pendingCount);
+    }
+  }
+
+  /** Sends the messages, recording the sent ones together. Returns the number sent. */
+  private int sendBatch(ImmutableList<EmailOutboxMessageModel> batch) {
+    ImmutableList.Builder<EmailOutboxMessageModel> sent = ImmutableList.builder();
+    for (EmailOutboxMessageModel message : batch) {
+      rateLimiter.acquire();
+      try {
+        emailSendClient.send(message.getToAddresses(), message.getSubject(), message.getBodyText());
+        sent.add(message);
+      } catch (RuntimeException e) {
+        recordFailure(message, e);
+      }
+    }
+    ImmutableList<EmailOutboxMessageModel> sentMessages = sent.build();
+    emailOutboxRepository.markSent(sentMessages);
+    return sentMessages.size();
+  }
+
+  private void recordFailure(EmailOutboxMessageModel message, RuntimeException e) {
+    String errorMessage = String.format("%s: %s", e.getClass().getSimpleName(), e.getMessage());
+    if (message.getRemainingAttempts() == 0) {
+      LOGGER.error(
+          "Giving up on sending email {} after {} attempts. {}",
+          message.id,
+          EmailOutboxMessageModel.MAX_ATTEMPTS,
+          errorMessage);
+      emailOutboxRepository.markFailed(message, errorMessage, message.getNextAttemptTime());
+      return;
+    }
+
+    // Wait twice as long after each failed attempt.
+    int failedAttempts = EmailOutboxMessageModel.MAX_ATTEMPTS - message.getRemainingAttempts();
+    Duration retryDelay = FIRST_RETRY_DELAY.multipliedBy(1L << (failedAttempts - 1));
+    if (retryDelay.compareTo(MAX_RETRY_DELAY) > 0) {
+      retryDelay = MAX_RETRY_DELAY;
+    }
+    LOGGER.warn(
+        "Failed to send email {}, retrying in {}. {}", message.id, retryDelay, errorMessage);
+    emailSendMetrics.getEmailOutboxRetryCount().inc();
+    emailOutboxRepository.markFailed(message, errorMessage, clock.instant().plus(retryDelay));
+  }
+}
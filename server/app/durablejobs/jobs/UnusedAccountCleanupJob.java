@@ -1,29 +1,43 @@
 package durablejobs.jobs;
 
+import auth.ValidSessionCache;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.inject.Provider;
-import durablejobs.DurableJob;
+import durablejobs.ChunkedDurableJob;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import models.PersistedDurableJobModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import repository.AccountRepository;
+import repository.PersistedDurableJobRepository;
 
-/** Destroys all guest accounts older than a set age that have not started any applications. */
-public final class UnusedAccountCleanupJob extends DurableJob {
+/**
+ * Destroys all guest accounts older than a set age that have not started any applications.
+ *
+ * <p>Accounts are deleted in chunks, so a run that times out resumes where it stopped.
+ */
+public final class UnusedAccountCleanupJob extends ChunkedDurableJob {
   private static final Logger LOGGER = LoggerFactory.getLogger(UnusedAccountCleanupJob.class);
   private static final int UNUSED_ACCOUNT_MIN_AGE_IN_DAYS = 90;
+  private static final int CHUNK_SIZE = 1000;
 
   private final AccountRepository accountRepository;
+  private final ValidSessionCache validSessionCache;
   private final Provider<LocalDateTime> nowProvider;
   private final PersistedDurableJobModel persistedDurableJob;
+  private int numberDeleted = 0;
 
   public UnusedAccountCleanupJob(
       AccountRepository accountRepository,
+      PersistedDurableJobRepository persistedDurableJobRepository,
+      ValidSessionCache validSessionCache,
       Provider<LocalDateTime> nowProvider,
       PersistedDurableJobModel persistedDurableJob) {
+    super(persistedDurableJobRepository, CHUNK_SIZE);
     this.accountRepository = Preconditions.checkNotNull(accountRepository);
+    this.validSessionCache = Preconditions.checkNotNull(validSessionCache);
     this.nowProvider = Preconditions.checkNotNull(nowProvider);
     this.persistedDurableJob = Preconditions.checkNotNull(persistedDurableJob);
   }
@@ -34,10 +48,26 @@ public final class UnusedAccountCleanupJob extends DurableJob {
   }
 
   @Override
-  public void run() {
-    LocalDateTime cutoff = nowProvider.get().minus(UNUSED_ACCOUNT_MIN_AGE_IN_DAYS, ChronoUnit.DAYS);
-    int numberDeleted = accountRepository.deleteUnusedGuestAccounts(UNUSED_ACCOUNT_MIN_AGE_IN_DAYS);
+  protected ImmutableList<Long> findChunk(long afterId, int limit) {
+    return accountRepository.findUnusedGuestApplicantIds(
+        UNUSED_ACCOUNT_MIN_AGE_IN_DAYS, afterId, limit);
+  }
+
+  @Override
+  protected void processChunk(ImmutableList<Long> applicantIds) {
+    numberDeleted +=
+        accountRepository.deleteUnusedGuestAccounts(UNUSED_ACCOUNT_MIN_AGE_IN_DAYS, applicantIds);
+  }
+
+  @Override
+  protected void onFinished(long processedCount) {
+    // Includes accounts deleted by an earlier attempt that didn't finish.
+    if (processedCount > 0) {
+      // The deleted accounts' ids aren't kept, so forget every cached session.
+      validSessionCache.invalidateAll();
+    }
 
+    LocalDateTime cutoff = nowProvider.get().minus(UNUSED_ACCOUNT_MIN_AGE_IN_DAYS, ChronoUnit.DAYS);
     LOGGER.info("Deleted {} accounts created before {}", numberDeleted, cutoff);
   }
 }
@@ -23,7 +23,7 @@ public class LoggingFilter extends EssentialFilter {
   private final Executor exec;
   private final Clock clock;
   private static final Logger log = LoggerFactory.getLogger("loggingfilter");
-  private final Config config;
+  private final boolean enableRequestSessionLogging;
 
   /**
    * @param exec This class is needed to execute code asynchronously.
@@ -32,7 +32,8 @@ public class LoggingFilter extends EssentialFilter {
   public LoggingFilter(Executor exec, Clock clock, Config config) {
     this.exec = checkNotNull(exec);
     this.clock = checkNotNull(clock);
-    this.config = config;
+    this.enableRequestSessionLogging =
+        checkNotNull(config).getBoolean("filters.LoggingFilter.enable_request_session_logging");
   }
 
   private String statusWithOptionalRedirectLocation(Result result) {
@@ -44,6 +45,26 @@ public class LoggingFilter extends EssentialFilter {
     }
   }
 
+  private static void logTrace(Http.RequestHeader request, Result result) {
+    StringBuilder requestCookies = new StringBuilder();
+    for (Http.Cookie cookie : request.cookies()) {
+      requestCookies.append(String.format("key: %s, value: %s\n", cookie.name(), cookie.value()));
+    }
+    log.trace("request cookies: {}", requestCookies);
+    log.trace("response headers: {}", result.headers().toString());
+    if (result.body() instanceof HttpEntity.Strict) {
+      log.trace(
+          "response body: {}",
+          ((HttpEntity.Strict) result.body()).data().decodeString(StandardCharsets.UTF_8));
+    }
+
+    StringBuilder responseCookies = new StringBuilder();
+    for (Http.Cookie cookie : result.cookies()) {
+      responseCookies.append(String.format("key: %s, value: %s\n", cookie.name(), cookie.value()));
+    }
+    log.trace("response cookies: {}", responseCookies);
+  }
+
   /**
    * Logic to log a request and response, including extremely detailed logging of the exact request
    * and response (subject to ordering in the filter list...) at TRACE level.
@@ -57,36 +78,21 @@ public class LoggingFilter extends EssentialFilter {
               .map(
                   result -> {
                     long time = clock.millis() - startTime;
-                    log.info(
-                        "{}\t{}\t{}ms\t{}",
-                        request.method(),
-                        request.uri(),
-                        time,
-                        statusWithOptionalRedirectLocation(result));
-                    if (config.getBoolean("filters.LoggingFilter.enable_request_session_logging")) {
-                      log.info("request session values: {}", request.session().data().toString());
-                    }
-                    StringBuilder requestCookies = new StringBuilder();
-                    for (Http.Cookie cookie : request.cookies()) {
-                      requestCookies.append(
-                          String.format("key: %s, value: %s\n", cookie.name(), cookie.value()));
+                    // Only build log messages for enabled levels, since this runs on every request.
+                    if (log.isInfoEnabled()) {
+                      log.info(
+                          "{}\t{}\t{}ms\t{}",
+                          request.method(),
+                          request.uri(),
+                          time,
+                          statusWithOptionalRedirectLocation(result));
+                      if (enableRequestSessionLogging) {
+                        log.info("request session values: {}", request.session().data());
+                      }
                     }
-                    log.trace("request cookies: {}", requestCookies);
-                    log.trace("response headers: {}", result.headers().toString());
-                    if (result.body() instanceof HttpEntity.Strict) {
-                      log.trace(
-                          "response body: {}",
-                          ((HttpEntity.Strict) result.body())
-                              .data()
-                              .decodeString(StandardCharsets.UTF_8));
-                    }
-
-                    StringBuilder responseCookies = new StringBuilder();
-                    for (Http.Cookie cookie : result.cookies()) {
-                      responseCookies.append(
-                          String.format("key: %s, value: %s\n", cookie.name(), cookie.value()));
+                    if (log.isTraceEnabled()) {
+                      logTrace(request, result);
                     }
-                    log.trace("response cookies: {}", responseCookies);
                     return result.withHeader("RequestTime", String.valueOf(time));
                   },
                   exec);
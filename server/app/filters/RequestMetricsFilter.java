@@ -0,0 +1,127 @@
+package filters;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import actions.RouteExtractor;
+import com.google.common.annotations.VisibleForTesting;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import play.mvc.EssentialAction;
+import play.mvc.EssentialFilter;
+import play.mvc.Http;
+import play.mvc.Result;
+import play.routing.Router;
+
+/**
+ * Exports request latency, response size, and in-flight request metrics to Prometheus, labeled by
+ * route template (like {@code /programs/:programId/edit}) rather than URI, so there is one series
+ * per route.
+ */
+@Singleton
+public final class RequestMetricsFilter extends EssentialFilter {
+  static final String UNMATCHED_ROUTE = "unmatched";
+
+  @VisibleForTesting
+  static final Histogram REQUEST_LATENCY =
+      Histogram.build()
+          .name("http_request_duration_seconds")
+          .help("Time to respond to requests, by route")
+          .labelNames("route", "method", "status_class")
+          .buckets(0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30)
+          .register();
+
+  @VisibleForTesting
+  static final Histogram RESPONSE_SIZE =
+      Histogram.build()
+          .name("http_response_size_bytes")
+          .help("Size of response bodies with a known length, by route")
+          .labelNames("route", "method", "status_class")
+          .exponentialBuckets(256, 4, 8)
+          .register();
+
+  @VisibleForTesting
+  static final Gauge REQUESTS_IN_FLIGHT =
+      Gauge.build()
+          .name("http_requests_in_flight")
+          .help("Requests being handled, by route")
+          .labelNames("route", "method")
+          .register();
+
+  private final Executor exec;
+  // Keyed by route pattern. There are as many entries as routes in the routes file.
+  private final ConcurrentHashMap<String, String> routeTemplates = new ConcurrentHashMap<>();
+
+  @Inject
+  public RequestMetricsFilter(Executor exec) {
+    this.exec = checkNotNull(exec);
+  }
+
+  @Override
+  public EssentialAction apply(EssentialAction next) {
+    return EssentialAction.of(
+        request -> {
+          String route = getRouteTemplate(request);
+          String method = request.method();
+          Gauge.Child inFlight = REQUESTS_IN_FLIGHT.labels(route, method);
+          inFlight.inc();
+          long startNanos = System.nanoTime();
+          return next.apply(request)
+              .map(
+                  result -> {
+                    inFlight.dec();
+                    String statusClass = getStatusClass(result.status());
+                    REQUEST_LATENCY
+                        .labels(route, method, statusClass)
+                        .observe((System.nanoTime() - startNanos) / 1e9);
+                    Optional<Long> contentLength = result.body().contentLength();
+                    if (contentLength.isPresent()) {
+                      RESPONSE_SIZE
+                          .labels(route, method, statusClass)
+                          .observe(contentLength.get());
+                    }
+                    return result;
+                  },
+                  exec)
+              .recoverWith(
+                  throwable -> {
+                    // The error handler renders the response after this filter, as a server error.
+                    inFlight.dec();
+                    REQUEST_LATENCY
+                        .labels(route, method, "5xx")
+                        .observe((System.nanoTime() - startNanos) / 1e9);
+                    return CompletableFuture.<Result>failedFuture(throwable);
+                  },
+                  exec);
+        });
+  }
+
+  private String getRouteTemplate(Http.RequestHeader request) {
+    // Not present when no route matched the request, or in tests.
+    if (!request.attrs().containsKey(Router.Attrs.HANDLER_DEF)) {
+      return UNMATCHED_ROUTE;
+    }
+    return routeTemplates.computeIfAbsent(
+        request.attrs().get(Router.Attrs.HANDLER_DEF).path(), RouteExtractor::toRouteTemplate);
+  }
+
+  private static String getStatusClass(int status) {
+    switch (status / 100) {
+      case 1:
+        return "1xx";
+      case 2:
+        return "2xx";
+      case 3:
+        return "3xx";
+      case 4:
+        return "4xx";
+      default:
+        return "5xx";
+    }
+  }
+}
@@ -2,11 +2,17 @@ package filters;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import auth.AccountNonexistentException;
 import auth.CiviFormProfile;
 import auth.ProfileUtils;
+import auth.ValidSessionCache;
 import com.typesafe.config.Config;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
+import org.apache.pekko.stream.Materializer;
 import play.libs.streams.Accumulator;
 import play.mvc.EssentialAction;
 import play.mvc.EssentialFilter;
@@ -15,16 +21,29 @@ import play.mvc.Results;
 
 /**
  * A filter to ensure the account referenced in the browser cookie is valid. This should only matter
- * when the account is deleted from the database which almost will never happen in prod database.
+ * when the account is deleted from the database which almost will never happen in prod database,
+ * or when session replay protection is enabled and the session has been logged out.
+ *
+ * <p>The account is loaded without blocking the request thread, and sessions found to be valid are
+ * remembered in the {@link ValidSessionCache} for a short time so most requests don't need to load
+ * the account at all.
  */
 public class ValidAccountFilter extends EssentialFilter {
   private final ProfileUtils profileUtils;
   private final Config config;
+  private final ValidSessionCache validSessionCache;
+  private final Materializer materializer;
 
   @Inject
-  public ValidAccountFilter(ProfileUtils profileUtils, Config config) {
+  public ValidAccountFilter(
+      ProfileUtils profileUtils,
+      Config config,
+      ValidSessionCache validSessionCache,
+      Materializer materializer) {
     this.profileUtils = checkNotNull(profileUtils);
     this.config = checkNotNull(config);
+    this.validSessionCache = checkNotNull(validSessionCache);
+    this.materializer = checkNotNull(materializer);
   }
 
   @Override
@@ -32,33 +51,59 @@ public class ValidAccountFilter extends EssentialFilter {
     return EssentialAction.of(
         request -> {
           Optional<CiviFormProfile> profile = profileUtils.optionalCurrentUserProfile(request);
-          if (profile.isPresent() && shouldLogoutUser(profile.get())) {
-            // The cookie is present but the profile or session is not valid, redirect to logout and
-            // clear the cookie.
-            if (!allowedEndpoint(request)) {
-              return Accumulator.done(
-                  Results.redirect(org.pac4j.play.routes.LogoutController.logout()));
-            }
+          if (profile.isEmpty() || allowedEndpoint(request)) {
+            return next.apply(request);
           }
 
-          return next.apply(request);
+          return Accumulator.flatten(
+              isValidProfileAndSession(profile.get())
+                  .thenApply(
+                      isValid -> {
+                        if (isValid) {
+                          return next.apply(request);
+                        }
+                        // The cookie is present but the profile or session is not valid, redirect
+                        // to logout and clear the cookie.
+                        return Accumulator.done(
+                            Results.redirect(org.pac4j.play.routes.LogoutController.logout()));
+                      }),
+              materializer);
         });
   }
 
-  private boolean shouldLogoutUser(CiviFormProfile profile) {
-    return !profileUtils.validCiviFormProfile(profile) || !isValidSession(profile);
-  }
-
-  private boolean isValidSession(CiviFormProfile profile) {
-    if (config.getBoolean("session_replay_protection_enabled")) {
-      return profile
-          .getAccount()
-          .thenApply(
-              account ->
-                  account.getActiveSession(profile.getProfileData().getSessionId()).isPresent())
-          .join();
+  /**
+   * Return true if the account referenced by the profile exists and, when session replay protection
+   * is enabled, the profile's session is still active.
+   */
+  private CompletionStage<Boolean> isValidProfileAndSession(CiviFormProfile profile) {
+    long accountId = Long.parseLong(profile.getProfileData().getId());
+    String sessionId = profile.getProfileData().getSessionId();
+    if (validSessionCache.isKnownValid(accountId, sessionId)) {
+      return CompletableFuture.completedFuture(true);
     }
-    return true;
+    // Read before the session is checked, so a session that ends during the check isn't cached.
+    long generation = validSessionCache.getGeneration(accountId);
+
+    return profile
+        .getAccount()
+        .thenApply(
+            account -> {
+              boolean isValid =
+                  !config.getBoolean("session_replay_protection_enabled")
+                      || account.getActiveSession(sessionId).isPresent();
+              if (isValid) {
+                validSessionCache.markValid(accountId, sessionId, generation);
+              }
+              return isValid;
+            })
+        .exceptionally(
+            e -> {
+              Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+              if (cause instanceof AccountNonexistentException) {
+                return false;
+              }
+              throw new CompletionException(cause);
+            });
   }
 
   /**
@@ -66,9 +111,9 @@ public class ValidAccountFilter extends EssentialFilter {
    * infinite redirect.
    *
    * <p>NOTE: You might think we'd also want an OptionalProfileRoutes check here. However, this is
-   * currently only called after checking if a profile is present and valid. If the profile isn't
-   * present, we never make it here anyway. If the profile is invalid, we don't want to allow
-   * hitting those endpoints with an invalid profile, so we don't add that check here.
+   * currently only called after checking if a profile is present. If the profile isn't present, we
+   * never make it here anyway. If the profile is invalid, we don't want to allow hitting those
+   * endpoints with an invalid profile, so we don't add that check here.
    */
   private boolean allowedEndpoint(Http.RequestHeader requestHeader) {
     return NonUserRoutes.anyMatch(requestHeader) || isLogoutRequest(requestHeader.uri());
@@ -334,6 +334,14 @@ public class ApplicantModel extends BaseModel {
     return Optional.ofNullable(dateOfBirth);
   }
 
+  /**
+   * Returns the answers JSON as it was loaded from the database. Once the applicant is saved this
+   * is the JSON that was written instead, which the database may have formatted differently.
+   */
+  public Optional<String> getLoadedObject() {
+    return Optional.ofNullable(object);
+  }
+
   private String objectAsJsonString() {
     return getApplicantData().asJsonString();
   }
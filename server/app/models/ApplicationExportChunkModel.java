@@ -0,0 +1,49 @@
+package models;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import play.data.validation.Constraints;
+
+/**
+ * An EBean mapped class that records part of the file being generated for an {@link
+ * ApplicationExportModel}. The content of each chunk is uploaded to applicant storage under {@code
+ * fileKey}. Chunks are concatenated in {@code chunkIndex} order once every application has been
+ * exported, after which their files and records are deleted.
+ */
+@Entity
+@Table(name = "application_export_chunks")
+public final class ApplicationExportChunkModel extends BaseModel {
+
+  @Constraints.Required private long applicationExportId;
+  @Constraints.Required private int chunkIndex;
+  @Constraints.Required private String fileKey;
+  @Constraints.Required private long byteLength;
+
+  public ApplicationExportChunkModel(
+      long applicationExportId, int chunkIndex, String fileKey, long byteLength) {
+    this.applicationExportId = applicationExportId;
+    this.chunkIndex = chunkIndex;
+    this.fileKey = checkNotNull(fileKey);
+    this.byteLength = byteLength;
+  }
+
+  public long getApplicationExportId() {
+    return applicationExportId;
+  }
+
+  public int getChunkIndex() {
+    return chunkIndex;
+  }
+
+  /** The key of the chunk's content in applicant storage. */
+  public String getFileKey() {
+    return fileKey;
+  }
+
+  /** The size of the chunk's content in bytes. */
+  public long getByteLength() {
+    return byteLength;
+  }
+}
@@ -0,0 +1,22 @@
+package models;
+
+import io.ebean.annotation.DbEnumType;
+import io.ebean.annotation.DbEnumValue;
+
+/** The file format of a background {@link ApplicationExportModel}. */
+public enum ApplicationExportFormat {
+  CSV("csv"),
+  JSON("json");
+
+  private final String format;
+
+  ApplicationExportFormat(String format) {
+    this.format = format;
+  }
+
+  /** The extension of files in this format, which is also the value stored in the database. */
+  @DbEnumValue(storage = DbEnumType.VARCHAR)
+  public String getValue() {
+    return this.format;
+  }
+}
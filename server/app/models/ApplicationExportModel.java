@@ -0,0 +1,179 @@
+package models;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import io.ebean.annotation.WhenCreated;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.Optional;
+import play.data.validation.Constraints;
+
+/**
+ * An EBean mapped class that records an export of a program's applications that is generated in
+ * the background by a {@link PersistedDurableJobModel} and then uploaded to applicant storage.
+ *
+ * <p>The export is written in chunks, one page of applications at a time, and each chunk is saved
+ * together with the submit time and id of the last application it contains. If the server restarts
+ * part way through, the job resumes from that cursor rather than starting over.
+ *
+ * <p>The filters used to select applications are stored with the export. {@code untilTime} is
+ * always set, to the time the export was requested if no earlier time was given, so that
+ * applications submitted while the export is running don't change its contents.
+ */
+@Entity
+@Table(name = "application_exports")
+public final class ApplicationExportModel extends BaseModel {
+
+  @Constraints.Required private long programId;
+  @Constraints.Required private ApplicationExportFormat exportFormat;
+  private String searchNameFragment;
+  private Instant fromTime;
+  @Constraints.Required private Instant untilTime;
+  private String applicationStatus;
+
+  @Constraints.Required private ApplicationExportStatus status;
+  private Long persistedDurableJobId;
+  private String fileKey;
+
+  private Instant lastSubmitTime;
+  private Long lastApplicationId;
+  private long exportedApplicationCount;
+  private int nextChunkIndex;
+
+  private String errorMessage;
+  @WhenCreated private Instant createTime;
+  private Instant completionTime;
+
+  public ApplicationExportModel(
+      long programId, ApplicationExportFormat exportFormat, Instant untilTime) {
+    this.programId = programId;
+    this.exportFormat = checkNotNull(exportFormat);
+    this.untilTime = checkNotNull(untilTime);
+    this.status = ApplicationExportStatus.QUEUED;
+  }
+
+  public long getProgramId() {
+    return programId;
+  }
+
+  public ApplicationExportFormat getExportFormat() {
+    return exportFormat;
+  }
+
+  public Optional<String> getSearchNameFragment() {
+    return Optional.ofNullable(searchNameFragment);
+  }
+
+  public ApplicationExportModel setSearchNameFragment(Optional<String> searchNameFragment) {
+    this.searchNameFragment = searchNameFragment.orElse(null);
+    return this;
+  }
+
+  public Optional<Instant> getFromTime() {
+    return Optional.ofNullable(fromTime);
+  }
+
+  public ApplicationExportModel setFromTime(Optional<Instant> fromTime) {
+    this.fromTime = fromTime.orElse(null);
+    return this;
+  }
+
+  public Instant getUntilTime() {
+    return untilTime;
+  }
+
+  public Optional<String> getApplicationStatus() {
+    return Optional.ofNullable(applicationStatus);
+  }
+
+  public ApplicationExportModel setApplicationStatus(Optional<String> applicationStatus) {
+    this.applicationStatus = applicationStatus.orElse(null);
+    return this;
+  }
+
+  public ApplicationExportStatus getStatus() {
+    return status;
+  }
+
+  public ApplicationExportModel setStatus(ApplicationExportStatus status) {
+    this.status = checkNotNull(status);
+    return this;
+  }
+
+  public Optional<Long> getPersistedDurableJobId() {
+    return Optional.ofNullable(persistedDurableJobId);
+  }
+
+  public ApplicationExportModel setPersistedDurableJobId(long persistedDurableJobId) {
+    this.persistedDurableJobId = persistedDurableJobId;
+    return this;
+  }
+
+  /** The key of the uploaded file in applicant storage, present once the export is complete. */
+  public Optional<String> getFileKey() {
+    return Optional.ofNullable(fileKey);
+  }
+
+  public ApplicationExportModel setFileKey(String fileKey) {
+    this.fileKey = checkNotNull(fileKey);
+    return this;
+  }
+
+  /** The submit time of the last application exported so far, if any. */
+  public Optional<Instant> getLastSubmitTime() {
+    return Optional.ofNullable(lastSubmitTime);
+  }
+
+  /** The id of the last application exported so far, if any. */
+  public Optional<Long> getLastApplicationId() {
+    return Optional.ofNullable(lastApplicationId);
+  }
+
+  public long getExportedApplicationCount() {
+    return exportedApplicationCount;
+  }
+
+  /** The index the next chunk of the export file will be saved with. */
+  public int getNextChunkIndex() {
+    return nextChunkIndex;
+  }
+
+  /**
+   * Records that a chunk has been saved. If the chunk contains applications, {@code
+   * lastApplication} is the last of them, and subsequent chunks will start after it.
+   */
+  public ApplicationExportModel recordChunk(
+      Optional<ApplicationModel> lastApplication, int applicationCount) {
+    this.nextChunkIndex++;
+    this.exportedApplicationCount += applicationCount;
+    lastApplication.ifPresent(
+        application -> {
+          this.lastSubmitTime = application.getSubmitTime();
+          this.lastApplicationId = application.id;
+        });
+    return this;
+  }
+
+  public Optional<String> getErrorMessage() {
+    return Optional.ofNullable(errorMessage);
+  }
+
+  public ApplicationExportModel setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+    return this;
+  }
+
+  public Instant getCreateTime() {
+    return createTime;
+  }
+
+  public Optional<Instant> getCompletionTime() {
+    return Optional.ofNullable(completionTime);
+  }
+
+  public ApplicationExportModel setCompletionTime(Instant completionTime) {
+    this.completionTime = checkNotNull(completionTime);
+    return this;
+  }
+}
@@ -0,0 +1,23 @@
+package models;
+
+import io.ebean.annotation.DbEnumType;
+import io.ebean.annotation.DbEnumValue;
+
+/** The progress of a background {@link ApplicationExportModel}. */
+public enum ApplicationExportStatus {
+  /** The export has been requested but its job has not started yet. */
+  QUEUED,
+  /** Applications are being exported. The export resumes from its cursor if interrupted. */
+  IN_PROGRESS,
+  /** Every application has been exported and the file is being uploaded to applicant storage. */
+  UPLOADING,
+  /** The export file has been uploaded to applicant storage and can be downloaded. */
+  COMPLETE,
+  /** The export job ran out of attempts. */
+  FAILED;
+
+  @DbEnumValue(storage = DbEnumType.VARCHAR, length = 32)
+  public String getValue() {
+    return this.name();
+  }
+}
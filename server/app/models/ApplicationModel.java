@@ -8,9 +8,11 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.Instant;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 import play.data.validation.Constraints;
 import services.applicant.ApplicantData;
@@ -53,6 +55,10 @@ public class ApplicationModel extends BaseModel {
   private boolean isAdmin;
   private String latestNote;
 
+  // The most recently parsed object, and what it was parsed into. Not persisted.
+  @Transient private String parsedObject;
+  @Transient private ApplicantData parsedApplicantData;
+
   public ApplicationModel(
       ApplicantModel applicant, ProgramModel program, LifecycleStage lifecycleStage) {
     this.applicant = applicant;
@@ -95,13 +101,32 @@ public class ApplicationModel extends BaseModel {
     return this.program;
   }
 
+  /**
+   * Returns the application's answers. Each call returns a new {@link ApplicantData} that can be
+   * changed without affecting this application until it is passed to {@link #setApplicantData}.
+   */
   public ApplicantData getApplicantData() {
+    ApplicantData parsed = getParsedApplicantData();
     if (this.preferredLocale == null || this.preferredLocale.isEmpty()) {
       // Default to English.
-      return new ApplicantData(this.object);
+      return new ApplicantData(Optional.empty(), parsed);
     }
 
-    return new ApplicantData(Optional.of(Locale.forLanguageTag(preferredLocale)), this.object);
+    return new ApplicantData(Optional.of(Locale.forLanguageTag(preferredLocale)), parsed);
+  }
+
+  /**
+   * Returns {@code object} parsed, parsing it only if it has changed since it was last parsed.
+   * Large applications are expensive to parse and are often read many times while handling a
+   * single request. The returned instance is shared, so it is locked against changes.
+   */
+  private ApplicantData getParsedApplicantData() {
+    if (parsedApplicantData == null || !Objects.equals(parsedObject, object)) {
+      parsedApplicantData = new ApplicantData(object);
+      parsedApplicantData.lock();
+      parsedObject = object;
+    }
+    return parsedApplicantData;
   }
 
   public ApplicationModel setApplicantData(ApplicantData data) {
@@ -0,0 +1,52 @@
+package models;
+
+import io.ebean.annotation.WhenModified;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import play.data.validation.Constraints;
+
+/**
+ * An EBean mapped class that records how far a chunked durable job has got through its rows.
+ *
+ * <p>Each checkpoint belongs to one {@link PersistedDurableJobModel}, identified by {@code
+ * persistedDurableJobId}. It holds the id of the last row the job processed, so a retry of the job
+ * resumes after it, and the number of rows processed so far.
+ */
+@Entity
+@Table(name = "durable_job_checkpoints")
+public final class DurableJobCheckpointModel extends BaseModel {
+
+  @Constraints.Required private long persistedDurableJobId;
+  @Constraints.Required private long lastProcessedId;
+  @Constraints.Required private long processedCount;
+
+  @WhenModified private Instant updateTime;
+
+  public DurableJobCheckpointModel(long persistedDurableJobId) {
+    this.persistedDurableJobId = persistedDurableJobId;
+  }
+
+  public long getPersistedDurableJobId() {
+    return persistedDurableJobId;
+  }
+
+  public long getLastProcessedId() {
+    return lastProcessedId;
+  }
+
+  public long getProcessedCount() {
+    return processedCount;
+  }
+
+  public Instant getUpdateTime() {
+    return updateTime;
+  }
+
+  /** Records that the rows up to and including {@code lastProcessedId} have been processed. */
+  public DurableJobCheckpointModel recordChunk(long lastProcessedId, int chunkSize) {
+    this.lastProcessedId = lastProcessedId;
+    this.processedCount += chunkSize;
+    return this;
+  }
+}
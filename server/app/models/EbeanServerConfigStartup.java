@@ -4,13 +4,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.typesafe.config.ConfigFactory;
 import io.ebean.DatabaseBuilder;
 import io.ebean.event.ServerConfigStartup;
+import services.monitoring.SlowQueryLogger;
 
 /**
  * Provides a Jackson {@link ObjectMapper} that understands how to (de)serialize Guava types and
  * Java 8 Optionals. Note that this is necessary because Ebean uses a different ObjectMapper than
  * the one provided by the Play framework.
+ *
+ * <p>Also logs queries slower than "database.slow_query_threshold_millis". Ebean creates this class
+ * itself, so the threshold is read from the application config directly rather than injected.
  */
 public class EbeanServerConfigStartup implements ServerConfigStartup {
   @Override
@@ -19,5 +24,8 @@ public class EbeanServerConfigStartup implements ServerConfigStartup {
         new ObjectMapper().registerModule(new GuavaModule()).registerModule(new Jdk8Module());
     mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
     config.objectMapper(mapper);
+
+    config.slowQueryMillis(ConfigFactory.load().getLong("database.slow_query_threshold_millis"));
+    config.slowQueryListener(new SlowQueryLogger());
   }
 }
@@ -0,0 +1,93 @@
+package models;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.annotation.DbArray;
+import io.ebean.annotation.WhenCreated;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import play.data.validation.Constraints;
+
+/**
+ * An EBean mapped class that records an email waiting to be sent, or that has been sent, by the
+ * email outbox.
+ *
+ * <p>Messages are sent in the background once their {@code nextAttemptTime} is reached. Each
+ * attempt decrements {@code remainingAttempts}, and a failed attempt records its error and pushes
+ * {@code nextAttemptTime} back. A message is sent once it has a {@code sentTime}.
+ */
+@Entity
+@Table(name = "email_outbox")
+public final class EmailOutboxMessageModel extends BaseModel {
+
+  /** The number of times a message is attempted before it's given up on. */
+  public static final int MAX_ATTEMPTS = 5;
+
+  @DbArray private List<String> toAddresses = new ArrayList<>();
+  @Constraints.Required private String subject;
+  @Constraints.Required private String bodyText;
+
+  @WhenCreated private Instant createTime;
+
+  @Constraints.Required private Instant nextAttemptTime;
+  @Constraints.Required private int remainingAttempts;
+
+  private Instant sentTime;
+  private String errorMessage;
+
+  public EmailOutboxMessageModel(
+      ImmutableList<String> toAddresses, String subject, String bodyText, Instant sendTime) {
+    this.toAddresses = new ArrayList<>(checkNotNull(toAddresses));
+    this.subject = checkNotNull(subject);
+    this.bodyText = checkNotNull(bodyText);
+    this.nextAttemptTime = checkNotNull(sendTime);
+    this.remainingAttempts = MAX_ATTEMPTS;
+  }
+
+  public ImmutableList<String> getToAddresses() {
+    return ImmutableList.copyOf(toAddresses);
+  }
+
+  public String getSubject() {
+    return subject;
+  }
+
+  public String getBodyText() {
+    return bodyText;
+  }
+
+  public Instant getCreateTime() {
+    return createTime;
+  }
+
+  public Instant getNextAttemptTime() {
+    return nextAttemptTime;
+  }
+
+  public EmailOutboxMessageModel setNextAttemptTime(Instant nextAttemptTime) {
+    this.nextAttemptTime = checkNotNull(nextAttemptTime);
+    return this;
+  }
+
+  public int getRemainingAttempts() {
+    return remainingAttempts;
+  }
+
+  public Optional<Instant> getSentTime() {
+    return Optional.ofNullable(sentTime);
+  }
+
+  public Optional<String> getErrorMessage() {
+    return Optional.ofNullable(errorMessage);
+  }
+
+  public EmailOutboxMessageModel setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+    return this;
+  }
+}
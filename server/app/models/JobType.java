@@ -14,7 +14,13 @@ public enum JobType {
   RUN_ON_EACH_STARTUP,
 
   /** Runs a job once at application startup, prior to the site being accessible to users. */
-  RUN_ONCE;
+  RUN_ONCE,
+
+  /**
+   * Runs a job once, as soon as possible after it is requested, via the same Pekko scheduler as
+   * {@link #RECURRING} jobs. Used for work started by a user, such as application exports.
+   */
+  ON_DEMAND;
 
   @DbEnumValue(storage = DbEnumType.VARCHAR, length = 32)
   public String getValue() {
@@ -14,7 +14,11 @@ public final class Models {
           ApplicantModel.class,
           ApplicationModel.class,
           ApplicationEventModel.class,
+          ApplicationExportModel.class,
+          ApplicationExportChunkModel.class,
           CategoryModel.class,
+          DurableJobCheckpointModel.class,
+          EmailOutboxMessageModel.class,
           PersistedDurableJobModel.class,
           ProgramModel.class,
           QuestionModel.class,
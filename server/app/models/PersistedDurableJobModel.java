@@ -16,6 +16,9 @@ import play.data.validation.Constraints;
  *
  * <p>When jobs fail, a failure message is recorded on the {@code PersistedDurableJob}'s {@code
  * errorMessage} and its {@code remainingAttempts} count is decremented.
+ *
+ * <p>A job run outside of a locking transaction is leased to the server running it until its {@code
+ * leaseExpirationTime}, which that server extends while the job runs.
  */
 @Entity
 @Table(name = "persisted_durable_jobs")
@@ -33,6 +36,8 @@ public final class PersistedDurableJobModel extends BaseModel {
 
   private String errorMessage;
 
+  private Instant leaseExpirationTime;
+
   public PersistedDurableJobModel(String jobName, JobType jobType, Instant executionTime) {
     this.jobName = Preconditions.checkNotNull(jobName);
     this.jobType = jobType;
@@ -89,4 +94,18 @@ public final class PersistedDurableJobModel extends BaseModel {
             : String.format("%s\nEND_ERROR\n\n%s", this.errorMessage, newMessage);
     return this;
   }
+
+  public Optional<Instant> getLeaseExpirationTime() {
+    return Optional.ofNullable(leaseExpirationTime);
+  }
+
+  public PersistedDurableJobModel setLeaseExpirationTime(Instant leaseExpirationTime) {
+    this.leaseExpirationTime = Preconditions.checkNotNull(leaseExpirationTime);
+    return this;
+  }
+
+  public PersistedDurableJobModel clearLeaseExpirationTime() {
+    this.leaseExpirationTime = null;
+    return this;
+  }
 }
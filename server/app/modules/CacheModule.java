@@ -0,0 +1,103 @@
+package modules;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.typesafe.config.Config;
+import java.time.Duration;
+import java.util.Random;
+import org.apache.pekko.actor.ActorSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.Environment;
+import play.api.db.evolutions.ApplicationEvolutions;
+import scala.concurrent.ExecutionContext;
+import services.cache.CacheInvalidationBackend;
+import services.cache.CacheInvalidator;
+import services.cache.CacheWarmer;
+import services.cache.LocalCacheInvalidator;
+import services.cache.PostgresCacheInvalidator;
+
+/**
+ * Configures how invalidations of the named caches are shared between servers, based on the
+ * {@code cache_invalidation_backend} setting.
+ */
+public final class CacheModule extends AbstractModule {
+  private static final Logger logger = LoggerFactory.getLogger(CacheModule.class);
+
+  private final Config config;
+
+  // Environment must always be provided as a param, even if it's unused.
+  public CacheModule(Environment unused, Config config) {
+    this.config = checkNotNull(config);
+  }
+
+  @Override
+  protected void configure() {
+    String backendName = config.getString("cache_invalidation_backend");
+    CacheInvalidationBackend backend =
+        CacheInvalidationBackend.forString(backendName)
+            .orElseThrow(
+                () ->
+                    new ConfigurationException(
+                        String.format("Unknown cache_invalidation_backend: %s", backendName)));
+
+    switch (backend) {
+      case LOCAL:
+        bind(CacheInvalidator.class).to(LocalCacheInvalidator.class);
+        break;
+      case POSTGRES:
+        bind(CacheInvalidator.class).to(PostgresCacheInvalidator.class);
+        // Binding the poller as an eager singleton starts polling at server start time.
+        bind(CacheInvalidationPoller.class).asEagerSingleton();
+        break;
+    }
+  }
+
+  /**
+   * Periodically applies the cache invalidations recorded by other servers, and warms the caches
+   * when another server has published a new version, once evolutions have been applied.
+   */
+  public static final class CacheInvalidationPoller {
+
+    @Inject
+    public CacheInvalidationPoller(
+        ApplicationEvolutions applicationEvolutions,
+        ActorSystem actorSystem,
+        Config config,
+        ExecutionContext executionContext,
+        PostgresCacheInvalidator cacheInvalidator,
+        CacheWarmer cacheWarmer) {
+      if (!applicationEvolutions.upToDate()) {
+        logger.trace("Evolutions Not Ready");
+        return;
+      }
+
+      // Record where to start polling from before this server caches anything.
+      cacheInvalidator.applyRecordedInvalidations();
+
+      int pollIntervalSeconds = config.getInt("cache_invalidation_poll_interval_seconds");
+      actorSystem
+          .scheduler()
+          .scheduleAtFixedRate(
+              // Wait a random amount of time to decrease likelihood of synchronized polling with
+              // another server.
+              /* initialDelay= */ Duration.ofMillis(
+                  new Random().nextInt(/* bound= */ pollIntervalSeconds * 1000)),
+              /* interval= */ Duration.ofSeconds(pollIntervalSeconds),
+              () -> {
+                // An exception would stop the scheduled polling, so log it and try again on the
+                // next poll instead.
+                try {
+                  cacheInvalidator.applyRecordedInvalidations();
+                  // Another server may have published a new version.
+                  cacheWarmer.warmActiveVersionIfChanged();
+                } catch (RuntimeException e) {
+                  logger.error("Failed to apply cache invalidations", e);
+                }
+              },
+              executionContext);
+    }
+  }
+}
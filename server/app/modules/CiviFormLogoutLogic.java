@@ -2,6 +2,7 @@ package modules;
 
 import auth.CiviFormProfile;
 import auth.ProfileUtils;
+import auth.ValidSessionCache;
 import java.util.Optional;
 import org.pac4j.core.config.Config;
 import org.pac4j.core.context.CallContext;
@@ -17,9 +18,11 @@ import org.slf4j.LoggerFactory;
 class CiviFormLogoutLogic extends DefaultLogoutLogic {
   private static final Logger logger = LoggerFactory.getLogger(CiviFormLogoutLogic.class);
   private final ProfileUtils profileUtils;
+  private final ValidSessionCache validSessionCache;
 
-  public CiviFormLogoutLogic(ProfileUtils profileUtils) {
+  public CiviFormLogoutLogic(ProfileUtils profileUtils, ValidSessionCache validSessionCache) {
     this.profileUtils = profileUtils;
+    this.validSessionCache = validSessionCache;
   }
 
   @Override
@@ -56,6 +59,7 @@ class CiviFormLogoutLogic extends DefaultLogoutLogic {
                   account -> {
                     account.removeActiveSession(profile.getProfileData().getSessionId());
                     account.save();
+                    validSessionCache.invalidateAccount(account.id);
                   })
               .exceptionally(
                   e -> {
@@ -1,8 +1,11 @@
 package modules;
 
 import annotations.BindingAnnotations;
+import annotations.BindingAnnotations.EmailSendProviderClient;
 import annotations.BindingAnnotations.RecurringJobsProviderName;
 import annotations.BindingAnnotations.StartupJobsProviderName;
+import auth.ValidSessionCache;
+import com.google.common.util.concurrent.RateLimiter;
 import com.google.inject.AbstractModule;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
@@ -18,12 +21,17 @@ import durablejobs.StartupDurableJobRunner;
 import durablejobs.StartupJobScheduler;
 import durablejobs.jobs.AddCategoryAndTranslationsJob;
 import durablejobs.jobs.AddOperatorToLeafAddressServiceAreaJob;
+import durablejobs.jobs.ApplicationExportCleanupJob;
+import durablejobs.jobs.ApplicationExportJob;
 import durablejobs.jobs.ConvertAddressServiceAreaToArrayJob;
 import durablejobs.jobs.CopyFileKeyForMultipleFileUpload;
+import durablejobs.jobs.EmailOutboxCleanupJob;
+import durablejobs.jobs.EmailOutboxSendJob;
 import durablejobs.jobs.OldJobCleanupJob;
 import durablejobs.jobs.ReportingDashboardMonthlyRefreshJob;
 import durablejobs.jobs.UnusedAccountCleanupJob;
 import durablejobs.jobs.UnusedProgramImagesCleanupJob;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Random;
@@ -34,12 +42,21 @@ import org.slf4j.LoggerFactory;
 import play.Environment;
 import play.api.db.evolutions.ApplicationEvolutions;
 import repository.AccountRepository;
+import repository.ApplicationExportRepository;
 import repository.CategoryRepository;
+import repository.EmailOutboxRepository;
 import repository.PersistedDurableJobRepository;
 import repository.ReportingRepository;
 import repository.VersionRepository;
 import scala.concurrent.ExecutionContext;
+import services.cache.CacheWarmer;
+import services.cloud.ApplicantStorageClient;
 import services.cloud.PublicStorageClient;
+import services.email.EmailSendClient;
+import services.export.CsvExporterService;
+import services.export.JsonExporterService;
+import services.monitoring.EmailSendMetrics;
+import services.program.ProgramService;
 
 /**
  * Configures {@link durablejobs.DurableJob}s with their {@link DurableJobName} and, if they are
@@ -77,7 +94,8 @@ public final class DurableJobModule extends AbstractModule {
         RecurringDurableJobRunner recurringDurableJobRunner,
         RecurringJobScheduler recurringJobScheduler,
         StartupDurableJobRunner startupDurableJobRunner,
-        StartupJobScheduler startupJobScheduler) {
+        StartupJobScheduler startupJobScheduler,
+        CacheWarmer cacheWarmer) {
       LOGGER.trace("DurableJobRunnerScheduler - Started");
       int pollIntervalSeconds = config.getInt("durable_jobs.poll_interval_seconds");
 
@@ -89,6 +107,10 @@ public final class DurableJobModule extends AbstractModule {
         startupJobScheduler.scheduleJobs();
         startupDurableJobRunner.runJobs();
 
+        // Warm the caches once startup jobs are done changing data, so the first requests don't
+        // pay for loading the ACTIVE version.
+        cacheWarmer.warmActiveVersion().toCompletableFuture().join();
+
         // Start the actorSystem to run recurring jobs. These jobs will run in the background after
         // the configured initial delay.
         actorSystem
@@ -114,10 +136,21 @@ public final class DurableJobModule extends AbstractModule {
   @RecurringJobsProviderName
   public DurableJobRegistry provideRecurringDurableJobRegistry(
       AccountRepository accountRepository,
+      ApplicantStorageClient applicantStorageClient,
+      ApplicationExportRepository applicationExportRepository,
+      Clock clock,
+      Config config,
+      CsvExporterService csvExporterService,
+      EmailOutboxRepository emailOutboxRepository,
+      @EmailSendProviderClient EmailSendClient emailSendProviderClient,
+      EmailSendMetrics emailSendMetrics,
+      JsonExporterService jsonExporterService,
       @BindingAnnotations.Now Provider<LocalDateTime> nowProvider,
       PersistedDurableJobRepository persistedDurableJobRepository,
+      ProgramService programService,
       PublicStorageClient publicStorageClient,
       ReportingRepository reportingRepository,
+      ValidSessionCache validSessionCache,
       VersionRepository versionRepository) {
     var durableJobRegistry = new DurableJobRegistry();
 
@@ -139,7 +172,12 @@ public final class DurableJobModule extends AbstractModule {
         DurableJobName.UNUSED_ACCOUNT_CLEANUP,
         JobType.RECURRING,
         persistedDurableJob ->
-            new UnusedAccountCleanupJob(accountRepository, nowProvider, persistedDurableJob),
+            new UnusedAccountCleanupJob(
+                accountRepository,
+                persistedDurableJobRepository,
+                validSessionCache,
+                nowProvider,
+                persistedDurableJob),
         new RecurringJobExecutionTimeResolvers.SecondOfMonth2Am());
 
     durableJobRegistry.register(
@@ -150,6 +188,57 @@ public final class DurableJobModule extends AbstractModule {
                 publicStorageClient, versionRepository, persistedDurableJob),
         new RecurringJobExecutionTimeResolvers.ThirdOfMonth2Am());
 
+    // Shared by every run of the job so the rate holds across runs.
+    RateLimiter emailRateLimiter =
+        RateLimiter.create(config.getInt("email.outbox.max_sends_per_second"));
+    durableJobRegistry.register(
+        DurableJobName.EMAIL_OUTBOX_SEND,
+        JobType.RECURRING,
+        persistedDurableJob ->
+            new EmailOutboxSendJob(
+                emailOutboxRepository,
+                emailSendProviderClient,
+                emailSendMetrics,
+                emailRateLimiter,
+                clock,
+                persistedDurableJob),
+        new RecurringJobExecutionTimeResolvers.EveryMinute());
+
+    Duration emailOutboxRetentionPeriod =
+        Duration.ofDays(config.getInt("email.outbox.retention_days"));
+    durableJobRegistry.register(
+        DurableJobName.EMAIL_OUTBOX_CLEANUP,
+        JobType.RECURRING,
+        persistedDurableJob ->
+            new EmailOutboxCleanupJob(
+                emailOutboxRepository, clock, emailOutboxRetentionPeriod, persistedDurableJob),
+        new RecurringJobExecutionTimeResolvers.Daily3Am());
+
+    durableJobRegistry.registerOnDemandJob(
+        DurableJobName.APPLICATION_EXPORT,
+        persistedDurableJob ->
+            new ApplicationExportJob(
+                applicantStorageClient,
+                applicationExportRepository,
+                csvExporterService,
+                jsonExporterService,
+                programService,
+                persistedDurableJob));
+
+    Duration applicationExportRetentionPeriod =
+        Duration.ofDays(config.getInt("application_exports.retention_days"));
+    durableJobRegistry.register(
+        DurableJobName.APPLICATION_EXPORT_CLEANUP,
+        JobType.RECURRING,
+        persistedDurableJob ->
+            new ApplicationExportCleanupJob(
+                applicantStorageClient,
+                applicationExportRepository,
+                clock,
+                applicationExportRetentionPeriod,
+                persistedDurableJob),
+        new RecurringJobExecutionTimeResolvers.Daily3Am());
+
     return durableJobRegistry;
   }
 
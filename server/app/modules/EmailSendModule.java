@@ -2,10 +2,13 @@ package modules;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import annotations.BindingAnnotations.EmailSendProviderClient;
 import com.google.inject.AbstractModule;
+import com.google.inject.Key;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigException;
 import play.Environment;
+import services.email.EmailOutboxClient;
 import services.email.EmailSendClient;
 import services.email.EmailSendProvider;
 import services.email.aws.SimpleEmail;
@@ -34,11 +37,22 @@ public class EmailSendModule extends AbstractModule {
 
     switch (emailSendProvider) {
       case AWS_SES:
-        bind(EmailSendClient.class).to(SimpleEmail.class);
+        bind(EmailSendClient.class)
+            .annotatedWith(EmailSendProviderClient.class)
+            .to(SimpleEmail.class);
         break;
       case GRAPH_API:
-        bind(EmailSendClient.class).to(GraphApiEmailClient.class);
+        bind(EmailSendClient.class)
+            .annotatedWith(EmailSendProviderClient.class)
+            .to(GraphApiEmailClient.class);
         break;
     }
+
+    if (config.getBoolean("email.outbox.enabled")) {
+      // Emails are queued in the outbox and sent by the EMAIL_OUTBOX_SEND durable job.
+      bind(EmailSendClient.class).to(EmailOutboxClient.class);
+    } else {
+      bind(EmailSendClient.class).to(Key.get(EmailSendClient.class, EmailSendProviderClient.class));
+    }
   }
 }
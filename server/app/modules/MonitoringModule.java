@@ -0,0 +1,47 @@
+package modules;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.prometheus.PrometheusHistogramMetricsTrackerFactory;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.db.Database;
+
+/** Exports Prometheus metrics that need hooking up when the server starts. */
+public class MonitoringModule extends AbstractModule {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MonitoringModule.class);
+
+  @Override
+  protected void configure() {
+    bind(ConnectionPoolMetrics.class).asEagerSingleton();
+  }
+
+  /**
+   * Exports the HikariCP connection pool's metrics, including how long requests wait for a
+   * connection ({@code hikaricp_connection_acquired_nanos}) and how many are waiting ({@code
+   * hikaricp_pending_threads}).
+   */
+  public static final class ConnectionPoolMetrics {
+
+    @Inject
+    public ConnectionPoolMetrics(Database database) {
+      DataSource dataSource = database.getDataSource();
+      try {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+          LOGGER.warn("Not exporting connection pool metrics: the pool isn't HikariCP");
+          return;
+        }
+        HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+        // The factory can only be set once per pool.
+        if (hikariDataSource.getMetricsTrackerFactory() == null) {
+          hikariDataSource.setMetricsTrackerFactory(new PrometheusHistogramMetricsTrackerFactory());
+        }
+      } catch (SQLException e) {
+        LOGGER.warn("Not exporting connection pool metrics", e);
+      }
+    }
+  }
+}
@@ -16,6 +16,7 @@ import auth.GuestClient;
 import auth.ProfileFactory;
 import auth.ProfileUtils;
 import auth.Role;
+import auth.ValidSessionCache;
 import auth.oidc.admin.AdfsClientProvider;
 import auth.oidc.applicant.Auth0ClientProvider;
 import auth.oidc.applicant.GenericOidcClientProvider;
@@ -164,8 +165,9 @@ public class SecurityModule extends AbstractModule {
 
   @Provides
   @Singleton
-  protected CiviFormLogoutLogic civiFormLogoutLogic(ProfileUtils profileUtils) {
-    return new CiviFormLogoutLogic(checkNotNull(profileUtils));
+  protected CiviFormLogoutLogic civiFormLogoutLogic(
+      ProfileUtils profileUtils, ValidSessionCache validSessionCache) {
+    return new CiviFormLogoutLogic(checkNotNull(profileUtils), checkNotNull(validSessionCache));
   }
 
   @Provides
@@ -8,14 +8,19 @@ import auth.CiviFormProfile;
 import auth.oidc.IdTokens;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import forms.TiClientInfoForm;
 import io.ebean.DB;
 import io.ebean.Database;
+import io.ebean.ExpressionList;
+import io.ebean.Junction;
+import io.ebean.Query;
 import io.ebean.Transaction;
 import io.ebean.annotation.TxIsolation;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +35,7 @@ import models.TrustedIntermediaryGroupModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import services.CiviFormError;
+import services.pagination.PaginationResult;
 import services.program.ProgramDefinition;
 import services.settings.SettingsManifest;
 import services.ti.EmailAddressExistsException;
@@ -286,6 +292,78 @@ public final class AccountRepository {
         .findOneOrEmpty();
   }
 
+  /**
+   * Searches the clients managed by the TI group, returning the given page of their accounts sorted
+   * by name. Page numbers start at 1. A client matches if the name or email of their newest
+   * applicant contains {@code nameQuery}, ignoring case, or if its date of birth is {@code
+   * dateOfBirth}. When neither is given, every client matches.
+   *
+   * <p>The search runs in the database using the applicant name and date of birth indexes, and
+   * fetches each account on the page with its applicants.
+   */
+  public PaginationResult<AccountModel> searchTrustedIntermediaryClients(
+      TrustedIntermediaryGroupModel tiGroup,
+      Optional<String> nameQuery,
+      Optional<LocalDate> dateOfBirth,
+      int pageSize,
+      int page) {
+    ExpressionList<ApplicantModel> query =
+        database
+            .find(ApplicantModel.class)
+            .setLabel("ApplicantModel.findTiClients")
+            .setProfileLocation(
+                queryProfileLocationBuilder.create("searchTrustedIntermediaryClients"))
+            .fetch("account")
+            .fetch("account.applicants")
+            .where()
+            .eq("account.managedByGroup.id", tiGroup.id)
+            // Match each client by their newest applicant, as the TI dashboard displays it.
+            .raw(
+                "not exists (select 1 from applicants newer where newer.account_id = account.id"
+                    + " and newer.when_created > whenCreated)");
+    if (nameQuery.isPresent() || dateOfBirth.isPresent()) {
+      Junction<ApplicantModel> matches = query.or();
+      // applicant_search_text combines the applicant's names and email, and has a trigram index.
+      nameQuery.ifPresent(
+          name ->
+              matches.raw(
+                  "applicant_search_text(firstName, lastName, emailAddress) ilike ? escape '\\'",
+                  "%" + escapeLikePattern(name) + "%"));
+      dateOfBirth.ifPresent(dob -> matches.eq("dateOfBirth", dob));
+      query = matches.endOr();
+    }
+
+    // Copy the filtered query before it's limited to a page, for counting the pages.
+    Query<ApplicantModel> countQuery = query.query().copy();
+
+    // One row past the page is fetched to tell whether there is a next page.
+    List<ApplicantModel> rows =
+        query
+            .orderBy("lastName, firstName, id")
+            .setFirstRow((page - 1) * pageSize)
+            .setMaxRows(pageSize < Integer.MAX_VALUE ? pageSize + 1 : pageSize)
+            .findList();
+
+    return new PaginationResult<>(
+        rows.size() > pageSize,
+        () -> {
+          int rowCount = countQuery.findCount();
+          return rowCount == 0 ? 0 : ((rowCount - 1) / pageSize) + 1;
+        },
+        rows.stream()
+            .limit(pageSize)
+            .map(ApplicantModel::getAccount)
+            .collect(ImmutableList.toImmutableList()));
+  }
+
+  /**
+   * Escapes the LIKE wildcards and the escape character in {@code text}, so it's matched literally
+   * by a LIKE pattern with {@code escape '\'}.
+   */
+  private static String escapeLikePattern(String text) {
+    return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
   /**
    * Adds the given email address to the TI group. If the email address does not correspond to an
    * existing account, then create an account and associate it, so it will be ready when the TI
@@ -450,28 +528,69 @@ public final class AccountRepository {
             .findSet());
   }
 
-  /** Delete guest accounts that have no data and were created before the provided maximum age. */
-  public int deleteUnusedGuestAccounts(int minAgeInDays) {
-    String sql =
-        "WITH unused_accounts AS ( "
-            + "  SELECT applicants.account_id AS account_id, applicants.id AS applicant_id "
-            + "  FROM applicants"
-            + "  LEFT JOIN applications ON applicants.id = applications.applicant_id "
-            + "  LEFT JOIN accounts ON accounts.id = applicants.account_id "
-            + "  WHERE applications.applicant_id IS NULL "
-            + "  AND accounts.authority_id IS NULL "
-            + "  AND applicants.when_created < CURRENT_DATE - INTERVAL '"
-            + minAgeInDays
-            + " days' "
-            + "), "
-            + "applicants_deleted AS ("
-            + "  DELETE FROM applicants"
-            + "  WHERE applicants.id IN (SELECT applicant_id FROM unused_accounts) "
-            + ") "
-            + "DELETE FROM accounts "
-            + "WHERE accounts.id IN (SELECT account_id FROM unused_accounts);";
-
-    return database.sqlUpdate(sql).execute();
+  /**
+   * Returns the ids of up to {@code limit} guest applicants with ids greater than {@code
+   * afterApplicantId}, in ascending order, that have no applications and were created more than
+   * {@code minAgeInDays} days ago.
+   */
+  public ImmutableList<Long> findUnusedGuestApplicantIds(
+      int minAgeInDays, long afterApplicantId, int limit) {
+    return ImmutableList.copyOf(
+        database
+            .sqlQuery(
+                """
+                SELECT applicants.id
+                FROM applicants
+                LEFT JOIN accounts ON accounts.id = applicants.account_id
+                WHERE accounts.authority_id IS NULL
+                AND applicants.when_created < CURRENT_DATE - make_interval(days => :minAgeInDays)
+                AND applicants.id > :afterApplicantId
+                AND NOT EXISTS (
+                  SELECT 1 FROM applications WHERE applications.applicant_id = applicants.id)
+                ORDER BY applicants.id
+                LIMIT :limit
+                """)
+            .setParameter("minAgeInDays", minAgeInDays)
+            .setParameter("afterApplicantId", afterApplicantId)
+            .setParameter("limit", limit)
+            .setLabel("ApplicantModel.findUnusedGuestIds")
+            .mapToScalar(Long.class)
+            .findList());
+  }
+
+  /**
+   * Deletes the guest applicants with the given ids, and their accounts, if they still match
+   * {@link #findUnusedGuestApplicantIds}: they may have signed in or started an application since
+   * they were found. Returns the number of accounts deleted.
+   */
+  public int deleteUnusedGuestAccounts(int minAgeInDays, ImmutableList<Long> applicantIds) {
+    if (applicantIds.isEmpty()) {
+      return 0;
+    }
+    return database
+        .sqlUpdate(
+            """
+            WITH unused_applicants AS (
+              SELECT applicants.id AS applicant_id, applicants.account_id AS account_id
+              FROM applicants
+              LEFT JOIN accounts ON accounts.id = applicants.account_id
+              WHERE applicants.id IN (:applicantIds)
+              AND accounts.authority_id IS NULL
+              AND applicants.when_created < CURRENT_DATE - make_interval(days => :minAgeInDays)
+              AND NOT EXISTS (
+                SELECT 1 FROM applications WHERE applications.applicant_id = applicants.id)
+            ), deleted_applicants AS (
+              DELETE FROM applicants
+              WHERE applicants.id IN (SELECT applicant_id FROM unused_applicants)
+              RETURNING applicants.account_id
+            )
+            DELETE FROM accounts
+            WHERE accounts.id IN (SELECT account_id FROM deleted_applicants)
+            """)
+        .setParameter("applicantIds", applicantIds)
+        .setParameter("minAgeInDays", minAgeInDays)
+        .setLabel("AccountModel.deleteUnusedGuests")
+        .execute();
   }
 
   /**
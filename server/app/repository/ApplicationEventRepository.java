@@ -6,6 +6,7 @@ import static java.util.concurrent.CompletableFuture.supplyAsync;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import io.ebean.DB;
 import io.ebean.Database;
 import io.ebean.Transaction;
@@ -13,11 +14,12 @@ import io.ebean.annotation.TxIsolation;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 import models.AccountModel;
 import models.ApplicationEventModel;
 import models.ApplicationModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import services.application.ApplicationEventDetails;
 
 /**
@@ -25,8 +27,12 @@ import services.application.ApplicationEventDetails;
  * involve other EBean models or asynchronous handling.
  */
 public final class ApplicationEventRepository {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationEventRepository.class);
   private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
       new QueryProfileLocationBuilder("ApplicationEventRepository");
+
+  private static final int STATUS_UPDATE_CHUNK_SIZE = 1000;
+
   private final Database database;
   private final DatabaseExecutionContext executionContext;
 
@@ -114,14 +120,15 @@ public final class ApplicationEventRepository {
   }
 
   /**
-   * Updates the ApplicationEvents and the Applications table to the latest status in a single
-   * transaction for a given list of applications.
+   * Updates the ApplicationEvents and the Applications table to the latest status for a given list
+   * of applications, without loading the applications.
    *
-   * <p>Note - Application code must change both tables at once as we want to avoid inconsistency
-   * between the tables.
+   * <p>Applications are updated in chunks of 1,000, each in its own transaction. A chunk's events
+   * are inserted in one JDBC batch and its latest_status set in one update, so both tables change
+   * together for every application.
    */
   public void insertStatusEvents(
-      ImmutableList<ApplicationModel> applications,
+      ImmutableList<Long> applicationIds,
       Optional<AccountModel> optionalAdmin,
       ApplicationEventDetails.StatusEvent newStatusEvent) {
     ApplicationEventDetails details =
@@ -129,34 +136,36 @@ public final class ApplicationEventRepository {
             .setEventType(ApplicationEventDetails.Type.STATUS_CHANGE)
             .setStatusEvent(newStatusEvent)
             .build();
+    // If the status is removed, latest_status is set to null rather than an empty string.
+    String latestStatus =
+        Strings.isNullOrEmpty(newStatusEvent.statusText()) ? null : newStatusEvent.statusText();
 
-    List<Long> applicationIds =
-        applications.stream().map(app -> app.id).collect(Collectors.toList());
-
-    var applicationsStatusEvent =
-        applications.stream()
-            .map(app -> new ApplicationEventModel(app, optionalAdmin, details))
-            .collect(ImmutableList.toImmutableList());
-    try (Transaction transaction = database.beginTransaction(TxIsolation.SERIALIZABLE)) {
-      transaction.setBatchMode(true);
-      // Since the Status events models have manyToOne dependency on ApplicationModel,
-      // we can insert them only one at a time. To save on transaction cost, we have enabled Batch
-      // processing.
-      applicationsStatusEvent.stream().forEach(event -> insertSync(event));
-
-      // Update the Applications table too with one update query.
-      database
-          .update(ApplicationModel.class)
-          .set(
-              "latest_status",
-              Strings.isNullOrEmpty(newStatusEvent.statusText())
-                  ? null
-                  : newStatusEvent.statusText())
-          .where()
-          .in("id", applicationIds)
-          .update();
-
-      transaction.commit();
+    List<List<Long>> chunks = Lists.partition(applicationIds, STATUS_UPDATE_CHUNK_SIZE);
+    int updatedCount = 0;
+    for (List<Long> chunk : chunks) {
+      ImmutableList<ApplicationEventModel> events =
+          chunk.stream()
+              .map(
+                  id ->
+                      new ApplicationEventModel(
+                          database.reference(ApplicationModel.class, id), optionalAdmin, details))
+              .collect(ImmutableList.toImmutableList());
+      try (Transaction transaction = database.beginTransaction(TxIsolation.SERIALIZABLE)) {
+        transaction.setBatchSize(events.size());
+        database.insertAll(events, transaction);
+        database
+            .update(ApplicationModel.class)
+            .set("latest_status", latestStatus)
+            .where()
+            .in("id", chunk)
+            .update();
+        transaction.commit();
+      }
+      updatedCount += chunk.size();
+      if (chunks.size() > 1) {
+        LOGGER.info(
+            "Updated the status of {} of {} applications", updatedCount, applicationIds.size());
+      }
     }
   }
 
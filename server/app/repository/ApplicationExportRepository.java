@@ -0,0 +1,156 @@
+package repository;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.DB;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import java.time.Instant;
+import java.util.Optional;
+import javax.inject.Inject;
+import models.ApplicationExportChunkModel;
+import models.ApplicationExportModel;
+import models.ApplicationExportStatus;
+import models.ApplicationModel;
+import models.PersistedDurableJobModel;
+
+/**
+ * Implements queries related to {@link ApplicationExportModel} and the {@link
+ * ApplicationExportChunkModel}s its file is built from.
+ */
+public final class ApplicationExportRepository {
+  private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
+      new QueryProfileLocationBuilder("ApplicationExportRepository");
+
+  private final Database database;
+
+  @Inject
+  public ApplicationExportRepository() {
+    this.database = DB.getDefault();
+  }
+
+  /**
+   * Saves a new export along with the {@link PersistedDurableJobModel} that will generate it, so
+   * that the job can't run before it is able to find its export.
+   */
+  public ApplicationExportModel createExport(
+      ApplicationExportModel export, PersistedDurableJobModel persistedDurableJob) {
+    try (Transaction transaction = database.beginTransaction()) {
+      persistedDurableJob.save();
+      export.setPersistedDurableJobId(persistedDurableJob.id).save();
+      transaction.commit();
+    }
+    return export;
+  }
+
+  public Optional<ApplicationExportModel> getExport(long exportId) {
+    return database
+        .find(ApplicationExportModel.class)
+        .setLabel("ApplicationExportModel.findById")
+        .setProfileLocation(queryProfileLocationBuilder.create("getExport"))
+        .setId(exportId)
+        .findOneOrEmpty();
+  }
+
+  /** Gets the export generated by the given {@link PersistedDurableJobModel}. */
+  public Optional<ApplicationExportModel> getExportForJob(long persistedDurableJobId) {
+    return database
+        .find(ApplicationExportModel.class)
+        .setLabel("ApplicationExportModel.findByJob")
+        .setProfileLocation(queryProfileLocationBuilder.create("getExportForJob"))
+        .where()
+        .eq("persisted_durable_job_id", persistedDurableJobId)
+        .findOneOrEmpty();
+  }
+
+  /** Gets the {@link PersistedDurableJobModel} that generates {@code export}, if it exists. */
+  public Optional<PersistedDurableJobModel> getJobForExport(ApplicationExportModel export) {
+    return export
+        .getPersistedDurableJobId()
+        .flatMap(
+            jobId ->
+                database
+                    .find(PersistedDurableJobModel.class)
+                    .setLabel("PersistedDurableJobModel.findById")
+                    .setProfileLocation(queryProfileLocationBuilder.create("getJobForExport"))
+                    .setId(jobId)
+                    .findOneOrEmpty());
+  }
+
+  /**
+   * Records the next chunk of the export file, whose content has been uploaded to {@code fileKey},
+   * and advances the export's cursor past {@code applications} in the same transaction, so that a
+   * resumed export neither skips nor repeats applications. If {@code isLastChunk}, the export is
+   * moved to {@link ApplicationExportStatus#UPLOADING} in that transaction too.
+   */
+  public void saveChunk(
+      ApplicationExportModel export,
+      String fileKey,
+      long byteLength,
+      ImmutableList<ApplicationModel> applications,
+      boolean isLastChunk) {
+    try (Transaction transaction = database.beginTransaction()) {
+      new ApplicationExportChunkModel(export.id, export.getNextChunkIndex(), fileKey, byteLength)
+          .save();
+      export.recordChunk(
+          applications.isEmpty()
+              ? Optional.empty()
+              : Optional.of(applications.get(applications.size() - 1)),
+          applications.size());
+      if (isLastChunk) {
+        export.setStatus(ApplicationExportStatus.UPLOADING);
+      }
+      export.save();
+      transaction.commit();
+    }
+  }
+
+  /** Returns the chunks of the export file, in the order they should be concatenated. */
+  public ImmutableList<ApplicationExportChunkModel> getChunks(ApplicationExportModel export) {
+    return ImmutableList.copyOf(
+        database
+            .find(ApplicationExportChunkModel.class)
+            .setLabel("ApplicationExportChunkModel.findList")
+            .setProfileLocation(queryProfileLocationBuilder.create("getChunks"))
+            .where()
+            .eq("application_export_id", export.id)
+            .orderBy("chunk_index asc")
+            .findList());
+  }
+
+  /** Marks the export as complete. Its chunks are deleted separately with {@link #deleteChunks}. */
+  public void completeExport(
+      ApplicationExportModel export, String fileKey, Instant completionTime) {
+    export
+        .setStatus(ApplicationExportStatus.COMPLETE)
+        .setFileKey(fileKey)
+        .setCompletionTime(completionTime)
+        .save();
+  }
+
+  /** Deletes the records of the export's chunks, once their files have been deleted. */
+  public void deleteChunks(ApplicationExportModel export) {
+    database
+        .find(ApplicationExportChunkModel.class)
+        .where()
+        .eq("application_export_id", export.id)
+        .delete();
+  }
+
+  /** Gets the exports that were requested before {@code time}, oldest first. */
+  public ImmutableList<ApplicationExportModel> getExportsCreatedBefore(Instant time) {
+    return ImmutableList.copyOf(
+        database
+            .find(ApplicationExportModel.class)
+            .setLabel("ApplicationExportModel.findCreatedBefore")
+            .setProfileLocation(queryProfileLocationBuilder.create("getExportsCreatedBefore"))
+            .where()
+            .lt("create_time", time)
+            .orderBy("create_time asc")
+            .findList());
+  }
+
+  /** Deletes the export along with the records of its chunks. */
+  public void deleteExport(ApplicationExportModel export) {
+    export.delete();
+  }
+}
@@ -5,13 +5,24 @@ import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
 import io.ebean.DB;
 import io.ebean.Database;
-import io.ebean.ExpressionList;
+import io.ebean.SqlQuery;
+import io.ebean.SqlRow;
+import io.ebean.SqlUpdate;
 import io.ebean.Transaction;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import javax.inject.Inject;
@@ -21,8 +32,11 @@ import models.LifecycleStage;
 import models.ProgramModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import services.Path;
+import services.applicant.ApplicantData;
 import services.applicant.exception.ApplicantNotFoundException;
 import services.applicant.exception.DuplicateApplicationException;
+import services.program.ProgramDefinition;
 import services.program.ProgramNotFoundException;
 
 /**
@@ -38,6 +52,8 @@ public final class ApplicationRepository {
   private final Database database;
   private final DatabaseExecutionContext executionContext;
   private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationRepository.class);
+  // Keeps the bind parameters of an IN clause well under the Postgres limit.
+  private static final int MAX_IDS_PER_QUERY = 1000;
 
   @Inject
   public ApplicationRepository(
@@ -197,31 +213,6 @@ public final class ApplicationRepository {
             });
   }
 
-  /**
-   * Returns all applications submitted within the provided time range. Results are returned in the
-   * order that the applications were created.
-   */
-  public ImmutableList<ApplicationModel> getApplications(TimeFilter submitTimeFilter) {
-    ExpressionList<ApplicationModel> query =
-        database
-            .find(ApplicationModel.class)
-            .fetch("applicant")
-            .fetch("applicant.account.managedByGroup")
-            .orderBy("id")
-            .where();
-    if (submitTimeFilter.fromTime().isPresent()) {
-      query = query.where().ge("submit_time", submitTimeFilter.fromTime().get());
-    }
-    if (submitTimeFilter.untilTime().isPresent()) {
-      query = query.where().lt("submit_time", submitTimeFilter.untilTime().get());
-    }
-    return ImmutableList.copyOf(
-        query
-            .setLabel("ApplicationModel.findList")
-            .setProfileLocation(queryProfileLocationBuilder.create("getApplications"))
-            .findList());
-  }
-
   // Need to transmit both arguments to submitApplication through the CompletionStage pipeline.
   // Not useful in the API, not needed more broadly.
   private static final class ApplicationArguments {
@@ -283,6 +274,133 @@ public final class ApplicationRepository {
             createOrUpdateDraftApplicationInternal(appArgs.applicant, appArgs.program));
   }
 
+  /**
+   * Saves the applicant and creates a draft application to the program if the applicant doesn't
+   * have one yet, in one transaction. This is what saving a block does, using the applicant and
+   * program that were already loaded to save it instead of loading them again.
+   *
+   * <p>The applicant's row is locked before anything else, whether or not the applicant is saved,
+   * so concurrent saves for the same applicant can't both find no draft to any version of the
+   * program and both insert one.
+   *
+   * <p>If {@code changedAnswerPaths} is not empty, only the answers containing those paths are
+   * written, rather than rewriting the applicant's whole answers document. See {@link
+   * #updateAnswers}.
+   *
+   * @param saveApplicant false if only the draft is needed, such as when the block has errors
+   * @param changedAnswerPaths paths of the answers that changed since the applicant was loaded, or
+   *     empty to save the whole applicant
+   */
+  public CompletionStage<Void> saveApplicantAndCreateDraftIfMissing(
+      ApplicantModel applicant,
+      ProgramDefinition programDefinition,
+      boolean saveApplicant,
+      ImmutableSet<Path> changedAnswerPaths) {
+    return supplyAsync(
+        () -> {
+          try (Transaction transaction = database.beginTransaction()) {
+            database
+                .sqlQuery("SELECT id FROM applicants WHERE id = :applicantId FOR UPDATE")
+                .setParameter("applicantId", applicant.id)
+                .setLabel("ApplicantModel.lockById")
+                .setProfileLocation(
+                    queryProfileLocationBuilder.create("saveApplicantAndCreateDraftIfMissing"))
+                .findOne();
+            if (saveApplicant && !updateAnswers(applicant, changedAnswerPaths)) {
+              database.update(applicant);
+            }
+            boolean hasDraft =
+                database
+                    .find(ApplicationModel.class)
+                    .where()
+                    .eq("applicant.id", applicant.id)
+                    .eq("program.name", programDefinition.adminName())
+                    .eq("lifecycle_stage", LifecycleStage.DRAFT)
+                    .setLabel("ApplicationModel.findDraft")
+                    .setProfileLocation(
+                        queryProfileLocationBuilder.create("saveApplicantAndCreateDraftIfMissing"))
+                    .exists();
+            if (!hasDraft) {
+              database.insert(
+                  new ApplicationModel(
+                      applicant,
+                      database.reference(ProgramModel.class, programDefinition.id()),
+                      LifecycleStage.DRAFT));
+            }
+            transaction.commit();
+          }
+          return null;
+        },
+        executionContext.current());
+  }
+
+  /**
+   * Writes only the given answers of the applicant, with one {@code jsonb_set} (or {@code #-} for
+   * answers that were removed) per answer directly under {@code applicant}. Saving a block changes
+   * a few answers, while an applicant who has applied to many programs can have a large document,
+   * so this avoids rewriting the whole document and its WAL on every save.
+   *
+   * <p>The update only applies if the stored document still has the hash of the one the applicant
+   * was loaded from. Otherwise something else changed it since, or the applicant wasn't loaded
+   * from the database, and this returns false so the caller can save the whole applicant instead.
+   *
+   * @return true if the answers were written
+   */
+  private boolean updateAnswers(ApplicantModel applicant, ImmutableSet<Path> changedAnswerPaths) {
+    ApplicantData applicantData = applicant.getApplicantData();
+    Optional<String> loadedObject = applicant.getLoadedObject();
+    if (changedAnswerPaths.isEmpty()
+        || loadedObject.isEmpty()
+        || !applicantData.getFailedUpdates().isEmpty()) {
+      return false;
+    }
+
+    ImmutableSet<Path> answerPaths =
+        changedAnswerPaths.stream()
+            .map(ApplicantData::topLevelAnswerPath)
+            .collect(ImmutableSet.toImmutableSet());
+    StringBuilder object = new StringBuilder("object");
+    Map<String, Object> parameters = new HashMap<>();
+    int index = 0;
+    for (Path answerPath : answerPaths) {
+      String keyParameter = "key" + index;
+      parameters.put(keyParameter, answerPath.keyName());
+      Optional<String> answerJson = applicantData.readAsJsonString(answerPath);
+      if (answerJson.isPresent()) {
+        String valueParameter = "value" + index;
+        parameters.put(valueParameter, answerJson.get());
+        object.insert(0, "jsonb_set(");
+        object.append(
+            String.format(
+                ", ARRAY['applicant', :%s], CAST(:%s AS jsonb))", keyParameter, valueParameter));
+      } else {
+        object.append(String.format(" #- ARRAY['applicant', :%s]", keyParameter));
+      }
+      index++;
+    }
+
+    SqlUpdate update =
+        database.sqlUpdate(
+            String.format(
+                """
+                UPDATE applicants SET object = %s
+                WHERE id = :applicantId
+                AND object -> 'applicant' IS NOT NULL
+                AND encode(sha256(convert_to(CAST(object AS text), 'UTF8')), 'hex')
+                  = :loadedObjectHash
+                """,
+                object));
+    parameters.forEach(update::setParameter);
+    int rowsUpdated =
+        update
+            .setParameter("applicantId", applicant.id)
+            .setParameter(
+                "loadedObjectHash",
+                Hashing.sha256().hashString(loadedObject.get(), StandardCharsets.UTF_8).toString())
+            .execute();
+    return rowsUpdated == 1;
+  }
+
   public CompletionStage<Optional<ApplicationModel>> getApplication(long applicationId) {
     return supplyAsync(
         () ->
@@ -298,6 +416,7 @@ public final class ApplicationRepository {
   public List<ApplicationModel> getApplications(ImmutableList<Long> applicationIds) {
     return database
         .find(ApplicationModel.class)
+        .fetch("applicant")
         .setLabel("ApplicationModel.findByIds")
         .setProfileLocation(queryProfileLocationBuilder.create("getApplications"))
         .where()
@@ -305,6 +424,32 @@ public final class ApplicationRepository {
         .findList();
   }
 
+  /**
+   * Returns the admin name of the program of each of the applications, keyed by application id,
+   * without loading the applications. Ids of applications that don't exist are left out.
+   */
+  public ImmutableMap<Long, String> getProgramAdminNames(ImmutableList<Long> applicationIds) {
+    ImmutableMap.Builder<Long, String> programAdminNames = ImmutableMap.builder();
+    for (List<Long> chunk : Lists.partition(applicationIds, MAX_IDS_PER_QUERY)) {
+      List<SqlRow> rows =
+          database
+              .sqlQuery(
+                  """
+                  SELECT applications.id, programs.name
+                  FROM applications
+                  JOIN programs ON programs.id = applications.program_id
+                  WHERE applications.id IN (:ids)
+                  """)
+              .setParameter("ids", chunk)
+              .setLabel("ApplicationModel.findProgramAdminNames")
+              .findList();
+      for (SqlRow row : rows) {
+        programAdminNames.put(row.getLong("id"), row.getString("name"));
+      }
+    }
+    return programAdminNames.buildKeepingLast();
+  }
+
   /**
    * Get all applications with the specified {@link LifecycleStage}s for an applicant.
    *
@@ -332,6 +477,105 @@ public final class ApplicationRepository {
         executionContext.current());
   }
 
+  /**
+   * Get a summary of each application with the specified {@link LifecycleStage}s for an applicant.
+   *
+   * <p>Unlike {@link #getApplicationsForApplicant}, this doesn't load the applications' answers or
+   * events, so it stays cheap as the applicant's history grows. The time of the latest status is
+   * found with a lateral join on the application's status events.
+   */
+  public CompletionStage<ImmutableList<ApplicationSummary>> getApplicationSummariesForApplicant(
+      long applicantId, ImmutableSet<LifecycleStage> stages) {
+    return getApplicationSummariesForApplicant(
+        applicantId, stages, /* answersProgramNames= */ ImmutableSet.of());
+  }
+
+  /**
+   * Like {@link #getApplicationSummariesForApplicant(long, ImmutableSet)}, but also loads the
+   * answers of the applications to the programs with the given admin names in the same query, such
+   * as to check their eligibility.
+   */
+  public CompletionStage<ImmutableList<ApplicationSummary>> getApplicationSummariesForApplicant(
+      long applicantId,
+      ImmutableSet<LifecycleStage> stages,
+      ImmutableSet<String> answersProgramNames) {
+    if (stages.isEmpty()) {
+      return CompletableFuture.completedFuture(ImmutableList.of());
+    }
+    String answersColumn =
+        answersProgramNames.isEmpty()
+            ? "NULL"
+            : "CASE WHEN programs.name IN (:answersProgramNames)"
+                + " THEN CAST(applications.object AS text) END";
+    return supplyAsync(
+        () -> {
+          SqlQuery query =
+              database
+                  .sqlQuery(
+                      """
+                      SELECT applications.id, applications.program_id, programs.name,
+                        applications.lifecycle_stage, applications.create_time,
+                        applications.submit_time, applications.latest_status,
+                        status_events.latest_status_time, applications.preferred_locale,
+                        %s AS object
+                      FROM applications
+                      JOIN programs ON programs.id = applications.program_id
+                      LEFT JOIN LATERAL (
+                        SELECT max(application_events.create_time) AS latest_status_time
+                        FROM application_events
+                        WHERE application_events.application_id = applications.id
+                        AND application_events.details ->> 'event_type' = 'STATUS_CHANGE'
+                        AND application_events.details -> 'status_event' ->> 'status_text'
+                          = applications.latest_status
+                      ) status_events ON true
+                      WHERE applications.applicant_id = :applicantId
+                      AND applications.lifecycle_stage IN (:stages)
+                      """
+                          .formatted(answersColumn))
+                  .setParameter("applicantId", applicantId)
+                  .setParameter(
+                      "stages",
+                      stages.stream()
+                          .map(LifecycleStage::getValue)
+                          .collect(ImmutableList.toImmutableList()))
+                  .setLabel("ApplicationModel.findSummaries")
+                  .setProfileLocation(
+                      queryProfileLocationBuilder.create("getApplicationSummariesForApplicant"));
+          if (!answersProgramNames.isEmpty()) {
+            query.setParameter("answersProgramNames", answersProgramNames.asList());
+          }
+          return query.findList().stream()
+              .map(ApplicationRepository::toApplicationSummary)
+              .collect(ImmutableList.toImmutableList());
+        },
+        executionContext.current());
+  }
+
+  private static ApplicationSummary toApplicationSummary(SqlRow row) {
+    return ApplicationSummary.builder()
+        .setApplicationId(row.getLong("id"))
+        .setProgramId(row.getLong("program_id"))
+        .setProgramName(row.getString("name"))
+        .setLifecycleStage(
+            LifecycleStage.valueOf(row.getString("lifecycle_stage").toUpperCase(Locale.ROOT)))
+        .setCreateTime(row.getTimestamp("create_time").toInstant())
+        .setSubmitTime(
+            Optional.ofNullable(row.getTimestamp("submit_time")).map(Timestamp::toInstant))
+        .setLatestStatus(Optional.ofNullable(row.getString("latest_status")))
+        .setLatestStatusTime(
+            Optional.ofNullable(row.getTimestamp("latest_status_time")).map(Timestamp::toInstant))
+        .setApplicantData(
+            Optional.ofNullable(row.getString("object"))
+                .map(
+                    object ->
+                        new ApplicantData(
+                            Optional.ofNullable(row.getString("preferred_locale"))
+                                .filter(locale -> !locale.isEmpty())
+                                .map(Locale::forLanguageTag),
+                            object)))
+        .build();
+  }
+
   /**
    * Updates a draft application, if one exists, to point to a new program
    *
@@ -0,0 +1,62 @@
+package repository;
+
+import com.google.auto.value.AutoValue;
+import java.time.Instant;
+import java.util.Optional;
+import models.LifecycleStage;
+import services.applicant.ApplicantData;
+
+/**
+ * The columns of an application needed to list an applicant's programs, without the application's
+ * events, and with its answers only if they were asked for.
+ */
+@AutoValue
+public abstract class ApplicationSummary {
+  public abstract long applicationId();
+
+  public abstract long programId();
+
+  /** The admin name of the program, which is the same for all of its versions. */
+  public abstract String programName();
+
+  public abstract LifecycleStage lifecycleStage();
+
+  public abstract Instant createTime();
+
+  public abstract Optional<Instant> submitTime();
+
+  public abstract Optional<String> latestStatus();
+
+  /** When the status in {@link #latestStatus} was most recently applied to the application. */
+  public abstract Optional<Instant> latestStatusTime();
+
+  /** The application's answers, if they were loaded with the summary. */
+  public abstract Optional<ApplicantData> applicantData();
+
+  public static Builder builder() {
+    return new AutoValue_ApplicationSummary.Builder();
+  }
+
+  @AutoValue.Builder
+  public abstract static class Builder {
+    public abstract Builder setApplicationId(long v);
+
+    public abstract Builder setProgramId(long v);
+
+    public abstract Builder setProgramName(String v);
+
+    public abstract Builder setLifecycleStage(LifecycleStage v);
+
+    public abstract Builder setCreateTime(Instant v);
+
+    public abstract Builder setSubmitTime(Optional<Instant> v);
+
+    public abstract Builder setLatestStatus(Optional<String> v);
+
+    public abstract Builder setLatestStatusTime(Optional<Instant> v);
+
+    public abstract Builder setApplicantData(Optional<ApplicantData> v);
+
+    public abstract ApplicationSummary build();
+  }
+}
@@ -0,0 +1,153 @@
+package repository;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.ebean.DB;
+import io.ebean.Database;
+import io.ebean.SqlQuery;
+import io.ebean.SqlRow;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import javax.inject.Inject;
+import services.cache.CacheInvalidation;
+import services.cache.CacheInvalidationCursor;
+import services.cache.CommittedCacheInvalidations;
+
+/**
+ * Records invalidations of named caches in the {@code cache_invalidations} table so that every
+ * server can apply them to its own in-memory caches.
+ */
+public final class CacheInvalidationRepository {
+
+  private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
+      new QueryProfileLocationBuilder("CacheInvalidationRepository");
+
+  // The transaction ids that separate the invalidations a snapshot can see from those it can't.
+  private static final String SNAPSHOT_COLUMNS =
+      """
+      pg_snapshot_xmax(snapshot.current)::text::bigint AS max_transaction_id,
+      (SELECT string_agg(running.id::text, ',')
+        FROM pg_snapshot_xip(snapshot.current) AS running(id)) AS running_transaction_ids
+      """;
+
+  private final Database database;
+
+  @Inject
+  public CacheInvalidationRepository() {
+    this.database = DB.getDefault();
+  }
+
+  /** Records that the key of the cache, or every entry if the key is empty, is invalid. */
+  public void insertInvalidation(String cacheName, Optional<String> cacheKey) {
+    database
+        .sqlUpdate(
+            """
+            INSERT INTO cache_invalidations (cache_name, cache_key)
+            VALUES (:cacheName, :cacheKey)
+            """)
+        .setLabel("CacheInvalidation.insert")
+        .setParameter("cacheName", cacheName)
+        .setParameter("cacheKey", cacheKey.orElse(null))
+        .execute();
+  }
+
+  /**
+   * Returns the cursor to start reading invalidations from on a newly started server. Every
+   * invalidation before it was committed before this call, so it can only apply to entries the
+   * server hasn't cached yet.
+   */
+  public CacheInvalidationCursor getStartingCursor() {
+    SqlRow row =
+        database
+            .sqlQuery(
+                """
+                SELECT %s
+                FROM (SELECT pg_current_snapshot() AS current) AS snapshot
+                """
+                    .formatted(SNAPSHOT_COLUMNS))
+            .setLabel("CacheInvalidation.getStartingCursor")
+            .setProfileLocation(queryProfileLocationBuilder.create("getStartingCursor"))
+            .findOne();
+    return toCursor(row);
+  }
+
+  /**
+   * Returns the invalidations committed since {@code cursor}, in order of transaction id and then
+   * of id, and the cursor to read the next ones from.
+   *
+   * <p>Row ids and transaction ids are assigned before a transaction commits, so transactions can
+   * commit invalidations out of order. Rather than waiting for every older transaction to finish,
+   * which a single long running transaction anywhere on the database would hold up, the cursor
+   * keeps the ids of the transactions that were still running when it was read. Their
+   * invalidations are read once they commit, along with those of any newer transaction.
+   */
+  public CommittedCacheInvalidations getCommittedInvalidationsAfter(
+      CacheInvalidationCursor cursor) {
+    // The rows and the snapshot are read in one statement, so they are read with the same
+    // snapshot.
+    String unreadCondition =
+        cursor.runningTransactionIds().isEmpty()
+            ? "cache_invalidations.transaction_id >= :maxTransactionId"
+            : "(cache_invalidations.transaction_id >= :maxTransactionId"
+                + " OR cache_invalidations.transaction_id IN (:runningTransactionIds))";
+    SqlQuery query =
+        database
+            .sqlQuery(
+                """
+                SELECT %s, cache_invalidations.id, cache_invalidations.transaction_id,
+                  cache_invalidations.cache_name, cache_invalidations.cache_key
+                FROM (SELECT pg_current_snapshot() AS current) AS snapshot
+                LEFT JOIN cache_invalidations ON %s
+                ORDER BY cache_invalidations.transaction_id, cache_invalidations.id
+                """
+                    .formatted(SNAPSHOT_COLUMNS, unreadCondition))
+            .setLabel("CacheInvalidation.findCommittedAfter")
+            .setProfileLocation(
+                queryProfileLocationBuilder.create("getCommittedInvalidationsAfter"))
+            .setParameter("maxTransactionId", cursor.maxTransactionId());
+    if (!cursor.runningTransactionIds().isEmpty()) {
+      query.setParameter("runningTransactionIds", cursor.runningTransactionIds().asList());
+    }
+    List<SqlRow> rows = query.findList();
+    ImmutableList<CacheInvalidation> invalidations =
+        rows.stream()
+            // Without any unread invalidations, the only row has just the snapshot.
+            .filter(row -> row.getLong("id") != null)
+            .map(
+                row ->
+                    CacheInvalidation.create(
+                        row.getLong("id"),
+                        row.getLong("transaction_id"),
+                        row.getString("cache_name"),
+                        Optional.ofNullable(row.getString("cache_key"))))
+            .collect(ImmutableList.toImmutableList());
+    return CommittedCacheInvalidations.create(invalidations, toCursor(rows.get(0)));
+  }
+
+  private static CacheInvalidationCursor toCursor(SqlRow row) {
+    String runningTransactionIds = row.getString("running_transaction_ids");
+    return CacheInvalidationCursor.create(
+        row.getLong("max_transaction_id"),
+        runningTransactionIds == null
+            ? ImmutableSet.of()
+            : Splitter.on(',')
+                .splitToStream(runningTransactionIds)
+                .map(Long::valueOf)
+                .collect(ImmutableSet.toImmutableSet()));
+  }
+
+  /** Deletes invalidations older than {@code maxAge}, returning the number deleted. */
+  public int deleteInvalidationsOlderThan(Duration maxAge) {
+    return database
+        .sqlUpdate(
+            """
+            DELETE FROM cache_invalidations
+            WHERE create_time < CURRENT_TIMESTAMP - make_interval(secs => :maxAgeSeconds)
+            """)
+        .setLabel("CacheInvalidation.deleteOld")
+        .setParameter("maxAgeSeconds", maxAge.toSeconds())
+        .execute();
+  }
+}
@@ -2,16 +2,65 @@ package repository;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.pekko.actor.ActorSystem;
 import play.libs.concurrent.CustomExecutionContext;
 
-/** Custom execution context wired to "database.dispatcher" thread pool */
+/**
+ * Custom execution context wired to "database.dispatcher" thread pool.
+ *
+ * <p>Exports how many tasks are waiting for a thread and how long they wait, since a full pool
+ * shows up as latency everywhere else.
+ */
 @Singleton
 public class DatabaseExecutionContext extends CustomExecutionContext {
+  private static final Gauge QUEUED_TASKS =
+      Gauge.build()
+          .name("database_dispatcher_queued_tasks")
+          .help("Tasks waiting for a thread on the database dispatcher")
+          .register();
+
+  private static final Gauge ACTIVE_TASKS =
+      Gauge.build()
+          .name("database_dispatcher_active_tasks")
+          .help("Tasks running on the database dispatcher")
+          .register();
+
+  private static final Histogram QUEUE_WAIT_TIME =
+      Histogram.build()
+          .name("database_dispatcher_queue_wait_seconds")
+          .help("Time tasks wait for a thread on the database dispatcher")
+          .register();
+
   @Inject
   public DatabaseExecutionContext(ActorSystem actorSystem) {
     super(checkNotNull(actorSystem), "database.dispatcher");
   }
+
+  // current() also executes through this method.
+  @Override
+  public void execute(Runnable command) {
+    Histogram.Timer queueWaitTimer = QUEUE_WAIT_TIME.startTimer();
+    QUEUED_TASKS.inc();
+    try {
+      super.execute(
+          () -> {
+            QUEUED_TASKS.dec();
+            queueWaitTimer.observeDuration();
+            ACTIVE_TASKS.inc();
+            try {
+              command.run();
+            } finally {
+              ACTIVE_TASKS.dec();
+            }
+          });
+    } catch (RuntimeException e) {
+      // The task was rejected, so it will never start.
+      QUEUED_TASKS.dec();
+      throw e;
+    }
+  }
 }
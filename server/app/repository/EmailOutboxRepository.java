@@ -0,0 +1,143 @@
+package repository;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.DB;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import javax.inject.Inject;
+import models.EmailOutboxMessageModel;
+
+/** Implements queries related to {@link EmailOutboxMessageModel}. */
+public final class EmailOutboxRepository {
+  private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
+      new QueryProfileLocationBuilder("EmailOutboxRepository");
+
+  private final Database database;
+  private final Clock clock;
+
+  @Inject
+  public EmailOutboxRepository(Clock clock) {
+    this.database = DB.getDefault();
+    this.clock = checkNotNull(clock);
+  }
+
+  /**
+   * Adds a message to the outbox, to be sent the next time the outbox is sent. If there is an
+   * active transaction the message is only sent if that transaction commits.
+   */
+  public EmailOutboxMessageModel enqueue(
+      ImmutableList<String> toAddresses, String subject, String bodyText) {
+    EmailOutboxMessageModel message =
+        new EmailOutboxMessageModel(toAddresses, subject, bodyText, clock.instant());
+    message.save();
+    return message;
+  }
+
+  /**
+   * Claims up to {@code limit} messages that are due to be sent, oldest first.
+   *
+   * <p>Claiming a message uses one of its attempts and pushes its next attempt back by {@code
+   * lease}. That keeps other senders from claiming it while it's sent, and retries it if the sender
+   * stops before recording the outcome. Messages being claimed by another sender are skipped.
+   */
+  public ImmutableList<EmailOutboxMessageModel> claimMessagesForSending(int limit, Duration lease) {
+    Instant now = clock.instant();
+    List<Long> ids;
+    try (Transaction transaction = database.beginTransaction()) {
+      ids =
+          database
+              .sqlQuery(
+                  """
+                  UPDATE email_outbox
+                  SET remaining_attempts = remaining_attempts - 1, next_attempt_time = :leaseEnd
+                  WHERE id IN (
+                    SELECT id FROM email_outbox
+                    WHERE sent_time IS NULL
+                    AND remaining_attempts > 0
+                    AND next_attempt_time <= :now
+                    ORDER BY next_attempt_time
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED)
+                  RETURNING id
+                  """)
+              .setParameter("leaseEnd", now.plus(lease))
+              .setParameter("now", now)
+              .setParameter("limit", limit)
+              .mapToScalar(Long.class)
+              .findList();
+      transaction.commit();
+    }
+    if (ids.isEmpty()) {
+      return ImmutableList.of();
+    }
+    return ImmutableList.copyOf(
+        database
+            .find(EmailOutboxMessageModel.class)
+            .setLabel("EmailOutboxMessageModel.findList")
+            .setProfileLocation(queryProfileLocationBuilder.create("claimMessagesForSending"))
+            .where()
+            .idIn(ids)
+            .orderBy("nextAttemptTime, id")
+            .findList());
+  }
+
+  /** Records that the messages have been sent, in a single statement. */
+  public void markSent(ImmutableList<EmailOutboxMessageModel> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    database
+        .update(EmailOutboxMessageModel.class)
+        .set("sent_time", clock.instant())
+        .where()
+        .in("id", messages.stream().map(message -> message.id).collect(toImmutableList()))
+        .update();
+  }
+
+  /**
+   * Records that sending the message failed, retrying it at {@code nextAttemptTime} if it has
+   * attempts remaining.
+   */
+  public void markFailed(
+      EmailOutboxMessageModel message, String errorMessage, Instant nextAttemptTime) {
+    message.setErrorMessage(errorMessage).setNextAttemptTime(nextAttemptTime).save();
+  }
+
+  /**
+   * Deletes the messages created before {@code cutoff} that have been sent or given up on,
+   * returning the number deleted.
+   */
+  public int deleteFinishedMessagesCreatedBefore(Instant cutoff) {
+    return database
+        .find(EmailOutboxMessageModel.class)
+        .setLabel("EmailOutboxMessageModel.deleteFinished")
+        .setProfileLocation(
+            queryProfileLocationBuilder.create("deleteFinishedMessagesCreatedBefore"))
+        .where()
+        .lt("create_time", cutoff)
+        .or()
+        .isNotNull("sent_time")
+        .eq("remaining_attempts", 0)
+        .endOr()
+        .delete();
+  }
+
+  /** Counts the messages that are waiting to be sent, including ones waiting to be retried. */
+  public int countPendingMessages() {
+    return database
+        .find(EmailOutboxMessageModel.class)
+        .setLabel("EmailOutboxMessageModel.findCount")
+        .setProfileLocation(queryProfileLocationBuilder.create("countPendingMessages"))
+        .where()
+        .isNull("sent_time")
+        .gt("remaining_attempts", 0)
+        .findCount();
+  }
+}
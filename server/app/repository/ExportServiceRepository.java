@@ -1,13 +1,29 @@
 package repository;
 
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import io.ebean.DB;
 import io.ebean.Database;
+import io.ebean.ExpressionList;
+import io.ebean.SqlQuery;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import javax.inject.Inject;
+import models.ApplicationModel;
+import services.Path;
+import services.applicant.ApplicantData;
 import services.question.types.QuestionDefinition;
 
 /** Implements queries related to CSV exporting needs. */
 public final class ExportServiceRepository {
+  private static final String EMPTY_ANSWERS_JSON = "{\"applicant\": {}}";
+
+  private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
+      new QueryProfileLocationBuilder("ExportServiceRepository");
+
   private final Database database;
 
   @Inject
@@ -47,6 +63,8 @@ public final class ExportServiceRepository {
                     + "ORDER BY MIN(all_options.create_time), MIN(all_options.id) ASC")
             .setParameter("currentQuestion", questionName)
             .setLabel("ExportServiceRepository.getAllHistoricOptionAdminNames")
+            .setProfileLocation(
+                queryProfileLocationBuilder.create("getAllHistoricMultiOptionAdminNames"))
             .findList()
             .stream()
             .map(sqlRow -> sqlRow.getString("admin_name"))
@@ -56,4 +74,238 @@ public final class ExportServiceRepository {
     }
     return allOptions;
   }
+
+  /**
+   * Returns the ids of all versions of the program that have at least one submitted application
+   * matching {@code filters}.
+   */
+  public ImmutableSet<Long> getProgramVersionIdsWithSubmittedApplications(
+      long programId, SubmittedApplicationFilter filters) {
+    Map<String, Object> parameters = new HashMap<>();
+    String sql =
+        "SELECT DISTINCT a.program_id AS program_id "
+            + submittedApplicationsFromClause(programId, filters, parameters);
+    return bindParameters(database.sqlQuery(sql), parameters)
+        .setLabel("ExportServiceRepository.getProgramVersionIdsWithSubmittedApplications")
+        .setProfileLocation(
+            queryProfileLocationBuilder.create("getProgramVersionIdsWithSubmittedApplications"))
+        .findList()
+        .stream()
+        .map(sqlRow -> sqlRow.getLong("program_id"))
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  /**
+   * Returns, for every enumerator path with repeated entities in any submitted application matching
+   * {@code filters}, the largest number of repeated entities an application to each version of the
+   * program has stored there. Versions without any repeated entities at a path are omitted.
+   *
+   * <p>The paths are the contextualized paths of enumerator questions, e.g. {@code
+   * applicant.household_members[]} or {@code applicant.household_members[2].jobs[]}. Every nesting
+   * level is found in a single pass over the matching applications' JSON in the database, so that
+   * callers don't have to load and parse every application just to learn how many repeated
+   * entities there are.
+   */
+  public ImmutableMap<Path, ImmutableMap<Long, Integer>> getMaxRepeatedEntityCountsByProgramVersion(
+      long programId, SubmittedApplicationFilter filters) {
+    Map<String, Object> parameters = new HashMap<>();
+    // Repeated entities are arrays of objects, either directly under "applicant" or under another
+    // repeated entity, so only those arrays and their entities are walked.
+    // @DbJson columns may hold the document as a JSON string, so normalize it to a JSON object.
+    String sql =
+        "WITH RECURSIVE matching_applications AS ("
+            + "  SELECT a.program_id AS program_id,"
+            + "    (a.object #>> '{}')::jsonb -> 'applicant' AS answers "
+            + submittedApplicationsFromClause(programId, filters, parameters)
+            + "), entity_arrays(program_id, path, entities) AS ("
+            + "  SELECT m.program_id, ARRAY[answer.key], answer.value"
+            + "  FROM matching_applications m, jsonb_each(CASE"
+            + "    WHEN jsonb_typeof(m.answers) = 'object' THEN m.answers"
+            + "    ELSE CAST('{}' AS jsonb) END) AS answer"
+            + "  WHERE jsonb_typeof(answer.value) = 'array'"
+            + "  UNION ALL"
+            + "  SELECT e.program_id,"
+            + "    e.path || CAST(entity.ordinality - 1 AS text) || nested.key, nested.value"
+            + "  FROM entity_arrays e,"
+            + "    jsonb_array_elements(e.entities) WITH ORDINALITY AS entity(value, ordinality),"
+            + "    jsonb_each(CASE"
+            + "      WHEN jsonb_typeof(entity.value) = 'object' THEN entity.value"
+            + "      ELSE CAST('{}' AS jsonb) END) AS nested"
+            + "  WHERE jsonb_typeof(nested.value) = 'array'"
+            + ") "
+            + "SELECT program_id, array_to_string(path, '.') AS path,"
+            + "  MAX(jsonb_array_length(entities)) AS entity_count "
+            + "FROM entity_arrays "
+            + "WHERE jsonb_typeof(entities -> 0) = 'object' "
+            + "GROUP BY program_id, path";
+    Map<Path, ImmutableMap.Builder<Long, Integer>> countsByPath = new HashMap<>();
+    bindParameters(database.sqlQuery(sql), parameters)
+        .setLabel("ExportServiceRepository.getMaxRepeatedEntityCountsByProgramVersion")
+        .setProfileLocation(
+            queryProfileLocationBuilder.create("getMaxRepeatedEntityCountsByProgramVersion"))
+        .findList()
+        .forEach(
+            sqlRow ->
+                countsByPath
+                    .computeIfAbsent(
+                        toEnumeratorPath(sqlRow.getString("path")),
+                        path -> ImmutableMap.builder())
+                    .put(sqlRow.getLong("program_id"), sqlRow.getInteger("entity_count")));
+    return countsByPath.entrySet().stream()
+        .collect(
+            ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build()));
+  }
+
+  /**
+   * Returns up to {@code limit} applications submitted within {@code submitTimeFilter} with ids
+   * greater than {@code afterId}, in order of id, for the demographics export.
+   *
+   * <p>Only the columns the export prints are loaded, leaving out the answers of the application
+   * and of its applicant. Use {@link #getAnswersWithKeys} to get the answers the export needs.
+   */
+  public ImmutableList<ApplicationModel> getDemographicsApplicationsPage(
+      TimeFilter submitTimeFilter, long afterId, int limit) {
+    ExpressionList<ApplicationModel> query =
+        database
+            .find(ApplicationModel.class)
+            .select("program, lifecycleStage, createTime, submitTime, submitterEmail, latestStatus")
+            .fetch("applicant", "account")
+            .fetch("applicant.account.managedByGroup")
+            .where()
+            .gt("id", afterId);
+    if (submitTimeFilter.fromTime().isPresent()) {
+      query = query.ge("submit_time", submitTimeFilter.fromTime().get());
+    }
+    if (submitTimeFilter.untilTime().isPresent()) {
+      query = query.lt("submit_time", submitTimeFilter.untilTime().get());
+    }
+    return ImmutableList.copyOf(
+        query
+            .orderBy("id")
+            .setMaxRows(limit)
+            .setLabel("ExportServiceRepository.getDemographicsApplicationsPage")
+            .setProfileLocation(
+                queryProfileLocationBuilder.create("getDemographicsApplicationsPage"))
+            .findList());
+  }
+
+  /**
+   * Returns, keyed by application id, the answers JSON of each of the applications reduced to the
+   * answers directly under {@code applicant} with one of the given keys. Only those answers are
+   * sent from the database, rather than the applications' whole answers.
+   */
+  public ImmutableMap<Long, String> getAnswersWithKeys(
+      ImmutableList<Long> applicationIds, ImmutableSet<String> answerKeys) {
+    if (applicationIds.isEmpty() || answerKeys.isEmpty()) {
+      return applicationIds.stream()
+          .collect(ImmutableMap.toImmutableMap(id -> id, id -> EMPTY_ANSWERS_JSON));
+    }
+    // @DbJson columns may hold the document as a JSON string, so normalize it to a JSON object.
+    return database
+        .sqlQuery(
+            """
+            SELECT a.id AS id, jsonb_build_object('applicant', COALESCE(
+              (SELECT jsonb_object_agg(answer.key, answer.value)
+               FROM jsonb_each((a.object #>> '{}')::jsonb -> 'applicant') AS answer
+               WHERE answer.key IN (:answerKeys)),
+              CAST('{}' AS jsonb))) AS answers
+            FROM applications a
+            WHERE a.id IN (:ids)
+            """)
+        .setParameter("answerKeys", answerKeys.asList())
+        .setParameter("ids", applicationIds)
+        .setLabel("ExportServiceRepository.getAnswersWithKeys")
+        .setProfileLocation(queryProfileLocationBuilder.create("getAnswersWithKeys"))
+        .findList()
+        .stream()
+        .collect(
+            ImmutableMap.toImmutableMap(
+                sqlRow -> sqlRow.getLong("id"), sqlRow -> sqlRow.getString("answers")));
+  }
+
+  /**
+   * Builds the FROM and WHERE clauses selecting the same applications as {@link
+   * ProgramRepository#getApplicationsForAllProgramVersions}, adding any bind values to {@code
+   * parameters}. The applications table is aliased as {@code a}.
+   */
+  private static String submittedApplicationsFromClause(
+      long programId, SubmittedApplicationFilter filters, Map<String, Object> parameters) {
+    StringBuilder sql =
+        new StringBuilder(
+            "FROM applications a "
+                + "INNER JOIN applicants ap ON ap.id = a.applicant_id "
+                + "WHERE a.program_id IN ("
+                + "  SELECT id FROM programs WHERE name = ("
+                + "    SELECT name FROM programs WHERE id = :programId)) "
+                + "AND a.lifecycle_stage IN ('active', 'obsolete')");
+    parameters.put("programId", programId);
+
+    if (filters.submitTimeFilter().fromTime().isPresent()) {
+      sql.append(" AND a.submit_time >= :fromTime");
+      parameters.put("fromTime", filters.submitTimeFilter().fromTime().get());
+    }
+    if (filters.submitTimeFilter().untilTime().isPresent()) {
+      sql.append(" AND a.submit_time < :untilTime");
+      parameters.put("untilTime", filters.submitTimeFilter().untilTime().get());
+    }
+
+    if (filters.searchNameFragment().isPresent() && !filters.searchNameFragment().get().isBlank()) {
+      String search = filters.searchNameFragment().get().trim();
+      // Mirrors ProgramRepository#searchUsingPrimaryApplicantInfo.
+      String maybeOnlyDigits = search.replaceAll("[^a-zA-Z0-9]", "");
+      if (maybeOnlyDigits.matches("^\\d+$")) {
+        sql.append(
+            " AND (a.id = :searchId OR a.applicant_id IN ("
+                + "SELECT id FROM applicants WHERE phone_number ILIKE :searchPattern))");
+        parameters.put("searchId", Long.parseLong(maybeOnlyDigits));
+        parameters.put("searchPattern", "%" + maybeOnlyDigits + "%");
+      } else {
+        sql.append(
+            " AND (a.applicant_id IN ("
+                + "SELECT id FROM applicants"
+                + " WHERE applicant_search_text(first_name, last_name, email_address)"
+                + " ILIKE :searchPattern)"
+                + " OR a.submitter_email ILIKE :searchPattern)");
+        parameters.put("searchPattern", "%" + search + "%");
+      }
+    }
+
+    String toMatchStatus = filters.applicationStatus().orElse("");
+    if (!toMatchStatus.isBlank()) {
+      if (toMatchStatus.equals(SubmittedApplicationFilter.NO_STATUS_FILTERS_OPTION_UUID)) {
+        sql.append(" AND a.latest_status IS NULL");
+      } else {
+        sql.append(" AND a.latest_status = :status");
+        parameters.put("status", toMatchStatus);
+      }
+    }
+    return sql.toString();
+  }
+
+  private static SqlQuery bindParameters(SqlQuery query, Map<String, Object> parameters) {
+    parameters.forEach(query::setParameter);
+    return query;
+  }
+
+  /**
+   * Converts the keys leading to an array of repeated entities, joined with dots and starting
+   * below "applicant", to the enumerator's contextualized path, e.g. {@code members.2.jobs} becomes
+   * {@code applicant.members[2].jobs[]}. Numeric keys are the indexes of the entities in the array
+   * named before them.
+   */
+  private static Path toEnumeratorPath(String keys) {
+    Path path = ApplicantData.APPLICANT_PATH;
+    List<String> segments = Splitter.on('.').splitToList(keys);
+    for (int i = 0; i < segments.size(); i++) {
+      Path arrayPath = path.join(segments.get(i) + Path.ARRAY_SUFFIX);
+      if (i + 1 < segments.size()) {
+        // Skip over the index that follows every array but the last.
+        i++;
+        path = arrayPath.atIndex(Integer.parseInt(segments.get(i)));
+      } else {
+        path = arrayPath;
+      }
+    }
+    return path;
+  }
 }
@@ -5,11 +5,16 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import io.ebean.DB;
 import io.ebean.Database;
+import io.ebean.Transaction;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import javax.inject.Inject;
 import javax.inject.Provider;
+import models.DurableJobCheckpointModel;
 import models.JobType;
 import models.PersistedDurableJobModel;
 
@@ -20,12 +25,14 @@ public final class PersistedDurableJobRepository {
 
   private final Database database;
   private final Provider<LocalDateTime> nowProvider;
+  private final Clock clock;
 
   @Inject
   public PersistedDurableJobRepository(
-      @BindingAnnotations.Now Provider<LocalDateTime> nowProvider) {
+      @BindingAnnotations.Now Provider<LocalDateTime> nowProvider, Clock clock) {
     this.database = DB.getDefault();
     this.nowProvider = Preconditions.checkNotNull(nowProvider);
+    this.clock = Preconditions.checkNotNull(clock);
   }
 
   /**
@@ -58,7 +65,7 @@ public final class PersistedDurableJobRepository {
   }
 
   /**
-   * Gets a recurring job that is ready to be executed or empty if none are available.
+   * Gets a recurring or on-demand job that is ready to be executed or empty if none are available.
    *
    * <p>A job is ready to be executed if it:
    *
@@ -68,6 +75,7 @@ public final class PersistedDurableJobRepository {
    *   <li>has more than zero remaining attempts
    *   <li>has an execution time is now or in the past
    *   <li>has a null success time (has never succeeded)
+   *   <li>is not leased to a server running it, or its lease has expired
    * </ul>
    */
   public Optional<PersistedDurableJobModel> getRecurringJobForExecution() {
@@ -77,14 +85,73 @@ public final class PersistedDurableJobRepository {
         .setLabel("PersistedDurableJobModel.findById")
         .setProfileLocation(queryProfileLocationBuilder.create("getRecurringJobForExecution"))
         .where()
-        .eq("job_type", JobType.RECURRING)
+        .in("job_type", JobType.RECURRING, JobType.ON_DEMAND)
         .le("execution_time", nowProvider.get())
         .gt("remaining_attempts", 0)
         .isNull("success_time")
+        .or()
+        .isNull("lease_expiration_time")
+        .lt("lease_expiration_time", clock.instant())
+        .endOr()
         .setMaxRows(1)
         .findOneOrEmpty();
   }
 
+  /**
+   * Claims up to {@code limit} recurring or on-demand jobs that are ready to be executed, oldest
+   * first, so that they can be run without holding a transaction open.
+   *
+   * <p>A job is ready to be executed under the same conditions as {@link
+   * #getRecurringJobForExecution}. Claiming a job uses one of its attempts and leases it for
+   * {@code leaseDuration}, which keeps other servers from claiming it until the lease expires.
+   */
+  public ImmutableList<PersistedDurableJobModel> claimRecurringJobsForExecution(
+      int limit, Duration leaseDuration) {
+    Instant leaseExpirationTime = clock.instant().plus(leaseDuration);
+    try (Transaction transaction = database.beginTransaction()) {
+      List<PersistedDurableJobModel> jobs =
+          database
+              .find(PersistedDurableJobModel.class)
+              .forUpdateSkipLocked()
+              .setLabel("PersistedDurableJobModel.findList")
+              .setProfileLocation(
+                  queryProfileLocationBuilder.create("claimRecurringJobsForExecution"))
+              .where()
+              .in("job_type", JobType.RECURRING, JobType.ON_DEMAND)
+              .le("execution_time", nowProvider.get())
+              .gt("remaining_attempts", 0)
+              .isNull("success_time")
+              .or()
+              .isNull("lease_expiration_time")
+              .lt("lease_expiration_time", clock.instant())
+              .endOr()
+              .orderBy("execution_time")
+              .setMaxRows(limit)
+              .findList();
+      for (PersistedDurableJobModel job : jobs) {
+        job.decrementRemainingAttempts().setLeaseExpirationTime(leaseExpirationTime).save();
+      }
+      transaction.commit();
+      return ImmutableList.copyOf(jobs);
+    }
+  }
+
+  /**
+   * Extends the leases of jobs that are still running by {@code leaseDuration} from now, so that
+   * other servers don't claim them.
+   */
+  public void renewLeases(ImmutableList<Long> jobIds, Duration leaseDuration) {
+    if (jobIds.isEmpty()) {
+      return;
+    }
+    database
+        .update(PersistedDurableJobModel.class)
+        .set("lease_expiration_time", clock.instant().plus(leaseDuration))
+        .where()
+        .idIn(jobIds)
+        .update();
+  }
+
   /**
    * Gets a startup job that is ready to be executed or empty if none are available.
    *
@@ -124,16 +191,51 @@ public final class PersistedDurableJobRepository {
 
   /**
    * Delete all {@link PersistedDurableJobModel}s that have an execution time older than six months
-   * and that are a recurring JobType.
+   * and that are a recurring JobType, along with any checkpoints left by jobs that no longer exist.
    */
   public int deleteJobsOlderThanSixMonths() {
-    return database
+    int deletedCount =
+        database
+            .sqlUpdate(
+                """
+                DELETE FROM persisted_durable_jobs
+                WHERE job_type = 'RECURRING'
+                AND execution_time < CURRENT_DATE - INTERVAL '6 months'
+                """)
+            .execute();
+    database
         .sqlUpdate(
             """
-            DELETE FROM persisted_durable_jobs
-            WHERE job_type = 'RECURRING'
-            AND execution_time < CURRENT_DATE - INTERVAL '6 months'
+            DELETE FROM durable_job_checkpoints
+            WHERE NOT EXISTS (
+              SELECT 1 FROM persisted_durable_jobs
+              WHERE persisted_durable_jobs.id = durable_job_checkpoints.persisted_durable_job_id)
             """)
         .execute();
+    return deletedCount;
+  }
+
+  /**
+   * Gets the checkpoint of a chunked job, or a new, unsaved checkpoint at the start if the job
+   * hasn't saved one.
+   */
+  public DurableJobCheckpointModel getCheckpoint(PersistedDurableJobModel job) {
+    return database
+        .find(DurableJobCheckpointModel.class)
+        .setLabel("DurableJobCheckpointModel.findByJobId")
+        .setProfileLocation(queryProfileLocationBuilder.create("getCheckpoint"))
+        .where()
+        .eq("persisted_durable_job_id", job.id)
+        .findOneOrEmpty()
+        .orElseGet(() -> new DurableJobCheckpointModel(job.id));
+  }
+
+  /** Deletes the checkpoint of a chunked job, once it has no more rows to process. */
+  public void deleteCheckpoint(PersistedDurableJobModel job) {
+    database
+        .find(DurableJobCheckpointModel.class)
+        .where()
+        .eq("persisted_durable_job_id", job.id)
+        .delete();
   }
 }
@@ -9,7 +9,6 @@ import com.google.common.collect.ImmutableSet;
 import io.ebean.DB;
 import io.ebean.Database;
 import io.ebean.ExpressionList;
-import io.ebean.PagedList;
 import io.ebean.Query;
 import io.ebean.SqlRow;
 import io.ebean.Transaction;
@@ -22,6 +21,7 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import models.AccountModel;
+import models.ApplicantModel;
 import models.ApplicationModel;
 import models.LifecycleStage;
 import models.ProgramModel;
@@ -50,6 +50,9 @@ public final class ProgramRepository {
   private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
       new QueryProfileLocationBuilder("ProgramRepository");
 
+  /** The most applications counted when computing the number of pages of a search. */
+  private static final int MAX_COUNTED_APPLICATIONS = 10_000;
+
   private final Database database;
   private final DatabaseExecutionContext executionContext;
   private final Provider<VersionRepository> versionRepository;
@@ -377,8 +380,6 @@ public final class ProgramRepository {
             .setLabel("ApplicationModel.findList")
             .setProfileLocation(
                 queryProfileLocationBuilder.create("getApplicationsForAllProgramVersions"))
-            .fetch("applicant")
-            .fetch("applicant.account.managedByGroup")
             .where()
             .in("program_id", allProgramVersionsQuery(programId))
             .in(
@@ -407,14 +408,45 @@ public final class ProgramRepository {
       }
     }
 
-    // Sort order is dictated by the pagination spec that was specified.
-    PagedList<ApplicationModel> pagedQuery = paginationSpec.apply(query.query()).findPagedList();
-    pagedQuery.loadCount();
+    // Copy the filtered query before the pagination spec limits it, for counting the pages.
+    Query<ApplicationModel> countQuery = query.query().copy();
+
+    // Sort order is dictated by the pagination spec that was specified. One row past the page is
+    // fetched to tell whether there is a next page without counting every matching row.
+    int pageSize = paginationSpec.getPageSize();
+    Query<ApplicationModel> pageQuery =
+        paginationSpec.apply(
+            query.query().fetch("applicant").fetch("applicant.account.managedByGroup"));
+    if (pageSize < Integer.MAX_VALUE) {
+      pageQuery.setMaxRows(pageSize + 1);
+    }
+    int firstRow = pageQuery.getFirstRow();
+    List<ApplicationModel> rows = pageQuery.findList();
+    boolean hasNext = rows.size() > pageSize;
 
     return new PaginationResult<ApplicationModel>(
-        pagedQuery.hasNext(),
-        pagedQuery.getTotalPageCount(),
-        pagedQuery.getList().stream().collect(ImmutableList.toImmutableList()));
+        hasNext,
+        () -> countPages(countQuery, firstRow, pageSize),
+        rows.stream().limit(pageSize).collect(ImmutableList.toImmutableList()));
+  }
+
+  /**
+   * Counts the pages of the query's results. Counting every match of a broad search over a large
+   * program reads all of them, so at most {@link #MAX_COUNTED_APPLICATIONS} rows past the start of
+   * the current page are counted. The pages past the cap aren't listed until an admin pages closer
+   * to them, but every page stays reachable.
+   */
+  private int countPages(Query<ApplicationModel> countQuery, int firstRow, int pageSize) {
+    int maxRows = (int) Math.min(Integer.MAX_VALUE, (long) firstRow + MAX_COUNTED_APPLICATIONS);
+    int rowCount =
+        database
+            .find(ApplicationModel.class)
+            .setLabel("ApplicationModel.countSearch")
+            .setProfileLocation(queryProfileLocationBuilder.create("countPages"))
+            .where()
+            .in("id", countQuery.select("id").setMaxRows(maxRows))
+            .findCount();
+    return rowCount == 0 ? 0 : ((rowCount - 1) / pageSize) + 1;
   }
 
   private Query<ProgramModel> allProgramVersionsQuery(long programId) {
@@ -447,22 +479,37 @@ public final class ProgramRepository {
       return query
           .or()
           .eq("id", Long.parseLong(maybeOnlyDigits))
-          .ilike("applicant.phoneNumber", "%" + maybeOnlyDigits + "%")
+          .in(
+              "applicant_id",
+              matchingApplicantsQuery("phoneNumber ilike ?", "%" + maybeOnlyDigits + "%"))
           .endOr();
     } else {
-      String firstNamePath = "applicant.firstName";
-      String lastNamePath = "applicant.lastName";
+      // The applicant's names and email are matched with applicant_search_text, which has a
+      // trigram index, rather than by concatenating the columns of each row.
       return query
           .or()
-          .ilike("applicant.emailAddress", "%" + search + "%")
+          .in(
+              "applicant_id",
+              matchingApplicantsQuery(
+                  "applicant_search_text(firstName, lastName, emailAddress) ilike ?",
+                  "%" + search + "%"))
           .ilike("submitter_email", "%" + search + "%")
-          .ilike(firstNamePath + " || ' ' || " + lastNamePath, "%" + search + "%")
-          .ilike(lastNamePath + " || ' ' || " + firstNamePath, "%" + search + "%")
-          .ilike(lastNamePath + " || ', ' || " + firstNamePath, "%" + search + "%")
           .endOr();
     }
   }
 
+  /** Selects the ids of the applicants matching the raw SQL expression, for use as a subquery. */
+  private Query<ApplicantModel> matchingApplicantsQuery(String rawExpression, String pattern) {
+    return database
+        .find(ApplicantModel.class)
+        .select("id")
+        .setLabel("ApplicantModel.findIdsBySearch")
+        .setProfileLocation(queryProfileLocationBuilder.create("matchingApplicantsQuery"))
+        .where()
+        .raw(rawExpression, pattern)
+        .query();
+  }
+
   /**
    * Get the most recent id for the active program. In the case that there are no active versions of
    * a program, an empty value is returned.
@@ -38,4 +38,25 @@ public final class SettingsGroupRepository {
                 .findOneOrEmpty(),
         databaseExecutionContext);
   }
+
+  /**
+   * Get the id of the most recently created {@link SettingsGroupModel} without loading its
+   * settings. Used to cheaply check whether the settings have changed.
+   */
+  public CompletionStage<Optional<Long>> getCurrentSettingsId() {
+    return supplyAsync(
+        () ->
+            database
+                .find(SettingsGroupModel.class)
+                .select("id")
+                .orderBy()
+                .desc("create_time")
+                .setMaxRows(1)
+                .setLabel("SettingsGroupModel.findId")
+                .setProfileLocation(queryProfileLocationBuilder.create("getCurrentSettingsId"))
+                .<Long>findIds()
+                .stream()
+                .findFirst(),
+        databaseExecutionContext);
+  }
 }
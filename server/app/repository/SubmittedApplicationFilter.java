@@ -30,6 +30,8 @@ public abstract class SubmittedApplicationFilter {
    */
   public abstract Optional<String> applicationStatus();
 
+  public abstract Builder toBuilder();
+
   public static Builder builder() {
     return new AutoValue_SubmittedApplicationFilter.Builder();
   }
@@ -13,6 +13,19 @@ public abstract class TimeFilter {
 
   public abstract Optional<Instant> untilTime();
 
+  /**
+   * Returns this filter with its until time moved to {@code time} if it is unset or later, so
+   * nothing at or after {@code time} matches.
+   */
+  public TimeFilter untilNoLaterThan(Instant time) {
+    if (untilTime().isPresent() && untilTime().get().isBefore(time)) {
+      return this;
+    }
+    return toBuilder().setUntilTime(Optional.of(time)).build();
+  }
+
+  public abstract Builder toBuilder();
+
   public static Builder builder() {
     return new AutoValue_TimeFilter.Builder();
   }
@@ -29,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Predicate;
 import javax.inject.Inject;
+import javax.inject.Provider;
 import models.DisplayMode;
 import models.LifecycleStage;
 import models.ProgramModel;
@@ -38,6 +39,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.cache.NamedCache;
 import play.cache.SyncCacheApi;
+import services.cache.CacheInvalidator;
+import services.cache.CacheWarmer;
 import services.program.BlockDefinition;
 import services.program.CantPublishProgramWithSharedQuestionsException;
 import services.program.EligibilityDefinition;
@@ -67,6 +70,8 @@ public final class VersionRepository {
   private final SettingsManifest settingsManifest;
   private final SyncCacheApi questionsByVersionCache;
   private final SyncCacheApi programsByVersionCache;
+  private final CacheInvalidator cacheInvalidator;
+  private final Provider<CacheWarmer> cacheWarmer;
 
   @Inject
   public VersionRepository(
@@ -75,7 +80,9 @@ public final class VersionRepository {
       DatabaseExecutionContext databaseExecutionContext,
       SettingsManifest settingsManifest,
       @NamedCache("version-questions") SyncCacheApi questionsByVersionCache,
-      @NamedCache("version-programs") SyncCacheApi programsByVersionCache) {
+      @NamedCache("version-programs") SyncCacheApi programsByVersionCache,
+      CacheInvalidator cacheInvalidator,
+      Provider<CacheWarmer> cacheWarmer) {
     this.database = DB.getDefault();
     this.programRepository = checkNotNull(programRepository);
     this.questionRepository = checkNotNull(questionRepository);
@@ -83,6 +90,8 @@ public final class VersionRepository {
     this.settingsManifest = checkNotNull(settingsManifest);
     this.questionsByVersionCache = checkNotNull(questionsByVersionCache);
     this.programsByVersionCache = checkNotNull(programsByVersionCache);
+    this.cacheInvalidator = checkNotNull(cacheInvalidator);
+    this.cacheWarmer = checkNotNull(cacheWarmer);
   }
 
   /**
@@ -206,6 +215,9 @@ public final class VersionRepository {
           throw new RuntimeException(String.format("unrecognized publishMode: %s", publishMode));
       }
       transaction.commit();
+      if (publishMode == PublishMode.PUBLISH_CHANGES) {
+        updateCachesAfterPublish();
+      }
       return draft;
     } finally {
       transaction.end();
@@ -304,6 +316,7 @@ public final class VersionRepository {
       newDraft.refresh();
       validateProgramQuestionState();
       transaction.commit();
+      updateCachesAfterPublish();
     } catch (NonUniqueResultException | SerializableConflictException | RollbackException e) {
       transaction.rollback(e);
       // We must end the transaction here since we are going to recurse and try again.
@@ -325,6 +338,21 @@ public final class VersionRepository {
     }
   }
 
+  /**
+   * Invalidates the cached data that publishing changes, on every server if cache invalidations
+   * are shared, then warms the caches for the new ACTIVE version in the background.
+   *
+   * <p>The caches keyed by version or program id only hold data for ACTIVE and OBSOLETE versions,
+   * which publishing doesn't change. Publishing adds the carried-over programs to the new version
+   * though, so the cached versions of each program are stale, and the program cache is only valid
+   * while no draft exists.
+   */
+  private void updateCachesAfterPublish() {
+    cacheInvalidator.invalidateAll("program-versions");
+    cacheInvalidator.invalidateAll("program");
+    cacheWarmer.get().warmActiveVersion();
+  }
+
   /** Get the current draft version. Empty optional if not available. */
   public Optional<VersionModel> getDraftVersion() {
     return database
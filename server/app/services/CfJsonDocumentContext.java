@@ -15,6 +15,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,6 +53,30 @@ public class CfJsonDocumentContext {
     return jsonData;
   }
 
+  /**
+   * Returns a deep copy of the JSON document, which can be changed without affecting this one.
+   * Copying the parsed document is much cheaper than serializing and parsing it again.
+   */
+  protected DocumentContext copyDocumentContext() {
+    return JsonPathProvider.getJsonPath().parse(deepCopy(jsonData.json()));
+  }
+
+  @Nullable
+  private static Object deepCopy(@Nullable Object value) {
+    if (value instanceof Map) {
+      Map<Object, Object> copy = new LinkedHashMap<>();
+      ((Map<?, ?>) value).forEach((key, entryValue) -> copy.put(key, deepCopy(entryValue)));
+      return copy;
+    }
+    if (value instanceof List) {
+      List<Object> copy = new ArrayList<>(((List<?>) value).size());
+      ((List<?>) value).forEach(item -> copy.add(deepCopy(item)));
+      return copy;
+    }
+    // Anything else is a JSON scalar, which is immutable.
+    return value;
+  }
+
   /** Makes this instance immutable. A locked instance cannot be unlocked. */
   public void lock() {
     locked = true;
@@ -68,12 +93,7 @@ public class CfJsonDocumentContext {
    * @return true if path is present; false otherwise
    */
   public boolean hasPath(Path path) {
-    try {
-      jsonData.read(path.toString());
-    } catch (PathNotFoundException e) {
-      return false;
-    }
-    return true;
+    return readValue(path) != CompiledPath.MISSING;
   }
 
   /**
@@ -101,7 +121,11 @@ public class CfJsonDocumentContext {
    * @return true if there is a null value at the given path; false otherwise.
    */
   public boolean hasNullValueAtPath(Path path) {
-    return jsonData.read(path.toString()) == null;
+    Object value = readValue(path);
+    if (value == CompiledPath.MISSING) {
+      throw new PathNotFoundException("No results for path: " + path.predicateFormat());
+    }
+    return value == null;
   }
 
   public void putPhoneNumber(Path path, String phoneNumber) {
@@ -261,7 +285,7 @@ public class CfJsonDocumentContext {
   public void putArray(Path path, List list) {
     checkLocked();
     putParentIfMissing(path);
-    jsonData.put(path.parentPath().toString(), path.keyName(), list);
+    jsonData.put(CompiledPath.of(path.parentPath()).jsonPath(), path.keyName(), list);
   }
 
   /**
@@ -291,18 +315,18 @@ public class CfJsonDocumentContext {
   public void maybeDelete(Path path) {
     checkLocked();
     if (hasPath(path)) {
-      jsonData.delete(path.toString());
+      jsonData.delete(CompiledPath.of(path).jsonPath());
     }
   }
 
   private void putAt(Path path, Object value) {
     checkLocked();
-    jsonData.put(path.parentPath().toString(), path.keyName(), value);
+    jsonData.put(CompiledPath.of(path.parentPath()).jsonPath(), path.keyName(), value);
   }
 
   private void addAt(Path path, Object value) {
     checkLocked();
-    jsonData.add(path.withoutArrayReference().toString(), value);
+    jsonData.add(CompiledPath.of(path.withoutArrayReference()).jsonPath(), value);
   }
 
   /**
@@ -497,10 +521,13 @@ public class CfJsonDocumentContext {
    * @throws JsonPathTypeMismatchException if the scalar at that path is not the expected type
    */
   private <T> Optional<T> read(Path path, Class<T> type) throws JsonPathTypeMismatchException {
-    try {
-      return Optional.ofNullable(jsonData.read(path.toString(), type));
-    } catch (PathNotFoundException e) {
+    Object value = readValue(path);
+    if (value == CompiledPath.MISSING || value == null) {
       return Optional.empty();
+    }
+    try {
+      return Optional.ofNullable(
+          jsonData.configuration().mappingProvider().map(value, type, jsonData.configuration()));
     } catch (MappingException e) {
       throw new JsonPathTypeMismatchException(path, type, e);
     }
@@ -516,15 +543,67 @@ public class CfJsonDocumentContext {
    * @throws JsonPathTypeMismatchException if the value at that path is not the expected type
    */
   private <T> Optional<T> read(Path path, TypeRef<T> type) throws JsonPathTypeMismatchException {
-    try {
-      return Optional.ofNullable(jsonData.read(path.toString(), type));
-    } catch (PathNotFoundException e) {
+    Object value = readValue(path);
+    if (value == CompiledPath.MISSING || value == null) {
       return Optional.empty();
+    }
+    try {
+      return Optional.ofNullable(
+          jsonData.configuration().mappingProvider().map(value, type, jsonData.configuration()));
     } catch (MappingException e) {
       throw new JsonPathTypeMismatchException(path, type.getClass(), e);
     }
   }
 
+  /**
+   * Returns the raw value at the given path, which may be null, or {@link CompiledPath#MISSING} if
+   * the path doesn't exist. Values are the parsed document's own objects, so callers must not
+   * change them.
+   */
+  @Nullable
+  private Object readValue(Path path) {
+    CompiledPath compiledPath = CompiledPath.of(path);
+    if (compiledPath.isWalkable()) {
+      return compiledPath.walk(jsonData.json());
+    }
+    try {
+      return jsonData.read(compiledPath.jsonPath());
+    } catch (PathNotFoundException e) {
+      return CompiledPath.MISSING;
+    }
+  }
+
+  /**
+   * Reads the value at the given path as it is stored in the document, without converting it: a
+   * string, number, boolean, map, or list. Returns {@link Optional#empty} if the path doesn't exist
+   * or has a null value. Maps and lists are the document's own, so callers must not change them.
+   *
+   * @param path the {@link Path} to read
+   * @return optionally returns the stored value at the path if it exists, or empty if not
+   */
+  public Optional<Object> readRawValue(Path path) {
+    Object value = readValue(path);
+    if (value == CompiledPath.MISSING) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(value);
+  }
+
+  /**
+   * Reads the subtree at the given path as compact JSON. Returns {@link Optional#empty} if the path
+   * doesn't exist, and {@code "null"} if it has a null value.
+   *
+   * @param path the {@link Path} to read
+   * @return optionally returns the JSON of the subtree at the path if it exists, or empty if not
+   */
+  public Optional<String> readAsJsonString(Path path) {
+    Object value = readValue(path);
+    if (value == CompiledPath.MISSING) {
+      return Optional.empty();
+    }
+    return Optional.of(jsonData.configuration().jsonProvider().toJson(value));
+  }
+
   /**
    * Reads the value at the given path as a string. Returns {@link Optional#empty} if there is no
    * value at the path. For JSON arrays of strings, this formats the array as a string according to
@@ -569,7 +648,7 @@ public class CfJsonDocumentContext {
     // Delete in reverse sorted order because deletion is index based, and indices would need to be
     // decremented for each deletion if it wasn't reverse sorted.
     for (int index : reverseSortedIndices) {
-      jsonData.delete(path.atIndex(index).toString());
+      jsonData.delete(CompiledPath.of(path.atIndex(index)).jsonPath());
     }
     return true;
   }
@@ -609,7 +688,7 @@ public class CfJsonDocumentContext {
    * @return the pretty-printed document
    */
   public String asPrettyJsonString(Path path) {
-    Object subtreeAtPath = jsonData.read(path.toString());
+    Object subtreeAtPath = jsonData.read(CompiledPath.of(path).jsonPath());
     return JsonPrettifier.asPrettyJsonString(subtreeAtPath);
   }
 
@@ -653,7 +732,7 @@ public class CfJsonDocumentContext {
         } else if (entry.getValue() instanceof List) {
           // Add items from lists.
           for (Object item : (List) entry.getValue()) {
-            jsonData.add(path.toString(), item);
+            jsonData.add(CompiledPath.of(path).jsonPath(), item);
           }
         } else {
           try {
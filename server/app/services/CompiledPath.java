@@ -0,0 +1,114 @@
+package services;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.ImmutableList;
+import com.jayway.jsonpath.JsonPath;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link Path} prepared for reading and writing a parsed JSON document, so that {@link
+ * CfJsonDocumentContext} doesn't need to compile a JsonPath expression on every access.
+ *
+ * <p>Most paths into applicant data are a plain sequence of object keys and array indices, such as
+ * {@code applicant.children[2].name.first_name}. Those can be read by walking the parsed document
+ * one segment at a time, which is much cheaper than evaluating the JsonPath and gives the same
+ * result. Other paths are only read by evaluating the compiled JsonPath.
+ */
+final class CompiledPath {
+
+  /** Returned by {@link #walk} when there is nothing at the path. */
+  static final Object MISSING = new Object();
+
+  // Compiled paths are shared by all documents. The cache is cleared rather than evicted when it
+  // fills up, since paths are cheap to compile again and the set in use is usually much smaller.
+  private static final int MAX_CACHE_SIZE = 20_000;
+  private static final ConcurrentHashMap<Path, CompiledPath> CACHE = new ConcurrentHashMap<>();
+
+  // An object key, optionally followed by an array index, e.g. "children" or "children[2]".
+  private static final Pattern WALKABLE_SEGMENT = Pattern.compile("([\\w-]+)(?:\\[(\\d+)])?");
+
+  private final JsonPath jsonPath;
+  // Object keys (as Strings) and array indices (as Integers) to walk, if the path is walkable.
+  private final Optional<ImmutableList<Object>> steps;
+
+  private CompiledPath(Path path) {
+    this.jsonPath = JsonPath.compile(path.toString());
+    this.steps = toSteps(path);
+  }
+
+  /** Returns the compiled form of {@code path}, compiling it if it hasn't been seen recently. */
+  static CompiledPath of(Path path) {
+    CompiledPath compiledPath = CACHE.get(path);
+    if (compiledPath == null) {
+      if (CACHE.size() >= MAX_CACHE_SIZE) {
+        CACHE.clear();
+      }
+      compiledPath = new CompiledPath(path);
+      CACHE.put(path, compiledPath);
+    }
+    return compiledPath;
+  }
+
+  /** The path compiled to a JsonPath, for writes and for reads of paths that can't be walked. */
+  JsonPath jsonPath() {
+    return jsonPath;
+  }
+
+  /** Returns true if the path can be read by {@link #walk}. */
+  boolean isWalkable() {
+    return steps.isPresent();
+  }
+
+  /**
+   * Returns the value at the path in the parsed document {@code root}, which may be null, or
+   * {@link #MISSING} if the path doesn't exist in the document.
+   *
+   * @throws IllegalStateException if the path is not walkable
+   */
+  @Nullable
+  Object walk(@Nullable Object root) {
+    checkState(isWalkable(), "Path %s cannot be walked", jsonPath.getPath());
+    Object current = root;
+    for (Object step : steps.get()) {
+      if (step instanceof String) {
+        if (!(current instanceof Map) || !((Map<?, ?>) current).containsKey(step)) {
+          return MISSING;
+        }
+        current = ((Map<?, ?>) current).get(step);
+      } else {
+        int index = (Integer) step;
+        if (!(current instanceof List) || index >= ((List<?>) current).size()) {
+          return MISSING;
+        }
+        current = ((List<?>) current).get(index);
+      }
+    }
+    return current;
+  }
+
+  private static Optional<ImmutableList<Object>> toSteps(Path path) {
+    ImmutableList.Builder<Object> steps = ImmutableList.builder();
+    for (String segment : path.segments()) {
+      Matcher matcher = WALKABLE_SEGMENT.matcher(segment);
+      if (!matcher.matches()) {
+        return Optional.empty();
+      }
+      steps.add(matcher.group(1));
+      if (matcher.group(2) != null) {
+        try {
+          steps.add(Integer.parseInt(matcher.group(2)));
+        } catch (NumberFormatException e) {
+          return Optional.empty();
+        }
+      }
+    }
+    return Optional.of(steps.build());
+  }
+}
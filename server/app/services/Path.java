@@ -57,6 +57,11 @@ public abstract class Path {
    */
   public abstract ImmutableList<String> segments();
 
+  // Paths are used as map keys, e.g. by the compiled path cache, so only hash them once.
+  @Memoized
+  @Override
+  public abstract int hashCode();
+
   @Memoized
   public boolean isEmpty() {
     return segments().isEmpty();
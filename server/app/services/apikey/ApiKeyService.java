@@ -28,6 +28,7 @@ import play.data.DynamicForm;
 import repository.ApiKeyRepository;
 import services.CryptographicUtils;
 import services.DateConverter;
+import services.cache.CacheInvalidator;
 import services.pagination.PageNumberPaginationSpec;
 import services.pagination.PaginationResult;
 import services.program.ProgramNotFoundException;
@@ -82,6 +83,7 @@ public final class ApiKeyService {
   private final DateConverter dateConverter;
   private final String secretSalt;
   private final SyncCacheApi apiKeyCache;
+  private final CacheInvalidator cacheInvalidator;
   private final boolean banGlobalSubnet;
 
   @Inject
@@ -91,8 +93,10 @@ public final class ApiKeyService {
       Environment environment,
       ProgramService programService,
       DateConverter dateConverter,
-      Config config) {
+      Config config,
+      CacheInvalidator cacheInvalidator) {
     this.apiKeyCache = checkNotNull(apiKeyCache);
+    this.cacheInvalidator = checkNotNull(cacheInvalidator);
     this.repository = checkNotNull(repository);
     this.environment = checkNotNull(environment);
     this.programService = checkNotNull(programService);
@@ -165,6 +169,8 @@ public final class ApiKeyService {
 
     apiKey.retire(getAuthorityId(profile));
     apiKey.save();
+    // Stop accepting the key right away rather than once its cache entries expire.
+    cacheInvalidator.invalidate("api-keys", apiKey.getKeyId());
 
     return apiKey;
   }
@@ -1,5 +1,6 @@
 package services.applicant;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableList;
@@ -50,6 +51,31 @@ public class ApplicantData extends CfJsonDocumentContext {
     this.failedUpdates = Optional.empty();
   }
 
+  /**
+   * Creates a copy of {@code other}'s answers with the given preferred locale. The copy can be
+   * changed without affecting {@code other}, and is much cheaper to create than parsing the answers
+   * from JSON again.
+   */
+  public ApplicantData(Optional<Locale> preferredLocale, ApplicantData other) {
+    super(other.copyDocumentContext());
+    this.preferredLocale = preferredLocale;
+    this.failedUpdates = Optional.empty();
+  }
+
+  /**
+   * Returns the path of the answer directly under {@code applicant} that contains the given path.
+   * For example, {@code applicant.household_members[2].name} returns {@code
+   * applicant.household_members}.
+   */
+  public static Path topLevelAnswerPath(Path path) {
+    checkArgument(
+        path.segments().size() > 1 && path.segments().get(0).equals(APPLICANT),
+        "%s is not under %s",
+        path,
+        APPLICANT);
+    return APPLICANT_PATH.join(path.segments().get(1)).safeWithoutArrayReference();
+  }
+
   /** Returns true if this applicant has set their preferred locale, and false otherwise. */
   public boolean hasPreferredLocale() {
     return this.preferredLocale.isPresent();
@@ -102,10 +128,9 @@ public class ApplicantData extends CfJsonDocumentContext {
    */
   public boolean isDuplicateOf(ApplicantData other) {
     // Copy data and clear fields not required for comparison.
-    ApplicantData thisApplicantData = new ApplicantData(this.preferredLocale, this.asJsonString());
+    ApplicantData thisApplicantData = new ApplicantData(this.preferredLocale, this);
     clearFieldsNotRequiredForComparison(thisApplicantData);
-    ApplicantData otherApplicantData =
-        new ApplicantData(other.preferredLocale, other.asJsonString());
+    ApplicantData otherApplicantData = new ApplicantData(other.preferredLocale, other);
     clearFieldsNotRequiredForComparison(otherApplicantData);
 
     return thisApplicantData.asJsonString().equals(otherApplicantData.asJsonString());
@@ -41,7 +41,6 @@ import models.LifecycleStage;
 import models.ProgramModel;
 import models.ProgramNotificationPreference;
 import models.StoredFileModel;
-import models.VersionModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.i18n.Lang;
@@ -53,10 +52,9 @@ import repository.AccountRepository;
 import repository.ApplicationEventRepository;
 import repository.ApplicationRepository;
 import repository.ApplicationStatusesRepository;
+import repository.ApplicationSummary;
 import repository.ProgramRepository;
 import repository.StoredFileRepository;
-import repository.TimeFilter;
-import repository.VersionRepository;
 import services.Address;
 import services.DeploymentType;
 import services.LocalizedStrings;
@@ -83,7 +81,9 @@ import services.geo.AddressSuggestion;
 import services.geo.AddressSuggestionGroup;
 import services.geo.CorrectedAddressState;
 import services.geo.esri.EsriClient;
+import services.program.ActiveProgramCatalog;
 import services.program.PathNotInBlockException;
+import services.program.ProgramCatalog;
 import services.program.ProgramDefinition;
 import services.program.ProgramNotFoundException;
 import services.program.ProgramService;
@@ -107,9 +107,9 @@ public final class ApplicantService {
   private final ApplicationEventRepository applicationEventRepository;
   private final ApplicationRepository applicationRepository;
   private final AccountRepository accountRepository;
+  private final ActiveProgramCatalog activeProgramCatalog;
   private final StoredFileRepository storedFileRepository;
   private final JsonPathPredicateGeneratorFactory jsonPathPredicateGeneratorFactory;
-  private final VersionRepository versionRepository;
   private final ProgramRepository programRepository;
   private final ApplicationStatusesRepository applicationStatusesRepository;
   private final ProgramService programService;
@@ -132,7 +132,7 @@ public final class ApplicantService {
       ApplicationEventRepository applicationEventRepository,
       ApplicationRepository applicationRepository,
       AccountRepository accountRepository,
-      VersionRepository versionRepository,
+      ActiveProgramCatalog activeProgramCatalog,
       ProgramRepository programRepository,
       StoredFileRepository storedFileRepository,
       JsonPathPredicateGeneratorFactory jsonPathPredicateGeneratorFactory,
@@ -150,7 +150,7 @@ public final class ApplicantService {
     this.applicationEventRepository = checkNotNull(applicationEventRepository);
     this.applicationRepository = checkNotNull(applicationRepository);
     this.accountRepository = checkNotNull(accountRepository);
-    this.versionRepository = checkNotNull(versionRepository);
+    this.activeProgramCatalog = checkNotNull(activeProgramCatalog);
     this.programRepository = checkNotNull(programRepository);
     this.storedFileRepository = checkNotNull(storedFileRepository);
     this.jsonPathPredicateGeneratorFactory = checkNotNull(jsonPathPredicateGeneratorFactory);
@@ -229,10 +229,22 @@ public final class ApplicantService {
   /** Get a {@link ReadOnlyApplicantProgramService} from an application and program definition. */
   public ReadOnlyApplicantProgramService getReadOnlyApplicantProgramService(
       ApplicationModel application, ProgramDefinition programDefinition) {
+    return getReadOnlyApplicantProgramService(
+        application, application.getApplicantData(), programDefinition);
+  }
+
+  /**
+   * Get a {@link ReadOnlyApplicantProgramService} from an application and program definition,
+   * with answers that were read separately from the application, such as only some of them.
+   */
+  public ReadOnlyApplicantProgramService getReadOnlyApplicantProgramService(
+      ApplicationModel application,
+      ApplicantData applicantData,
+      ProgramDefinition programDefinition) {
     return new ReadOnlyApplicantProgramService(
         jsonPathPredicateGeneratorFactory,
         application.getApplicant(),
-        application.getApplicantData(),
+        applicantData,
         programDefinition);
   }
 
@@ -350,6 +362,7 @@ public final class ApplicantService {
                         (serviceAreaUpdate) -> {
                           return stageAndUpdateIfValid(
                               applicant,
+                              readOnlyApplicantProgramServiceBeforeUpdate,
                               blockBeforeUpdate,
                               programDefinition,
                               updates,
@@ -361,22 +374,19 @@ public final class ApplicantService {
 
               return stageAndUpdateIfValid(
                   applicant,
+                  readOnlyApplicantProgramServiceBeforeUpdate,
                   blockBeforeUpdate,
                   programDefinition,
                   updates,
                   Optional.empty(),
                   forceUpdate);
             },
-            classLoaderExecutionContext.current())
-        .thenCompose(
-            (v) ->
-                applicationRepository
-                    .createOrUpdateDraft(applicantId, programId)
-                    .thenApplyAsync(appDraft -> v));
+            classLoaderExecutionContext.current());
   }
 
   private CompletionStage<ReadOnlyApplicantProgramService> stageAndUpdateIfValid(
       ApplicantModel applicant,
+      ReadOnlyApplicantProgramService roApplicantProgramServiceBeforeUpdate,
       Block blockBeforeUpdate,
       ProgramDefinition programDefinition,
       ImmutableSet<Update> updates,
@@ -396,24 +406,29 @@ public final class ApplicantService {
       return CompletableFuture.failedFuture(e);
     }
 
+    // Only blocks that depend on the updated answers need their predicates evaluated again.
     ReadOnlyApplicantProgramService roApplicantProgramService =
         new ReadOnlyApplicantProgramService(
-            jsonPathPredicateGeneratorFactory,
-            applicant,
+            roApplicantProgramServiceBeforeUpdate,
             applicant.getApplicantData(),
-            programDefinition,
+            blockBeforeUpdate,
             failedUpdates);
 
     Optional<Block> blockMaybe =
         roApplicantProgramService.getActiveBlock(blockBeforeUpdate.getId());
-    if (forceUpdate || (blockMaybe.isPresent() && !blockMaybe.get().hasErrors())) {
-      return accountRepository
-          .updateApplicant(applicant)
-          .thenApplyAsync(
-              (finishedSaving) -> roApplicantProgramService, classLoaderExecutionContext.current());
-    }
-
-    return CompletableFuture.completedFuture(roApplicantProgramService);
+    // The draft application is created even if the block has errors.
+    boolean saveApplicant =
+        forceUpdate || (blockMaybe.isPresent() && !blockMaybe.get().hasErrors());
+    // Staging only changes the answers to the block's questions, so only those are written.
+    ImmutableSet<Path> changedAnswerPaths =
+        blockBeforeUpdate.getQuestions().stream()
+            .map(ApplicantQuestion::getContextualizedPath)
+            .collect(ImmutableSet.toImmutableSet());
+    return applicationRepository
+        .saveApplicantAndCreateDraftIfMissing(
+            applicant, programDefinition, saveApplicant, changedAnswerPaths)
+        .thenApplyAsync(
+            (finishedSaving) -> roApplicantProgramService, classLoaderExecutionContext.current());
   }
 
   /**
@@ -980,15 +995,6 @@ public final class ApplicantService {
             classLoaderExecutionContext.current());
   }
 
-  /**
-   * Return a filtered set of applications, including applications from previous versions, with
-   * program, applicant, and account associations eager loaded. Results are ordered by application
-   * ID in ascending order.
-   */
-  public ImmutableList<ApplicationModel> getApplications(TimeFilter submitTimeFilter) {
-    return applicationRepository.getApplications(submitTimeFilter);
-  }
-
   /**
    * Return all programs that are appropriate to serve to an applicant. Appropriate programs are
    * those where the applicant:
@@ -1001,72 +1007,119 @@ public final class ApplicantService {
    */
   public CompletionStage<ApplicationPrograms> relevantProgramsForApplicant(
       long applicantId, CiviFormProfile requesterProfile, Request request) {
-    // Note: The Program model associated with the application is eagerly loaded.
-    CompletableFuture<ImmutableSet<ApplicationModel>> applicationsFuture =
-        applicationRepository
-            .getApplicationsForApplicant(
-                applicantId, ImmutableSet.of(LifecycleStage.DRAFT, LifecycleStage.ACTIVE))
-            .toCompletableFuture();
+    ProgramCatalog catalog = activeProgramCatalog.get();
     ImmutableList<ProgramDefinition> activeProgramDefinitions =
-        versionRepository.getProgramsForVersion(versionRepository.getActiveVersion()).stream()
-            .map(p -> programRepository.getShallowProgramDefinition(p))
-            .filter(
-                pdef ->
-                    pdef.displayMode().equals(DisplayMode.PUBLIC)
-                        || (requesterProfile.isTrustedIntermediary()
-                            && pdef.displayMode().equals(DisplayMode.TI_ONLY))
-                        || (pdef.displayMode().equals(DisplayMode.SELECT_TI)
-                            && pdef.acls().hasProgramViewPermission(requesterProfile)))
+        Stream.of(
+                catalog.programsWithDisplayMode(DisplayMode.PUBLIC),
+                requesterProfile.isTrustedIntermediary()
+                    ? catalog.programsWithDisplayMode(DisplayMode.TI_ONLY)
+                    : ImmutableList.<ProgramDefinition>of(),
+                catalog.programsWithDisplayMode(DisplayMode.SELECT_TI).stream()
+                    .filter(pdef -> pdef.acls().hasProgramViewPermission(requesterProfile))
+                    .collect(ImmutableList.toImmutableList()))
+            .flatMap(ImmutableList::stream)
             .collect(ImmutableList.toImmutableList());
 
+    // The answers of submitted applications are needed to check their eligibility, so they are
+    // loaded with the summaries for the active programs that have eligibility conditions.
+    CompletableFuture<ImmutableList<ApplicationSummary>> applicationsFuture =
+        applicationRepository
+            .getApplicationSummariesForApplicant(
+                applicantId,
+                ImmutableSet.of(LifecycleStage.DRAFT, LifecycleStage.ACTIVE),
+                activeProgramDefinitions.stream()
+                    .filter(ProgramDefinition::hasEligibilityEnabled)
+                    .map(ProgramDefinition::adminName)
+                    .collect(ImmutableSet.toImmutableSet()))
+            .toCompletableFuture();
+    // The applicant's answers are needed to check their eligibility for programs.
+    CompletableFuture<Optional<ApplicantModel>> applicantFuture =
+        accountRepository.lookupApplicant(applicantId).toCompletableFuture();
+
     return applicationsFuture
         .thenComposeAsync(
-            v -> {
-              ImmutableSet<ApplicationModel> applications = applicationsFuture.join();
+            applications -> {
               if (applications.isEmpty()) {
                 return CompletableFuture.completedFuture(activeProgramDefinitions);
               }
-              List<ProgramDefinition> programDefinitionsList =
-                  applications.stream()
-                      .map(
-                          application ->
-                              programRepository.getShallowProgramDefinition(
-                                  application.getProgram()))
-                      .collect(Collectors.toList());
-              programDefinitionsList.addAll(activeProgramDefinitions);
-              return programService.syncQuestionsToProgramDefinitions(
-                  programDefinitionsList.stream().collect(ImmutableList.toImmutableList()));
+              return addProgramsForInactiveDrafts(catalog, activeProgramDefinitions, applications);
             })
-        .thenApplyAsync(
-            allPrograms -> {
-              ImmutableSet<ApplicationModel> applications = applicationsFuture.join();
+        .thenCombineAsync(
+            applicantFuture,
+            (allPrograms, applicant) -> {
+              ImmutableList<ApplicationSummary> applications = applicationsFuture.join();
               logDuplicateDrafts(applications);
               return relevantProgramsForApplicantInternal(
-                  activeProgramDefinitions, applications, allPrograms, request);
+                  activeProgramDefinitions, applications, applicant, allPrograms, request);
             },
             classLoaderExecutionContext.current());
   }
 
+  /**
+   * Adds the full definitions of the programs the applicant has drafts for that aren't in {@code
+   * activeProgramDefinitions} to them, such as drafts to older versions of a program. The active
+   * programs in the catalog already have their questions synced.
+   */
+  private CompletableFuture<ImmutableList<ProgramDefinition>> addProgramsForInactiveDrafts(
+      ProgramCatalog catalog,
+      ImmutableList<ProgramDefinition> activeProgramDefinitions,
+      ImmutableList<ApplicationSummary> applications) {
+    ImmutableSet<Long> activeProgramIds =
+        activeProgramDefinitions.stream()
+            .map(ProgramDefinition::id)
+            .collect(ImmutableSet.toImmutableSet());
+    ImmutableList<CompletableFuture<ProgramDefinition>> draftProgramsFutures =
+        applications.stream()
+            .filter(application -> application.lifecycleStage().equals(LifecycleStage.DRAFT))
+            .map(ApplicationSummary::programId)
+            .filter(programId -> !activeProgramIds.contains(programId))
+            .distinct()
+            .map(
+                programId ->
+                    catalog
+                        .program(programId)
+                        .map(CompletableFuture::completedFuture)
+                        .orElseGet(
+                            () ->
+                                programService
+                                    .getFullProgramDefinitionAsync(programId)
+                                    .toCompletableFuture()))
+            .collect(ImmutableList.toImmutableList());
+
+    return CompletableFuture.allOf(draftProgramsFutures.toArray(CompletableFuture[]::new))
+        .thenApply(
+            v ->
+                ImmutableList.<ProgramDefinition>builder()
+                    .addAll(activeProgramDefinitions)
+                    .addAll(draftProgramsFutures.stream().map(CompletableFuture::join).iterator())
+                    .build());
+  }
+
   /**
    * Get all active programs that are publicly visible, as if it was a brand new guest account, but
    * without requiring the account to be created yet.
    *
+   * <p>The programs come from the {@link ProgramCatalog} of the ACTIVE version, so this usually
+   * doesn't query the database.
+   *
    * @param request - The request object from loading the page
    * @return - CompletionStage of the relevant programs
    */
   public CompletionStage<ApplicationPrograms> relevantProgramsWithoutApplicant(Request request) {
-    CompletionStage<VersionModel> versionFuture = versionRepository.getActiveVersionAsync();
-    return versionFuture.thenApplyAsync(
-        version -> {
-          ImmutableList<ProgramDefinition> activeProgramDefinitions =
-              versionRepository.getProgramsForVersion(version).stream()
-                  .map(p -> programRepository.getShallowProgramDefinition(p))
-                  .filter(pdef -> pdef.displayMode().equals(DisplayMode.PUBLIC))
-                  .collect(ImmutableList.toImmutableList());
-          return relevantProgramsForApplicantInternal(
-              activeProgramDefinitions, ImmutableSet.of(), activeProgramDefinitions, request);
-        },
-        classLoaderExecutionContext.current());
+    return activeProgramCatalog
+        .getAsync()
+        .thenApplyAsync(
+            catalog -> {
+              ImmutableList<ProgramDefinition> activeProgramDefinitions =
+                  catalog.programsWithDisplayMode(DisplayMode.PUBLIC);
+              return relevantProgramsForApplicantInternal(
+                  activeProgramDefinitions,
+                  ImmutableList.of(),
+                  /* applicant= */ Optional.empty(),
+                  activeProgramDefinitions,
+                  request);
+            },
+            classLoaderExecutionContext.current());
   }
 
   /**
@@ -1127,9 +1180,34 @@ public final class ApplicantService {
         : Optional.empty();
   }
 
+  /**
+   * Like {@link #getApplicationEligibilityStatus(ApplicationModel, ProgramDefinition)}, but with
+   * the answers loaded with the application's summary. Empty if the program has no eligibility
+   * conditions or the answers weren't loaded.
+   */
+  private Optional<Boolean> getApplicationEligibilityStatus(
+      ApplicationSummary application,
+      Optional<ApplicantModel> applicant,
+      ProgramDefinition programDefinition) {
+    if (!programDefinition.hasEligibilityEnabled() || application.applicantData().isEmpty()) {
+      return Optional.empty();
+    }
+    ApplicantData applicantData = application.applicantData().get();
+    ReadOnlyApplicantProgramService roAppProgramService =
+        applicant.isPresent()
+            ? new ReadOnlyApplicantProgramService(
+                jsonPathPredicateGeneratorFactory,
+                applicant.get(),
+                applicantData,
+                programDefinition)
+            : getReadOnlyApplicantProgramService(applicantData, programDefinition);
+    return Optional.of(!roAppProgramService.isApplicationNotEligible());
+  }
+
   private ApplicationPrograms relevantProgramsForApplicantInternal(
       ImmutableList<ProgramDefinition> activePrograms,
-      ImmutableSet<ApplicationModel> applications,
+      ImmutableList<ApplicationSummary> applications,
+      Optional<ApplicantModel> applicant,
       ImmutableList<ProgramDefinition> allPrograms,
       Request request) {
     // Use ImmutableMap.copyOf rather than the collector to guard against cases where the
@@ -1145,28 +1223,20 @@ public final class ApplicantService {
     // When new revisions of Programs are created, they have distinct IDs but retain the
     // same adminName. In order to find the most recent draft / active application,
     // we first group by the unique program name rather than the ID.
-    Map<String, Map<LifecycleStage, Optional<ApplicationModel>>> mostRecentApplicationsByProgram =
+    Map<String, Map<LifecycleStage, Optional<ApplicationSummary>>> mostRecentApplicationsByProgram =
         applications.stream()
             .collect(
                 Collectors.groupingBy(
-                    a -> {
-                      return programRepository
-                          .getShallowProgramDefinition(a.getProgram())
-                          .adminName();
-                    },
+                    ApplicationSummary::programName,
                     Collectors.groupingBy(
-                        ApplicationModel::getLifecycleStage,
+                        ApplicationSummary::lifecycleStage,
                         // In practice, we don't expect an applicant to have multiple
                         // DRAFT or ACTIVE applications for a given program. Grabbing the latest
                         // application here guards against that case, should it occur.
                         Collectors.maxBy(
-                            Comparator.<ApplicationModel, Instant>comparing(
-                                    a -> {
-                                      return a.getSubmitTime() != null
-                                          ? a.getSubmitTime()
-                                          : Instant.ofEpochMilli(0);
-                                    })
-                                .thenComparing(ApplicationModel::getCreateTime)))));
+                            Comparator.<ApplicationSummary, Instant>comparing(
+                                    a -> a.submitTime().orElse(Instant.ofEpochMilli(0)))
+                                .thenComparing(ApplicationSummary::createTime)))));
 
     ImmutableList.Builder<ApplicantProgramData> inProgressPrograms = ImmutableList.builder();
     ImmutableList.Builder<ApplicantProgramData> submittedPrograms = ImmutableList.builder();
@@ -1176,26 +1246,27 @@ public final class ApplicantService {
     Set<String> programNamesWithApplications = Sets.newHashSet();
     mostRecentApplicationsByProgram.forEach(
         (programName, appByStage) -> {
-          Optional<ApplicationModel> maybeDraftApp =
+          Optional<ApplicationSummary> maybeDraftApp =
               appByStage.getOrDefault(LifecycleStage.DRAFT, Optional.empty());
-          Optional<ApplicationModel> maybeSubmittedApp =
+          Optional<ApplicationSummary> maybeSubmittedApp =
               appByStage.getOrDefault(LifecycleStage.ACTIVE, Optional.empty());
           Optional<Instant> latestSubmittedApplicationTime =
-              maybeSubmittedApp.map(ApplicationModel::getSubmitTime);
+              maybeSubmittedApp.flatMap(ApplicationSummary::submitTime);
           if (maybeDraftApp.isPresent()) {
-            ApplicationModel draftApp = maybeDraftApp.get();
+            ApplicationSummary draftApp = maybeDraftApp.get();
             ProgramDefinition programDefinition =
                 getProgramDefinitionForDraftApplication(
-                    allPrograms, draftApp.getProgram().id, request);
+                    allPrograms, draftApp.programId(), request);
 
             ApplicantProgramData.Builder applicantProgramDataBuilder =
                 ApplicantProgramData.builder(programDefinition)
-                    .setCurrentApplicationProgramId(draftApp.getProgram().id)
+                    .setCurrentApplicationProgramId(draftApp.programId())
                     .setLatestSubmittedApplicationTime(latestSubmittedApplicationTime)
                     .setLatestApplicationLifecycleStage(Optional.of(LifecycleStage.DRAFT));
 
             applicantProgramDataBuilder.setIsProgramMaybeEligible(
-                getApplicantMayBeEligibleStatus(draftApp.getApplicant(), programDefinition));
+                applicant.flatMap(
+                    present -> getApplicantMayBeEligibleStatus(present, programDefinition)));
 
             if (programDefinition.isCommonIntakeForm()) {
               relevantPrograms.setCommonIntakeForm(applicantProgramDataBuilder.build());
@@ -1204,15 +1275,13 @@ public final class ApplicantService {
             }
             programNamesWithApplications.add(programName);
           } else if (maybeSubmittedApp.isPresent() && activeProgramNames.containsKey(programName)) {
-            ProgramDefinition applicationProgramVersion =
-                programRepository.getShallowProgramDefinition(maybeSubmittedApp.get().getProgram());
+            ApplicationSummary submittedApp = maybeSubmittedApp.get();
 
             // Set the current application status by looking at the active statusDefinitions of the
             // program
             StatusDefinitions activeStatusDefinitions =
-                applicationStatusesRepository.lookupActiveStatusDefinitions(
-                    applicationProgramVersion.adminName());
-            Optional<String> maybeLatestStatus = maybeSubmittedApp.get().getLatestStatus();
+                applicationStatusesRepository.lookupActiveStatusDefinitions(programName);
+            Optional<String> maybeLatestStatus = submittedApp.latestStatus();
             Optional<StatusDefinitions.Status> maybeCurrentStatus =
                 maybeLatestStatus.isPresent()
                     ? activeStatusDefinitions.getStatuses().stream()
@@ -1222,23 +1291,9 @@ public final class ApplicantService {
                         .findFirst()
                     : Optional.empty();
 
+            // The latest status time is of the latest event that applied the latest status.
             Optional<Instant> mostRecentStatusAppliedTime =
-                maybeCurrentStatus.flatMap(
-                    currentStatus ->
-                        maybeSubmittedApp.get().getApplicationEvents().stream()
-                            .filter(
-                                e ->
-                                    e.getEventType()
-                                        .equals(ApplicationEventDetails.Type.STATUS_CHANGE))
-                            .filter(
-                                e ->
-                                    e.getDetails()
-                                        .statusEvent()
-                                        .get()
-                                        .statusText()
-                                        .equals(currentStatus.statusText()))
-                            .map(e -> e.getCreateTime())
-                            .max(Comparator.naturalOrder()));
+                maybeCurrentStatus.flatMap(currentStatus -> submittedApp.latestStatusTime());
 
             // Get the program definition from the all programs list, since that has the
             // associated question data.
@@ -1253,7 +1308,7 @@ public final class ApplicantService {
                     .setLatestApplicationLifecycleStage(Optional.of(LifecycleStage.ACTIVE));
 
             applicantProgramDataBuilder.setIsProgramMaybeEligible(
-                getApplicationEligibilityStatus(maybeSubmittedApp.get(), programDefinition));
+                getApplicationEligibilityStatus(submittedApp, applicant, programDefinition));
             submittedPrograms.add(applicantProgramDataBuilder.build());
             programNamesWithApplications.add(programName);
           }
@@ -1270,10 +1325,9 @@ public final class ApplicantService {
           ProgramDefinition program =
               findProgramWithId(allPrograms, activeProgramNames.get(programName).id());
 
-          if (!mostRecentApplicationsByProgram.isEmpty()) {
-            ApplicantModel applicant = applications.stream().findFirst().get().getApplicant();
+          if (!mostRecentApplicationsByProgram.isEmpty() && applicant.isPresent()) {
             applicantProgramDataBuilder.setIsProgramMaybeEligible(
-                getApplicantMayBeEligibleStatus(applicant, program));
+                getApplicantMayBeEligibleStatus(applicant.get(), program));
           }
 
           if (program.isCommonIntakeForm()) {
@@ -1350,40 +1404,30 @@ public final class ApplicantService {
    * programs for which they had draft applications. We can remove this logging once we determine
    * and resolve the root cause of the duplicate draft applications.
    */
-  private void logDuplicateDrafts(ImmutableSet<ApplicationModel> applications) {
-    Collection<Map<LifecycleStage, List<ApplicationModel>>> groupedByStatus =
+  private void logDuplicateDrafts(ImmutableList<ApplicationSummary> applications) {
+    Collection<Map<LifecycleStage, List<ApplicationSummary>>> groupedByStatus =
         applications.stream()
             .collect(
                 Collectors.groupingBy(
-                    a -> {
-                      return programRepository
-                          .getShallowProgramDefinition(a.getProgram())
-                          .adminName();
-                    },
-                    Collectors.groupingBy(ApplicationModel::getLifecycleStage)))
+                    ApplicationSummary::programName,
+                    Collectors.groupingBy(ApplicationSummary::lifecycleStage)))
             .values();
-    for (Map<LifecycleStage, List<ApplicationModel>> programAppsMap : groupedByStatus) {
-      List<ApplicationModel> draftApplications =
+    for (Map<LifecycleStage, List<ApplicationSummary>> programAppsMap : groupedByStatus) {
+      List<ApplicationSummary> draftApplications =
           programAppsMap.getOrDefault(LifecycleStage.DRAFT, Lists.newArrayList());
       if (draftApplications.size() > 1) {
         String joinedProgramIds =
             String.join(
                 ", ",
                 draftApplications.stream()
-                    .map(
-                        a ->
-                            String.format(
-                                "%d",
-                                programRepository.getShallowProgramDefinition(a.getProgram()).id()))
+                    .map(a -> String.format("%d", a.programId()))
                     .collect(ImmutableList.toImmutableList()));
         logger.debug(
             String.format(
                 "DEBUG LOG ID: 98afa07855eb8e69338b5af13236a6b7. Program"
                     + " Admin Name: %1$s, Duplicate Program Definition"
                     + " ids: %2$s.",
-                programRepository
-                    .getShallowProgramDefinition(draftApplications.get(0).getProgram())
-                    .adminName(),
+                draftApplications.get(0).programName(),
                 joinedProgramIds));
       }
     }
@@ -2,22 +2,24 @@ package services.applicant;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import models.ApplicantModel;
 import services.LocalizedStrings;
 import services.Path;
-import services.applicant.predicate.JsonPathPredicateGenerator;
 import services.applicant.predicate.JsonPathPredicateGeneratorFactory;
-import services.applicant.predicate.PredicateEvaluator;
 import services.applicant.question.ApplicantQuestion;
 import services.applicant.question.FileUploadQuestion;
 import services.program.BlockDefinition;
@@ -46,10 +48,17 @@ public final class ReadOnlyApplicantProgramService {
 
   private final ProgramDefinition programDefinition;
   private final JsonPathPredicateGeneratorFactory jsonPathPredicateGeneratorFactory;
+  private ImmutableList<Block> allBlockList;
   private ImmutableList<Block> allActiveBlockList;
   private ImmutableList<Block> allHiddenBlockList;
   private ImmutableList<Block> currentBlockList;
 
+  /** Whether each block is shown, by block ID, as evaluated so far. */
+  private final Map<String, PredicateResult> visibilityByBlockId = new HashMap<>();
+
+  /** Whether each block's eligibility criteria are met, by block ID, as evaluated so far. */
+  private final Map<String, PredicateResult> eligibilityByBlockId = new HashMap<>();
+
   public ReadOnlyApplicantProgramService(
       JsonPathPredicateGeneratorFactory jsonPathPredicateGeneratorFactory,
       ApplicantModel applicant,
@@ -78,6 +87,48 @@ public final class ReadOnlyApplicantProgramService {
     this.programDefinition = checkNotNull(programDefinition);
   }
 
+  /**
+   * Creates a service for the applicant's data after answers in {@code updatedBlock} were staged.
+   *
+   * <p>Visibility and eligibility already evaluated by {@code previous}, for the data before the
+   * update, are carried forward for blocks whose predicates don't depend on any question in the
+   * updated block, so only the affected blocks are evaluated again.
+   */
+  ReadOnlyApplicantProgramService(
+      ReadOnlyApplicantProgramService previous,
+      ApplicantData applicantData,
+      Block updatedBlock,
+      ImmutableMap<Path, String> failedUpdates) {
+    this(
+        previous.jsonPathPredicateGeneratorFactory,
+        previous.applicant,
+        applicantData,
+        previous.programDefinition,
+        failedUpdates);
+    if (updatedBlock.isEnumerator()) {
+      // Changing the entities changes which repeated blocks there are, and their IDs.
+      return;
+    }
+    ImmutableSet<Long> updatedQuestionIds =
+        updatedBlock.getQuestions().stream()
+            .map(question -> question.getQuestionDefinition().getId())
+            .collect(toImmutableSet());
+    carryForward(previous.visibilityByBlockId, visibilityByBlockId, updatedQuestionIds);
+    carryForward(previous.eligibilityByBlockId, eligibilityByBlockId, updatedQuestionIds);
+  }
+
+  private static void carryForward(
+      Map<String, PredicateResult> previousResults,
+      Map<String, PredicateResult> results,
+      ImmutableSet<Long> updatedQuestionIds) {
+    previousResults.forEach(
+        (blockId, result) -> {
+          if (result.questionIds().stream().noneMatch(updatedQuestionIds::contains)) {
+            results.put(blockId, result);
+          }
+        });
+  }
+
   /** Returns the applicant model for this application. */
   public ApplicantModel getApplicant() {
     return applicant;
@@ -183,7 +234,14 @@ public final class ReadOnlyApplicantProgramService {
     if (predicate.isEmpty()) {
       return true;
     }
-    return evaluatePredicate(block, predicate.get());
+    return eligibilityByBlockId
+        .computeIfAbsent(
+            block.getId(),
+            blockId ->
+                new PredicateResult(
+                    evaluatePredicate(block, predicate.get()),
+                    ImmutableSet.copyOf(predicate.get().getQuestions())))
+        .value();
   }
 
   /**
@@ -192,7 +250,7 @@ public final class ReadOnlyApplicantProgramService {
    * @return A stream of the questions in the program.
    */
   public Stream<ApplicantQuestion> getAllQuestions() {
-    return getBlocks((block) -> true).stream().flatMap((block) -> block.getQuestions().stream());
+    return getAllBlocks().stream().flatMap((block) -> block.getQuestions().stream());
   }
 
   /**
@@ -398,7 +456,7 @@ public final class ReadOnlyApplicantProgramService {
    */
   public ImmutableList<AnswerData> getSummaryDataAllQuestions() {
     ImmutableList.Builder<AnswerData> builder = new ImmutableList.Builder<>();
-    ImmutableList<Block> blocks = getBlocks((block) -> true);
+    ImmutableList<Block> blocks = getAllBlocks();
     addDataToBuilder(blocks, builder, /* showAnswerText */ true);
     return builder.build();
   }
@@ -513,18 +571,28 @@ public final class ReadOnlyApplicantProgramService {
   }
 
   /**
-   * Gets {@link Block}s for this program and applicant. If {@code onlyIncludeInProgressBlocks} is
-   * true, then only the current blocks will be included in the list. A block is "in progress" if it
-   * has yet to be filled out by the applicant, or if it was filled out in the context of this
-   * program.
+   * Gets the {@link Block}s for this program and applicant for which {@code includeBlockIfTrue} is
+   * true, in order.
    */
   private ImmutableList<Block> getBlocks(Predicate<Block> includeBlockIfTrue) {
-    String emptyBlockIdSuffix = "";
-    return getBlocks(
-        programDefinition.getNonRepeatedBlockDefinitions(),
-        emptyBlockIdSuffix,
-        Optional.empty(),
-        includeBlockIfTrue);
+    return getAllBlocks().stream().filter(includeBlockIfTrue).collect(toImmutableList());
+  }
+
+  /**
+   * Gets all the {@link Block}s for this program and applicant, including the repeated blocks for
+   * each entity and blocks that are hidden. They're built once, and the other block lists are
+   * filtered from them.
+   */
+  private ImmutableList<Block> getAllBlocks() {
+    if (allBlockList == null) {
+      String emptyBlockIdSuffix = "";
+      allBlockList =
+          getBlocks(
+              programDefinition.getNonRepeatedBlockDefinitions(),
+              emptyBlockIdSuffix,
+              Optional.empty());
+    }
+    return allBlockList;
   }
 
   /**
@@ -541,16 +609,15 @@ public final class ReadOnlyApplicantProgramService {
             .contains(question.getQuestionDefinition().getId());
   }
 
-  /** Recursive helper method for {@link ReadOnlyApplicantProgramService#getBlocks(Predicate)}. */
+  /** Recursive helper method for {@link ReadOnlyApplicantProgramService#getAllBlocks()}. */
   private ImmutableList<Block> getBlocks(
       ImmutableList<BlockDefinition> blockDefinitions,
       String blockIdSuffix,
-      Optional<RepeatedEntity> maybeRepeatedEntity,
-      Predicate<Block> includeBlockIfTrue) {
+      Optional<RepeatedEntity> maybeRepeatedEntity) {
     ImmutableList.Builder<Block> blockListBuilder = ImmutableList.builder();
 
     for (BlockDefinition blockDefinition : blockDefinitions) {
-      // Create and maybe include the block for this block definition.
+      // Create the block for this block definition.
       Block block =
           new Block(
               blockDefinition.id() + blockIdSuffix,
@@ -558,9 +625,7 @@ public final class ReadOnlyApplicantProgramService {
               applicant,
               applicantData,
               maybeRepeatedEntity);
-      if (includeBlockIfTrue.test(block)) {
-        blockListBuilder.add(block);
-      }
+      blockListBuilder.add(block);
 
       // For an enumeration block definition, build blocks for its repeated questions
       if (blockDefinition.isEnumerator()) {
@@ -590,8 +655,7 @@ public final class ReadOnlyApplicantProgramService {
               getBlocks(
                   repeatedBlockDefinitions,
                   nextBlockIdSuffix,
-                  Optional.of(repeatedEntities.get(i)),
-                  includeBlockIfTrue));
+                  Optional.of(repeatedEntities.get(i))));
         }
       }
     }
@@ -600,6 +664,25 @@ public final class ReadOnlyApplicantProgramService {
   }
 
   private boolean showBlock(Block block) {
+    return visibilityByBlockId
+        .computeIfAbsent(
+            block.getId(),
+            blockId ->
+                new PredicateResult(evaluateShowBlock(block), getVisibilityQuestionIds(block)))
+        .value();
+  }
+
+  /** Returns the IDs of the questions that the block's visibility depends on. */
+  private static ImmutableSet<Long> getVisibilityQuestionIds(Block block) {
+    return Stream.concat(
+            block.getRepeatedEntity().stream()
+                .flatMap(repeatedEntity -> repeatedEntity.nestedVisibility().stream()),
+            block.getVisibilityPredicate().stream())
+        .flatMap(predicate -> predicate.getQuestions().stream())
+        .collect(toImmutableSet());
+  }
+
+  private boolean evaluateShowBlock(Block block) {
     if (block.getRepeatedEntity().isPresent()) {
       // In repeated blocks, test if this block's parents are visible.
       ImmutableList<PredicateDefinition> nestedVisibility =
@@ -630,12 +713,15 @@ public final class ReadOnlyApplicantProgramService {
     }
   }
 
+  /**
+   * The result of evaluating a block's predicates, and the IDs of the questions they depend on, so
+   * that it can be carried forward when other questions are answered.
+   */
+  private record PredicateResult(boolean value, ImmutableSet<Long> questionIds) {}
+
   private boolean evaluatePredicate(Block block, PredicateDefinition predicate) {
-    JsonPathPredicateGenerator predicateGenerator =
-        jsonPathPredicateGeneratorFactory.create(
-            this.programDefinition.streamQuestionDefinitions().collect(toImmutableList()),
-            block.getRepeatedEntity());
-    return new PredicateEvaluator(this.applicantData, predicateGenerator)
-        .evaluate(predicate.rootNode());
+    return jsonPathPredicateGeneratorFactory
+        .compile(this.programDefinition)
+        .evaluate(predicate.rootNode(), this.applicantData, block.getRepeatedEntity());
   }
 }
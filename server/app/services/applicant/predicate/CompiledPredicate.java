@@ -0,0 +1,473 @@
+package services.applicant.predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import services.DateConverter;
+import services.Path;
+import services.applicant.ApplicantData;
+import services.applicant.RepeatedEntity;
+import services.program.predicate.LeafOperationExpressionNode;
+import services.program.predicate.PredicateExpressionNode;
+import services.question.types.QuestionDefinition;
+
+/**
+ * A predicate expression tree compiled once for a program, so that it can be evaluated for many
+ * applicants and screens without generating and parsing a JsonPath query for every leaf node.
+ *
+ * <p>Leaf nodes read the applicant's answer straight from {@link ApplicantData} and compare it with
+ * values parsed when the predicate was compiled, following JsonPath's comparison rules exactly.
+ * Where those rules aren't simple, for example for service area conditions, answers that aren't a
+ * string or number, or compared values that aren't plain literals, the leaf node is evaluated by
+ * {@link PredicateEvaluator} as before.
+ */
+final class CompiledPredicate {
+
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("-?\\d+(\\.\\d+)?");
+
+  /** Characters that JsonPath could read as part of the query rather than the string. */
+  private static final Pattern QUERY_CHARACTERS = Pattern.compile("[\"'\\\\()\\[\\]]");
+
+  private final Node root;
+
+  private CompiledPredicate(Node root) {
+    this.root = root;
+  }
+
+  /** Compiles the tree rooted at the given node, for a program with the given questions. */
+  static CompiledPredicate compile(
+      PredicateExpressionNode node, ImmutableMap<Long, QuestionDefinition> questionsById) {
+    return new CompiledPredicate(compileNode(node, questionsById));
+  }
+
+  /** Returns the same result as {@link PredicateEvaluator#evaluate} for the evaluation's data. */
+  boolean evaluate(Evaluation evaluation) {
+    return root.evaluate(evaluation);
+  }
+
+  /** The applicant data and screen that a predicate is evaluated for. */
+  static final class Evaluation {
+    private final ApplicantData applicantData;
+    private final Optional<RepeatedEntity> currentRepeatedContext;
+    private final DateConverter dateConverter;
+    private final Supplier<PredicateEvaluator> fallbackEvaluator;
+
+    /**
+     * @param fallbackEvaluator creates the evaluator for leaf nodes that aren't compiled. It's only
+     *     called if there are any.
+     */
+    Evaluation(
+        ApplicantData applicantData,
+        Optional<RepeatedEntity> currentRepeatedContext,
+        DateConverter dateConverter,
+        Supplier<PredicateEvaluator> fallbackEvaluator) {
+      this.applicantData = checkNotNull(applicantData);
+      this.currentRepeatedContext = checkNotNull(currentRepeatedContext);
+      this.dateConverter = checkNotNull(dateConverter);
+      this.fallbackEvaluator = Suppliers.memoize(fallbackEvaluator::get);
+    }
+
+    private boolean fallBack(PredicateExpressionNode node) {
+      return fallbackEvaluator.get().evaluate(node);
+    }
+  }
+
+  private interface Node {
+    boolean evaluate(Evaluation evaluation);
+  }
+
+  /**
+   * Compares an answer, which is a non-null string, number, boolean, map, or list, with the
+   * compiled value. Returns {@link Optional#empty} if the answer must be compared by JsonPath.
+   */
+  private interface Comparison {
+    Optional<Boolean> compare(Object answer, DateConverter dateConverter);
+  }
+
+  private static Node compileNode(
+      PredicateExpressionNode node, ImmutableMap<Long, QuestionDefinition> questionsById) {
+    switch (node.getType()) {
+      case LEAF_OPERATION:
+        return compileLeafNode(node, questionsById);
+      case AND:
+        ImmutableList<Node> andChildren =
+            node.getAndNode().children().stream()
+                .map(child -> compileNode(child, questionsById))
+                .collect(toImmutableList());
+        return evaluation -> {
+          for (Node child : andChildren) {
+            if (!child.evaluate(evaluation)) {
+              return false;
+            }
+          }
+          return true;
+        };
+      case OR:
+        ImmutableList<Node> orChildren =
+            node.getOrNode().children().stream()
+                .map(child -> compileNode(child, questionsById))
+                .collect(toImmutableList());
+        return evaluation -> {
+          for (Node child : orChildren) {
+            if (child.evaluate(evaluation)) {
+              return true;
+            }
+          }
+          return false;
+        };
+      default:
+        // Service area conditions are rare and hold a list of results per area, so they're left to
+        // JsonPath.
+        return evaluation -> evaluation.fallBack(node);
+    }
+  }
+
+  private static Node compileLeafNode(
+      PredicateExpressionNode node, ImmutableMap<Long, QuestionDefinition> questionsById) {
+    LeafOperationExpressionNode leafNode = node.getLeafOperationNode();
+    QuestionDefinition question = questionsById.get(leafNode.questionId());
+    Optional<Comparison> comparison = compileComparison(leafNode);
+    if (question == null || comparison.isEmpty()) {
+      // A question that isn't in the program is logged and evaluates to false as before.
+      return evaluation -> evaluation.fallBack(node);
+    }
+    return new LeafNode(
+        node, question, leafNode.scalar().name().toLowerCase(Locale.ROOT), comparison.get());
+  }
+
+  /** A leaf node that compares the answer to a question with a value. */
+  private static final class LeafNode implements Node {
+    private final PredicateExpressionNode node;
+    private final QuestionDefinition question;
+    private final String scalarName;
+    private final Comparison comparison;
+
+    /** The path to the question's answer, if it isn't repeated. */
+    private final Optional<Path> topLevelPath;
+
+    LeafNode(
+        PredicateExpressionNode node,
+        QuestionDefinition question,
+        String scalarName,
+        Comparison comparison) {
+      this.node = node;
+      this.question = question;
+      this.scalarName = scalarName;
+      this.comparison = comparison;
+      this.topLevelPath =
+          question.getEnumeratorId().isEmpty()
+              ? Optional.of(questionPath(question, Optional.empty()))
+              : Optional.empty();
+    }
+
+    @Override
+    public boolean evaluate(Evaluation evaluation) {
+      Optional<Path> path = topLevelPath.or(() -> repeatedQuestionPath(evaluation));
+      if (path.isEmpty()) {
+        // The question's enumerator isn't an ancestor of this screen, which is logged as before.
+        return evaluation.fallBack(node);
+      }
+
+      Optional<Object> answers = evaluation.applicantData.readRawValue(path.get());
+      if (answers.isEmpty()) {
+        // An unanswered question never matches, but a null answer is left to JsonPath.
+        return evaluation.applicantData.hasPath(path.get()) && evaluation.fallBack(node);
+      }
+      Object answer =
+          answers.get() instanceof Map ? ((Map<?, ?>) answers.get()).get(scalarName) : null;
+      if (answer == null) {
+        return evaluation.fallBack(node);
+      }
+      return comparison
+          .compare(answer, evaluation.dateConverter)
+          .orElseGet(() -> evaluation.fallBack(node));
+    }
+
+    /**
+     * Returns the path to the question's answer in the repeated context the question belongs to,
+     * which is the current screen's context or one of its ancestors.
+     */
+    private Optional<Path> repeatedQuestionPath(Evaluation evaluation) {
+      long enumeratorId = question.getEnumeratorId().get();
+      Optional<RepeatedEntity> context = evaluation.currentRepeatedContext;
+      while (context.isPresent()
+          && context.get().enumeratorQuestionDefinition().getId() != enumeratorId) {
+        context = context.get().parent();
+      }
+      return context.map(repeatedEntity -> questionPath(question, Optional.of(repeatedEntity)));
+    }
+
+    private static Path questionPath(
+        QuestionDefinition question, Optional<RepeatedEntity> repeatedContext) {
+      Path path = question.getContextualizedPath(repeatedContext, ApplicantData.APPLICANT_PATH);
+      if (path.isArrayElement() && question.isEnumerator()) {
+        // As in JsonPathPredicateGenerator, the predicate applies to the enumerator's entities.
+        path = path.withoutArrayReference();
+      }
+      return path;
+    }
+  }
+
+  /**
+   * Compiles the comparison of a leaf node, or returns {@link Optional#empty} if the node's value
+   * isn't one that can be compared without JsonPath.
+   */
+  private static Optional<Comparison> compileComparison(LeafOperationExpressionNode node) {
+    String value = node.comparedValue().value();
+    switch (node.operator()) {
+      case EQUAL_TO:
+        return parseLiteral(value).map(CompiledPredicate::equalTo);
+      case NOT_EQUAL_TO:
+        return parseLiteral(value).map(literal -> not(equalTo(literal)));
+      case GREATER_THAN:
+      case IS_AFTER:
+        return parseNumber(value).map(number -> compareAnswerTo(number, result -> result > 0));
+      case GREATER_THAN_OR_EQUAL_TO:
+      case IS_ON_OR_AFTER:
+        return parseNumber(value).map(number -> compareAnswerTo(number, result -> result >= 0));
+      case LESS_THAN:
+      case IS_BEFORE:
+        return parseNumber(value).map(number -> compareAnswerTo(number, result -> result < 0));
+      case LESS_THAN_OR_EQUAL_TO:
+      case IS_ON_OR_BEFORE:
+        return parseNumber(value).map(number -> compareAnswerTo(number, result -> result <= 0));
+      case IN:
+        return parseList(value).map(CompiledPredicate::in);
+      case NOT_IN:
+        return parseList(value).map(literals -> not(in(literals)));
+      case ANY_OF:
+        return parseList(value).map(CompiledPredicate::anyOf);
+      case NONE_OF:
+        return parseList(value).map(literals -> not(anyOf(literals)));
+      case SUBSET_OF:
+        return parseList(value).map(CompiledPredicate::subsetOf);
+      case BETWEEN:
+        return parseLongPair(value).map(CompiledPredicate::between);
+      case AGE_OLDER_THAN:
+        // Matches "timestamp >= @.date", where the timestamp is the date of birth for that age.
+        return parseDouble(value).map(age -> compareToAge(age, result -> result >= 0));
+      case AGE_YOUNGER_THAN:
+        // Matches "timestamp < @.date".
+        return parseDouble(value).map(age -> compareToAge(age, result -> result < 0));
+      case AGE_BETWEEN:
+        return parseLongPair(value).map(CompiledPredicate::ageBetween);
+      default:
+        return Optional.empty();
+    }
+  }
+
+  private static Comparison not(Comparison comparison) {
+    return (answer, dateConverter) ->
+        comparison.compare(answer, dateConverter).map(result -> !result);
+  }
+
+  private static Comparison equalTo(Object literal) {
+    return (answer, dateConverter) ->
+        scalarValue(answer).map(value -> jsonPathEquals(value, literal));
+  }
+
+  /** Compares the answer with the number, if the answer is a number too. */
+  private static Comparison compareAnswerTo(BigDecimal number, IntPredicate matches) {
+    return (answer, dateConverter) ->
+        numberValue(answer).map(value -> matches.test(value.compareTo(number)));
+  }
+
+  private static Comparison in(ImmutableList<Object> literals) {
+    return (answer, dateConverter) ->
+        scalarValue(answer).map(value -> containsEqual(literals, value));
+  }
+
+  private static Comparison anyOf(ImmutableList<Object> literals) {
+    return (answer, dateConverter) ->
+        listValue(answer)
+            .map(values -> values.stream().anyMatch(value -> containsEqual(literals, value)));
+  }
+
+  private static Comparison subsetOf(ImmutableList<Object> literals) {
+    return (answer, dateConverter) ->
+        listValue(answer)
+            .map(values -> values.stream().allMatch(value -> containsEqual(literals, value)));
+  }
+
+  /** Matches "low <= @.value && @.value <= high". */
+  private static Comparison between(ImmutableList<Long> bounds) {
+    BigDecimal low = BigDecimal.valueOf(bounds.get(0));
+    BigDecimal high = BigDecimal.valueOf(bounds.get(1));
+    return (answer, dateConverter) ->
+        numberValue(answer).map(value -> low.compareTo(value) <= 0 && value.compareTo(high) <= 0);
+  }
+
+  /**
+   * Compares the timestamp for the age with the answer, which is a date. The timestamp depends on
+   * the current date, so it's computed for each evaluation.
+   */
+  private static Comparison compareToAge(Double age, IntPredicate matches) {
+    return (answer, dateConverter) ->
+        numberValue(answer)
+            .map(
+                value ->
+                    matches.test(
+                        BigDecimal.valueOf(dateConverter.getDateTimestampFromAge(age))
+                            .compareTo(value)));
+  }
+
+  /** Matches "youngestTimestamp >= @.date && oldestTimestamp <= @.date". */
+  private static Comparison ageBetween(ImmutableList<Long> ageRange) {
+    return (answer, dateConverter) ->
+        numberValue(answer)
+            .map(
+                value -> {
+                  BigDecimal youngest =
+                      BigDecimal.valueOf(dateConverter.getDateTimestampFromAge(ageRange.get(0)));
+                  BigDecimal oldest =
+                      BigDecimal.valueOf(dateConverter.getDateTimestampFromAge(ageRange.get(1)));
+                  return youngest.compareTo(value) >= 0 && oldest.compareTo(value) <= 0;
+                });
+  }
+
+  private static boolean containsEqual(ImmutableList<Object> literals, Object value) {
+    for (Object literal : literals) {
+      if (jsonPathEquals(value, literal)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether JsonPath considers an answer equal to a compared value, each of which is a
+   * {@link String} or {@link BigDecimal}. A number equals a string that parses to the same number,
+   * while a string equals a number only if it's the number's decimal string.
+   */
+  private static boolean jsonPathEquals(Object answer, Object literal) {
+    if (answer instanceof BigDecimal) {
+      Optional<BigDecimal> number =
+          literal instanceof BigDecimal
+              ? Optional.of((BigDecimal) literal)
+              : parseDecimal((String) literal);
+      return number.isPresent() && ((BigDecimal) answer).compareTo(number.get()) == 0;
+    }
+    return answer.equals(literal.toString());
+  }
+
+  /**
+   * Returns the answer as JsonPath compares it: a string as is, or a number as a {@link
+   * BigDecimal}. Returns {@link Optional#empty} for any other answer.
+   */
+  private static Optional<Object> scalarValue(Object answer) {
+    if (answer instanceof String) {
+      return Optional.of(answer);
+    }
+    return numberValue(answer).map(number -> number);
+  }
+
+  private static Optional<BigDecimal> numberValue(Object answer) {
+    if (answer instanceof Number) {
+      return Optional.of(new BigDecimal(answer.toString()));
+    }
+    return Optional.empty();
+  }
+
+  /** Returns the values of an answer that's a list of strings and numbers. */
+  private static Optional<ImmutableList<Object>> listValue(Object answer) {
+    if (!(answer instanceof List)) {
+      return Optional.empty();
+    }
+    ImmutableList.Builder<Object> values = ImmutableList.builder();
+    for (Object element : (List<?>) answer) {
+      Optional<Object> value = element == null ? Optional.empty() : scalarValue(element);
+      if (value.isEmpty()) {
+        return Optional.empty();
+      }
+      values.add(value.get());
+    }
+    return Optional.of(values.build());
+  }
+
+  /**
+   * Parses a value formatted by {@link services.program.predicate.PredicateValue} as a {@link
+   * String} or {@link BigDecimal}. Returns {@link Optional#empty} if it's neither a plain quoted
+   * string nor a plain number.
+   */
+  private static Optional<Object> parseLiteral(String literal) {
+    if (literal.length() >= 2 && literal.startsWith("\"") && literal.endsWith("\"")) {
+      String string = literal.substring(1, literal.length() - 1);
+      return QUERY_CHARACTERS.matcher(string).find() ? Optional.empty() : Optional.of(string);
+    }
+    return parseNumber(literal).map(number -> number);
+  }
+
+  private static Optional<BigDecimal> parseNumber(String literal) {
+    return NUMBER_LITERAL.matcher(literal).matches()
+        ? Optional.of(new BigDecimal(literal))
+        : Optional.empty();
+  }
+
+  /** Parses a list such as {@code ["a", "b"]} or {@code [1, 2]} of plain literals. */
+  private static Optional<ImmutableList<Object>> parseList(String list) {
+    if (list.length() < 2 || !list.startsWith("[") || !list.endsWith("]")) {
+      return Optional.empty();
+    }
+    String elements = list.substring(1, list.length() - 1).trim();
+    if (elements.isEmpty()) {
+      return Optional.of(ImmutableList.of());
+    }
+    ImmutableList.Builder<Object> literals = ImmutableList.builder();
+    for (String element : Splitter.on(',').trimResults().split(elements)) {
+      Optional<Object> literal = parseLiteral(element);
+      if (literal.isEmpty()) {
+        return Optional.empty();
+      }
+      literals.add(literal.get());
+    }
+    return Optional.of(literals.build());
+  }
+
+  /**
+   * Parses a pair such as {@code [18, 30]}, sorted as {@link JsonPathPredicateGenerator} sorts it.
+   */
+  private static Optional<ImmutableList<Long>> parseLongPair(String pair) {
+    if (pair.length() < 2) {
+      return Optional.empty();
+    }
+    try {
+      ImmutableList<Long> values =
+          Splitter.on(", ")
+              .splitToStream(pair.substring(1, pair.length() - 1))
+              .map(Long::parseLong)
+              .sorted()
+              .collect(toImmutableList());
+      return values.size() == 2 ? Optional.of(values) : Optional.empty();
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static Optional<Double> parseDouble(String value) {
+    try {
+      return Optional.of(Double.parseDouble(value));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static Optional<BigDecimal> parseDecimal(String value) {
+    try {
+      return Optional.of(new BigDecimal(value));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+}
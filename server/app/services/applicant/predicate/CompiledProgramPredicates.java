@@ -0,0 +1,59 @@
+package services.applicant.predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import services.DateConverter;
+import services.applicant.ApplicantData;
+import services.applicant.RepeatedEntity;
+import services.program.ProgramDefinition;
+import services.program.predicate.PredicateExpressionNode;
+import services.question.types.QuestionDefinition;
+
+/**
+ * Evaluates the visibility and eligibility predicates of one program, compiling each the first time
+ * it's evaluated. Get one from {@link JsonPathPredicateGeneratorFactory#compile}, which keeps it
+ * for as long as the {@link ProgramDefinition} is in use.
+ */
+public final class CompiledProgramPredicates {
+
+  private final DateConverter dateConverter;
+  private final ImmutableMap<Long, QuestionDefinition> questionsById;
+  private final ConcurrentHashMap<PredicateExpressionNode, CompiledPredicate> compiledPredicates =
+      new ConcurrentHashMap<>();
+
+  CompiledProgramPredicates(DateConverter dateConverter, ProgramDefinition programDefinition) {
+    this.dateConverter = checkNotNull(dateConverter);
+    this.questionsById =
+        programDefinition
+            .streamQuestionDefinitions()
+            .collect(toImmutableMap(QuestionDefinition::getId, q -> q));
+  }
+
+  /**
+   * Evaluates the expression tree rooted at the given {@link PredicateExpressionNode} for the
+   * applicant, on a screen with the given repeated context. Returns the same result as {@link
+   * PredicateEvaluator#evaluate}.
+   */
+  public boolean evaluate(
+      PredicateExpressionNode node,
+      ApplicantData applicantData,
+      Optional<RepeatedEntity> currentRepeatedContext) {
+    CompiledPredicate predicate =
+        compiledPredicates.computeIfAbsent(
+            node, root -> CompiledPredicate.compile(root, questionsById));
+    return predicate.evaluate(
+        new CompiledPredicate.Evaluation(
+            applicantData,
+            currentRepeatedContext,
+            dateConverter,
+            () ->
+                new PredicateEvaluator(
+                    applicantData,
+                    new JsonPathPredicateGenerator(
+                        dateConverter, questionsById, currentRepeatedContext))));
+  }
+}
@@ -41,10 +41,20 @@ public final class JsonPathPredicateGenerator {
       DateConverter dateConverter,
       ImmutableList<QuestionDefinition> programQuestions,
       Optional<RepeatedEntity> currentRepeatedContext) {
-    this.dateConverter = checkNotNull(dateConverter);
-    this.questionsById =
+    this(
+        dateConverter,
         checkNotNull(programQuestions).stream()
-            .collect(toImmutableMap(QuestionDefinition::getId, q -> q));
+            .collect(toImmutableMap(QuestionDefinition::getId, q -> q)),
+        currentRepeatedContext);
+  }
+
+  /** Creates a generator from the program's questions already indexed by ID. */
+  JsonPathPredicateGenerator(
+      DateConverter dateConverter,
+      ImmutableMap<Long, QuestionDefinition> questionsById,
+      Optional<RepeatedEntity> currentRepeatedContext) {
+    this.dateConverter = checkNotNull(dateConverter);
+    this.questionsById = checkNotNull(questionsById);
     this.currentRepeatedContext = checkNotNull(currentRepeatedContext);
   }
 
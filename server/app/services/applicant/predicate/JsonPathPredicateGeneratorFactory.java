@@ -2,18 +2,33 @@ package services.applicant.predicate;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import java.util.Optional;
 import javax.inject.Inject;
+import javax.inject.Singleton;
 import services.DateConverter;
 import services.applicant.RepeatedEntity;
+import services.program.ProgramDefinition;
 import services.question.types.QuestionDefinition;
 
-/** Creates instances of {@link JsonPathPredicateGenerator}. */
+/**
+ * Creates instances of {@link JsonPathPredicateGenerator}, and the {@link
+ * CompiledProgramPredicates} of programs.
+ */
+@Singleton
 public final class JsonPathPredicateGeneratorFactory {
 
   private final DateConverter dateConverter;
 
+  /**
+   * Compiled predicates by program definition. Keys are weak, and so compared by identity, so that
+   * an entry lasts as long as the program definition is loaded, for example in the program cache.
+   */
+  private final Cache<ProgramDefinition, CompiledProgramPredicates> compiledPrograms =
+      CacheBuilder.newBuilder().weakKeys().build();
+
   @Inject
   public JsonPathPredicateGeneratorFactory(DateConverter dateConverter) {
     this.dateConverter = checkNotNull(dateConverter);
@@ -25,4 +40,16 @@ public final class JsonPathPredicateGeneratorFactory {
     return new JsonPathPredicateGenerator(
         dateConverter, checkNotNull(programQuestions), checkNotNull(currentRepeatedContext));
   }
+
+  /**
+   * Returns the predicates of the program, which are compiled once for each {@link
+   * ProgramDefinition}. A program definition never changes, so neither do its compiled predicates.
+   */
+  public CompiledProgramPredicates compile(ProgramDefinition programDefinition) {
+    return compiledPrograms
+        .asMap()
+        .computeIfAbsent(
+            checkNotNull(programDefinition),
+            program -> new CompiledProgramPredicates(dateConverter, program));
+  }
 }
@@ -4,7 +4,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.typesafe.config.Config;
 import java.util.List;
@@ -40,6 +42,9 @@ import services.statuses.StatusNotFoundException;
 /** The service responsible for mediating a program admin's access to the Application resource. */
 public final class ProgramAdminApplicationService {
 
+  // The number of applications loaded at once to send status emails.
+  private static final int EMAIL_CHUNK_SIZE = 1000;
+
   private final ApplicantService applicantService;
   private final ApplicationEventRepository eventRepository;
   private final AccountRepository accountRepository;
@@ -342,25 +347,46 @@ public final class ProgramAdminApplicationService {
       throw new StatusNotFoundException(newStatusText, programDef.id());
     }
     Status statusDef = statusDefMaybe.get();
-    ImmutableList<ApplicationModel> applications = getApplications(applicationIds, programDef);
+    if (sendEmail && statusDef.localizedEmailBodyText().isEmpty()) {
+      throw new StatusEmailNotFoundException(newStatusText, programDef.id());
+    }
+    if (!allApplicationsInProgram(applicationIds, programDef)) {
+      return;
+    }
 
-    // Send email if requested and present.
+    // Send email if requested and present. Only then are the applications loaded, a chunk at a
+    // time.
     if (sendEmail) {
-      sendEmail(applications, statusDef, newStatusText, programDef);
+      for (List<Long> chunk : Lists.partition(applicationIds, EMAIL_CHUNK_SIZE)) {
+        sendEmail(
+            applicationRepository.getApplications(ImmutableList.copyOf(chunk)),
+            statusDef,
+            programDef);
+      }
     }
-    eventRepository.insertStatusEvents(applications, Optional.of(admin), newStatusEvent);
+    eventRepository.insertStatusEvents(applicationIds, Optional.of(admin), newStatusEvent);
   }
 
-  private void sendEmail(
-      List<ApplicationModel> applicationList,
-      Status statusDef,
-      String newStatusText,
-      ProgramDefinition programDef)
-      throws StatusEmailNotFoundException {
-
-    if (statusDef.localizedEmailBodyText().isEmpty()) {
-      throw new StatusEmailNotFoundException(newStatusText, programDef.id());
+  /**
+   * Returns whether all the applications belong to the program, throwing {@link
+   * ApplicationNotFoundException} if one doesn't exist. Only the applications' program names are
+   * loaded.
+   */
+  private boolean allApplicationsInProgram(
+      ImmutableList<Long> applicationIds, ProgramDefinition program) {
+    ImmutableMap<Long, String> programAdminNames =
+        applicationRepository.getProgramAdminNames(applicationIds);
+    for (Long applicationId : applicationIds) {
+      if (!programAdminNames.containsKey(applicationId)) {
+        throw new ApplicationNotFoundException(applicationId);
+      }
     }
+    return programAdminNames.values().stream()
+        .allMatch(adminName -> !adminName.isEmpty() && adminName.equals(program.adminName()));
+  }
+
+  private void sendEmail(
+      List<ApplicationModel> applicationList, Status statusDef, ProgramDefinition programDef) {
     for (ApplicationModel application : applicationList) {
       ApplicantModel applicant = application.getApplicant();
 
@@ -0,0 +1,32 @@
+package services.cache;
+
+import com.google.auto.value.AutoValue;
+import java.util.Optional;
+
+/**
+ * A request to remove entries from a named cache, as recorded in the {@code cache_invalidations}
+ * table.
+ */
+@AutoValue
+public abstract class CacheInvalidation {
+
+  public static CacheInvalidation create(
+      long id, long transactionId, String cacheName, Optional<String> cacheKey) {
+    return new AutoValue_CacheInvalidation(id, transactionId, cacheName, cacheKey);
+  }
+
+  /**
+   * The id of the row. Ids are assigned when rows are inserted rather than when they are committed,
+   * so a row may become visible after rows with a greater id.
+   */
+  public abstract long id();
+
+  /** The id of the transaction that recorded the invalidation. */
+  public abstract long transactionId();
+
+  /** The name of the cache, as used with {@link play.cache.NamedCache}. */
+  public abstract String cacheName();
+
+  /** The key to remove, or empty if every entry in the cache should be removed. */
+  public abstract Optional<String> cacheKey();
+}
@@ -0,0 +1,29 @@
+package services.cache;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/** The ways cache invalidations can be shared between servers. */
+public enum CacheInvalidationBackend {
+  /** Invalidations are only applied on the server that makes the change. */
+  LOCAL("local"),
+  /** Invalidations are recorded in the database and applied by every server. */
+  POSTGRES("postgres");
+
+  private final String backendName;
+
+  CacheInvalidationBackend(String backendName) {
+    this.backendName = backendName;
+  }
+
+  public String getString() {
+    return backendName;
+  }
+
+  /** Returns the backend with the given name, if there is one. */
+  public static Optional<CacheInvalidationBackend> forString(String backendName) {
+    return Arrays.stream(CacheInvalidationBackend.values())
+        .filter(backend -> backend.getString().equals(backendName))
+        .findFirst();
+  }
+}
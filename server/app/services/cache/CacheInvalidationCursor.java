@@ -0,0 +1,25 @@
+package services.cache;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * The position of a server in the {@code cache_invalidations} table, as the Postgres snapshot the
+ * server last read it with. The invalidations left to read are those recorded by transactions that
+ * weren't finished in that snapshot: ones with an id of at least {@link #maxTransactionId}, and
+ * ones in {@link #runningTransactionIds}.
+ */
+@AutoValue
+public abstract class CacheInvalidationCursor {
+
+  public static CacheInvalidationCursor create(
+      long maxTransactionId, ImmutableSet<Long> runningTransactionIds) {
+    return new AutoValue_CacheInvalidationCursor(maxTransactionId, runningTransactionIds);
+  }
+
+  /** The first transaction id that hadn't been assigned yet when the snapshot was taken. */
+  public abstract long maxTransactionId();
+
+  /** The ids of the transactions below {@link #maxTransactionId} that were still running. */
+  public abstract ImmutableSet<Long> runningTransactionIds();
+}
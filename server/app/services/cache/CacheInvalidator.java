@@ -0,0 +1,18 @@
+package services.cache;
+
+/**
+ * Invalidates entries of the named caches. Depending on the configured {@link
+ * CacheInvalidationBackend}, the invalidation is applied either only on this server or on every
+ * server.
+ *
+ * <p>Code that changes data held in a named cache should invalidate it through this interface
+ * rather than the cache directly, so that other servers don't keep serving the stale data.
+ */
+public interface CacheInvalidator {
+
+  /** Removes every entry from the named cache. */
+  void invalidateAll(String cacheName);
+
+  /** Removes the key from the named cache. */
+  void invalidate(String cacheName, String cacheKey);
+}
@@ -0,0 +1,146 @@
+package services.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import models.ProgramModel;
+import models.VersionModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import repository.ProgramRepository;
+import repository.QuestionRepository;
+import repository.VersionRepository;
+import services.program.ActiveProgramCatalog;
+import services.program.ProgramService;
+import services.settings.SettingsManifest;
+
+/**
+ * Loads the ACTIVE version's programs, full program definitions, and questions into this server's
+ * named caches, so the first applicants after a deploy or a publish don't pay for loading them.
+ *
+ * <p>The caches are warmed at server start once startup jobs have run, on the publishing server
+ * right after a publish, and, when cache invalidations are shared between servers, on every other
+ * server once it sees the new ACTIVE version.
+ *
+ * <p>At each of those points the {@link ActiveProgramCatalog} is also rebuilt for the new ACTIVE
+ * version, whether or not cache warmup is enabled, since the catalog is only refreshed here.
+ *
+ * <p>Warming runs on the single thread of the {@link CacheWarmerExecutionContext}, which also
+ * keeps two warmings from running at once. It waits on repository futures that run on the
+ * database dispatcher, so it must not run on one of that dispatcher's threads.
+ */
+@Singleton
+public final class CacheWarmer {
+  private static final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+
+  private final ActiveProgramCatalog activeProgramCatalog;
+  private final CacheWarmerExecutionContext cacheWarmerExecutionContext;
+  private final ProgramRepository programRepository;
+  private final ProgramService programService;
+  private final QuestionRepository questionRepository;
+  private final SettingsManifest settingsManifest;
+  private final VersionRepository versionRepository;
+
+  // The id of the version the caches were last warmed for. Only used on the warmer's thread.
+  private Optional<Long> warmedVersionId = Optional.empty();
+
+  @Inject
+  public CacheWarmer(
+      ActiveProgramCatalog activeProgramCatalog,
+      CacheWarmerExecutionContext cacheWarmerExecutionContext,
+      ProgramRepository programRepository,
+      ProgramService programService,
+      QuestionRepository questionRepository,
+      SettingsManifest settingsManifest,
+      VersionRepository versionRepository) {
+    this.activeProgramCatalog = checkNotNull(activeProgramCatalog);
+    this.cacheWarmerExecutionContext = checkNotNull(cacheWarmerExecutionContext);
+    this.programRepository = checkNotNull(programRepository);
+    this.programService = checkNotNull(programService);
+    this.questionRepository = checkNotNull(questionRepository);
+    this.settingsManifest = checkNotNull(settingsManifest);
+    this.versionRepository = checkNotNull(versionRepository);
+  }
+
+  /**
+   * Warms the caches for the ACTIVE version on the warmer's thread. Failures are logged rather than
+   * thrown, since the caches are filled on demand anyway.
+   */
+  public CompletionStage<Void> warmActiveVersion() {
+    return CompletableFuture.runAsync(this::warm, cacheWarmerExecutionContext);
+  }
+
+  /**
+   * Warms the caches on the warmer's thread if the ACTIVE version has changed since they were last
+   * warmed.
+   */
+  public CompletionStage<Void> warmActiveVersionIfChanged() {
+    return CompletableFuture.runAsync(this::warmIfChanged, cacheWarmerExecutionContext);
+  }
+
+  private void warm() {
+    refreshProgramCatalog();
+    if (settingsManifest.getCacheWarmupEnabled()) {
+      warmCaches();
+    }
+  }
+
+  private void warmIfChanged() {
+    refreshProgramCatalog();
+    if (!settingsManifest.getCacheWarmupEnabled()) {
+      return;
+    }
+
+    try {
+      VersionModel activeVersion = versionRepository.getActiveVersion();
+      if (activeVersion != null && !warmedVersionId.equals(Optional.of(activeVersion.id))) {
+        warmCaches();
+      }
+    } catch (RuntimeException e) {
+      logger.error("Failed to warm caches", e);
+    }
+  }
+
+  private void warmCaches() {
+    try {
+      VersionModel activeVersion = versionRepository.getActiveVersion();
+      if (activeVersion == null) {
+        return;
+      }
+
+      long startTimeMillis = System.currentTimeMillis();
+      versionRepository
+          .getQuestionsForVersion(activeVersion)
+          .forEach(questionRepository::getQuestionDefinition);
+      ImmutableList<ProgramModel> programs = versionRepository.getProgramsForVersion(activeVersion);
+      for (ProgramModel program : programs) {
+        programRepository.lookupProgram(program.id).toCompletableFuture().join();
+        programService.getFullProgramDefinition(program).toCompletableFuture().join();
+      }
+      warmedVersionId = Optional.of(activeVersion.id);
+
+      logger.info(
+          "Warmed caches for version {} with {} programs in {} ms",
+          activeVersion.id,
+          programs.size(),
+          System.currentTimeMillis() - startTimeMillis);
+    } catch (RuntimeException e) {
+      logger.error("Failed to warm caches", e);
+    }
+  }
+
+  private void refreshProgramCatalog() {
+    try {
+      activeProgramCatalog.refreshIfActiveVersionChanged();
+    } catch (RuntimeException e) {
+      // Requests build the catalog themselves if there isn't one yet, and the next poll for a new
+      // ACTIVE version tries again.
+      logger.error("Failed to refresh the program catalog", e);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package services.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.pekko.actor.ActorSystem;
+import play.libs.concurrent.CustomExecutionContext;
+
+/** Single thread that {@link CacheWarmer} warms the caches on, one version at a time. */
+@Singleton
+public class CacheWarmerExecutionContext extends CustomExecutionContext {
+
+  @Inject
+  public CacheWarmerExecutionContext(ActorSystem actorSystem) {
+    super(checkNotNull(actorSystem), "cache_warmer.dispatcher");
+  }
+}
@@ -0,0 +1,20 @@
+package services.cache;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableList;
+
+/** The invalidations committed since a {@link CacheInvalidationCursor}, and where to read next. */
+@AutoValue
+public abstract class CommittedCacheInvalidations {
+
+  public static CommittedCacheInvalidations create(
+      ImmutableList<CacheInvalidation> invalidations, CacheInvalidationCursor nextCursor) {
+    return new AutoValue_CommittedCacheInvalidations(invalidations, nextCursor);
+  }
+
+  /** The invalidations, in order of transaction id and then of id. */
+  public abstract ImmutableList<CacheInvalidation> invalidations();
+
+  /** The cursor to read the invalidations committed after these from. */
+  public abstract CacheInvalidationCursor nextCursor();
+}
@@ -0,0 +1,30 @@
+package services.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Optional;
+import javax.inject.Inject;
+
+/**
+ * A {@link CacheInvalidator} that only invalidates the caches of this server. Suitable when
+ * CiviForm runs on a single server.
+ */
+public final class LocalCacheInvalidator implements CacheInvalidator {
+
+  private final NamedCaches namedCaches;
+
+  @Inject
+  public LocalCacheInvalidator(NamedCaches namedCaches) {
+    this.namedCaches = checkNotNull(namedCaches);
+  }
+
+  @Override
+  public void invalidateAll(String cacheName) {
+    namedCaches.invalidateLocally(cacheName, Optional.empty());
+  }
+
+  @Override
+  public void invalidate(String cacheName, String cacheKey) {
+    namedCaches.invalidateLocally(cacheName, Optional.of(cacheKey));
+  }
+}
@@ -0,0 +1,83 @@
+package services.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.cache.AsyncCacheApi;
+import play.cache.NamedCache;
+
+/**
+ * Looks up this server's in-memory named caches, as configured by {@code play.cache.bindCaches}, by
+ * their name.
+ */
+@Singleton
+public final class NamedCaches {
+  private static final Logger logger = LoggerFactory.getLogger(NamedCaches.class);
+
+  private final ImmutableMap<String, AsyncCacheApi> cachesByName;
+  private final ConcurrentHashMap<String, List<Consumer<Optional<String>>>> listenersByName =
+      new ConcurrentHashMap<>();
+
+  @Inject
+  public NamedCaches(
+      @NamedCache("api-keys") AsyncCacheApi apiKeysCache,
+      @NamedCache("monthly-reporting-data") AsyncCacheApi monthlyReportingDataCache,
+      @NamedCache("version-programs") AsyncCacheApi programsByVersionCache,
+      @NamedCache("version-questions") AsyncCacheApi questionsByVersionCache,
+      @NamedCache("program") AsyncCacheApi programCache,
+      @NamedCache("program-versions") AsyncCacheApi versionsByProgramCache,
+      @NamedCache("full-program-definition") AsyncCacheApi programDefCache,
+      @NamedCache("valid-sessions") AsyncCacheApi validSessionCache) {
+    this.cachesByName =
+        ImmutableMap.<String, AsyncCacheApi>builder()
+            .put("api-keys", checkNotNull(apiKeysCache))
+            .put("monthly-reporting-data", checkNotNull(monthlyReportingDataCache))
+            .put("version-programs", checkNotNull(programsByVersionCache))
+            .put("version-questions", checkNotNull(questionsByVersionCache))
+            .put("program", checkNotNull(programCache))
+            .put("program-versions", checkNotNull(versionsByProgramCache))
+            .put("full-program-definition", checkNotNull(programDefCache))
+            .put("valid-sessions", checkNotNull(validSessionCache))
+            .build();
+  }
+
+  /**
+   * Registers a listener that is called with the key, or empty for every entry, just before
+   * entries of the named cache are removed on this server. It is called for invalidations made on
+   * this server and for those applied from other servers.
+   */
+  public void addInvalidationListener(String cacheName, Consumer<Optional<String>> listener) {
+    listenersByName.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+
+  /**
+   * Removes the key from the named cache on this server, or every entry if the key is empty.
+   * Unknown cache names are logged and ignored, since they may come from a server running a
+   * different version of CiviForm.
+   */
+  public void invalidateLocally(String cacheName, Optional<String> cacheKey) {
+    AsyncCacheApi cache = cachesByName.get(cacheName);
+    if (cache == null) {
+      logger.warn("Ignoring invalidation of unknown cache: {}", cacheName);
+      return;
+    }
+
+    listenersByName
+        .getOrDefault(cacheName, List.of())
+        .forEach(listener -> listener.accept(cacheKey));
+    if (cacheKey.isPresent()) {
+      cache.remove(cacheKey.get()).toCompletableFuture().join();
+    } else {
+      cache.removeAll().toCompletableFuture().join();
+    }
+  }
+}
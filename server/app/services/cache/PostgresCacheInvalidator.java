@@ -0,0 +1,90 @@
+package services.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import repository.CacheInvalidationRepository;
+
+/**
+ * A {@link CacheInvalidator} that shares invalidations between servers through the {@code
+ * cache_invalidations} table.
+ *
+ * <p>An invalidation is applied to this server's caches immediately and recorded in the database.
+ * Every server periodically calls {@link #applyRecordedInvalidations()} to apply the invalidations
+ * recorded since it last checked, so caches on other servers become coherent within the poll
+ * interval.
+ */
+@Singleton
+public final class PostgresCacheInvalidator implements CacheInvalidator {
+  private static final Logger logger = LoggerFactory.getLogger(PostgresCacheInvalidator.class);
+
+  // Invalidations only need to be kept until every server has polled for them.
+  private static final Duration MAX_INVALIDATION_AGE = Duration.ofDays(1);
+  private static final Duration CLEANUP_INTERVAL = Duration.ofHours(1);
+
+  private final NamedCaches namedCaches;
+  private final CacheInvalidationRepository cacheInvalidationRepository;
+  private final Clock clock;
+
+  // The position of the last recorded invalidation applied on this server, or empty before the
+  // first poll. Guarded by this.
+  private Optional<CacheInvalidationCursor> cursor = Optional.empty();
+  private Instant nextCleanupTime = Instant.MIN;
+
+  @Inject
+  public PostgresCacheInvalidator(
+      NamedCaches namedCaches,
+      CacheInvalidationRepository cacheInvalidationRepository,
+      Clock clock) {
+    this.namedCaches = checkNotNull(namedCaches);
+    this.cacheInvalidationRepository = checkNotNull(cacheInvalidationRepository);
+    this.clock = checkNotNull(clock);
+  }
+
+  @Override
+  public void invalidateAll(String cacheName) {
+    cacheInvalidationRepository.insertInvalidation(cacheName, Optional.empty());
+    namedCaches.invalidateLocally(cacheName, Optional.empty());
+  }
+
+  @Override
+  public void invalidate(String cacheName, String cacheKey) {
+    cacheInvalidationRepository.insertInvalidation(cacheName, Optional.of(cacheKey));
+    namedCaches.invalidateLocally(cacheName, Optional.of(cacheKey));
+  }
+
+  /**
+   * Applies the invalidations recorded since the last call to this server's caches. The first call
+   * only records where to start from, since the caches of a newly started server are empty.
+   * Invalidations made by this server, or recorded just before it started, may be applied again,
+   * which is harmless.
+   */
+  public synchronized void applyRecordedInvalidations() {
+    if (cursor.isEmpty()) {
+      cursor = Optional.of(cacheInvalidationRepository.getStartingCursor());
+      return;
+    }
+
+    CommittedCacheInvalidations committed =
+        cacheInvalidationRepository.getCommittedInvalidationsAfter(cursor.get());
+    for (CacheInvalidation invalidation : committed.invalidations()) {
+      namedCaches.invalidateLocally(invalidation.cacheName(), invalidation.cacheKey());
+    }
+    cursor = Optional.of(committed.nextCursor());
+
+    Instant now = clock.instant();
+    if (now.isAfter(nextCleanupTime)) {
+      int numberDeleted =
+          cacheInvalidationRepository.deleteInvalidationsOlderThan(MAX_INVALIDATION_AGE);
+      logger.debug("Deleted {} old cache invalidations", numberDeleted);
+      nextCleanupTime = now.plus(CLEANUP_INTERVAL);
+    }
+  }
+}
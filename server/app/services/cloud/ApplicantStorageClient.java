@@ -1,5 +1,6 @@
 package services.cloud;
 
+import java.io.InputStream;
 import java.util.Optional;
 
 /**
@@ -15,6 +16,10 @@ import java.util.Optional;
  * permissions to view -- see {@link #getPresignedUrlString(String)}. {@link
  * controllers.FileController} is responsible for checking the file ACLs before allowing access to
  * the files.
+ *
+ * <p>(4) Allows CiviForm to store files it generates itself, such as background application exports
+ * -- see {@link #uploadFile}. These are downloaded the same way as applicant files, and can also
+ * be read back and deleted by the server -- see {@link #downloadFile} and {@link #deleteFile}.
  */
 public interface ApplicantStorageClient {
   /** Returns the maximum file size in megabytes allowed for public files. */
@@ -51,6 +56,34 @@ public interface ApplicantStorageClient {
    */
   StorageUploadRequest getSignedUploadRequest(String fileKey, String successActionRedirectUrl);
 
+  /**
+   * Uploads a file generated by the server to cloud storage, replacing any file already stored
+   * under {@code fileKey}. The content is streamed, so it doesn't need to fit in memory.
+   *
+   * @param fileKey The file key to use when uploading to cloud storage
+   * @param content The content of the file
+   * @param contentLength The number of bytes {@code content} contains
+   * @throws FileUploadFailureException if the file could not be uploaded
+   */
+  void uploadFile(String fileKey, InputStream content, long contentLength)
+      throws FileUploadFailureException;
+
+  /**
+   * Opens a stream of a file stored in cloud storage. The caller must close the stream.
+   *
+   * @param fileKey The file key to be read from cloud storage
+   * @throws FileDownloadFailureException if the file does not exist or could not be read
+   */
+  InputStream downloadFile(String fileKey) throws FileDownloadFailureException;
+
+  /**
+   * Deletes a file from cloud storage. Deleting a file that does not exist is not an error.
+   *
+   * @param fileKey The file key to be deleted from cloud storage
+   * @throws FileDeletionFailureException if the file could not be deleted
+   */
+  void deleteFile(String fileKey) throws FileDeletionFailureException;
+
   /** Gets the {@link StorageServiceName} for the current storage client. */
   StorageServiceName getStorageServiceName();
 }
@@ -1,4 +1,4 @@
-package services.cloud.aws;
+package services.cloud;
 
 /** Exception for when a request to delete a file from cloud storage has failed. */
 public final class FileDeletionFailureException extends Exception {
@@ -0,0 +1,8 @@
+package services.cloud;
+
+/** Exception for when a request to download a file from cloud storage has failed. */
+public final class FileDownloadFailureException extends Exception {
+  public FileDownloadFailureException(Exception originalException) {
+    super("The download was unable to be processed", originalException);
+  }
+}
@@ -0,0 +1,61 @@
+package services.cloud;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Stores files on the local filesystem. Used as a stand-in for cloud storage by the storage clients
+ * in tests, where there is no cloud storage to write files generated by CiviForm to.
+ */
+public final class LocalFileStorage {
+  private final Path rootDirectory;
+
+  /** Creates storage rooted in a directory under the system temporary directory. */
+  public LocalFileStorage(String directoryName) {
+    this.rootDirectory =
+        Path.of(System.getProperty("java.io.tmpdir"), checkNotNull(directoryName));
+  }
+
+  /** Writes {@code content} to the file {@code fileKey}, replacing it if it already exists. */
+  public void writeFile(String fileKey, InputStream content) throws FileUploadFailureException {
+    try {
+      Path file = resolve(fileKey);
+      Files.createDirectories(file.getParent());
+      Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new FileUploadFailureException(e);
+    }
+  }
+
+  /** Opens the file {@code fileKey} for reading. */
+  public InputStream readFile(String fileKey) throws FileDownloadFailureException {
+    try {
+      return Files.newInputStream(resolve(fileKey));
+    } catch (IOException e) {
+      throw new FileDownloadFailureException(e);
+    }
+  }
+
+  /** Deletes the file {@code fileKey}, if it exists. */
+  public void deleteFile(String fileKey) throws FileDeletionFailureException {
+    try {
+      Files.deleteIfExists(resolve(fileKey));
+    } catch (IOException e) {
+      throw new FileDeletionFailureException(e);
+    }
+  }
+
+  /** Returns the local path of the file {@code fileKey}. */
+  public Path resolve(String fileKey) {
+    Path file = rootDirectory.resolve(fileKey).normalize();
+    if (!file.startsWith(rootDirectory)) {
+      throw new IllegalArgumentException("File key must not leave the storage directory");
+    }
+    return file;
+  }
+}
@@ -8,6 +8,7 @@ import static services.cloud.aws.AwsStorageUtils.AWS_PRESIGNED_URL_DURATION;
 import com.google.common.annotations.VisibleForTesting;
 import com.typesafe.config.Config;
 import controllers.applicant.ApplicantRequestedAction;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -17,9 +18,19 @@ import org.mockito.Mockito;
 import play.Environment;
 import play.inject.ApplicationLifecycle;
 import services.cloud.ApplicantStorageClient;
+import services.cloud.FileDeletionFailureException;
+import services.cloud.FileDownloadFailureException;
+import services.cloud.FileUploadFailureException;
+import services.cloud.LocalFileStorage;
 import services.cloud.StorageServiceName;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
@@ -115,6 +126,24 @@ public class AwsApplicantStorage implements ApplicantStorageClient {
         /* useSuccessActionRedirectAsPrefix= */ true);
   }
 
+  @Override
+  public void uploadFile(String fileKey, InputStream content, long contentLength)
+      throws FileUploadFailureException {
+    PutObjectRequest putObjectRequest =
+        PutObjectRequest.builder().key(fileKey).bucket(bucket).build();
+    client.putObject(putObjectRequest, content, contentLength);
+  }
+
+  @Override
+  public InputStream downloadFile(String fileKey) throws FileDownloadFailureException {
+    return client.getObject(GetObjectRequest.builder().key(fileKey).bucket(bucket).build());
+  }
+
+  @Override
+  public void deleteFile(String fileKey) throws FileDeletionFailureException {
+    client.deleteObject(DeleteObjectRequest.builder().key(fileKey).bucket(bucket).build());
+  }
+
   @Override
   public StorageServiceName getStorageServiceName() {
     return StorageServiceName.AWS_S3;
@@ -127,12 +156,23 @@ public class AwsApplicantStorage implements ApplicantStorageClient {
     /** Returns the action link that applicant files should be sent to. Must end in a `/`. */
     String actionLink();
 
+    /** Uploads {@code content} to the bucket and key specified by {@code request}. */
+    void putObject(PutObjectRequest request, InputStream content, long contentLength)
+        throws FileUploadFailureException;
+
+    /** Opens a stream of the object specified by {@code request}. */
+    InputStream getObject(GetObjectRequest request) throws FileDownloadFailureException;
+
+    /** Deletes the object specified by {@code request}, if it exists. */
+    void deleteObject(DeleteObjectRequest request) throws FileDeletionFailureException;
+
     void close();
   }
 
   static class NullClient implements Client {
 
     private final S3Presigner presigner;
+    private final LocalFileStorage localFileStorage = new LocalFileStorage("civiform-null-s3");
 
     NullClient() {
       presigner = Mockito.mock(S3Presigner.class);
@@ -159,6 +199,22 @@ public class AwsApplicantStorage implements ApplicantStorageClient {
       return "fake-action-link/";
     }
 
+    @Override
+    public void putObject(PutObjectRequest request, InputStream content, long contentLength)
+        throws FileUploadFailureException {
+      localFileStorage.writeFile(request.key(), content);
+    }
+
+    @Override
+    public InputStream getObject(GetObjectRequest request) throws FileDownloadFailureException {
+      return localFileStorage.readFile(request.key());
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest request) throws FileDeletionFailureException {
+      localFileStorage.deleteFile(request.key());
+    }
+
     @Override
     public void close() {}
   }
@@ -166,10 +222,12 @@ public class AwsApplicantStorage implements ApplicantStorageClient {
   class AwsClient implements Client {
     private final AwsStorageUtils awsStorageUtils;
     private final S3Presigner presigner;
+    private final S3Client s3Client;
 
     AwsClient(AwsStorageUtils awsStorageUtils) {
       this.awsStorageUtils = checkNotNull(awsStorageUtils);
       presigner = S3Presigner.builder().region(region).build();
+      s3Client = S3Client.builder().region(region).build();
     }
 
     @Override
@@ -182,9 +240,26 @@ public class AwsApplicantStorage implements ApplicantStorageClient {
       return awsStorageUtils.prodAwsActionLink(bucket, region);
     }
 
+    @Override
+    public void putObject(PutObjectRequest request, InputStream content, long contentLength)
+        throws FileUploadFailureException {
+      AwsApplicantStorage.putObject(s3Client, request, content, contentLength);
+    }
+
+    @Override
+    public InputStream getObject(GetObjectRequest request) throws FileDownloadFailureException {
+      return AwsApplicantStorage.getObject(s3Client, request);
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest request) throws FileDeletionFailureException {
+      AwsApplicantStorage.deleteObject(s3Client, request);
+    }
+
     @Override
     public void close() {
       presigner.close();
+      s3Client.close();
     }
   }
 
@@ -192,6 +267,7 @@ public class AwsApplicantStorage implements ApplicantStorageClient {
     private final Config config;
     private final AwsStorageUtils awsStorageUtils;
     private final S3Presigner presigner;
+    private final S3Client s3Client;
 
     LocalStackClient(Config config, AwsStorageUtils awsStorageUtils) {
       this.config = checkNotNull(config);
@@ -201,6 +277,11 @@ public class AwsApplicantStorage implements ApplicantStorageClient {
               .endpointOverride(awsStorageUtils.localStackEndpoint(config))
               .region(region)
               .build();
+      this.s3Client =
+          S3Client.builder()
+              .endpointOverride(awsStorageUtils.localStackEndpoint(config))
+              .region(region)
+              .build();
     }
 
     @Override
@@ -213,9 +294,58 @@ public class AwsApplicantStorage implements ApplicantStorageClient {
       return awsStorageUtils.localStackActionLink(config, bucket, region);
     }
 
+    @Override
+    public void putObject(PutObjectRequest request, InputStream content, long contentLength)
+        throws FileUploadFailureException {
+      AwsApplicantStorage.putObject(s3Client, request, content, contentLength);
+    }
+
+    @Override
+    public InputStream getObject(GetObjectRequest request) throws FileDownloadFailureException {
+      return AwsApplicantStorage.getObject(s3Client, request);
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest request) throws FileDeletionFailureException {
+      AwsApplicantStorage.deleteObject(s3Client, request);
+    }
+
     @Override
     public void close() {
       presigner.close();
+      s3Client.close();
+    }
+  }
+
+  private static void putObject(
+      S3Client s3Client, PutObjectRequest request, InputStream content, long contentLength)
+      throws FileUploadFailureException {
+    try {
+      s3Client.putObject(request, RequestBody.fromInputStream(content, contentLength));
+    } catch (AwsServiceException | SdkClientException e) {
+      // AwsServiceException: The call was transmitted successfully, but AWS S3 couldn't process
+      // it for some reason.
+      // SdkClientException: AWS S3 couldn't be contacted for a response or the client couldn't
+      // parse the response from AWS S3.
+      throw new FileUploadFailureException(e);
+    }
+  }
+
+  private static InputStream getObject(S3Client s3Client, GetObjectRequest request)
+      throws FileDownloadFailureException {
+    try {
+      return s3Client.getObject(request);
+    } catch (AwsServiceException | SdkClientException e) {
+      throw new FileDownloadFailureException(e);
+    }
+  }
+
+  private static void deleteObject(S3Client s3Client, DeleteObjectRequest request)
+      throws FileDeletionFailureException {
+    try {
+      s3Client.deleteObject(request);
+    } catch (AwsServiceException | SdkClientException e) {
+      throw new FileDeletionFailureException(e);
     }
   }
 }
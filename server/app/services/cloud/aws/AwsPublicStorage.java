@@ -14,6 +14,7 @@ import javax.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.Environment;
+import services.cloud.FileDeletionFailureException;
 import services.cloud.PublicStorageClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.model.Delete;
@@ -3,6 +3,7 @@ package services.cloud.aws;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import java.net.URI;
+import services.cloud.FileDeletionFailureException;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.regions.Region;
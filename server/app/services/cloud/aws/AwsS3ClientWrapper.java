@@ -2,6 +2,7 @@ package services.cloud.aws;
 
 import com.google.common.collect.ImmutableList;
 import java.net.URI;
+import services.cloud.FileDeletionFailureException;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
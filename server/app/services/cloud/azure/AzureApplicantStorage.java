@@ -4,6 +4,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.typesafe.config.Config;
+import java.io.InputStream;
 import java.net.URL;
 import java.time.Duration;
 import java.time.ZoneId;
@@ -13,6 +14,9 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import play.Environment;
 import services.cloud.ApplicantStorageClient;
+import services.cloud.FileDeletionFailureException;
+import services.cloud.FileDownloadFailureException;
+import services.cloud.FileUploadFailureException;
 import services.cloud.StorageServiceName;
 
 /** An Azure Blob Storage implementation of {@link ApplicantStorageClient}. */
@@ -115,6 +119,22 @@ public class AzureApplicantStorage implements ApplicantStorageClient {
     return builder.build();
   }
 
+  @Override
+  public void uploadFile(String fileKey, InputStream content, long contentLength)
+      throws FileUploadFailureException {
+    client.uploadBlob(fileKey, content, contentLength);
+  }
+
+  @Override
+  public InputStream downloadFile(String fileKey) throws FileDownloadFailureException {
+    return client.downloadBlob(fileKey);
+  }
+
+  @Override
+  public void deleteFile(String fileKey) throws FileDeletionFailureException {
+    client.deleteBlob(fileKey);
+  }
+
   @Override
   public StorageServiceName getStorageServiceName() {
     return StorageServiceName.AZURE_BLOB;
@@ -5,16 +5,22 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.UserDelegationKey;
 import com.azure.storage.blob.sas.BlobSasPermission;
 import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
 import com.azure.storage.common.sas.SasProtocol;
 import com.typesafe.config.Config;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URLConnection;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.Optional;
+import services.cloud.FileDeletionFailureException;
+import services.cloud.FileDownloadFailureException;
+import services.cloud.FileUploadFailureException;
 
 /** Class to use for deployed file uploads to Azure blob storage. */
 class AzureBlobStorageClient extends BaseAzureBlobStorageClient {
@@ -93,4 +99,38 @@ class AzureBlobStorageClient extends BaseAzureBlobStorageClient {
         blobServiceClient.getBlobContainerClient(containerName).getBlobClient(fileName);
     return blobClient.getBlobUrl();
   }
+
+  @Override
+  public void uploadBlob(String fileName, InputStream content, long contentLength)
+      throws FileUploadFailureException {
+    BlobClient blobClient =
+        blobServiceClient.getBlobContainerClient(containerName).getBlobClient(fileName);
+    try {
+      blobClient.upload(content, contentLength, /* overwrite= */ true);
+    } catch (BlobStorageException | UncheckedIOException e) {
+      throw new FileUploadFailureException(e);
+    }
+  }
+
+  @Override
+  public InputStream downloadBlob(String fileName) throws FileDownloadFailureException {
+    BlobClient blobClient =
+        blobServiceClient.getBlobContainerClient(containerName).getBlobClient(fileName);
+    try {
+      return blobClient.openInputStream();
+    } catch (BlobStorageException e) {
+      throw new FileDownloadFailureException(e);
+    }
+  }
+
+  @Override
+  public void deleteBlob(String fileName) throws FileDeletionFailureException {
+    BlobClient blobClient =
+        blobServiceClient.getBlobContainerClient(containerName).getBlobClient(fileName);
+    try {
+      blobClient.deleteIfExists();
+    } catch (BlobStorageException e) {
+      throw new FileDeletionFailureException(e);
+    }
+  }
 }
@@ -1,6 +1,10 @@
 package services.cloud.azure;
 
+import java.io.InputStream;
 import java.util.Optional;
+import services.cloud.FileDeletionFailureException;
+import services.cloud.FileDownloadFailureException;
+import services.cloud.FileUploadFailureException;
 
 /** Interface defintion for Azure blob storage client. */
 interface AzureBlobStorageClientInterface {
@@ -8,4 +12,14 @@ interface AzureBlobStorageClientInterface {
   String getSasToken(String fileName, Optional<String> originalFileName);
 
   String getBlobUrl(String fileName);
+
+  /** Uploads {@code content} to the blob {@code fileName}, overwriting any existing blob. */
+  void uploadBlob(String fileName, InputStream content, long contentLength)
+      throws FileUploadFailureException;
+
+  /** Opens a stream of the blob {@code fileName}. */
+  InputStream downloadBlob(String fileName) throws FileDownloadFailureException;
+
+  /** Deletes the blob {@code fileName}, if it exists. */
+  void deleteBlob(String fileName) throws FileDeletionFailureException;
 }
@@ -8,17 +8,23 @@ import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
 import com.azure.storage.blob.models.BlobAccessPolicy;
 import com.azure.storage.blob.models.BlobSignedIdentifier;
+import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.PublicAccessType;
 import com.azure.storage.blob.sas.BlobSasPermission;
 import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
 import com.azure.storage.common.sas.SasProtocol;
 import com.typesafe.config.Config;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URLConnection;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.Collections;
 import java.util.Optional;
+import services.cloud.FileDeletionFailureException;
+import services.cloud.FileDownloadFailureException;
+import services.cloud.FileUploadFailureException;
 
 /**
  * Class to use for Azure blob storage in a dev environment.
@@ -94,4 +100,34 @@ class DevAzureBlobStorageClient extends BaseAzureBlobStorageClient {
   public String getBlobUrl(String fileName) {
     return blobContainerClient.getBlobClient(fileName).getBlobUrl();
   }
+
+  @Override
+  public void uploadBlob(String fileName, InputStream content, long contentLength)
+      throws FileUploadFailureException {
+    try {
+      blobContainerClient
+          .getBlobClient(fileName)
+          .upload(content, contentLength, /* overwrite= */ true);
+    } catch (BlobStorageException | UncheckedIOException e) {
+      throw new FileUploadFailureException(e);
+    }
+  }
+
+  @Override
+  public InputStream downloadBlob(String fileName) throws FileDownloadFailureException {
+    try {
+      return blobContainerClient.getBlobClient(fileName).openInputStream();
+    } catch (BlobStorageException e) {
+      throw new FileDownloadFailureException(e);
+    }
+  }
+
+  @Override
+  public void deleteBlob(String fileName) throws FileDeletionFailureException {
+    try {
+      blobContainerClient.getBlobClient(fileName).deleteIfExists();
+    } catch (BlobStorageException e) {
+      throw new FileDeletionFailureException(e);
+    }
+  }
 }
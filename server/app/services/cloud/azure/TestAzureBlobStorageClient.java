@@ -1,10 +1,17 @@
 package services.cloud.azure;
 
+import java.io.InputStream;
 import java.util.Optional;
+import services.cloud.FileDeletionFailureException;
+import services.cloud.FileDownloadFailureException;
+import services.cloud.FileUploadFailureException;
+import services.cloud.LocalFileStorage;
 
 /** Class to use for BlobStorage unit tests. */
 class TestAzureBlobStorageClient implements AzureBlobStorageClientInterface {
 
+  private final LocalFileStorage localFileStorage = new LocalFileStorage("civiform-test-azure");
+
   TestAzureBlobStorageClient() {}
 
   @Override
@@ -19,4 +26,20 @@ class TestAzureBlobStorageClient implements AzureBlobStorageClientInterface {
   public String getBlobUrl(String fileName) {
     return "http://localhost";
   }
+
+  @Override
+  public void uploadBlob(String fileName, InputStream content, long contentLength)
+      throws FileUploadFailureException {
+    localFileStorage.writeFile(fileName, content);
+  }
+
+  @Override
+  public InputStream downloadBlob(String fileName) throws FileDownloadFailureException {
+    return localFileStorage.readFile(fileName);
+  }
+
+  @Override
+  public void deleteBlob(String fileName) throws FileDeletionFailureException {
+    localFileStorage.deleteFile(fileName);
+  }
 }
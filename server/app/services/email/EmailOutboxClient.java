@@ -0,0 +1,37 @@
+package services.email;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import repository.EmailOutboxRepository;
+
+/**
+ * Sends emails by adding them to the email outbox, from which {@link
+ * durablejobs.jobs.EmailOutboxSendJob} sends them through the configured email provider in the
+ * background. Callers don't wait on the provider, and a message that fails to send is retried.
+ */
+@Singleton
+public final class EmailOutboxClient implements EmailSendClient {
+
+  private final EmailOutboxRepository emailOutboxRepository;
+
+  @Inject
+  public EmailOutboxClient(EmailOutboxRepository emailOutboxRepository) {
+    this.emailOutboxRepository = checkNotNull(emailOutboxRepository);
+  }
+
+  @Override
+  public void send(String toAddress, String subject, String bodyText) {
+    send(ImmutableList.of(toAddress), subject, bodyText);
+  }
+
+  @Override
+  public void send(ImmutableList<String> toAddresses, String subject, String bodyText) {
+    if (toAddresses.isEmpty()) {
+      return;
+    }
+    emailOutboxRepository.enqueue(toAddresses, subject, bodyText);
+  }
+}
@@ -2,7 +2,14 @@ package services.email;
 
 import com.google.common.collect.ImmutableList;
 
-/** Interface for sending emails from CiviForm. */
+/**
+ * Interface for sending emails from CiviForm.
+ *
+ * <p>The client bound for general use is {@link EmailOutboxClient}, which queues emails to be sent
+ * in the background, unless {@code email.outbox.enabled} is off. The clients for each {@link
+ * EmailSendProvider} send immediately, and throw {@link EmailSendException} if the provider fails
+ * to send.
+ */
 public interface EmailSendClient {
 
   /**
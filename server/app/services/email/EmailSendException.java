@@ -0,0 +1,9 @@
+package services.email;
+
+/** Thrown when an email provider fails to send an email. */
+public final class EmailSendException extends RuntimeException {
+
+  public EmailSendException(Throwable cause) {
+    super(cause);
+  }
+}
@@ -0,0 +1,89 @@
+package services.export;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import durablejobs.DurableJobName;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import javax.inject.Inject;
+import models.ApplicationExportFormat;
+import models.ApplicationExportModel;
+import models.ApplicationExportStatus;
+import models.JobType;
+import models.PersistedDurableJobModel;
+import repository.ApplicationExportRepository;
+import repository.SubmittedApplicationFilter;
+import services.cloud.ApplicantStorageClient;
+
+/**
+ * Requests and tracks exports of a program's applications that are generated in the background by
+ * {@link durablejobs.jobs.ApplicationExportJob}, for programs too large to export within a single
+ * request.
+ */
+public final class ApplicationExportService {
+  private final ApplicantStorageClient applicantStorageClient;
+  private final ApplicationExportRepository applicationExportRepository;
+  private final Clock clock;
+
+  @Inject
+  public ApplicationExportService(
+      ApplicantStorageClient applicantStorageClient,
+      ApplicationExportRepository applicationExportRepository,
+      Clock clock) {
+    this.applicantStorageClient = checkNotNull(applicantStorageClient);
+    this.applicationExportRepository = checkNotNull(applicationExportRepository);
+    this.clock = checkNotNull(clock);
+  }
+
+  /**
+   * Queues an export of the applications to all versions of a program that match {@code filters}.
+   * Applications submitted after the export is requested are not included.
+   */
+  public ApplicationExportModel requestExport(
+      long programId, ApplicationExportFormat exportFormat, SubmittedApplicationFilter filters) {
+    Instant now = clock.instant();
+    Instant untilTime =
+        filters.submitTimeFilter().untilTime().filter(until -> until.isBefore(now)).orElse(now);
+    ApplicationExportModel export =
+        new ApplicationExportModel(programId, exportFormat, untilTime)
+            .setSearchNameFragment(filters.searchNameFragment())
+            .setFromTime(filters.submitTimeFilter().fromTime())
+            .setApplicationStatus(filters.applicationStatus());
+    PersistedDurableJobModel persistedDurableJob =
+        new PersistedDurableJobModel(
+            DurableJobName.APPLICATION_EXPORT.getJobNameString(), JobType.ON_DEMAND, now);
+    return applicationExportRepository.createExport(export, persistedDurableJob);
+  }
+
+  /**
+   * Gets an export of the applications to {@code programId}, with its status updated to {@link
+   * ApplicationExportStatus#FAILED} if its job has run out of attempts.
+   */
+  public Optional<ApplicationExportModel> getExport(long programId, long exportId) {
+    Optional<ApplicationExportModel> maybeExport =
+        applicationExportRepository
+            .getExport(exportId)
+            .filter(export -> export.getProgramId() == programId);
+    maybeExport
+        .filter(export -> export.getStatus() != ApplicationExportStatus.COMPLETE)
+        .filter(
+            export ->
+                applicationExportRepository
+                    .getJobForExport(export)
+                    .map(PersistedDurableJobModel::hasFailedWithNoRemainingAttempts)
+                    .orElse(true))
+        .ifPresent(export -> export.setStatus(ApplicationExportStatus.FAILED).save());
+    return maybeExport;
+  }
+
+  /** Returns a URL the file of a completed export can be downloaded from. */
+  public String getDownloadUrl(ApplicationExportModel export) {
+    String fileKey =
+        export
+            .getFileKey()
+            .orElseThrow(
+                () -> new IllegalStateException("Export " + export.id + " is not complete"));
+    return applicantStorageClient.getPresignedUrlString(fileKey);
+  }
+}
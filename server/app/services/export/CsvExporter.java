@@ -44,6 +44,21 @@ public final class CsvExporter implements AutoCloseable {
   public CsvExporter(
       ImmutableList<Column> columns, String secret, Writer writer, DateConverter dateConverter)
       throws IOException {
+    this(columns, secret, writer, dateConverter, /* printHeader= */ true);
+  }
+
+  /**
+   * Provide a secret if you will need to use OPAQUE_ID type columns. Set {@code printHeader} to
+   * false when appending records to a CSV whose header row has already been written, such as when
+   * streaming a CSV one page of applications at a time.
+   */
+  public CsvExporter(
+      ImmutableList<Column> columns,
+      String secret,
+      Writer writer,
+      DateConverter dateConverter,
+      boolean printHeader)
+      throws IOException {
     this.columns = checkNotNull(columns);
     this.secret = checkNotNull(secret);
     this.dateConverter = dateConverter;
@@ -52,6 +67,7 @@ public final class CsvExporter implements AutoCloseable {
         CSVFormat.DEFAULT
             .builder()
             .setHeader(columns.stream().map(Column::header).toArray(String[]::new))
+            .setSkipHeaderRecord(!printHeader)
             .get();
     this.printer = new CSVPrinter(writer, format);
   }
@@ -2,25 +2,34 @@ package services.export;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.typesafe.config.Config;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
-import java.nio.charset.StandardCharsets;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import javax.inject.Inject;
 import models.ApplicantModel;
 import models.ApplicationModel;
 import models.QuestionTag;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.util.ByteString;
+import repository.DatabaseExecutionContext;
+import repository.ExportServiceRepository;
 import repository.SubmittedApplicationFilter;
 import repository.TimeFilter;
 import services.DateConverter;
@@ -30,7 +39,9 @@ import services.applicant.ApplicantService;
 import services.applicant.ReadOnlyApplicantProgramService;
 import services.applicant.question.ApplicantQuestion;
 import services.export.enums.ColumnType;
+import services.pagination.PaginationResult;
 import services.pagination.SubmitTimeSequentialAccessPaginationSpec;
+import services.program.BlockDefinition;
 import services.program.ProgramDefinition;
 import services.program.ProgramNotFoundException;
 import services.program.ProgramQuestionDefinition;
@@ -50,10 +61,17 @@ public final class CsvExporterService {
   private final Config config;
   private final DateConverter dateConverter;
   private final CsvColumnFactory csvColumnFactory;
+  private final ExportServiceRepository exportServiceRepository;
+  private final ParallelExportRenderer parallelExportRenderer;
+  private final DatabaseExecutionContext databaseExecutionContext;
+  private final Clock clock;
 
   public static final ImmutableSet<QuestionType> NON_EXPORTED_QUESTION_TYPES =
       ImmutableSet.of(QuestionType.ENUMERATOR, QuestionType.STATIC);
 
+  /** Number of applications loaded from the database at a time when streaming a CSV export. */
+  private static final int STREAMING_EXPORT_PAGE_SIZE = 500;
+
   @Inject
   public CsvExporterService(
       ProgramService programService,
@@ -61,13 +79,21 @@ public final class CsvExporterService {
       ApplicantService applicantService,
       Config config,
       DateConverter dateConverter,
-      CsvColumnFactory csvColumnFactory) {
+      CsvColumnFactory csvColumnFactory,
+      ExportServiceRepository exportServiceRepository,
+      ParallelExportRenderer parallelExportRenderer,
+      DatabaseExecutionContext databaseExecutionContext,
+      Clock clock) {
     this.programService = checkNotNull(programService);
     this.questionService = checkNotNull(questionService);
     this.applicantService = checkNotNull(applicantService);
     this.config = checkNotNull(config);
     this.dateConverter = dateConverter;
     this.csvColumnFactory = checkNotNull(csvColumnFactory);
+    this.exportServiceRepository = checkNotNull(exportServiceRepository);
+    this.parallelExportRenderer = checkNotNull(parallelExportRenderer);
+    this.databaseExecutionContext = checkNotNull(databaseExecutionContext);
+    this.clock = checkNotNull(clock);
   }
 
   /** Return a string containing a CSV of all applications at all versions of particular program. */
@@ -88,7 +114,10 @@ public final class CsvExporterService {
 
     CsvExportConfig exportConfig =
         generateCsvConfig(
-            applications, programDefinitionsForAllVersions, currentProgram.hasEligibilityEnabled());
+            programId,
+            filters,
+            programDefinitionsForAllVersions,
+            currentProgram.hasEligibilityEnabled());
 
     return exportCsv(
         exportConfig,
@@ -99,32 +128,276 @@ public final class CsvExporterService {
         Optional.of(currentProgram));
   }
 
+  /**
+   * Return a {@link Source} that streams a CSV of all applications at all versions of a particular
+   * program.
+   *
+   * <p>Unlike {@link #getProgramAllVersionsCsv}, applications are loaded a page at a time using
+   * keyset pagination on (submit time, id), and each page is rendered and handed to the stream
+   * before the next one is loaded, so memory use stays flat no matter how many applications are
+   * exported.
+   *
+   * <p>Nothing is done until the stream is run. The columns are then discovered and each page is
+   * loaded on the database dispatcher, and pages are rendered on the {@link
+   * ExportExecutionContext}, so a large export doesn't hold up database-bound requests.
+   *
+   * <p>Only applications submitted before this is called are included, so applications submitted
+   * while the export runs don't change the columns or the pages still to be loaded.
+   */
+  public Source<ByteString, NotUsed> streamProgramAllVersionsCsv(
+      long programId, SubmittedApplicationFilter filters) {
+    SubmittedApplicationFilter startFilters =
+        filters.toBuilder()
+            .setSubmitTimeFilter(filters.submitTimeFilter().untilNoLaterThan(clock.instant()))
+            .build();
+    return Source.<ByteString, NotUsed>lazyCompletionStageSource(
+            () ->
+                CompletableFuture.supplyAsync(
+                        () -> {
+                          try {
+                            return startPagedProgramAllVersionsCsv(programId, startFilters);
+                          } catch (ProgramNotFoundException e) {
+                            throw new CompletionException(e);
+                          }
+                        },
+                        databaseExecutionContext)
+                    .thenApply(
+                        pagedExport -> streamPagedExport(programId, startFilters, pagedExport)))
+        .mapMaterializedValue(unused -> NotUsed.getInstance());
+  }
+
+  /**
+   * Streams the header of {@code pagedExport} followed by the records for each page of
+   * applications, loading each page on the database dispatcher once the previous one has been
+   * rendered.
+   */
+  private Source<ByteString, NotUsed> streamPagedExport(
+      long programId, SubmittedApplicationFilter filters, PagedCsvExport pagedExport) {
+    Source<ByteString, NotUsed> header =
+        Source.single(ByteString.fromString(pagedExport.renderHeader()));
+    Source<ByteString, NotUsed> records =
+        Source.unfoldAsync(
+            Optional.of(firstStreamingPageSpec()),
+            maybePageSpec -> {
+              if (maybePageSpec.isEmpty()) {
+                return CompletableFuture.completedFuture(Optional.empty());
+              }
+              return CompletableFuture.supplyAsync(
+                      () ->
+                          programService.getSubmittedProgramApplicationsAllVersions(
+                              programId, maybePageSpec.get(), filters),
+                      databaseExecutionContext)
+                  .thenCompose(
+                      page ->
+                          pagedExport
+                              .renderRecordsAsync(page.getPageContents())
+                              .thenApply(
+                                  csvChunk ->
+                                      Optional.of(
+                                          Pair.create(
+                                              nextStreamingPageSpec(page),
+                                              ByteString.fromString(csvChunk)))));
+            });
+    return header.concat(records);
+  }
+
+  /**
+   * Prepares a CSV of all applications at all versions of a particular program that is rendered in
+   * pieces by the caller: first the header, then the records for each page of applications.
+   *
+   * <p>The columns are determined up front from the applications matching {@code filters}, so the
+   * pages may be loaded and rendered at any later time, as long as they only contain applications
+   * matching the same filters.
+   */
+  public PagedCsvExport startPagedProgramAllVersionsCsv(
+      long programId, SubmittedApplicationFilter filters) throws ProgramNotFoundException {
+    ImmutableMap<Long, ProgramDefinition> programDefinitionsForAllVersions =
+        programService.getAllVersionsFullProgramDefinition(programId).stream()
+            .collect(ImmutableMap.toImmutableMap(ProgramDefinition::id, pd -> pd));
+    ProgramDefinition currentProgram = programDefinitionsForAllVersions.get(programId);
+
+    CsvExportConfig exportConfig =
+        generateCsvConfig(
+            programId,
+            filters,
+            programDefinitionsForAllVersions,
+            currentProgram.hasEligibilityEnabled());
+    return new PagedCsvExport(exportConfig, programDefinitionsForAllVersions, currentProgram);
+  }
+
+  /** A CSV export whose header and records are rendered separately. */
+  public final class PagedCsvExport {
+    private final CsvExportConfig exportConfig;
+    private final ImmutableMap<Long, ProgramDefinition> programDefinitionsForAllVersions;
+    private final ProgramDefinition currentProgram;
+
+    private PagedCsvExport(
+        CsvExportConfig exportConfig,
+        ImmutableMap<Long, ProgramDefinition> programDefinitionsForAllVersions,
+        ProgramDefinition currentProgram) {
+      this.exportConfig = exportConfig;
+      this.programDefinitionsForAllVersions = programDefinitionsForAllVersions;
+      this.currentProgram = currentProgram;
+    }
+
+    /** Renders the header row of the CSV. */
+    public String renderHeader() {
+      return exportCsv(
+          exportConfig,
+          ImmutableList.of(),
+          programDefinitionsForAllVersions::get,
+          Optional.of(currentProgram),
+          /* printHeader= */ true);
+    }
+
+    /** Renders one record for each of {@code applications}, without a header row. */
+    public String renderRecords(ImmutableList<ApplicationModel> applications) {
+      return exportCsv(
+          exportConfig,
+          applications,
+          // Use our local program definition cache when exporting applications,
+          // it's faster then the cache in the ProgramRepository.
+          programDefinitionsForAllVersions::get,
+          Optional.of(currentProgram),
+          /* printHeader= */ false);
+    }
+
+    /**
+     * Renders one record for each of {@code applications}, without a header row, on the {@link
+     * ExportExecutionContext} rather than the calling thread.
+     */
+    public CompletableFuture<String> renderRecordsAsync(
+        ImmutableList<ApplicationModel> applications) {
+      boolean shouldCheckEligibility = currentProgram.hasEligibilityEnabled();
+      return parallelExportRenderer
+          .renderAllAsync(
+              applications,
+              application ->
+                  exportRecord(
+                      exportConfig,
+                      application,
+                      application.getApplicantData(),
+                      programDefinitionsForAllVersions::get,
+                      shouldCheckEligibility))
+          .thenApply(records -> String.join("", records));
+    }
+  }
+
+  private static SubmitTimeSequentialAccessPaginationSpec firstStreamingPageSpec() {
+    return new SubmitTimeSequentialAccessPaginationSpec(
+        STREAMING_EXPORT_PAGE_SIZE, Instant.MAX, Long.MAX_VALUE);
+  }
+
+  /**
+   * Returns the pagination spec for the page following {@code page}, or empty if {@code page} was
+   * the last one.
+   */
+  private static Optional<SubmitTimeSequentialAccessPaginationSpec> nextStreamingPageSpec(
+      PaginationResult<ApplicationModel> page) {
+    ImmutableList<ApplicationModel> applications = page.getPageContents();
+    if (!page.hasMorePages() || applications.isEmpty()) {
+      return Optional.empty();
+    }
+    ApplicationModel lastApplication = applications.get(applications.size() - 1);
+    return Optional.of(
+        new SubmitTimeSequentialAccessPaginationSpec(
+            STREAMING_EXPORT_PAGE_SIZE, lastApplication.getSubmitTime(), lastApplication.id));
+  }
+
+  /**
+   * Builds the {@link CsvExportConfig} for the applications matching {@code filters} without
+   * loading them.
+   *
+   * <p>The columns are every question path present in any matching application. Those are the
+   * questions of each program version that has a matching application, with repeated questions
+   * included once for every repeated entity index used by any of that version's applications. The
+   * repeated entity counts are read from the application JSON in the database, so the applications
+   * themselves only need to be traversed once, when their rows are exported.
+   */
   private CsvExportConfig generateCsvConfig(
-      ImmutableList<ApplicationModel> applications,
+      long programId,
+      SubmittedApplicationFilter filters,
       ImmutableMap<Long, ProgramDefinition> programDefinitionsForAllVersions,
-      boolean showEligibilityColumn)
-      throws ProgramNotFoundException {
+      boolean showEligibilityColumn) {
+    // Every enumerator path's counts come from one query, which is only run if a program version
+    // has an enumerator.
+    Supplier<ImmutableMap<Path, ImmutableMap<Long, Integer>>> entityCountsByPath =
+        Suppliers.memoize(
+            () ->
+                exportServiceRepository.getMaxRepeatedEntityCountsByProgramVersion(
+                    programId, filters));
+    Function<Path, ImmutableMap<Long, Integer>> getEntityCounts =
+        enumeratorPath -> entityCountsByPath.get().getOrDefault(enumeratorPath, ImmutableMap.of());
+
     Map<Path, ApplicantQuestion> uniqueQuestions = new HashMap<>();
+    for (long programVersionId :
+        exportServiceRepository.getProgramVersionIdsWithSubmittedApplications(
+            programId, filters)) {
+      ProgramDefinition programDefinition = programDefinitionsForAllVersions.get(programVersionId);
+      // Fill an otherwise empty ApplicantData with as many repeated entities as the applications
+      // have, so that it has every question path any of the applications has.
+      ApplicantData exemplarData = new ApplicantData();
+      addExemplarRepeatedEntities(
+          programDefinition,
+          programDefinition.getNonRepeatedBlockDefinitions(),
+          ApplicantData.APPLICANT_PATH,
+          exemplarData,
+          getEntityCounts);
+      applicantService
+          .getReadOnlyApplicantProgramService(exemplarData, programDefinition)
+          .getAllQuestions()
+          .forEach(aq -> uniqueQuestions.putIfAbsent(aq.getContextualizedPath(), aq));
+    }
+    return buildColumnHeaders(sortUniqueQuestions(uniqueQuestions), showEligibilityColumn);
+  }
+
+  /**
+   * Recursively adds placeholder repeated entities to {@code exemplarData} for every enumerator
+   * block in {@code blockDefinitions}, using the largest entity count found in the applications
+   * to {@code programDefinition}.
+   */
+  private static void addExemplarRepeatedEntities(
+      ProgramDefinition programDefinition,
+      ImmutableList<BlockDefinition> blockDefinitions,
+      Path contextPath,
+      ApplicantData exemplarData,
+      Function<Path, ImmutableMap<Long, Integer>> getEntityCounts) {
+    for (BlockDefinition blockDefinition : blockDefinitions) {
+      if (!blockDefinition.isEnumerator()) {
+        continue;
+      }
+      Path enumeratorPath =
+          contextPath.join(
+              blockDefinition.getEnumerationQuestionDefinition().getQuestionPathSegment());
+      int entityCount =
+          getEntityCounts.apply(enumeratorPath).getOrDefault(programDefinition.id(), 0);
+      if (entityCount == 0) {
+        continue;
+      }
+      exemplarData.putRepeatedEntities(
+          enumeratorPath, ImmutableList.copyOf(Collections.nCopies(entityCount, "")));
+      ImmutableList<BlockDefinition> repeatedBlockDefinitions =
+          programDefinition.getBlockDefinitionsForEnumerator(blockDefinition.id());
+      for (int i = 0; i < entityCount; i++) {
+        addExemplarRepeatedEntities(
+            programDefinition,
+            repeatedBlockDefinitions,
+            enumeratorPath.atIndex(i),
+            exemplarData,
+            getEntityCounts);
+      }
+    }
+  }
 
-    applications.stream()
-        .flatMap(
-            app ->
-                applicantService
-                    .getReadOnlyApplicantProgramService(
-                        app, programDefinitionsForAllVersions.get(app.getProgram().id))
-                    .getAllQuestions())
-        .forEach(aq -> uniqueQuestions.putIfAbsent(aq.getContextualizedPath(), aq));
-
-    ImmutableList<ApplicantQuestion> sortedUniqueQuestions =
-        uniqueQuestions.values().stream()
-            // TODO(#9196): This sorts the paths lexicographically, so
-            // "household members[10] - name" is sorted above "household members[1] - name".
-            // It should be possible to write a comparator that iteratively compares segments of
-            // the Path, so that nested repeated questions are sorted correctly.
-            .sorted(Comparator.comparing(aq -> aq.getContextualizedPath().toString()))
-            .collect(ImmutableList.toImmutableList());
-
-    return buildColumnHeaders(sortedUniqueQuestions, showEligibilityColumn);
+  private static ImmutableList<ApplicantQuestion> sortUniqueQuestions(
+      Map<Path, ApplicantQuestion> uniqueQuestions) {
+    return uniqueQuestions.values().stream()
+        // TODO(#9196): This sorts the paths lexicographically, so
+        // "household members[10] - name" is sorted above "household members[1] - name".
+        // It should be possible to write a comparator that iteratively compares segments of
+        // the Path, so that nested repeated questions are sorted correctly.
+        .sorted(Comparator.comparing(aq -> aq.getContextualizedPath().toString()))
+        .collect(ImmutableList.toImmutableList());
   }
 
   /**
@@ -140,40 +413,102 @@ public final class CsvExporterService {
       ImmutableList<ApplicationModel> applications,
       Function<Long, ProgramDefinition> getProgramDefinition,
       Optional<ProgramDefinition> currentProgram) {
-    OutputStream inMemoryBytes = new ByteArrayOutputStream();
-    try (Writer writer = new OutputStreamWriter(inMemoryBytes, StandardCharsets.UTF_8)) {
-      try (CsvExporter csvExporter =
-          new CsvExporter(
-              exportConfig.columns(),
-              config.getString("play.http.secret.key"),
-              writer,
-              dateConverter)) {
-        boolean shouldCheckEligibility =
-            currentProgram.isPresent() && currentProgram.get().hasEligibilityEnabled();
-
-        for (ApplicationModel application : applications) {
-          ProgramDefinition programDefForApplication =
-              getProgramDefinition.apply(application.getProgram().id);
-          ReadOnlyApplicantProgramService roApplicantService =
-              applicantService.getReadOnlyApplicantProgramService(
-                  application, programDefForApplication);
-
-          Optional<Boolean> optionalEligibilityStatus =
-              shouldCheckEligibility
-                  ? applicantService.getApplicationEligibilityStatus(
-                      application, programDefForApplication)
-                  : Optional.empty();
-
-          csvExporter.exportRecord(
-              application, roApplicantService, optionalEligibilityStatus, programDefForApplication);
-        }
+    return exportCsv(
+        exportConfig,
+        applications,
+        getProgramDefinition,
+        currentProgram,
+        /* printHeader= */ true);
+  }
+
+  /**
+   * Export a CSV using the provided CsvExportConfig and applications.
+   *
+   * @param exportConfig the CsvExportConfig to use
+   * @param applications the list of ApplicationModels to export
+   * @param getProgramDefinition a function used to retrieve the ProgramDefinition by ID
+   * @param currentProgram the current program definition
+   * @param printHeader whether the CSV should start with the header row
+   */
+  private String exportCsv(
+      CsvExportConfig exportConfig,
+      ImmutableList<ApplicationModel> applications,
+      Function<Long, ProgramDefinition> getProgramDefinition,
+      Optional<ProgramDefinition> currentProgram,
+      boolean printHeader) {
+    StringWriter writer = new StringWriter();
+    if (printHeader) {
+      // The header is printed as soon as the exporter is created, so it only needs to be closed.
+      try {
+        new CsvExporter(
+                exportConfig.columns(),
+                config.getString("play.http.secret.key"),
+                writer,
+                dateConverter,
+                /* printHeader= */ true)
+            .close();
+      } catch (IOException e) {
+        // Since it's an in-memory writer, this shouldn't happen.  Catch so that callers don't
+        // have to deal with it.
+        throw new RuntimeException(e);
       }
+    }
+
+    boolean shouldCheckEligibility =
+        currentProgram.isPresent() && currentProgram.get().hasEligibilityEnabled();
+    // Each record is rendered separately so that the applications can be processed in parallel,
+    // and then written out in the same order as the applications.
+    parallelExportRenderer.renderInOrder(
+        applications,
+        application ->
+            exportRecord(
+                exportConfig,
+                application,
+                application.getApplicantData(),
+                getProgramDefinition,
+                shouldCheckEligibility),
+        writer::write);
+    return writer.toString();
+  }
+
+  /**
+   * Renders a single CSV record, including the record separator, for {@code application} with the
+   * answers in {@code applicantData}.
+   */
+  private String exportRecord(
+      CsvExportConfig exportConfig,
+      ApplicationModel application,
+      ApplicantData applicantData,
+      Function<Long, ProgramDefinition> getProgramDefinition,
+      boolean shouldCheckEligibility) {
+    StringWriter writer = new StringWriter();
+    try (CsvExporter csvExporter =
+        new CsvExporter(
+            exportConfig.columns(),
+            config.getString("play.http.secret.key"),
+            writer,
+            dateConverter,
+            /* printHeader= */ false)) {
+      ProgramDefinition programDefForApplication =
+          getProgramDefinition.apply(application.getProgram().id);
+      ReadOnlyApplicantProgramService roApplicantService =
+          applicantService.getReadOnlyApplicantProgramService(
+              application, applicantData, programDefForApplication);
+
+      Optional<Boolean> optionalEligibilityStatus =
+          shouldCheckEligibility
+              ? applicantService.getApplicationEligibilityStatus(
+                  application, programDefForApplication)
+              : Optional.empty();
+
+      csvExporter.exportRecord(
+          application, roApplicantService, optionalEligibilityStatus, programDefForApplication);
     } catch (IOException e) {
       // Since it's an in-memory writer, this shouldn't happen.  Catch so that callers don't
       // have to deal with it.
       throw new RuntimeException(e);
     }
-    return inMemoryBytes.toString();
+    return writer.toString();
   }
 
   /**
@@ -237,26 +572,116 @@ public final class CsvExporterService {
    * TODO(#6746): Include repeated questions in the demographic export
    */
   public String getDemographicsCsv(TimeFilter filter) {
+    CsvExportConfig exportConfig = getDemographicsExporterConfig();
+    ImmutableSet<String> answerKeys = getAnswerKeys(exportConfig);
+    StringBuilder csv = new StringBuilder(renderDemographicsHeader(exportConfig));
+    Optional<Pair<Long, String>> page =
+        renderDemographicsPage(exportConfig, answerKeys, filter, /* afterId= */ 0L);
+    while (page.isPresent()) {
+      csv.append(page.get().second());
+      page = renderDemographicsPage(exportConfig, answerKeys, filter, page.get().first());
+    }
+    return csv.toString();
+  }
+
+  /**
+   * Return a {@link Source} that streams the same CSV as {@link #getDemographicsCsv}.
+   *
+   * <p>Applications are loaded a page at a time in order of id, and each page is rendered and
+   * handed to the stream before the next one is loaded, so memory use stays flat no matter how many
+   * applications there are in total. Pages are loaded and rendered on the database dispatcher.
+   */
+  public Source<ByteString, NotUsed> streamDemographicsCsv(TimeFilter filter) {
+    CsvExportConfig exportConfig = getDemographicsExporterConfig();
+    ImmutableSet<String> answerKeys = getAnswerKeys(exportConfig);
+
+    Source<ByteString, NotUsed> header =
+        Source.single(ByteString.fromString(renderDemographicsHeader(exportConfig)));
+    Source<ByteString, NotUsed> records =
+        Source.unfoldAsync(
+            /* afterId= */ 0L,
+            afterId ->
+                CompletableFuture.supplyAsync(
+                    () ->
+                        renderDemographicsPage(exportConfig, answerKeys, filter, afterId)
+                            .map(
+                                page ->
+                                    Pair.create(
+                                        page.first(), ByteString.fromString(page.second()))),
+                    databaseExecutionContext));
+    return header.concat(records);
+  }
+
+  private String renderDemographicsHeader(CsvExportConfig exportConfig) {
+    return exportCsv(
+        exportConfig,
+        ImmutableList.of(),
+        this::getProgramDefinitionForDemographics,
+        /* currentProgram= */ Optional.empty(),
+        /* printHeader= */ true);
+  }
+
+  /**
+   * Renders the demographics records of the page of applications with ids greater than {@code
+   * afterId}. Returns the records along with the id to render the next page after, or empty if
+   * there are no more applications.
+   *
+   * <p>Only the answers under {@code answerKeys} are loaded, since the export only has columns for
+   * demographic questions.
+   */
+  private Optional<Pair<Long, String>> renderDemographicsPage(
+      CsvExportConfig exportConfig,
+      ImmutableSet<String> answerKeys,
+      TimeFilter filter,
+      long afterId) {
+    ImmutableList<ApplicationModel> applications =
+        exportServiceRepository.getDemographicsApplicationsPage(
+            filter, afterId, STREAMING_EXPORT_PAGE_SIZE);
+    if (applications.isEmpty()) {
+      return Optional.empty();
+    }
+    ImmutableMap<Long, String> answersById =
+        exportServiceRepository.getAnswersWithKeys(
+            applications.stream().map(a -> a.id).collect(ImmutableList.toImmutableList()),
+            answerKeys);
+
+    StringWriter writer = new StringWriter();
+    parallelExportRenderer.renderInOrder(
+        applications,
+        application ->
+            exportRecord(
+                exportConfig,
+                application,
+                new ApplicantData(answersById.get(application.id)),
+                this::getProgramDefinitionForDemographics,
+                /* shouldCheckEligibility= */ false),
+        writer::write);
+    long lastId = applications.get(applications.size() - 1).id;
+    return Optional.of(Pair.create(lastId, writer.toString()));
+  }
+
+  /** Returns the keys directly under {@code applicant} of the answers the columns read from. */
+  private static ImmutableSet<String> getAnswerKeys(CsvExportConfig exportConfig) {
+    return exportConfig.columns().stream()
+        .map(Column::questionPath)
+        .flatMap(Optional::stream)
+        .map(path -> ApplicantData.topLevelAnswerPath(path).keyName())
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  private ProgramDefinition getProgramDefinitionForDemographics(long programId) {
     // Use the ProgramDefinition cache in the ProgramRepository, since we don't already have a local
     // cache of ProgramDefinitions. This will cause a database call for program definitions that
     // aren't yet in the cache.
     // TODO(#8147): Consider warming the program definition cache with definitions for all
     // programs.
-    Function<Long, ProgramDefinition> getProgramDefinition =
-        (id) -> {
-          try {
-            return programService.getFullProgramDefinition(id);
-          } catch (ProgramNotFoundException e) {
-            // This shouldn't happen, we used a known program ID when requesting the program
-            // definition
-            throw new RuntimeException(e);
-          }
-        };
-    return exportCsv(
-        getDemographicsExporterConfig(),
-        applicantService.getApplications(filter),
-        getProgramDefinition,
-        /* currentProgram= */ Optional.empty());
+    try {
+      return programService.getFullProgramDefinition(programId);
+    } catch (ProgramNotFoundException e) {
+      // This shouldn't happen, we used a known program ID when requesting the program
+      // definition
+      throw new RuntimeException(e);
+    }
   }
 
   private CsvExportConfig getDemographicsExporterConfig() {
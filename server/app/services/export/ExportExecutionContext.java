@@ -0,0 +1,18 @@
+package services.export;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.pekko.actor.ActorSystem;
+import play.libs.concurrent.CustomExecutionContext;
+
+/** Thread pool for rendering exported applications in parallel. */
+@Singleton
+public class ExportExecutionContext extends CustomExecutionContext {
+
+  @Inject
+  public ExportExecutionContext(ActorSystem actorSystem) {
+    super(checkNotNull(actorSystem), "export.dispatcher");
+  }
+}
@@ -10,7 +10,6 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 import models.ApplicationModel;
 import models.LifecycleStage;
@@ -39,6 +38,7 @@ public final class JsonExporterService {
   private final ProgramService programService;
   private final DateConverter dateConverter;
   private final QuestionJsonPresenter.Factory presenterFactory;
+  private final ParallelExportRenderer parallelExportRenderer;
   private static final String EMPTY_VALUE = "";
 
   @Inject
@@ -46,11 +46,13 @@ public final class JsonExporterService {
       ApplicantService applicantService,
       ProgramService programService,
       DateConverter dateConverter,
-      QuestionJsonPresenter.Factory presenterFactory) {
+      QuestionJsonPresenter.Factory presenterFactory,
+      ParallelExportRenderer parallelExportRenderer) {
     this.applicantService = checkNotNull(applicantService);
     this.programService = checkNotNull(programService);
     this.dateConverter = dateConverter;
     this.presenterFactory = checkNotNull(presenterFactory);
+    this.parallelExportRenderer = checkNotNull(parallelExportRenderer);
   }
 
   /**
@@ -122,19 +124,19 @@ public final class JsonExporterService {
     // object.
     String jsonStringTemplate = template.asJsonString();
 
-    // Then use the template when exporting each application.
-    DocumentContext jsonData =
-        applications.stream()
-            .map(
-                app ->
+    // Then use the template when exporting each application. Applications are converted to JSON in
+    // parallel, and added to the array in their original order.
+    DocumentContext jsonData = makeEmptyJsonArray();
+    parallelExportRenderer.renderInOrder(
+        applications,
+        app ->
+            convertExportDataToJson(
                     buildApplicationExportData(
-                        app, programDefinitionsForAllVersions.get(app.getProgram().id)))
-            .collect(
-                Collectors.collectingAndThen(
-                    ImmutableList.toImmutableList(),
-                    appDataList ->
-                        convertApplicationExportDataListToJsonArray(
-                            appDataList, jsonStringTemplate)));
+                        app, programDefinitionsForAllVersions.get(app.getProgram().id)),
+                    jsonStringTemplate)
+                .getDocumentContext()
+                .json(),
+        applicationJson -> jsonData.add("$", applicationJson));
 
     return jsonData.jsonString();
   }
@@ -0,0 +1,131 @@
+package services.export;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.math.IntMath;
+import com.typesafe.config.Config;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Renders the applications in an export on the {@link ExportExecutionContext}, several at a time,
+ * and hands the results to the caller in the order the applications were given.
+ *
+ * <p>Rendering an application, which involves parsing its applicant data, building its blocks and
+ * evaluating its predicates, is CPU bound and independent of every other application, so exports
+ * scale with the number of threads in the pool. {@link #renderInOrder} limits the number of
+ * applications that have been handed to the pool but not yet consumed to twice {@code
+ * export.parallelism}, so memory use doesn't grow with the size of the export, and with a
+ * parallelism of 1 renders applications on the calling thread. {@link #renderAllAsync} renders a
+ * bounded batch, such as a page of applications, without blocking the calling thread.
+ */
+@Singleton
+public final class ParallelExportRenderer {
+  private final Executor executor;
+  private final int parallelism;
+
+  @Inject
+  public ParallelExportRenderer(Config config, ExportExecutionContext exportExecutionContext) {
+    this(exportExecutionContext, config.getInt("export.parallelism"));
+  }
+
+  @VisibleForTesting
+  ParallelExportRenderer(Executor executor, int parallelism) {
+    checkArgument(parallelism > 0, "export.parallelism must be positive");
+    this.executor = checkNotNull(executor);
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Applies {@code render} to each of {@code items} and passes the results to {@code consumer} in
+   * the same order as {@code items}.
+   *
+   * <p>{@code render} may be called from several threads at once, but {@code consumer} is only
+   * called from the calling thread. If {@code render} throws, the exception is rethrown here and
+   * no further results are consumed.
+   */
+  public <T, R> void renderInOrder(
+      Iterable<T> items, Function<T, R> render, Consumer<R> consumer) {
+    if (parallelism == 1) {
+      for (T item : items) {
+        consumer.accept(render.apply(item));
+      }
+      return;
+    }
+
+    // Results are consumed from the head of the queue, so results that finish early wait in the
+    // queue until everything before them has been consumed.
+    ArrayDeque<CompletableFuture<R>> pending = new ArrayDeque<>();
+    int maxPending = parallelism * 2;
+    try {
+      for (T item : items) {
+        if (pending.size() == maxPending) {
+          consumer.accept(await(pending.removeFirst()));
+        }
+        pending.addLast(CompletableFuture.supplyAsync(() -> render.apply(item), executor));
+      }
+      while (!pending.isEmpty()) {
+        consumer.accept(await(pending.removeFirst()));
+      }
+    } finally {
+      pending.forEach(future -> future.cancel(/* mayInterruptIfRunning= */ false));
+    }
+  }
+
+  /**
+   * Applies {@code render} to each of {@code items} on the pool and completes with the results in
+   * the same order as {@code items}. The calling thread never waits for the pool.
+   *
+   * <p>{@code items} is split into one contiguous batch per thread, so all of them are held in
+   * memory at once. If {@code render} throws, the returned future completes exceptionally with what
+   * it threw as the cause.
+   */
+  public <T, R> CompletableFuture<ImmutableList<R>> renderAllAsync(
+      ImmutableList<T> items, Function<T, R> render) {
+    if (items.isEmpty()) {
+      return CompletableFuture.completedFuture(ImmutableList.of());
+    }
+    int batchSize = IntMath.divide(items.size(), parallelism, RoundingMode.CEILING);
+    ImmutableList<CompletableFuture<ImmutableList<R>>> batches =
+        Lists.partition(items, batchSize).stream()
+            .map(
+                batch ->
+                    CompletableFuture.supplyAsync(
+                        () -> batch.stream().map(render).collect(ImmutableList.toImmutableList()),
+                        executor))
+            .collect(ImmutableList.toImmutableList());
+    return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0]))
+        .thenApply(
+            unused ->
+                batches.stream()
+                    .flatMap(batch -> batch.join().stream())
+                    .collect(ImmutableList.toImmutableList()));
+  }
+
+  private static <R> R await(CompletableFuture<R> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      // Rethrow what render threw, rather than the wrapper, so callers see the same exceptions
+      // whether or not applications are rendered in parallel.
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
@@ -3,6 +3,7 @@ package services.monitoring;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 @Singleton
@@ -10,6 +11,8 @@ public final class EmailSendMetrics {
   private final Histogram emailExecutionTime;
   private final Counter emailSendCount;
   private final Counter emailFailCount;
+  private final Gauge emailOutboxPendingCount;
+  private final Counter emailOutboxRetryCount;
 
   @Inject
   public EmailSendMetrics() {
@@ -31,6 +34,18 @@ public final class EmailSendMetrics {
             .name("email_fail_total")
             .help("Number of emails that failed to send")
             .register();
+
+    emailOutboxPendingCount =
+        Gauge.build()
+            .name("email_outbox_pending")
+            .help("Number of emails in the outbox waiting to be sent or retried")
+            .register();
+
+    emailOutboxRetryCount =
+        Counter.build()
+            .name("email_outbox_retry_total")
+            .help("Number of failed email sends from the outbox that will be retried")
+            .register();
   }
 
   public Histogram getEmailExecutionTime() {
@@ -44,4 +59,12 @@ public final class EmailSendMetrics {
   public Counter getEmailFailCount() {
     return emailFailCount;
   }
+
+  public Gauge getEmailOutboxPendingCount() {
+    return emailOutboxPendingCount;
+  }
+
+  public Counter getEmailOutboxRetryCount() {
+    return emailOutboxRetryCount;
+  }
 }
@@ -0,0 +1,107 @@
+package services.monitoring;
+
+import com.google.common.collect.ImmutableList;
+import io.prometheus.client.Collector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Prometheus histogram of database query latency, labeled by query, built from the metrics Ebean
+ * collects.
+ *
+ * <p>Ebean doesn't report the latency of each query, only the count, total and max latency of each
+ * query since its metrics were last collected. So each collection is recorded as one query at the
+ * max latency and the rest at the mean latency of the others. The count and sum are exact, and a
+ * slow outlier always lands in its own bucket, so p95 and p99 can be estimated per query.
+ */
+public final class QueryLatencyHistogram extends Collector {
+  private static final double[] BUCKETS_SECONDS = {
+    0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+  };
+  private static final double MICROS_PER_SECOND = 1_000_000;
+
+  private final String name;
+  private final String help;
+  private final ImmutableList<String> labelNames;
+  private final ImmutableList<String> bucketLabelNames;
+  private final ConcurrentHashMap<ImmutableList<String>, Child> children =
+      new ConcurrentHashMap<>();
+
+  QueryLatencyHistogram(String name, String help, ImmutableList<String> labelNames) {
+    this.name = name;
+    this.help = help;
+    this.labelNames = labelNames;
+    this.bucketLabelNames = ImmutableList.<String>builder().addAll(labelNames).add("le").build();
+  }
+
+  /**
+   * Records {@code count} queries with the given labels, which took {@code totalMicros} in all and
+   * at most {@code maxMicros} each.
+   */
+  public void observe(
+      ImmutableList<String> labelValues, long count, long totalMicros, long maxMicros) {
+    if (count <= 0) {
+      return;
+    }
+    Child child = children.computeIfAbsent(labelValues, unused -> new Child());
+    child.add(maxMicros / MICROS_PER_SECOND, 1);
+    if (count > 1) {
+      double othersMeanMicros = Math.max(0, totalMicros - maxMicros) / (double) (count - 1);
+      child.add(othersMeanMicros / MICROS_PER_SECOND, count - 1);
+    }
+    child.sumSeconds.add(totalMicros / MICROS_PER_SECOND);
+  }
+
+  @Override
+  public List<MetricFamilySamples> collect() {
+    List<MetricFamilySamples.Sample> samples = new ArrayList<>();
+    children.forEach(
+        (labelValues, child) -> {
+          long cumulativeCount = 0;
+          for (int i = 0; i <= BUCKETS_SECONDS.length; i++) {
+            cumulativeCount += child.bucketCounts[i].sum();
+            String upperBound =
+                i < BUCKETS_SECONDS.length
+                    ? doubleToGoString(BUCKETS_SECONDS[i])
+                    : doubleToGoString(Double.POSITIVE_INFINITY);
+            samples.add(
+                new MetricFamilySamples.Sample(
+                    name + "_bucket",
+                    bucketLabelNames,
+                    ImmutableList.<String>builder().addAll(labelValues).add(upperBound).build(),
+                    cumulativeCount));
+          }
+          samples.add(
+              new MetricFamilySamples.Sample(
+                  name + "_count", labelNames, labelValues, cumulativeCount));
+          samples.add(
+              new MetricFamilySamples.Sample(
+                  name + "_sum", labelNames, labelValues, child.sumSeconds.sum()));
+        });
+    return ImmutableList.of(new MetricFamilySamples(name, Type.HISTOGRAM, help, samples));
+  }
+
+  /** The bucket counts and sum for one set of label values. */
+  private static final class Child {
+    // The last bucket counts queries slower than every bound, for the +Inf bucket.
+    private final LongAdder[] bucketCounts = new LongAdder[BUCKETS_SECONDS.length + 1];
+    private final DoubleAdder sumSeconds = new DoubleAdder();
+
+    private Child() {
+      for (int i = 0; i < bucketCounts.length; i++) {
+        bucketCounts[i] = new LongAdder();
+      }
+    }
+
+    private void add(double seconds, long count) {
+      int bucket = 0;
+      while (bucket < BUCKETS_SECONDS.length && seconds > BUCKETS_SECONDS[bucket]) {
+        bucket++;
+      }
+      bucketCounts[bucket].add(count);
+    }
+  }
+}
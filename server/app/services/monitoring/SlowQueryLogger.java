@@ -0,0 +1,51 @@
+package services.monitoring;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.ebean.ProfileLocation;
+import io.ebean.config.SlowQueryEvent;
+import io.ebean.config.SlowQueryListener;
+import io.prometheus.client.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs a sample of the database queries slower than Ebean's slow query threshold.
+ *
+ * <p>Only the SQL is logged, never the values bound to it, since they can hold applicant data. At
+ * most one query is logged per second so a slow database can't flood the logs, but every slow
+ * query is counted.
+ */
+public final class SlowQueryLogger implements SlowQueryListener {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryLogger.class);
+  private static final int MAX_SQL_LENGTH = 2000;
+
+  private static final Counter SLOW_QUERY_COUNT =
+      Counter.build()
+          .name("ebean_slow_queries_total")
+          .help("Count of database queries slower than the slow query threshold")
+          .labelNames("location")
+          .register();
+
+  private final RateLimiter logRateLimiter = RateLimiter.create(1.0);
+
+  @Override
+  public void process(SlowQueryEvent event) {
+    ProfileLocation profileLocation = event.getProfileLocation();
+    String location = profileLocation != null ? profileLocation.location() : "";
+    SLOW_QUERY_COUNT.labels(location).inc();
+
+    if (!logRateLimiter.tryAcquire()) {
+      return;
+    }
+    String sql = event.getSql();
+    if (sql.length() > MAX_SQL_LENGTH) {
+      sql = sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+    LOGGER.warn(
+        "Slow query: location=\"{}\", duration_ms={}, rows={}, sql=\"{}\"",
+        location,
+        event.getTimeMillis(),
+        event.getRowCount(),
+        sql);
+  }
+}
@@ -2,17 +2,28 @@ package services.pagination;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
+import java.util.function.Supplier;
 
 /** Contains a single page of results and pagination state for a paginated query. */
 public class PaginationResult<T> {
   private final boolean hasNext;
-  private final int numPages;
+  private final Supplier<Integer> numPages;
   private final ImmutableList<T> pageContents;
 
   public PaginationResult(boolean hasNext, int numPages, ImmutableList<T> pageContents) {
+    this(hasNext, () -> numPages, pageContents);
+  }
+
+  /**
+   * Creates a result whose number of pages is computed by {@code numPages} the first time it's
+   * asked for, so that callers that only page forward never pay for counting the rows.
+   */
+  public PaginationResult(
+      boolean hasNext, Supplier<Integer> numPages, ImmutableList<T> pageContents) {
     this.hasNext = hasNext;
-    this.numPages = numPages;
+    this.numPages = Suppliers.memoize(checkNotNull(numPages)::get);
     this.pageContents = checkNotNull(pageContents);
   }
 
@@ -21,7 +32,7 @@ public class PaginationResult<T> {
   }
 
   public int getNumPages() {
-    return this.numPages;
+    return this.numPages.get();
   }
 
   public ImmutableList<T> getPageContents() {
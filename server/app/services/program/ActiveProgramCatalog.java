@@ -0,0 +1,129 @@
+package services.program;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.typesafe.config.Config;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import models.VersionModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import repository.DatabaseExecutionContext;
+import repository.ProgramRepository;
+import repository.VersionRepository;
+import services.cache.CacheInvalidationBackend;
+import services.settings.SettingsManifest;
+
+/**
+ * Holds the {@link ProgramCatalog} of the ACTIVE version, so the applicant program index doesn't
+ * load and sync the active programs on every request.
+ *
+ * <p>When the version cache is enabled, the catalog is built once per ACTIVE version and replaced
+ * as a whole once a new version is published. When cache invalidations are shared between servers,
+ * {@link services.cache.CacheWarmer} refreshes the catalog on every server once it sees the new
+ * version, so the catalog is returned without querying the database. Otherwise, another server may
+ * have published, so the ACTIVE version is looked up to check that the catalog is still current.
+ */
+@Singleton
+public final class ActiveProgramCatalog {
+  private static final Logger logger = LoggerFactory.getLogger(ActiveProgramCatalog.class);
+
+  private final DatabaseExecutionContext databaseExecutionContext;
+  private final ProgramRepository programRepository;
+  private final ProgramService programService;
+  private final SettingsManifest settingsManifest;
+  private final VersionRepository versionRepository;
+  private final boolean isRefreshedOnEveryServer;
+
+  private final AtomicReference<Optional<ProgramCatalog>> catalog =
+      new AtomicReference<>(Optional.empty());
+
+  @Inject
+  public ActiveProgramCatalog(
+      Config config,
+      DatabaseExecutionContext databaseExecutionContext,
+      ProgramRepository programRepository,
+      ProgramService programService,
+      SettingsManifest settingsManifest,
+      VersionRepository versionRepository) {
+    this.databaseExecutionContext = checkNotNull(databaseExecutionContext);
+    this.programRepository = checkNotNull(programRepository);
+    this.programService = checkNotNull(programService);
+    this.settingsManifest = checkNotNull(settingsManifest);
+    this.versionRepository = checkNotNull(versionRepository);
+    this.isRefreshedOnEveryServer =
+        CacheInvalidationBackend.forString(config.getString("cache_invalidation_backend"))
+            .equals(Optional.of(CacheInvalidationBackend.POSTGRES));
+  }
+
+  /** Returns the catalog of the ACTIVE version, building it if it isn't current. */
+  public ProgramCatalog get() {
+    if (!settingsManifest.getVersionCacheEnabled()) {
+      return build(versionRepository.getActiveVersion());
+    }
+
+    Optional<ProgramCatalog> current = catalog.get();
+    if (current.isPresent() && isRefreshedOnEveryServer) {
+      return current.get();
+    }
+    VersionModel activeVersion = versionRepository.getActiveVersion();
+    if (current.isPresent() && current.get().versionId() == activeVersion.id) {
+      return current.get();
+    }
+    return refresh(activeVersion);
+  }
+
+  /**
+   * Returns the catalog of the ACTIVE version. The future is already complete if the catalog can
+   * be returned without querying the database, and otherwise completes on the database dispatcher.
+   */
+  public CompletionStage<ProgramCatalog> getAsync() {
+    Optional<ProgramCatalog> current = catalog.get();
+    if (current.isPresent()
+        && isRefreshedOnEveryServer
+        && settingsManifest.getVersionCacheEnabled()) {
+      return CompletableFuture.completedFuture(current.get());
+    }
+    return CompletableFuture.supplyAsync(this::get, databaseExecutionContext);
+  }
+
+  /** Builds the catalog of the ACTIVE version if it has changed since the catalog was built. */
+  public void refreshIfActiveVersionChanged() {
+    if (settingsManifest.getVersionCacheEnabled()) {
+      refresh(versionRepository.getActiveVersion());
+    }
+  }
+
+  private synchronized ProgramCatalog refresh(VersionModel activeVersion) {
+    Optional<ProgramCatalog> current = catalog.get();
+    // Versions are published in order of id, so a lower id was read before a concurrent publish.
+    if (current.isPresent() && current.get().versionId() >= activeVersion.id) {
+      return current.get();
+    }
+
+    long startTimeMillis = System.currentTimeMillis();
+    ProgramCatalog rebuilt = build(activeVersion);
+    catalog.set(Optional.of(rebuilt));
+    logger.info(
+        "Built program catalog for version {} with {} programs in {} ms",
+        activeVersion.id,
+        rebuilt.programs().size(),
+        System.currentTimeMillis() - startTimeMillis);
+    return rebuilt;
+  }
+
+  private ProgramCatalog build(VersionModel version) {
+    ImmutableList<ProgramDefinition> programs =
+        versionRepository.getProgramsForVersion(version).stream()
+            .map(programRepository::getShallowProgramDefinition)
+            .collect(ImmutableList.toImmutableList());
+    return new ProgramCatalog(
+        version.id,
+        programService.syncQuestionsToProgramDefinitions(programs).toCompletableFuture().join());
+  }
+}
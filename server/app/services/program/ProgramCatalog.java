@@ -0,0 +1,54 @@
+package services.program;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimaps;
+import java.util.Comparator;
+import java.util.Optional;
+import models.DisplayMode;
+
+/**
+ * An immutable snapshot of the programs in a version, with their question definitions synced and
+ * partitioned by {@link DisplayMode}. Unlike {@link ActiveAndDraftPrograms}, a catalog is meant to
+ * be shared between requests, so it is only built for ACTIVE versions, whose programs don't change.
+ * See {@link ActiveProgramCatalog}.
+ */
+public final class ProgramCatalog {
+
+  private final long versionId;
+  private final ImmutableList<ProgramDefinition> programs;
+  private final ImmutableMap<Long, ProgramDefinition> programsById;
+  private final ImmutableListMultimap<DisplayMode, ProgramDefinition> programsByDisplayMode;
+
+  ProgramCatalog(long versionId, ImmutableList<ProgramDefinition> programs) {
+    this.versionId = versionId;
+    this.programs =
+        programs.stream()
+            .sorted(Comparator.comparing(ProgramDefinition::id))
+            .collect(ImmutableList.toImmutableList());
+    this.programsById = Maps.uniqueIndex(this.programs, ProgramDefinition::id);
+    this.programsByDisplayMode = Multimaps.index(this.programs, ProgramDefinition::displayMode);
+  }
+
+  /** The id of the version the catalog was built from. */
+  public long versionId() {
+    return versionId;
+  }
+
+  /** All programs in the version, in order of id. */
+  public ImmutableList<ProgramDefinition> programs() {
+    return programs;
+  }
+
+  /** The program in the version with the given id, if there is one. */
+  public Optional<ProgramDefinition> program(long programId) {
+    return Optional.ofNullable(programsById.get(programId));
+  }
+
+  /** The programs in the version with the given display mode, in order of id. */
+  public ImmutableList<ProgramDefinition> programsWithDisplayMode(DisplayMode displayMode) {
+    return programsByDisplayMode.get(displayMode);
+  }
+}
@@ -430,6 +430,14 @@ public final class SettingsManifest extends AbstractSettingsManifest {
     return getInt("DATABASE_CONNECTION_POOL_SIZE");
   }
 
+  /**
+   * Database queries slower than this many milliseconds are counted, and a sample of them logged
+   * without their bound values. Defaults to 1000.
+   */
+  public Optional<Integer> getDatabaseSlowQueryThresholdMillis() {
+    return getInt("DATABASE_SLOW_QUERY_THRESHOLD_MILLIS");
+  }
+
   /** The database URL. */
   public Optional<String> getDbJdbcString() {
     return getString("DB_JDBC_STRING");
@@ -494,6 +502,14 @@ public final class SettingsManifest extends AbstractSettingsManifest {
     return getInt("AKKA_THROUGHPUT");
   }
 
+  /**
+   * The number of threads used to render applications in parallel when exporting them to CSV or
+   * JSON. Set to 1 to disable parallel rendering. Default value is 4.
+   */
+  public Optional<Integer> getExportThreadPoolSize() {
+    return getInt("EXPORT_THREAD_POOL_SIZE");
+  }
+
   /**
    * Region where the AWS SES service exists. If STORAGE_SERVICE_NAME is set to 'aws', it is also
    * the region where the AWS s3 service exists.
@@ -517,6 +533,22 @@ public final class SettingsManifest extends AbstractSettingsManifest {
     return getString("GRAPH_API_EMAIL_ACCOUNT");
   }
 
+  /**
+   * The most emails each server sends per second from the email outbox. Keep the total across
+   * servers within the email provider's sending rate quota.
+   */
+  public Optional<Integer> getEmailOutboxMaxSendsPerSecond() {
+    return getInt("EMAIL_OUTBOX_MAX_SENDS_PER_SECOND");
+  }
+
+  /**
+   * An integer specifying how many days an email is kept in the email outbox once it has been sent
+   * or given up on. Default value is 7.
+   */
+  public Optional<Integer> getEmailOutboxRetentionDays() {
+    return getInt("EMAIL_OUTBOX_RETENTION_DAYS");
+  }
+
   /** What static file storage provider to use. */
   public Optional<String> getStorageServiceName() {
     return getString("STORAGE_SERVICE_NAME");
@@ -883,13 +915,22 @@ public final class SettingsManifest extends AbstractSettingsManifest {
   }
 
   /**
-   * The number of server threads available for the durable job runner. More than a single thread
-   * will the server execute multiple jobs in parallel. Default value is 1.
+   * The number of server threads available for the durable job runner. With more than a single
+   * thread, each server runs up to that many recurring jobs in parallel, leasing each job to the
+   * server so that other servers skip it until the lease expires. Default value is 1.
    */
   public Optional<Integer> getDurableJobsThreadPoolSize() {
     return getInt("DURABLE_JOBS_THREAD_POOL_SIZE");
   }
 
+  /**
+   * An integer specifying how many days application exports requested by admins, and the files
+   * generated for them, are kept before they are deleted. Default value is 7.
+   */
+  public Optional<Integer> getApplicationExportsRetentionDays() {
+    return getInt("APPLICATION_EXPORTS_RETENTION_DAYS");
+  }
+
   /** Enables the feature that allows completed applications to be downloadable by PDF. */
   public boolean getApplicationExportable(RequestHeader request) {
     return getBool("APPLICATION_EXPORTABLE", request);
@@ -960,6 +1001,23 @@ public final class SettingsManifest extends AbstractSettingsManifest {
     return getBool("QUESTION_CACHE_ENABLED");
   }
 
+  /**
+   * How invalidations of the caches are shared between servers. 'local' only invalidates the
+   * caches of the server making a change. 'postgres' records invalidations in the database so
+   * every server applies them. Use 'postgres' when running more than one server.
+   */
+  public Optional<String> getCacheInvalidationBackend() {
+    return getString("CACHE_INVALIDATION_BACKEND");
+  }
+
+  /**
+   * Enables loading the active version's programs and questions into the caches when the server
+   * starts and after publishing, so the first applicants don't wait for them to load.
+   */
+  public boolean getCacheWarmupEnabled() {
+    return getBool("CACHE_WARMUP_ENABLED");
+  }
+
   /** Enables populating more fields in OIDC logout requests to admin identity provider. */
   public boolean getAdminOidcEnhancedLogoutEnabled() {
     return getBool("ADMIN_OIDC_ENHANCED_LOGOUT_ENABLED");
@@ -1550,6 +1608,14 @@ public final class SettingsManifest extends AbstractSettingsManifest {
                               /* isRequired= */ false,
                               SettingType.INT,
                               SettingMode.HIDDEN),
+                          SettingDescription.create(
+                              "DATABASE_SLOW_QUERY_THRESHOLD_MILLIS",
+                              "Database queries slower than this many milliseconds are counted,"
+                                  + " and a sample of them logged without their bound values."
+                                  + " Defaults to 1000.",
+                              /* isRequired= */ false,
+                              SettingType.INT,
+                              SettingMode.HIDDEN),
                           SettingDescription.create(
                               "DB_JDBC_STRING",
                               "The database URL.",
@@ -1620,6 +1686,14 @@ public final class SettingsManifest extends AbstractSettingsManifest {
                                   + " possible.",
                               /* isRequired= */ false,
                               SettingType.INT,
+                              SettingMode.HIDDEN),
+                          SettingDescription.create(
+                              "EXPORT_THREAD_POOL_SIZE",
+                              "The number of threads used to render applications in parallel when"
+                                  + " exporting them to CSV or JSON. Set to 1 to disable parallel"
+                                  + " rendering. Default value is 4.",
+                              /* isRequired= */ false,
+                              SettingType.INT,
                               SettingMode.HIDDEN))),
                   SettingsSection.create(
                       "Application File Upload Storage",
@@ -1839,6 +1913,21 @@ public final class SettingsManifest extends AbstractSettingsManifest {
                       "The email or account ID that graph API should use to send the email.",
                       /* isRequired= */ false,
                       SettingType.STRING,
+                      SettingMode.HIDDEN),
+                  SettingDescription.create(
+                      "EMAIL_OUTBOX_MAX_SENDS_PER_SECOND",
+                      "The most emails each server sends per second from the email outbox. Keep"
+                          + " the total across servers within the email provider's sending rate"
+                          + " quota.",
+                      /* isRequired= */ false,
+                      SettingType.INT,
+                      SettingMode.HIDDEN),
+                  SettingDescription.create(
+                      "EMAIL_OUTBOX_RETENTION_DAYS",
+                      "An integer specifying how many days an email is kept in the email outbox"
+                          + " once it has been sent or given up on. Default value is 7.",
+                      /* isRequired= */ false,
+                      SettingType.INT,
                       SettingMode.HIDDEN))),
           "Email Addresses",
           SettingsSection.create(
@@ -1986,9 +2075,18 @@ public final class SettingsManifest extends AbstractSettingsManifest {
                       SettingMode.HIDDEN),
                   SettingDescription.create(
                       "DURABLE_JOBS_THREAD_POOL_SIZE",
-                      "The number of server threads available for the durable job runner. More than"
-                          + " a single thread will the server execute multiple jobs in parallel."
-                          + " Default value is 1.",
+                      "The number of server threads available for the durable job runner. With"
+                          + " more than a single thread, each server runs up to that many recurring"
+                          + " jobs in parallel, leasing each job to the server so that other servers"
+                          + " skip it until the lease expires. Default value is 1.",
+                      /* isRequired= */ false,
+                      SettingType.INT,
+                      SettingMode.HIDDEN),
+                  SettingDescription.create(
+                      "APPLICATION_EXPORTS_RETENTION_DAYS",
+                      "An integer specifying how many days application exports requested by"
+                          + " admins, and the files generated for them, are kept before they are"
+                          + " deleted. Default value is 7.",
                       /* isRequired= */ false,
                       SettingType.INT,
                       SettingMode.HIDDEN))),
@@ -2074,6 +2172,24 @@ public final class SettingsManifest extends AbstractSettingsManifest {
                       /* isRequired= */ false,
                       SettingType.BOOLEAN,
                       SettingMode.HIDDEN),
+                  SettingDescription.create(
+                      "CACHE_INVALIDATION_BACKEND",
+                      "How invalidations of the caches are shared between servers. 'local' only"
+                          + " invalidates the caches of the server making a change. 'postgres'"
+                          + " records invalidations in the database so every server applies them."
+                          + " Use 'postgres' when running more than one server.",
+                      /* isRequired= */ false,
+                      SettingType.ENUM,
+                      SettingMode.HIDDEN,
+                      ImmutableList.of("local", "postgres")),
+                  SettingDescription.create(
+                      "CACHE_WARMUP_ENABLED",
+                      "Enables loading the active version's programs and questions into the caches"
+                          + " when the server starts and after publishing, so the first applicants"
+                          + " don't wait for them to load.",
+                      /* isRequired= */ false,
+                      SettingType.BOOLEAN,
+                      SettingMode.HIDDEN),
                   SettingDescription.create(
                       "ADMIN_OIDC_ENHANCED_LOGOUT_ENABLED",
                       "Enables populating more fields in OIDC logout requests to admin identity"
@@ -11,10 +11,17 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Streams;
 import com.google.inject.Inject;
+import com.typesafe.config.Config;
 import controllers.BadRequestException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
+import javax.inject.Singleton;
 import models.SettingsGroupModel;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -31,10 +38,17 @@ import repository.SettingsGroupRepository;
  * <p>Each time an admin updates the server settings using the admin UI, a SettingsGroup is saved.
  * The latest snapshot is used to provide settings for a given request to the server.
  *
- * <p>On each incoming request, the most recent SettingsGroup is loaded and its settings map stored
- * in the attributes of the incoming {@link play.mvc.Http.Request} object for ease of access
- * throughout the request lifecycle.
+ * <p>On each incoming request, the settings map of the most recent SettingsGroup is stored in the
+ * attributes of the incoming {@link play.mvc.Http.Request} object for ease of access throughout the
+ * request lifecycle.
+ *
+ * <p>To avoid loading the SettingsGroup on every request, the service keeps a snapshot of the most
+ * recent one. At most once every {@code settings.refresh_interval_seconds}, a request checks the id
+ * of the most recent SettingsGroup in the database, and the settings are only reloaded if it has
+ * changed. Settings saved through this server are applied to the snapshot immediately, and settings
+ * saved through another server are picked up within the refresh interval.
  */
+@Singleton
 public final class SettingsService {
 
   /** The key used in {@link play.mvc.Http.Request} attributes to store system settings. */
@@ -45,12 +59,23 @@ public final class SettingsService {
 
   private final SettingsGroupRepository settingsGroupRepository;
   private final SettingsManifest settingsManifest;
+  private final Clock clock;
+  private final Duration refreshInterval;
+
+  /** The most recently loaded settings, or null if they haven't been loaded yet. */
+  private final AtomicReference<SettingsSnapshot> snapshot = new AtomicReference<>();
 
   @Inject
   public SettingsService(
-      SettingsGroupRepository settingsGroupRepository, SettingsManifest settingsManifest) {
+      SettingsGroupRepository settingsGroupRepository,
+      SettingsManifest settingsManifest,
+      Config config,
+      Clock clock) {
     this.settingsGroupRepository = checkNotNull(settingsGroupRepository);
     this.settingsManifest = checkNotNull(settingsManifest);
+    this.clock = checkNotNull(clock);
+    this.refreshInterval =
+        Duration.ofSeconds(checkNotNull(config).getLong("settings.refresh_interval_seconds"));
   }
 
   /**
@@ -64,12 +89,14 @@ public final class SettingsService {
   }
 
   /**
-   * Loads the server settings from the database and returns a new request that has the settings in
-   * the request attributes. If no settings are found an error is logged and the request argument is
-   * returned.
+   * Returns a new request that has the server settings in the request attributes. If no settings
+   * are found an error is logged and the request argument is returned.
+   *
+   * <p>The settings come from the in-memory snapshot unless it is due to be checked against the
+   * database.
    */
   public CompletionStage<Http.RequestHeader> applySettingsToRequest(Http.RequestHeader request) {
-    return loadSettings()
+    return getSnapshotSettings()
         .thenApply(
             maybeSettings -> {
               if (maybeSettings.isEmpty()) {
@@ -84,6 +111,40 @@ public final class SettingsService {
             });
   }
 
+  /**
+   * Returns the settings in the snapshot, first refreshing the snapshot if it hasn't been checked
+   * against the database within the refresh interval.
+   */
+  private CompletionStage<Optional<ImmutableMap<String, String>>> getSnapshotSettings() {
+    SettingsSnapshot currentSnapshot = snapshot.get();
+    Instant now = clock.instant();
+    if (currentSnapshot != null
+        && now.isBefore(currentSnapshot.checkedAt().plus(refreshInterval))) {
+      return CompletableFuture.completedFuture(currentSnapshot.settings());
+    }
+
+    return settingsGroupRepository
+        .getCurrentSettingsId()
+        .thenCompose(
+            maybeSettingsGroupId -> {
+              if (currentSnapshot != null
+                  && currentSnapshot.settingsGroupId().equals(maybeSettingsGroupId)) {
+                // Nothing has changed, so only the time the snapshot was checked needs updating.
+                snapshot.compareAndSet(currentSnapshot, currentSnapshot.withCheckedAt(now));
+                return CompletableFuture.completedFuture(currentSnapshot.settings());
+              }
+              return settingsGroupRepository
+                  .getCurrentSettings()
+                  .thenApply(
+                      maybeSettingsGroup -> {
+                        SettingsSnapshot newSnapshot =
+                            SettingsSnapshot.create(maybeSettingsGroup, now);
+                        snapshot.set(newSnapshot);
+                        return newSnapshot.settings();
+                      });
+            });
+  }
+
   /** Update settings stored in the database. */
   public SettingsGroupUpdateResult updateSettings(
       ImmutableMap<String, String> newSettings, CiviFormProfile profile) {
@@ -113,6 +174,7 @@ public final class SettingsService {
 
     var newSettingsGroup = new SettingsGroupModel(newSettings, papertrail);
     newSettingsGroup.save();
+    snapshot.set(SettingsSnapshot.create(Optional.of(newSettingsGroup), clock.instant()));
 
     return SettingsGroupUpdateResult.success();
   }
@@ -269,6 +331,7 @@ public final class SettingsService {
 
     var group = new SettingsGroupModel(settings, "system");
     group.save();
+    snapshot.set(SettingsSnapshot.create(Optional.of(group), clock.instant()));
 
     LOGGER.info("Migrated {} settings from config to database.", settings.size());
 
@@ -292,6 +355,30 @@ public final class SettingsService {
     }
   }
 
+  /** The settings of the most recent {@link SettingsGroupModel}, as of {@code checkedAt}. */
+  @AutoValue
+  abstract static class SettingsSnapshot {
+
+    static SettingsSnapshot create(
+        Optional<SettingsGroupModel> maybeSettingsGroup, Instant checkedAt) {
+      return new AutoValue_SettingsService_SettingsSnapshot(
+          maybeSettingsGroup.map(settingsGroup -> settingsGroup.id),
+          maybeSettingsGroup.map(SettingsGroupModel::getSettings),
+          checkedAt);
+    }
+
+    abstract Optional<Long> settingsGroupId();
+
+    abstract Optional<ImmutableMap<String, String>> settings();
+
+    abstract Instant checkedAt();
+
+    SettingsSnapshot withCheckedAt(Instant newCheckedAt) {
+      return new AutoValue_SettingsService_SettingsSnapshot(
+          settingsGroupId(), settings(), newCheckedAt);
+    }
+  }
+
   /** Represents the result of an update attempt. */
   @AutoValue
   public abstract static class SettingsGroupUpdateResult {
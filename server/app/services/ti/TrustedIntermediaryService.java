@@ -8,7 +8,6 @@ import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
 import javax.inject.Inject;
 import models.AccountModel;
@@ -22,6 +21,7 @@ import services.DateConverter;
 import services.MessageKey;
 import services.PhoneValidationUtils;
 import services.applicant.exception.ApplicantNotFoundException;
+import services.pagination.PaginationResult;
 
 /**
  * Service Class for TrustedIntermediaryController.
@@ -222,61 +222,53 @@ public final class TrustedIntermediaryService {
   }
 
   /**
-   * Gets all the TrustedIntermediaryAccount managed by the given TI Group with/without filtering
+   * Gets a page of the TrustedIntermediaryAccounts managed by the given TI Group with/without
+   * filtering
    *
    * @param searchParameters - This object contains a nameQuery, a dayQuery, a monthQuery and a
-   *     yearQuery String. If all are empty, an unfiltered list of accounts is returned. If
-   *     nameQuery is present, a match between the Account holder's name and the nameQuery is
-   *     performed. If dayQuery, monthQuery and yearQuery are present, a match between the Account
-   *     holder's Date of Birth and the date queries is performed. The matched results are collected
-   *     and sent as an Immutable List. If name query is empty and only some of the date queries are
-   *     present, but not all, an empty list is returned.
+   *     yearQuery String. If all are empty, the accounts are not filtered. If nameQuery is present,
+   *     a match between the Account holder's name and the nameQuery is performed. If dayQuery,
+   *     monthQuery and yearQuery are present, a match between the Account holder's Date of Birth
+   *     and the date queries is performed. If name query is empty and only some of the date queries
+   *     are present, but not all, an empty list is returned.
    * @param tiGroup - this is TrustedIntermediaryGroup for which the list of associated account is
-   *     requested. This is needed to fetch all the accounts from the user repository.
-   * @return a result object containing the ListOfAccounts which may be filtered by the Search
+   *     requested.
+   * @param pageSize - the number of accounts on each page, which are sorted by name.
+   * @param page - the page of accounts to return, starting at 1.
+   * @return a result object containing the page of accounts which may be filtered by the Search
    *     Parameter and an optional errorMessage which is generated if the filtering has failed.
    */
   public TrustedIntermediarySearchResult getManagedAccounts(
-      SearchParameters searchParameters, TrustedIntermediaryGroupModel tiGroup) {
-    ImmutableList<AccountModel> allAccounts = tiGroup.getManagedAccounts();
+      SearchParameters searchParameters,
+      TrustedIntermediaryGroupModel tiGroup,
+      int pageSize,
+      int page) {
     List<SearchParameters.ParamTypes> missingParams = findMissingSearchParams(searchParameters);
     if (missingParams.size() == 4) {
-      return new TrustedIntermediarySearchResult(allAccounts);
+      return new TrustedIntermediarySearchResult(
+          accountRepository.searchTrustedIntermediaryClients(
+              tiGroup, Optional.empty(), Optional.empty(), pageSize, page));
     }
-    final ImmutableList<AccountModel> searchedResult;
+    final Optional<LocalDate> maybeDOB;
     try {
-      searchedResult = searchAccounts(searchParameters, allAccounts, missingParams);
+      maybeDOB = validateAndConvertSearchParamDOB(searchParameters, missingParams);
     } catch (DateTimeParseException e) {
       return new TrustedIntermediarySearchResult(
-          allAccounts, Optional.of("Please enter a valid birth date."));
+          accountRepository.searchTrustedIntermediaryClients(
+              tiGroup, Optional.empty(), Optional.empty(), pageSize, page),
+          Optional.of("Please enter a valid birth date."));
     }
-    return new TrustedIntermediarySearchResult(searchedResult);
-  }
-
-  private ImmutableList<AccountModel> searchAccounts(
-      SearchParameters searchParameters,
-      ImmutableList<AccountModel> allAccounts,
-      List<SearchParameters.ParamTypes> missingParams) {
-    Optional<LocalDate> maybeDOB =
-        validateAndConvertSearchParamDOB(searchParameters, missingParams);
-    return allAccounts.stream()
-        .filter(
-            account ->
-                ((account.newestApplicant().get().getDateOfBirth().isPresent()
-                        && maybeDOB.isPresent()
-                        && account
-                            .newestApplicant()
-                            .get()
-                            .getDateOfBirth()
-                            .get()
-                            .equals(maybeDOB.get()))
-                    || (!missingParams.contains(SearchParameters.ParamTypes.NAME)
-                        && account
-                            .getApplicantDisplayName()
-                            .toLowerCase(Locale.ROOT)
-                            .contains(
-                                searchParameters.nameQuery().get().toLowerCase(Locale.ROOT)))))
-        .collect(ImmutableList.toImmutableList());
+    Optional<String> maybeName =
+        missingParams.contains(SearchParameters.ParamTypes.NAME)
+            ? Optional.empty()
+            : searchParameters.nameQuery();
+    if (maybeName.isEmpty() && maybeDOB.isEmpty()) {
+      return new TrustedIntermediarySearchResult(
+          new PaginationResult<>(/* hasNext= */ false, /* numPages= */ 0, ImmutableList.of()));
+    }
+    return new TrustedIntermediarySearchResult(
+        accountRepository.searchTrustedIntermediaryClients(
+            tiGroup, maybeName, maybeDOB, pageSize, page));
   }
 
   public static List<SearchParameters.ParamTypes> findMissingSearchParams(
@@ -60,6 +60,7 @@ public final class ProgramApplicationListView extends BaseHtmlView {
   private static final String SEARCH_PARAM = "search";
   private static final String APPLICATION_STATUS_PARAM = "applicationStatus";
   private static final String IGNORE_FILTERS_PARAM = "ignoreFilters";
+  private static final String EXPORT_FORMAT_PARAM = "format";
   private static final String SHOW_DOWNLOAD_MODAL = "showDownloadModal";
 
   private final AdminLayout layout;
@@ -92,7 +93,8 @@ public final class ProgramApplicationListView extends BaseHtmlView {
       Optional<String> selectedApplicationUri,
       Optional<Boolean> showDownloadModal) {
     Modal downloadModal =
-        renderDownloadApplicationsModal(program, filterParams, showDownloadModal.orElse(false));
+        renderDownloadApplicationsModal(
+            request, program, filterParams, showDownloadModal.orElse(false));
 
     boolean hasEligibilityEnabled = program.hasEligibilityEnabled();
 
@@ -270,7 +272,10 @@ public final class ProgramApplicationListView extends BaseHtmlView {
   }
 
   private Modal renderDownloadApplicationsModal(
-      ProgramDefinition program, RenderFilterParams filterParams, boolean showDownloadModal) {
+      Http.Request request,
+      ProgramDefinition program,
+      RenderFilterParams filterParams,
+      boolean showDownloadModal) {
     String modalId = "download-program-applications-modal";
     DivTag modalContent =
         div()
@@ -340,6 +345,45 @@ public final class ProgramApplicationListView extends BaseHtmlView {
                                                 /* applicationStatus= */ Optional.empty(),
                                                 /* ignoreFilters= */ Optional.empty())
                                             .url())
+                                    .withType("submit"))),
+                form()
+                    .withMethod("POST")
+                    .withAction(
+                        routes.AdminApplicationController.requestExport(program.id()).url())
+                    .withClasses("mt-8")
+                    .with(
+                        makeCsrfTokenInputTag(request),
+                        p("For programs with many applications, export the current results in"
+                                + " the background and download the file once it is ready.")
+                            .withClasses("text-sm"),
+                        input()
+                            .withName(FROM_DATE_PARAM)
+                            .isHidden()
+                            .withValue(filterParams.fromDate().orElse("")),
+                        input()
+                            .withName(UNTIL_DATE_PARAM)
+                            .isHidden()
+                            .withValue(filterParams.untilDate().orElse("")),
+                        input()
+                            .withName(SEARCH_PARAM)
+                            .isHidden()
+                            .withValue(filterParams.search().orElse("")),
+                        input()
+                            .withName(APPLICATION_STATUS_PARAM)
+                            .isHidden()
+                            .withValue(filterParams.selectedApplicationStatus().orElse("")),
+                        div()
+                            .withClasses("flex", "mt-4", "space-x-2")
+                            .with(
+                                TagCreator.button("Export CSV in background")
+                                    .withName(EXPORT_FORMAT_PARAM)
+                                    .withValue("csv")
+                                    .withClasses(ButtonStyles.OUTLINED_TRANSPARENT)
+                                    .withType("submit"),
+                                TagCreator.button("Export JSON in background")
+                                    .withName(EXPORT_FORMAT_PARAM)
+                                    .withValue("json")
+                                    .withClasses(ButtonStyles.OUTLINED_TRANSPARENT)
                                     .withType("submit"))));
     return Modal.builder()
         .setModalId(modalId)
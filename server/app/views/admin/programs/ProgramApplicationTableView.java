@@ -12,6 +12,7 @@ import static j2html.TagCreator.input;
 import static j2html.TagCreator.label;
 import static j2html.TagCreator.legend;
 import static j2html.TagCreator.option;
+import static j2html.TagCreator.p;
 import static j2html.TagCreator.select;
 import static j2html.TagCreator.span;
 import static j2html.TagCreator.table;
@@ -74,6 +75,7 @@ public class ProgramApplicationTableView extends BaseHtmlView {
   private static final String SEARCH_PARAM = "search";
   private static final String APPLICATION_STATUS_PARAM = "applicationStatus";
   private static final String IGNORE_FILTERS_PARAM = "ignoreFilters";
+  private static final String EXPORT_FORMAT_PARAM = "format";
   private static final String SHOW_DOWNLOAD_MODAL = "showDownloadModal";
 
   private final AdminLayout layout;
@@ -109,7 +111,8 @@ public class ProgramApplicationTableView extends BaseHtmlView {
       Optional<Boolean> showDownloadModal,
       Optional<String> message) {
     Modal downloadModal =
-        renderDownloadApplicationsModal(program, filterParams, showDownloadModal.orElse(false));
+        renderDownloadApplicationsModal(
+            request, program, filterParams, showDownloadModal.orElse(false));
 
     DivTag applicationListDiv =
         div()
@@ -276,6 +279,7 @@ public class ProgramApplicationTableView extends BaseHtmlView {
   }
 
   private Modal renderDownloadApplicationsModal(
+      Http.Request request,
       ProgramDefinition program,
       ProgramApplicationListView.RenderFilterParams filterParams,
       boolean showDownloadModal) {
@@ -348,6 +352,45 @@ public class ProgramApplicationTableView extends BaseHtmlView {
                                                 /* applicationStatus= */ Optional.empty(),
                                                 /* ignoreFilters= */ Optional.empty())
                                             .url())
+                                    .withType("submit"))),
+                form()
+                    .withMethod("POST")
+                    .withAction(
+                        routes.AdminApplicationController.requestExport(program.id()).url())
+                    .withClasses("mt-8")
+                    .with(
+                        makeCsrfTokenInputTag(request),
+                        p("For programs with many applications, export the current results in"
+                                + " the background and download the file once it is ready.")
+                            .withClasses("text-sm"),
+                        input()
+                            .withName(FROM_DATE_PARAM)
+                            .isHidden()
+                            .withValue(filterParams.fromDate().orElse("")),
+                        input()
+                            .withName(UNTIL_DATE_PARAM)
+                            .isHidden()
+                            .withValue(filterParams.untilDate().orElse("")),
+                        input()
+                            .withName(SEARCH_PARAM)
+                            .isHidden()
+                            .withValue(filterParams.search().orElse("")),
+                        input()
+                            .withName(APPLICATION_STATUS_PARAM)
+                            .isHidden()
+                            .withValue(filterParams.selectedApplicationStatus().orElse("")),
+                        div()
+                            .withClasses("flex", "mt-4", "space-x-2")
+                            .with(
+                                TagCreator.button("Export CSV in background")
+                                    .withName(EXPORT_FORMAT_PARAM)
+                                    .withValue("csv")
+                                    .withClasses(ButtonStyles.OUTLINED_TRANSPARENT)
+                                    .withType("submit"),
+                                TagCreator.button("Export JSON in background")
+                                    .withName(EXPORT_FORMAT_PARAM)
+                                    .withValue("json")
+                                    .withClasses(ButtonStyles.OUTLINED_TRANSPARENT)
                                     .withType("submit"))));
     return Modal.builder()
         .setModalId(modalId)
@@ -0,0 +1,109 @@
+package services;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import services.applicant.ApplicantData;
+import services.applicant.question.Scalar;
+
+/**
+ * Benchmarks parsing, copying, reading, and writing applicant answers, for applicants who have
+ * answered the questions of many programs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CfJsonDocumentContextBenchmark {
+  private static final int QUESTIONS_PER_PROGRAM = 15;
+  private static final int HOUSEHOLD_MEMBER_COUNT = 5;
+
+  @Param({"1", "10", "50"})
+  public int programCount;
+
+  private String json;
+  private ApplicantData applicantData;
+  private Path lastQuestionPath;
+  private Path repeatedQuestionPath;
+  private Path missingPath;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ApplicantData data = new ApplicantData();
+    for (int program = 0; program < programCount; program++) {
+      for (int question = 0; question < QUESTIONS_PER_PROGRAM; question++) {
+        Path questionPath = questionPath(program, question);
+        data.putString(questionPath.join(Scalar.TEXT), "An answer to question " + question);
+        data.putLong(questionPath.join(Scalar.PROGRAM_UPDATED_IN), program);
+        data.putLong(questionPath.join(Scalar.UPDATED_AT), 1690288712068L);
+      }
+    }
+    Path householdMembersPath = ApplicantData.APPLICANT_PATH.join("household_members[]");
+    for (int member = 0; member < HOUSEHOLD_MEMBER_COUNT; member++) {
+      Path memberPath = householdMembersPath.atIndex(member);
+      data.putString(memberPath.join(Scalar.ENTITY_NAME), "Member " + member);
+      data.putString(memberPath.join("member_name").join(Scalar.FIRST_NAME), "First");
+      data.putString(memberPath.join("member_name").join(Scalar.LAST_NAME), "Last");
+    }
+
+    json = data.asJsonString();
+    applicantData = new ApplicantData(json);
+    lastQuestionPath = questionPath(programCount - 1, QUESTIONS_PER_PROGRAM - 1).join(Scalar.TEXT);
+    repeatedQuestionPath =
+        householdMembersPath
+            .atIndex(HOUSEHOLD_MEMBER_COUNT - 1)
+            .join("member_name")
+            .join(Scalar.FIRST_NAME);
+    missingPath = ApplicantData.APPLICANT_PATH.join("not_answered").join(Scalar.TEXT);
+  }
+
+  @Benchmark
+  public ApplicantData parse() {
+    return new ApplicantData(json);
+  }
+
+  @Benchmark
+  public ApplicantData copy() {
+    return new ApplicantData(Optional.empty(), applicantData);
+  }
+
+  @Benchmark
+  public Optional<String> readString() {
+    return applicantData.readString(lastQuestionPath);
+  }
+
+  @Benchmark
+  public Optional<String> readString_repeatedQuestion() {
+    return applicantData.readString(repeatedQuestionPath);
+  }
+
+  @Benchmark
+  public boolean hasPath_missing() {
+    return applicantData.hasPath(missingPath);
+  }
+
+  @Benchmark
+  public String putStringAndSerialize() {
+    ApplicantData data = new ApplicantData(Optional.empty(), applicantData);
+    data.putString(lastQuestionPath, "A changed answer");
+    return data.asJsonString();
+  }
+
+  private static Path questionPath(int program, int question) {
+    return ApplicantData.APPLICANT_PATH.join(
+        String.format("program_%d_question_%d", program, question));
+  }
+}
@@ -0,0 +1,43 @@
+package services;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import services.applicant.question.Scalar;
+
+/** Benchmarks creating {@link Path}s, which happens for every answer that is read or written. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathBenchmark {
+
+  private final String flatPath = "applicant.applicant_favorite_color.text";
+  private final String repeatedPath =
+      "$.applicant.applicant_household_members[2].household_members_jobs[1].days_worked.number";
+  private final Path questionPath = Path.create("applicant.applicant_household_members[]");
+
+  @Benchmark
+  public Path create_flatPath() {
+    return Path.create(flatPath);
+  }
+
+  @Benchmark
+  public Path create_repeatedPath() {
+    return Path.create(repeatedPath);
+  }
+
+  @Benchmark
+  public Path atIndexAndJoinScalar() {
+    return questionPath.atIndex(2).join(Scalar.ENTITY_NAME);
+  }
+}
@@ -0,0 +1,125 @@
+package services.applicant;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import models.ApplicantModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import services.Path;
+import services.applicant.predicate.CompiledProgramPredicates;
+import services.applicant.predicate.JsonPathPredicateGeneratorFactory;
+import services.applicant.predicate.PredicateEvaluator;
+import services.applicant.question.Scalar;
+import services.program.ProgramDefinition;
+import support.BenchmarkFixture;
+
+/**
+ * Benchmarks the work done for an applicant on every page of a program: working out which screens
+ * they see, evaluating visibility and eligibility conditions, and saving a screen of answers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dconfig.resource=application.test.conf")
+@State(Scope.Benchmark)
+public class ApplicantServiceBenchmark {
+
+  private BenchmarkFixture fixture;
+  private ApplicantService applicantService;
+  private ProgramDefinition programDefinition;
+  private ApplicantModel applicant;
+  private ApplicantData applicantData;
+  private PredicateEvaluator predicateEvaluator;
+  private CompiledProgramPredicates compiledPredicates;
+  private Path firstNamePath;
+  private long saveCount = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    fixture = BenchmarkFixture.start();
+    applicantService = fixture.instanceOf(ApplicantService.class);
+    programDefinition = fixture.getProgramDefinition();
+    applicant = fixture.getApplicant();
+    applicantData = applicant.getApplicantData();
+    predicateEvaluator =
+        new PredicateEvaluator(
+            applicantData,
+            fixture
+                .instanceOf(JsonPathPredicateGeneratorFactory.class)
+                .create(
+                    programDefinition.streamQuestionDefinitions().collect(toImmutableList()),
+                    /* currentRepeatedContext= */ Optional.empty()));
+    compiledPredicates =
+        fixture.instanceOf(JsonPathPredicateGeneratorFactory.class).compile(programDefinition);
+    firstNamePath =
+        fixture
+            .getAnswerPath(fixture.getTestQuestionBank().nameApplicantName())
+            .join(Scalar.FIRST_NAME);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    fixture.stop();
+  }
+
+  @Benchmark
+  public ImmutableList<Block> getAllActiveBlocks() {
+    return applicantService
+        .getReadOnlyApplicantProgramService(applicantData, programDefinition)
+        .getAllActiveBlocks();
+  }
+
+  @Benchmark
+  public boolean evaluate_visibilityPredicate() {
+    return predicateEvaluator.evaluate(fixture.getVisibilityPredicate().rootNode());
+  }
+
+  @Benchmark
+  public boolean evaluate_eligibilityPredicate() {
+    return predicateEvaluator.evaluate(fixture.getEligibilityPredicate().rootNode());
+  }
+
+  @Benchmark
+  public boolean evaluate_compiledVisibilityPredicate() {
+    return compiledPredicates.evaluate(
+        fixture.getVisibilityPredicate().rootNode(), applicantData, Optional.empty());
+  }
+
+  @Benchmark
+  public boolean evaluate_compiledEligibilityPredicate() {
+    return compiledPredicates.evaluate(
+        fixture.getEligibilityPredicate().rootNode(), applicantData, Optional.empty());
+  }
+
+  @Benchmark
+  public ReadOnlyApplicantProgramService stageAndUpdateIfValid() {
+    // Change the answer each time, as the applicant would, so that every save writes.
+    ImmutableMap<String, String> updates =
+        ImmutableMap.of(firstNamePath.toString(), "Applicant " + saveCount++);
+    return applicantService
+        .stageAndUpdateIfValid(
+            applicant.id,
+            programDefinition.id(),
+            BenchmarkFixture.NAME_BLOCK_ID,
+            updates,
+            /* addressServiceAreaValidationEnabled= */ false,
+            /* forceUpdate= */ false)
+        .toCompletableFuture()
+        .join();
+  }
+}
@@ -0,0 +1,97 @@
+package services.export;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import models.ApplicationModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import services.DateConverter;
+import services.applicant.ApplicantService;
+import services.applicant.ReadOnlyApplicantProgramService;
+import services.export.enums.ColumnType;
+import services.pagination.PaginationResult;
+import services.program.ProgramDefinition;
+import support.BenchmarkFixture;
+
+/**
+ * Benchmarks rendering applications for the CSV and JSON exports, which admins and the API run over
+ * every application to a program.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dconfig.resource=application.test.conf")
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+
+  private BenchmarkFixture fixture;
+  private ApplicantService applicantService;
+  private JsonExporterService jsonExporterService;
+  private DateConverter dateConverter;
+  private ProgramDefinition programDefinition;
+  private ApplicationModel application;
+  private PaginationResult<ApplicationModel> page;
+  private ImmutableList<Column> columns;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    fixture = BenchmarkFixture.start();
+    applicantService = fixture.instanceOf(ApplicantService.class);
+    jsonExporterService = fixture.instanceOf(JsonExporterService.class);
+    dateConverter = fixture.instanceOf(DateConverter.class);
+    programDefinition = fixture.getProgramDefinition();
+    application = fixture.getApplications().get(0);
+    page =
+        new PaginationResult<>(
+            /* hasNext= */ false, /* numPages= */ 1, fixture.getApplications());
+
+    // A column for every answer to the program, as the program's CSV export has.
+    CsvColumnFactory csvColumnFactory = fixture.instanceOf(CsvColumnFactory.class);
+    columns =
+        applicantService
+            .getReadOnlyApplicantProgramService(application.getApplicantData(), programDefinition)
+            .getAllQuestions()
+            .filter(aq -> !CsvExporterService.NON_EXPORTED_QUESTION_TYPES.contains(aq.getType()))
+            .flatMap(aq -> csvColumnFactory.buildColumns(aq, ColumnType.APPLICANT_ANSWER))
+            .collect(ImmutableList.toImmutableList());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    fixture.stop();
+  }
+
+  @Benchmark
+  public String csvExportRecord() throws IOException {
+    StringWriter writer = new StringWriter();
+    try (CsvExporter csvExporter =
+        new CsvExporter(columns, "secret", writer, dateConverter, /* printHeader= */ false)) {
+      ReadOnlyApplicantProgramService roApplicantService =
+          applicantService.getReadOnlyApplicantProgramService(application, programDefinition);
+      csvExporter.exportRecord(
+          application,
+          roApplicantService,
+          applicantService.getApplicationEligibilityStatus(application, programDefinition),
+          programDefinition);
+    }
+    return writer.toString();
+  }
+
+  @Benchmark
+  public String jsonExportPage() {
+    return jsonExporterService.exportPage(programDefinition, page);
+  }
+}
@@ -0,0 +1,300 @@
+package support;
+
+import static play.test.Helpers.fakeApplication;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.DB;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import models.ApplicantModel;
+import models.ApplicationModel;
+import models.LifecycleStage;
+import models.Models;
+import models.ProgramModel;
+import models.QuestionModel;
+import models.VersionModel;
+import play.Application;
+import play.test.Helpers;
+import services.Path;
+import services.applicant.ApplicantData;
+import services.applicant.question.Scalar;
+import services.program.EligibilityDefinition;
+import services.program.ProgramDefinition;
+import services.program.ProgramNotFoundException;
+import services.program.ProgramService;
+import services.program.predicate.AndNode;
+import services.program.predicate.LeafOperationExpressionNode;
+import services.program.predicate.Operator;
+import services.program.predicate.PredicateAction;
+import services.program.predicate.PredicateDefinition;
+import services.program.predicate.PredicateExpressionNode;
+import services.program.predicate.PredicateValue;
+import services.question.QuestionAnswerer;
+import services.settings.SettingsService;
+
+/**
+ * A running CiviForm application whose database holds a realistic program, with applicants who
+ * have answered all of it, for benchmarks to run against.
+ *
+ * <p>The program has a screen for each commonly used question type, a screen with an eligibility
+ * condition, and a household members screen that is only shown for some answers and has nested
+ * repeated screens. Every applicant has answered all of it, for several household members with
+ * several jobs each, and has submitted an application.
+ *
+ * <p>Like the unit tests, this truncates the database it runs against.
+ */
+public final class BenchmarkFixture {
+  public static final int HOUSEHOLD_MEMBER_COUNT = 4;
+  public static final int JOBS_PER_HOUSEHOLD_MEMBER = 3;
+  public static final int APPLICATION_COUNT = 50;
+
+  /** The id of the screen with the applicant's name. */
+  public static final String NAME_BLOCK_ID = "2";
+
+  private final Application app;
+  private final TestQuestionBank testQuestionBank = new TestQuestionBank(true);
+  private final ProgramDefinition programDefinition;
+  private final PredicateDefinition visibilityPredicate;
+  private final PredicateDefinition eligibilityPredicate;
+  private final ImmutableList<ApplicationModel> applications;
+
+  private BenchmarkFixture(Application app) {
+    this.app = app;
+    ResourceCreator resourceCreator = new ResourceCreator(app.injector());
+    Models.truncate(DB.getDefault());
+    new VersionModel(LifecycleStage.ACTIVE).save();
+    instanceOf(SettingsService.class).migrateConfigValuesToSettingsGroup();
+
+    visibilityPredicate =
+        PredicateDefinition.create(
+            PredicateExpressionNode.create(
+                LeafOperationExpressionNode.create(
+                    testQuestionBank.textApplicantFavoriteColor().id,
+                    Scalar.TEXT,
+                    Operator.EQUAL_TO,
+                    PredicateValue.of("blue"))),
+            PredicateAction.SHOW_BLOCK);
+    eligibilityPredicate =
+        PredicateDefinition.create(
+            PredicateExpressionNode.create(
+                AndNode.create(
+                    ImmutableList.of(
+                        PredicateExpressionNode.create(
+                            LeafOperationExpressionNode.create(
+                                testQuestionBank.numberApplicantJugglingNumber().id,
+                                Scalar.NUMBER,
+                                Operator.GREATER_THAN,
+                                PredicateValue.of(2))),
+                        PredicateExpressionNode.create(
+                            LeafOperationExpressionNode.create(
+                                testQuestionBank.currencyApplicantMonthlyIncome().id,
+                                Scalar.CURRENCY_CENTS,
+                                Operator.LESS_THAN,
+                                PredicateValue.of(500000)))))),
+            PredicateAction.ELIGIBLE_BLOCK);
+    ProgramModel program = createProgram();
+    try {
+      programDefinition = instanceOf(ProgramService.class).getFullProgramDefinition(program.id);
+    } catch (ProgramNotFoundException e) {
+      throw new RuntimeException(e);
+    }
+
+    applications =
+        IntStream.range(0, APPLICATION_COUNT)
+            .mapToObj(
+                i -> {
+                  ApplicantModel applicant = resourceCreator.insertApplicantWithAccount();
+                  answerAllQuestions(applicant.getApplicantData(), "Applicant " + i);
+                  applicant.save();
+                  ApplicationModel application =
+                      new ApplicationModel(applicant, program, LifecycleStage.ACTIVE);
+                  application.setApplicantData(applicant.getApplicantData());
+                  application.save();
+                  return application;
+                })
+            .collect(ImmutableList.toImmutableList());
+  }
+
+  /** Starts the application and creates the fixture data. */
+  public static BenchmarkFixture start() {
+    Application app = fakeApplication();
+    Helpers.start(app);
+    ProgramBuilder.setInjector(app.injector());
+    return new BenchmarkFixture(app);
+  }
+
+  /** Stops the application. */
+  public void stop() {
+    Helpers.stop(app);
+  }
+
+  public <T> T instanceOf(Class<T> clazz) {
+    return app.injector().instanceOf(clazz);
+  }
+
+  /** The fixture program, as loaded by {@link ProgramService#getFullProgramDefinition}. */
+  public ProgramDefinition getProgramDefinition() {
+    return programDefinition;
+  }
+
+  /** The predicate that shows the household members screen. */
+  public PredicateDefinition getVisibilityPredicate() {
+    return visibilityPredicate;
+  }
+
+  /** The predicate on the eligibility screen. */
+  public PredicateDefinition getEligibilityPredicate() {
+    return eligibilityPredicate;
+  }
+
+  /** The submitted applications, one for each applicant. */
+  public ImmutableList<ApplicationModel> getApplications() {
+    return applications;
+  }
+
+  /** An applicant who has answered every question. */
+  public ApplicantModel getApplicant() {
+    return applications.get(0).getApplicant();
+  }
+
+  /** Returns the path to the answer to a question that isn't repeated. */
+  public Path getAnswerPath(QuestionModel question) {
+    return question
+        .getQuestionDefinition()
+        .getContextualizedPath(Optional.empty(), ApplicantData.APPLICANT_PATH);
+  }
+
+  public TestQuestionBank getTestQuestionBank() {
+    return testQuestionBank;
+  }
+
+  private ProgramModel createProgram() {
+    return ProgramBuilder.newActiveProgram("Benchmark program", "A program for benchmarks")
+        .withBlock("Favorite color")
+        .withRequiredQuestion(testQuestionBank.textApplicantFavoriteColor())
+        .withBlock("Name")
+        .withRequiredQuestion(testQuestionBank.nameApplicantName())
+        .withBlock("Contact information")
+        .withRequiredQuestions(
+            testQuestionBank.addressApplicantAddress(),
+            testQuestionBank.emailApplicantEmail(),
+            testQuestionBank.phoneApplicantPhone())
+        .withBlock("About you")
+        .withRequiredQuestions(
+            testQuestionBank.dateApplicantBirthdate(),
+            testQuestionBank.idApplicantId(),
+            testQuestionBank.dropdownApplicantIceCream(),
+            testQuestionBank.radioApplicantFavoriteSeason(),
+            testQuestionBank.checkboxApplicantKitchenTools())
+        .withBlock("Eligibility")
+        .withEligibilityDefinition(
+            EligibilityDefinition.builder().setPredicate(eligibilityPredicate).build())
+        .withRequiredQuestions(
+            testQuestionBank.numberApplicantJugglingNumber(),
+            testQuestionBank.currencyApplicantMonthlyIncome())
+        .withBlock("Household members")
+        .withVisibilityPredicate(visibilityPredicate)
+        .withRequiredQuestion(testQuestionBank.enumeratorApplicantHouseholdMembers())
+        .withRepeatedBlock("Household member name")
+        .withRequiredQuestion(testQuestionBank.nameRepeatedApplicantHouseholdMemberName())
+        .withAnotherRepeatedBlock("Household member jobs")
+        .withRequiredQuestion(testQuestionBank.enumeratorNestedApplicantHouseholdMemberJobs())
+        .withRepeatedBlock("Household member days worked")
+        .withRequiredQuestion(
+            testQuestionBank.numberNestedRepeatedApplicantHouseholdMemberDaysWorked())
+        .build();
+  }
+
+  private void answerAllQuestions(ApplicantData applicantData, String name) {
+    QuestionAnswerer.answerTextQuestion(
+        applicantData, getAnswerPath(testQuestionBank.textApplicantFavoriteColor()), "blue");
+    QuestionAnswerer.answerNameQuestion(
+        applicantData,
+        getAnswerPath(testQuestionBank.nameApplicantName()),
+        name,
+        "Q",
+        "Public",
+        "Jr");
+    QuestionAnswerer.answerAddressQuestion(
+        applicantData,
+        getAnswerPath(testQuestionBank.addressApplicantAddress()),
+        "700 5th Ave",
+        "Suite 100",
+        "Seattle",
+        "WA",
+        "98104");
+    QuestionAnswerer.answerEmailQuestion(
+        applicantData,
+        getAnswerPath(testQuestionBank.emailApplicantEmail()),
+        "applicant@example.com");
+    QuestionAnswerer.answerPhoneQuestion(
+        applicantData,
+        getAnswerPath(testQuestionBank.phoneApplicantPhone()),
+        "US",
+        "(615) 757-1010");
+    QuestionAnswerer.answerDateQuestion(
+        applicantData, getAnswerPath(testQuestionBank.dateApplicantBirthdate()), "1980-01-01");
+    QuestionAnswerer.answerIdQuestion(
+        applicantData, getAnswerPath(testQuestionBank.idApplicantId()), "012345");
+    QuestionAnswerer.answerSingleSelectQuestion(
+        applicantData, getAnswerPath(testQuestionBank.dropdownApplicantIceCream()), 2L);
+    QuestionAnswerer.answerSingleSelectQuestion(
+        applicantData, getAnswerPath(testQuestionBank.radioApplicantFavoriteSeason()), 1L);
+    Path kitchenToolsPath = getAnswerPath(testQuestionBank.checkboxApplicantKitchenTools());
+    QuestionAnswerer.answerMultiSelectQuestion(applicantData, kitchenToolsPath, 0, 1L);
+    QuestionAnswerer.answerMultiSelectQuestion(applicantData, kitchenToolsPath, 1, 2L);
+    QuestionAnswerer.answerNumberQuestion(
+        applicantData, getAnswerPath(testQuestionBank.numberApplicantJugglingNumber()), 5L);
+    QuestionAnswerer.answerCurrencyQuestion(
+        applicantData,
+        getAnswerPath(testQuestionBank.currencyApplicantMonthlyIncome()),
+        "1,234.56");
+
+    Path householdMembersPath =
+        getAnswerPath(testQuestionBank.enumeratorApplicantHouseholdMembers());
+    QuestionAnswerer.answerEnumeratorQuestion(
+        applicantData,
+        householdMembersPath,
+        IntStream.range(0, HOUSEHOLD_MEMBER_COUNT)
+            .mapToObj(i -> "Member " + i)
+            .collect(ImmutableList.toImmutableList()));
+    for (int member = 0; member < HOUSEHOLD_MEMBER_COUNT; member++) {
+      Path memberPath = householdMembersPath.atIndex(member);
+      QuestionAnswerer.answerNameQuestion(
+          applicantData,
+          memberPath.join(
+              testQuestionBank
+                  .nameRepeatedApplicantHouseholdMemberName()
+                  .getQuestionDefinition()
+                  .getQuestionPathSegment()),
+          "Member",
+          "",
+          String.valueOf(member),
+          "");
+      Path jobsPath =
+          memberPath.join(
+              testQuestionBank
+                  .enumeratorNestedApplicantHouseholdMemberJobs()
+                  .getQuestionDefinition()
+                  .getQuestionPathSegment());
+      QuestionAnswerer.answerEnumeratorQuestion(
+          applicantData,
+          jobsPath,
+          IntStream.range(0, JOBS_PER_HOUSEHOLD_MEMBER)
+              .mapToObj(i -> "Job " + i)
+              .collect(ImmutableList.toImmutableList()));
+      for (int job = 0; job < JOBS_PER_HOUSEHOLD_MEMBER; job++) {
+        QuestionAnswerer.answerNumberQuestion(
+            applicantData,
+            jobsPath
+                .atIndex(job)
+                .join(
+                    testQuestionBank
+                        .numberNestedRepeatedApplicantHouseholdMemberDaysWorked()
+                        .getQuestionDefinition()
+                        .getQuestionPathSegment()),
+            20L + job);
+      }
+    }
+  }
+}
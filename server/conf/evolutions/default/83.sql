@@ -0,0 +1,38 @@
+# --- !Ups
+
+CREATE TABLE IF NOT EXISTS application_exports (
+  id BIGSERIAL PRIMARY KEY,
+  program_id BIGINT NOT NULL,
+  export_format VARCHAR NOT NULL,
+  search_name_fragment VARCHAR,
+  from_time TIMESTAMP,
+  until_time TIMESTAMP NOT NULL,
+  application_status VARCHAR,
+  status VARCHAR NOT NULL,
+  persisted_durable_job_id BIGINT,
+  file_key VARCHAR,
+  last_submit_time TIMESTAMP,
+  last_application_id BIGINT,
+  exported_application_count BIGINT NOT NULL DEFAULT 0,
+  next_chunk_index INT NOT NULL DEFAULT 0,
+  error_message VARCHAR,
+  create_time TIMESTAMP NOT NULL,
+  completion_time TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS index_application_exports_by_job
+  ON application_exports (persisted_durable_job_id);
+
+CREATE TABLE IF NOT EXISTS application_export_chunks (
+  id BIGSERIAL PRIMARY KEY,
+  application_export_id BIGINT NOT NULL REFERENCES application_exports (id) ON DELETE CASCADE,
+  chunk_index INT NOT NULL,
+  file_key VARCHAR NOT NULL,
+  byte_length BIGINT NOT NULL,
+  UNIQUE (application_export_id, chunk_index)
+);
+
+# --- !Downs
+
+DROP TABLE IF EXISTS application_export_chunks;
+DROP TABLE IF EXISTS application_exports;
@@ -0,0 +1,22 @@
+# --- !Ups
+
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+  id BIGSERIAL PRIMARY KEY,
+  cache_name VARCHAR NOT NULL,
+  cache_key VARCHAR,
+  -- The id of the transaction that recorded the invalidation. Servers remember which transactions
+  -- were still running when they last read the table, so unlike with the row id an invalidation
+  -- that commits late is never skipped.
+  transaction_id BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint,
+  create_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS index_cache_invalidations_by_transaction_id
+  ON cache_invalidations (transaction_id, id);
+
+CREATE INDEX IF NOT EXISTS index_cache_invalidations_by_create_time
+  ON cache_invalidations (create_time);
+
+# --- !Downs
+
+DROP TABLE IF EXISTS cache_invalidations;
@@ -0,0 +1,25 @@
+# --- Speed up the program admin application search. applicant_search_text combines the applicant's
+# --- names and email so that a single trigram index over it serves every name format the search
+# --- accepts. Each part is null when its columns are, and the parts are separated by a control
+# --- character that a search fragment can't contain, so a match never spans two parts. The index is
+# --- over the expression rather than a stored column, so that adding it doesn't rewrite applicants.
+
+# --- !Ups
+CREATE OR REPLACE FUNCTION applicant_search_text(
+  first_name VARCHAR, last_name VARCHAR, email_address VARCHAR)
+RETURNS VARCHAR LANGUAGE sql IMMUTABLE PARALLEL SAFE
+RETURN coalesce(first_name || ' ' || last_name, '') || chr(31) ||
+  coalesce(last_name || ' ' || first_name, '') || chr(31) ||
+  coalesce(last_name || ', ' || first_name, '') || chr(31) ||
+  coalesce(email_address, '');
+
+CREATE INDEX IF NOT EXISTS index_applicants_by_search_text
+  ON applicants
+  USING GIN (applicant_search_text(first_name, last_name, email_address) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS index_applications_by_submitter_email
+  ON applications USING GIN (submitter_email gin_trgm_ops);
+
+# --- !Downs
+DROP INDEX IF EXISTS index_applications_by_submitter_email;
+DROP INDEX IF EXISTS index_applicants_by_search_text;
+DROP FUNCTION IF EXISTS applicant_search_text(VARCHAR, VARCHAR, VARCHAR);
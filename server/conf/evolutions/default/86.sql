@@ -0,0 +1,20 @@
+# --- !Ups
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+  id BIGSERIAL PRIMARY KEY,
+  to_addresses VARCHAR[] NOT NULL,
+  subject VARCHAR NOT NULL,
+  body_text TEXT NOT NULL,
+  create_time TIMESTAMP NOT NULL,
+  next_attempt_time TIMESTAMP NOT NULL,
+  remaining_attempts SMALLINT NOT NULL,
+  sent_time TIMESTAMP,
+  error_message VARCHAR
+);
+
+CREATE INDEX IF NOT EXISTS index_email_outbox_unsent_by_next_attempt_time
+  ON email_outbox (next_attempt_time) WHERE sent_time IS NULL;
+
+# --- !Downs
+
+DROP TABLE IF EXISTS email_outbox;
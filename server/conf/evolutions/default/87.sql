@@ -0,0 +1,10 @@
+# --- Lease durable jobs to the server running them, so that servers can run several jobs at once
+# --- without holding a transaction open, and a job whose server stops can be run elsewhere.
+
+# --- !Ups
+
+ALTER TABLE persisted_durable_jobs ADD COLUMN IF NOT EXISTS lease_expiration_time TIMESTAMP;
+
+# --- !Downs
+
+ALTER TABLE persisted_durable_jobs DROP COLUMN IF EXISTS lease_expiration_time;
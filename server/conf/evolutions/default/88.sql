@@ -0,0 +1,20 @@
+# --- Record how far chunked durable jobs have got, so that a retried job resumes where it stopped.
+# --- There's deliberately no foreign key to persisted_durable_jobs: checking one would wait on the
+# --- lock the job runner holds on the job's row while it runs.
+
+# --- !Ups
+
+CREATE TABLE IF NOT EXISTS durable_job_checkpoints (
+  id BIGSERIAL PRIMARY KEY,
+  persisted_durable_job_id BIGINT NOT NULL,
+  last_processed_id BIGINT NOT NULL,
+  processed_count BIGINT NOT NULL,
+  update_time TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS index_durable_job_checkpoints_by_job
+  ON durable_job_checkpoints (persisted_durable_job_id);
+
+# --- !Downs
+
+DROP TABLE IF EXISTS durable_job_checkpoints;
@@ -0,0 +1,11 @@
+# --- Find an applicant's draft applications by index, which saving each block of an application
+# --- does to check whether the applicant already has a draft to the program.
+
+# --- !Ups
+
+CREATE INDEX IF NOT EXISTS index_applications_drafts_by_applicant
+  ON applications (applicant_id) WHERE lifecycle_stage = 'draft';
+
+# --- !Downs
+
+DROP INDEX IF EXISTS index_applications_drafts_by_applicant;
@@ -45,4 +45,14 @@ public final class RouteExtractorTest {
     assertThat(routeExtractor.getParamOptionalLongValue("unexpectedId"))
         .isEqualTo(Optional.empty());
   }
+
+  @Test
+  public void converts_route_pattern_to_route_template() {
+    assertThat(
+            RouteExtractor.toRouteTemplate(
+                "/programs/$programId<[^/]+>/blocks/$blockId<[^/]+>/edit"))
+        .isEqualTo("/programs/:programId/blocks/:blockId/edit");
+    assertThat(RouteExtractor.toRouteTemplate("/programs/path/edit"))
+        .isEqualTo("/programs/path/edit");
+  }
 }
@@ -0,0 +1,124 @@
+package auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import play.cache.NamedCacheImpl;
+import play.cache.caffeine.NamedCaffeineCache;
+import play.inject.BindingKey;
+import repository.ResetPostgres;
+import services.cache.NamedCaches;
+
+public class ValidSessionCacheTest extends ResetPostgres {
+
+  private ValidSessionCache validSessionCache;
+
+  @Before
+  public void setUp() {
+    validSessionCache = instanceOf(ValidSessionCache.class);
+  }
+
+  @Test
+  public void isKnownValid_onlyForSessionsMarkedValid() {
+    markValid(1L, "session1");
+
+    assertThat(validSessionCache.isKnownValid(1L, "session1")).isTrue();
+    assertThat(validSessionCache.isKnownValid(1L, "session2")).isFalse();
+    assertThat(validSessionCache.isKnownValid(2L, "session1")).isFalse();
+  }
+
+  @Test
+  public void markValid_keepsOtherSessionsOfTheAccount() {
+    markValid(1L, "session1");
+    markValid(1L, "session2");
+
+    assertThat(validSessionCache.isKnownValid(1L, "session1")).isTrue();
+    assertThat(validSessionCache.isKnownValid(1L, "session2")).isTrue();
+  }
+
+  @Test
+  public void markValid_nullSessionId() {
+    markValid(1L, null);
+
+    assertThat(validSessionCache.isKnownValid(1L, null)).isTrue();
+  }
+
+  @Test
+  public void invalidateAccount_forgetsOnlyThatAccount() {
+    markValid(1L, "session1");
+    markValid(1L, "session2");
+    markValid(2L, "session3");
+
+    validSessionCache.invalidateAccount(1L);
+
+    assertThat(validSessionCache.isKnownValid(1L, "session1")).isFalse();
+    assertThat(validSessionCache.isKnownValid(1L, "session2")).isFalse();
+    assertThat(validSessionCache.isKnownValid(2L, "session3")).isTrue();
+  }
+
+  @Test
+  public void invalidateAll_forgetsEveryAccount() {
+    markValid(1L, "session1");
+    markValid(2L, "session2");
+
+    validSessionCache.invalidateAll();
+
+    assertThat(validSessionCache.isKnownValid(1L, "session1")).isFalse();
+    assertThat(validSessionCache.isKnownValid(2L, "session2")).isFalse();
+  }
+
+  @Test
+  public void markValid_accountInvalidatedSinceGenerationWasRead_isNotMarkedValid() {
+    // The session is checked against the database, and ended before it is marked valid.
+    long generation = validSessionCache.getGeneration(1L);
+    validSessionCache.invalidateAccount(1L);
+    validSessionCache.markValid(1L, "session1", generation);
+
+    assertThat(validSessionCache.isKnownValid(1L, "session1")).isFalse();
+
+    // Checks that start after the invalidation mark the session valid.
+    markValid(1L, "session1");
+
+    assertThat(validSessionCache.isKnownValid(1L, "session1")).isTrue();
+  }
+
+  @Test
+  public void markValid_allInvalidatedSinceGenerationWasRead_isNotMarkedValid() {
+    long generation = validSessionCache.getGeneration(1L);
+    validSessionCache.invalidateAll();
+    validSessionCache.markValid(1L, "session1", generation);
+
+    assertThat(validSessionCache.isKnownValid(1L, "session1")).isFalse();
+  }
+
+  @Test
+  public void markValid_invalidatedOnAnotherServer_isNotMarkedValid() {
+    long generation = validSessionCache.getGeneration(1L);
+    // Invalidations from other servers are applied to the named caches directly.
+    instanceOf(NamedCaches.class).invalidateLocally("valid-sessions", Optional.of("1"));
+    validSessionCache.markValid(1L, "session1", generation);
+
+    assertThat(validSessionCache.isKnownValid(1L, "session1")).isFalse();
+  }
+
+  @Test
+  public void cache_isBoundedInSizeAndExpiresEachEntry() {
+    @SuppressWarnings("unchecked")
+    NamedCaffeineCache<Object, Object> cache =
+        instanceOf(
+            new BindingKey<>(NamedCaffeineCache.class)
+                .qualifiedWith(new NamedCacheImpl("valid-sessions"))
+                .asScala());
+    Policy<Object, Object> policy = cache.synchronous().policy();
+
+    assertThat(policy.eviction().map(Policy.Eviction::getMaximum)).contains(100000L);
+    assertThat(policy.expireVariably()).isPresent();
+  }
+
+  private void markValid(long accountId, String sessionId) {
+    validSessionCache.markValid(accountId, sessionId, validSessionCache.getGeneration(accountId));
+  }
+}
@@ -7,6 +7,7 @@ import static support.FakeRequestBuilder.fakeRequestBuilder;
 
 import auth.CiviFormProfile;
 import auth.ClientIpResolver;
+import auth.ValidSessionCache;
 import com.google.common.collect.ImmutableList;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -134,6 +135,23 @@ public class LogoutAllSessionsControllerTest extends WithMockedProfiles {
             });
   }
 
+  @Test
+  public void testLogoutWithAuthorityId_invalidatesCachedSessions() {
+    Clock clock = Clock.fixed(Instant.ofEpochSecond(10), ZoneOffset.UTC);
+    AccountModel account = new AccountModel();
+    account.addActiveSession("session1", clock);
+    account.save();
+    String authorityId = setAndGetEncodedAuthorityId(account);
+    ValidSessionCache validSessionCache = instanceOf(ValidSessionCache.class);
+    validSessionCache.markValid(
+        account.id, "session1", validSessionCache.getGeneration(account.id));
+
+    Http.Request request = fakeRequestBuilder().header(skipUserProfile, "false").build();
+    controller.logoutFromAuthorityId(request, authorityId).toCompletableFuture().join();
+
+    assertThat(validSessionCache.isKnownValid(account.id, "session1")).isFalse();
+  }
+
   @Test
   public void testLogoutWithAuthorityId_withAllowedIps_allowed() {
     // Add active session to account
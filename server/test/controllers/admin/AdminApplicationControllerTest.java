@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static play.mvc.Http.Status.BAD_REQUEST;
+import static play.mvc.Http.Status.NOT_FOUND;
 import static play.mvc.Http.Status.OK;
 import static play.mvc.Http.Status.SEE_OTHER;
 import static play.mvc.Http.Status.UNAUTHORIZED;
@@ -20,6 +21,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.util.Providers;
 import controllers.admin.AdminApplicationControllerTest.ProfileUtilsNoOpTester.ProfileTester;
+import io.ebean.DB;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -32,6 +34,8 @@ import java.util.concurrent.CompletableFuture;
 import models.AccountModel;
 import models.ApplicantModel;
 import models.ApplicationEventModel;
+import models.ApplicationExportFormat;
+import models.ApplicationExportModel;
 import models.ApplicationModel;
 import models.LifecycleStage;
 import models.ProgramModel;
@@ -45,9 +49,11 @@ import play.mvc.Http;
 import play.mvc.Http.Request;
 import play.mvc.Result;
 import repository.AccountRepository;
+import repository.ApplicationExportRepository;
 import repository.ApplicationStatusesRepository;
 import repository.DatabaseExecutionContext;
 import repository.ResetPostgres;
+import repository.SubmittedApplicationFilter;
 import repository.VersionRepository;
 import services.DateConverter;
 import services.LocalizedStrings;
@@ -56,6 +62,7 @@ import services.application.ApplicationEventDetails;
 import services.application.ApplicationEventDetails.StatusEvent;
 import services.applications.PdfExporterService;
 import services.applications.ProgramAdminApplicationService;
+import services.export.ApplicationExportService;
 import services.export.CsvExporterService;
 import services.export.JsonExporterService;
 import services.program.ProgramNotFoundException;
@@ -834,6 +841,122 @@ public class AdminApplicationControllerTest extends ResetPostgres {
     assertThat(application.getLatestNote().get()).isEqualTo(noteText);
   }
 
+  @Test
+  public void requestExport_notAdmin() throws Exception {
+    ProgramModel program = ProgramBuilder.newActiveProgram().build();
+    Request request = fakeRequestBuilder().bodyForm(ImmutableMap.of("format", "csv")).build();
+
+    Result result = controller.requestExport(request, program.id);
+
+    assertThat(result.status()).isEqualTo(UNAUTHORIZED);
+  }
+
+  @Test
+  public void requestExport_unsupportedFormat_badRequest() throws Exception {
+    controller = makeNoOpProfileController(/* adminAccount= */ Optional.empty());
+    ProgramModel program = ProgramBuilder.newActiveProgram().build();
+    Request request = fakeRequestBuilder().bodyForm(ImmutableMap.of("format", "xml")).build();
+
+    Result result = controller.requestExport(request, program.id);
+
+    assertThat(result.status()).isEqualTo(BAD_REQUEST);
+  }
+
+  @Test
+  public void requestExport_queuesExportWithFiltersAndRedirectsToIt() throws Exception {
+    controller = makeNoOpProfileController(/* adminAccount= */ Optional.empty());
+    ProgramModel program = ProgramBuilder.newActiveProgram().build();
+    Request request =
+        fakeRequestBuilder()
+            .bodyForm(
+                ImmutableMap.of(
+                    "format", "json", "search", "Jane", "fromDate", "2024-01-01", "untilDate", ""))
+            .build();
+
+    Result result = controller.requestExport(request, program.id);
+
+    ApplicationExportModel export = getOnlyExport(program);
+    assertThat(export.getExportFormat()).isEqualTo(ApplicationExportFormat.JSON);
+    assertThat(export.getSearchNameFragment()).contains("Jane");
+    assertThat(export.getFromTime()).isPresent();
+    assertThat(result.status()).isEqualTo(SEE_OTHER);
+    assertThat(result.redirectLocation())
+        .contains(routes.AdminApplicationController.downloadExport(program.id, export.id).url());
+  }
+
+  @Test
+  public void requestExport_ignoreFilters_exportsAllApplications() throws Exception {
+    controller = makeNoOpProfileController(/* adminAccount= */ Optional.empty());
+    ProgramModel program = ProgramBuilder.newActiveProgram().build();
+    Request request =
+        fakeRequestBuilder()
+            .bodyForm(ImmutableMap.of("format", "csv", "search", "Jane", "ignoreFilters", "1"))
+            .build();
+
+    controller.requestExport(request, program.id);
+
+    ApplicationExportModel export = getOnlyExport(program);
+    assertThat(export.getExportFormat()).isEqualTo(ApplicationExportFormat.CSV);
+    assertThat(export.getSearchNameFragment()).isEmpty();
+  }
+
+  @Test
+  public void downloadExport_notAdmin() throws Exception {
+    ProgramModel program = ProgramBuilder.newActiveProgram().build();
+    ApplicationExportModel export = requestCsvExport(program);
+
+    Result result = controller.downloadExport(fakeRequest(), program.id, export.id);
+
+    assertThat(result.status()).isEqualTo(UNAUTHORIZED);
+  }
+
+  @Test
+  public void downloadExport_inProgress_describesProgress() throws Exception {
+    controller = makeNoOpProfileController(/* adminAccount= */ Optional.empty());
+    ProgramModel program = ProgramBuilder.newActiveProgram().build();
+    ApplicationExportModel export = requestCsvExport(program);
+
+    Result result = controller.downloadExport(fakeRequest(), program.id, export.id);
+
+    assertThat(result.status()).isEqualTo(OK);
+    assertThat(contentAsString(result)).contains("is in progress");
+  }
+
+  @Test
+  public void downloadExport_complete_redirectsToFile() throws Exception {
+    controller = makeNoOpProfileController(/* adminAccount= */ Optional.empty());
+    ProgramModel program = ProgramBuilder.newActiveProgram().build();
+    ApplicationExportModel export = requestCsvExport(program);
+    instanceOf(ApplicationExportRepository.class)
+        .completeExport(export, "exports/applications.csv", Instant.now());
+
+    Result result = controller.downloadExport(fakeRequest(), program.id, export.id);
+
+    assertThat(result.status()).isEqualTo(SEE_OTHER);
+    assertThat(result.redirectLocation()).isPresent();
+  }
+
+  @Test
+  public void downloadExport_exportOfAnotherProgram_notFound() throws Exception {
+    controller = makeNoOpProfileController(/* adminAccount= */ Optional.empty());
+    ProgramModel program = ProgramBuilder.newActiveProgram("program").build();
+    ProgramModel otherProgram = ProgramBuilder.newActiveProgram("other program").build();
+    ApplicationExportModel export = requestCsvExport(otherProgram);
+
+    Result result = controller.downloadExport(fakeRequest(), program.id, export.id);
+
+    assertThat(result.status()).isEqualTo(NOT_FOUND);
+  }
+
+  private ApplicationExportModel requestCsvExport(ProgramModel program) {
+    return instanceOf(ApplicationExportService.class)
+        .requestExport(program.id, ApplicationExportFormat.CSV, SubmittedApplicationFilter.EMPTY);
+  }
+
+  private static ApplicationExportModel getOnlyExport(ProgramModel program) {
+    return DB.find(ApplicationExportModel.class).where().eq("program_id", program.id).findOne();
+  }
+
   // Returns a controller with a faked ProfileUtils to bypass acl checks.
   AdminApplicationController makeNoOpProfileController(Optional<AccountModel> adminAccount) {
     ProfileTester profileTester =
@@ -850,6 +973,7 @@ public class AdminApplicationControllerTest extends ResetPostgres {
     return new AdminApplicationController(
         instanceOf(ProgramService.class),
         instanceOf(ApplicantService.class),
+        instanceOf(ApplicationExportService.class),
         instanceOf(CsvExporterService.class),
         instanceOf(FormFactory.class),
         instanceOf(JsonExporterService.class),
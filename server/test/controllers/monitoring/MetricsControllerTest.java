@@ -57,9 +57,11 @@ public class MetricsControllerTest extends WithMockedProfiles {
     String metricsContent = contentAsString(controllerWithMetricsEnabled.getMetrics());
 
     assertThat(metricsResult.status()).isEqualTo(200);
-    assertThat(metricsContent).contains("ebean_queries_mean_latency_micros");
-    assertThat(metricsContent).contains("ebean_queries_max_latency_micros");
     assertThat(metricsContent).contains("ebean_queries_total_latency_micros");
+    assertThat(metricsContent).contains("# TYPE ebean_query_latency_seconds histogram");
+    assertThat(metricsContent)
+        .contains("ebean_query_latency_seconds_bucket{name=\"VersionModel.byId\"");
+    assertThat(metricsContent).contains("le=\"+Inf\"");
     assertThat(metricsContent).contains(getEbeanCountName("models.ProgramModel"));
     assertThat(metricsContent).contains(getEbeanCountName("models.Question"));
     assertThat(metricsContent).contains(getEbeanCountName("VersionModel.byId"));
@@ -0,0 +1,107 @@
+package durablejobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import models.DurableJobCheckpointModel;
+import models.JobType;
+import models.PersistedDurableJobModel;
+import org.junit.Before;
+import org.junit.Test;
+import repository.PersistedDurableJobRepository;
+import repository.ResetPostgres;
+
+public class ChunkedDurableJobTest extends ResetPostgres {
+
+  private PersistedDurableJobRepository persistedDurableJobRepository;
+  private PersistedDurableJobModel persistedDurableJob;
+
+  @Before
+  public void setUp() {
+    persistedDurableJobRepository = instanceOf(PersistedDurableJobRepository.class);
+    persistedDurableJob =
+        new PersistedDurableJobModel(
+            DurableJobName.TEST.getJobNameString(), JobType.RECURRING, Instant.now());
+    persistedDurableJob.save();
+  }
+
+  @Test
+  public void run_processesEveryRowInChunks() {
+    TestChunkedJob job = new TestChunkedJob(/* rowCount= */ 7, /* failOnId= */ Optional.empty());
+
+    job.run();
+
+    assertThat(job.chunks)
+        .containsExactly(
+            ImmutableList.of(1L, 2L, 3L), ImmutableList.of(4L, 5L, 6L), ImmutableList.of(7L));
+    assertThat(job.finishedCount).isEqualTo(7);
+    // The checkpoint is deleted once the job finishes.
+    assertThat(persistedDurableJobRepository.getCheckpoint(persistedDurableJob).getProcessedCount())
+        .isEqualTo(0);
+  }
+
+  @Test
+  public void run_afterFailure_resumesFromCheckpoint() {
+    TestChunkedJob failingJob = new TestChunkedJob(/* rowCount= */ 7, Optional.of(5L));
+
+    assertThatThrownBy(failingJob::run).isInstanceOf(RuntimeException.class);
+
+    DurableJobCheckpointModel checkpoint =
+        persistedDurableJobRepository.getCheckpoint(persistedDurableJob);
+    assertThat(checkpoint.getLastProcessedId()).isEqualTo(3);
+    assertThat(checkpoint.getProcessedCount()).isEqualTo(3);
+    assertThat(failingJob.finishedCount).isEqualTo(-1);
+
+    TestChunkedJob retriedJob = new TestChunkedJob(/* rowCount= */ 7, Optional.empty());
+    retriedJob.run();
+
+    assertThat(retriedJob.chunks)
+        .containsExactly(ImmutableList.of(4L, 5L, 6L), ImmutableList.of(7L));
+    assertThat(retriedJob.finishedCount).isEqualTo(7);
+  }
+
+  private final class TestChunkedJob extends ChunkedDurableJob {
+    private final long rowCount;
+    private final Optional<Long> failOnId;
+    private final List<ImmutableList<Long>> chunks = new ArrayList<>();
+    private long finishedCount = -1;
+
+    TestChunkedJob(long rowCount, Optional<Long> failOnId) {
+      super(persistedDurableJobRepository, /* chunkSize= */ 3);
+      this.rowCount = rowCount;
+      this.failOnId = failOnId;
+    }
+
+    @Override
+    public PersistedDurableJobModel getPersistedDurableJob() {
+      return persistedDurableJob;
+    }
+
+    @Override
+    protected ImmutableList<Long> findChunk(long afterId, int limit) {
+      return LongStream.rangeClosed(afterId + 1, rowCount)
+          .limit(limit)
+          .boxed()
+          .collect(ImmutableList.toImmutableList());
+    }
+
+    @Override
+    protected void processChunk(ImmutableList<Long> ids) {
+      if (failOnId.isPresent() && ids.contains(failOnId.get())) {
+        throw new RuntimeException("failed on " + failOnId.get());
+      }
+      chunks.add(ids);
+    }
+
+    @Override
+    protected void onFinished(long processedCount) {
+      finishedCount = processedCount;
+    }
+  }
+}
@@ -44,6 +44,17 @@ public class DurableJobRegistryTest {
     assertThat(registry.getRecurringJobs().size()).isEqualTo(1);
   }
 
+  @Test
+  public void registerOnDemandJob_isNotRecurring() throws Exception {
+    var registry = new DurableJobRegistry();
+
+    registry.registerOnDemandJob(DurableJobName.APPLICATION_EXPORT, new FakeJobFactory());
+
+    assertThat(registry.get(DurableJobName.APPLICATION_EXPORT).getJobType())
+        .isEqualTo(JobType.ON_DEMAND);
+    assertThat(registry.getRecurringJobs()).isEmpty();
+  }
+
   @Test
   public void register_withADuplicateName_throwsAnException() {
     var registry = new DurableJobRegistry();
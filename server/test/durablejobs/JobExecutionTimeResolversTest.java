@@ -59,4 +59,29 @@ public class JobExecutionTimeResolversTest {
 
     assertThat(result).isEqualTo(expected);
   }
+
+  @Test
+  public void daily3Am() {
+    // Wednesday Dec 7 at 10:15am
+    Clock clock = Clock.fixed(Instant.parse("2022-12-07T10:15:30.00Z"), ZoneId.of("UTC"));
+    // Thursday Dec 8 at 3:00am
+    Instant expected = Instant.parse("2022-12-08T03:00:00.00Z");
+
+    Instant result = new RecurringJobExecutionTimeResolvers.Daily3Am().resolveExecutionTime(clock);
+
+    assertThat(result).isEqualTo(expected);
+  }
+
+  @Test
+  public void everyMinute() {
+    // Wednesday Dec 7 at 10:15:30am
+    Clock clock = Clock.fixed(Instant.parse("2022-12-07T10:15:30.00Z"), ZoneId.of("UTC"));
+    // Wednesday Dec 7 at 10:16am
+    Instant expected = Instant.parse("2022-12-07T10:16:00.00Z");
+
+    Instant result =
+        new RecurringJobExecutionTimeResolvers.EveryMinute().resolveExecutionTime(clock);
+
+    assertThat(result).isEqualTo(expected);
+  }
 }
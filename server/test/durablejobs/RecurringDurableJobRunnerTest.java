@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import annotations.BindingAnnotations;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import io.ebean.DB;
@@ -12,6 +13,9 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import models.JobType;
 import models.PersistedDurableJobModel;
@@ -20,6 +24,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.Mockito;
 import play.api.inject.BindingKey;
+import repository.DatabaseExecutionContext;
 import repository.PersistedDurableJobRepository;
 import repository.ResetPostgres;
 import services.email.EmailSendClient;
@@ -51,18 +56,21 @@ public class RecurringDurableJobRunnerTest extends ResetPostgres {
 
     durableJobRegistry = new DurableJobRegistry();
 
-    recurringDurableJobRunner =
-        new RecurringDurableJobRunner(
-            config,
-            instanceOf(DurableJobExecutionContext.class),
-            durableJobRegistry,
-            instanceOf(PersistedDurableJobRepository.class),
-            () ->
-                instanceOf(
-                    new BindingKey<>(LocalDateTime.class)
-                        .qualifiedWith(BindingAnnotations.Now.class)),
-            emailSendClientMock,
-            instanceOf(ZoneId.class));
+    recurringDurableJobRunner = createRunner(config);
+  }
+
+  private RecurringDurableJobRunner createRunner(Config config) {
+    return new RecurringDurableJobRunner(
+        config,
+        instanceOf(DurableJobExecutionContext.class),
+        durableJobRegistry,
+        instanceOf(PersistedDurableJobRepository.class),
+        instanceOf(DatabaseExecutionContext.class),
+        () ->
+            instanceOf(
+                new BindingKey<>(LocalDateTime.class).qualifiedWith(BindingAnnotations.Now.class)),
+        emailSendClientMock,
+        instanceOf(ZoneId.class));
   }
 
   @Test
@@ -203,6 +211,146 @@ public class RecurringDurableJobRunnerTest extends ResetPostgres {
     assertThat(foundJob).isEmpty();
   }
 
+  @Test
+  public void runJobs_concurrently_runsJobsThatAreReady() {
+    RecurringDurableJobRunner concurrentRunner = createRunner(concurrentConfig());
+    AtomicInteger runCount = new AtomicInteger(0);
+    durableJobRegistry.registerWithNoTimeResolver(
+        DurableJobName.TEST,
+        JobType.RECURRING,
+        (persistedDurableJob) ->
+            makeTestJob(persistedDurableJob, () -> runCount.getAndIncrement()));
+
+    PersistedDurableJobModel jobA = createPersistedJobToExecute();
+    PersistedDurableJobModel jobB = createPersistedJobToExecute();
+    PersistedDurableJobModel jobC = createPersistedJobScheduledInFuture();
+
+    concurrentRunner.runJobs();
+    concurrentRunner.awaitRunningJobs().join();
+
+    jobA.refresh();
+    jobB.refresh();
+    jobC.refresh();
+
+    assertThat(runCount).hasValue(2);
+    assertThat(jobA.getRemainingAttempts()).isEqualTo(2);
+    assertThat(jobB.getRemainingAttempts()).isEqualTo(2);
+    assertThat(jobC.getRemainingAttempts()).isEqualTo(3);
+    assertThat(jobA.getSuccessTime()).isPresent();
+    assertThat(jobB.getSuccessTime()).isPresent();
+    assertThat(jobC.getSuccessTime()).isEmpty();
+    assertThat(jobA.getLeaseExpirationTime()).isEmpty();
+    Mockito.verifyNoInteractions(emailSendClientMock);
+  }
+
+  @Test
+  public void runJobs_concurrently_recordsFailureAndReleasesLease() {
+    RecurringDurableJobRunner concurrentRunner = createRunner(concurrentConfig());
+    durableJobRegistry.registerWithNoTimeResolver(
+        DurableJobName.TEST,
+        JobType.RECURRING,
+        (persistedDurableJob) ->
+            makeTestJob(
+                persistedDurableJob,
+                () -> {
+                  throw new RuntimeException("test-execution-exception");
+                }));
+
+    PersistedDurableJobModel job = createPersistedJobToExecute();
+
+    concurrentRunner.runJobs();
+    concurrentRunner.awaitRunningJobs().join();
+
+    job.refresh();
+    assertThat(job.getErrorMessage().get()).contains("JobRunner_JobFailed ExecutionException");
+    assertThat(job.getErrorMessage().get()).contains("test-execution-exception");
+    assertThat(job.getRemainingAttempts()).isEqualTo(2);
+    assertThat(job.getLeaseExpirationTime()).isEmpty();
+  }
+
+  @Test
+  public void runJobs_concurrently_timesOut_interruptsJobAndKeepsLeaseUntilItExits()
+      throws Exception {
+    RecurringDurableJobRunner concurrentRunner = createRunner(concurrentConfig());
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CountDownLatch canExit = new CountDownLatch(1);
+    durableJobRegistry.registerWithNoTimeResolver(
+        DurableJobName.TEST,
+        JobType.RECURRING,
+        (persistedDurableJob) ->
+            makeTestJob(
+                persistedDurableJob,
+                () -> {
+                  try {
+                    Thread.sleep(/* millis= */ 10000L);
+                  } catch (InterruptedException e) {
+                    interrupted.countDown();
+                  }
+                  // Keep running after the interrupt, like a job that is slow to stop.
+                  Uninterruptibles.awaitUninterruptibly(canExit);
+                }));
+
+    PersistedDurableJobModel job = createPersistedJobToExecute();
+
+    concurrentRunner.runJobs();
+    CompletableFuture<Void> runningJobs = concurrentRunner.awaitRunningJobs();
+
+    assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    // The job has timed out, but it keeps its lease until its thread exits.
+    assertThat(runningJobs).isNotDone();
+    job.refresh();
+    assertThat(job.getLeaseExpirationTime()).isPresent();
+
+    canExit.countDown();
+    runningJobs.join();
+
+    job.refresh();
+    assertThat(job.getErrorMessage().get()).contains("JobRunner_JobTimeout");
+    assertThat(job.getLeaseExpirationTime()).isEmpty();
+  }
+
+  @Test
+  public void runJobs_concurrently_skipsLeasedJobsUntilTheLeaseExpires() {
+    RecurringDurableJobRunner concurrentRunner = createRunner(concurrentConfig());
+    AtomicInteger runCount = new AtomicInteger(0);
+    durableJobRegistry.registerWithNoTimeResolver(
+        DurableJobName.TEST,
+        JobType.RECURRING,
+        (persistedDurableJob) ->
+            makeTestJob(persistedDurableJob, () -> runCount.getAndIncrement()));
+
+    // Leased by a server that is still running it.
+    PersistedDurableJobModel leasedJob = createPersistedJobToExecute();
+    leasedJob.setLeaseExpirationTime(Instant.now().plus(1, ChronoUnit.DAYS)).save();
+    // Leased by a server that stopped.
+    PersistedDurableJobModel abandonedJob = createPersistedJobToExecute();
+    abandonedJob.setLeaseExpirationTime(Instant.now().minus(1, ChronoUnit.DAYS)).save();
+
+    concurrentRunner.runJobs();
+    concurrentRunner.awaitRunningJobs().join();
+
+    leasedJob.refresh();
+    abandonedJob.refresh();
+    assertThat(runCount).hasValue(1);
+    assertThat(leasedJob.getSuccessTime()).isEmpty();
+    assertThat(abandonedJob.getSuccessTime()).isPresent();
+  }
+
+  private static Config concurrentConfig() {
+    return ConfigFactory.parseMap(
+        ImmutableMap.of(
+            "it_email_address",
+            "test@example.com",
+            "base_url",
+            "https://civiform-test.dev",
+            "durable_jobs.job_timeout_minutes",
+            0,
+            "durable_jobs.poll_interval_seconds",
+            0,
+            "durable_jobs.dispatcher.thread-pool-executor.fixed-pool-size",
+            2));
+  }
+
   private PersistedDurableJobModel createPersistedJobScheduledInFuture() {
     var persistedJob =
         new PersistedDurableJobModel(
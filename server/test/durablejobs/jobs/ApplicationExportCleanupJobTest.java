@@ -0,0 +1,122 @@
+package durablejobs.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import durablejobs.DurableJobName;
+import io.ebean.DB;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import models.ApplicationExportFormat;
+import models.ApplicationExportModel;
+import models.JobType;
+import models.PersistedDurableJobModel;
+import org.junit.Before;
+import org.junit.Test;
+import repository.ApplicationExportRepository;
+import repository.ResetPostgres;
+import services.cloud.FileDeletionFailureException;
+import support.cloud.FakeApplicantStorageClient;
+
+public class ApplicationExportCleanupJobTest extends ResetPostgres {
+  private static final Instant NOW = Instant.parse("2024-06-15T12:00:00Z");
+  private static final Duration RETENTION_PERIOD = Duration.ofDays(7);
+
+  private FakeApplicantStorageClient fakeApplicantStorageClient;
+  private ApplicationExportRepository applicationExportRepository;
+
+  @Before
+  public void setUp() {
+    fakeApplicantStorageClient = new FakeApplicantStorageClient();
+    applicationExportRepository = instanceOf(ApplicationExportRepository.class);
+  }
+
+  @Test
+  public void run_deletesExportsOlderThanRetentionPeriodWithTheirFiles() throws Exception {
+    ApplicationExportModel oldExport = createExport(NOW.minus(Duration.ofDays(8)));
+    uploadFile("exports/old.csv");
+    applicationExportRepository.completeExport(oldExport, "exports/old.csv", NOW);
+    ApplicationExportModel recentExport = createExport(NOW.minus(Duration.ofDays(1)));
+    uploadFile("exports/recent.csv");
+    applicationExportRepository.completeExport(recentExport, "exports/recent.csv", NOW);
+
+    newJob().run();
+
+    assertThat(applicationExportRepository.getExport(oldExport.id)).isEmpty();
+    assertThat(applicationExportRepository.getExport(recentExport.id)).isPresent();
+    assertThat(fakeApplicantStorageClient.getUploadedFileKeys())
+        .containsExactly("exports/recent.csv");
+  }
+
+  @Test
+  public void run_deletesChunksLeftInStorage() throws Exception {
+    ApplicationExportModel export = createExport(NOW.minus(Duration.ofDays(8)));
+    uploadFile("exports/chunk-0");
+    applicationExportRepository.saveChunk(
+        export,
+        "exports/chunk-0",
+        /* byteLength= */ 1,
+        /* applications= */ ImmutableList.of(),
+        /* isLastChunk= */ false);
+
+    newJob().run();
+
+    assertThat(applicationExportRepository.getExport(export.id)).isEmpty();
+    assertThat(applicationExportRepository.getChunks(export)).isEmpty();
+    assertThat(fakeApplicantStorageClient.getUploadedFileKeys()).isEmpty();
+  }
+
+  @Test
+  public void run_filesCannotBeDeleted_keepsExportToRetry() throws Exception {
+    fakeApplicantStorageClient =
+        new FakeApplicantStorageClient() {
+          @Override
+          public void deleteFile(String fileKey) throws FileDeletionFailureException {
+            throw new FileDeletionFailureException(new IOException("Storage is unavailable"));
+          }
+        };
+    ApplicationExportModel export = createExport(NOW.minus(Duration.ofDays(8)));
+    uploadFile("exports/old.csv");
+    applicationExportRepository.completeExport(export, "exports/old.csv", NOW);
+
+    newJob().run();
+
+    assertThat(applicationExportRepository.getExport(export.id)).isPresent();
+  }
+
+  private ApplicationExportModel createExport(Instant createTime) {
+    ApplicationExportModel export =
+        applicationExportRepository.createExport(
+            new ApplicationExportModel(
+                /* programId= */ 1L, ApplicationExportFormat.CSV, createTime),
+            new PersistedDurableJobModel(
+                DurableJobName.APPLICATION_EXPORT.getJobNameString(),
+                JobType.ON_DEMAND,
+                createTime));
+    DB.sqlUpdate("UPDATE application_exports SET create_time = :createTime WHERE id = :id")
+        .setParameter("createTime", createTime)
+        .setParameter("id", export.id)
+        .execute();
+    export.refresh();
+    return export;
+  }
+
+  private void uploadFile(String fileKey) throws Exception {
+    fakeApplicantStorageClient.uploadFile(
+        fileKey, new ByteArrayInputStream(new byte[] {'a'}), /* contentLength= */ 1);
+  }
+
+  private ApplicationExportCleanupJob newJob() {
+    return new ApplicationExportCleanupJob(
+        fakeApplicantStorageClient,
+        applicationExportRepository,
+        Clock.fixed(NOW, ZoneOffset.UTC),
+        RETENTION_PERIOD,
+        new PersistedDurableJobModel(
+            DurableJobName.APPLICATION_EXPORT_CLEANUP.getJobNameString(), JobType.RECURRING, NOW));
+  }
+}
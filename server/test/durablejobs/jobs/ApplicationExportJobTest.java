@@ -0,0 +1,193 @@
+package durablejobs.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.jayway.jsonpath.JsonPath;
+import durablejobs.DurableJobName;
+import io.ebean.DB;
+import io.ebean.Database;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import models.ApplicationExportChunkModel;
+import models.ApplicationExportFormat;
+import models.ApplicationExportModel;
+import models.ApplicationExportStatus;
+import models.ApplicationModel;
+import models.JobType;
+import models.PersistedDurableJobModel;
+import org.junit.Before;
+import org.junit.Test;
+import repository.ApplicationExportRepository;
+import repository.SubmittedApplicationFilter;
+import services.cloud.FileDeletionFailureException;
+import services.export.AbstractExporterTest;
+import services.export.CsvExporterService;
+import services.export.JsonExporterService;
+import services.pagination.SubmitTimeSequentialAccessPaginationSpec;
+import services.program.ProgramService;
+import support.cloud.FakeApplicantStorageClient;
+
+public class ApplicationExportJobTest extends AbstractExporterTest {
+  private final Database database = DB.getDefault();
+  private FakeApplicantStorageClient fakeApplicantStorageClient;
+  private ApplicationExportRepository applicationExportRepository;
+  private CsvExporterService csvExporterService;
+  private JsonExporterService jsonExporterService;
+  private ProgramService programService;
+
+  @Before
+  public void setUp() throws Exception {
+    fakeApplicantStorageClient = new FakeApplicantStorageClient();
+    applicationExportRepository = instanceOf(ApplicationExportRepository.class);
+    csvExporterService = instanceOf(CsvExporterService.class);
+    jsonExporterService = instanceOf(JsonExporterService.class);
+    programService = instanceOf(ProgramService.class);
+
+    createFakeQuestions();
+    createFakeProgram();
+    createFakeApplications();
+  }
+
+  @Test
+  public void run_csv_uploadsSameCsvAsSynchronousExport() throws Exception {
+    ApplicationExportModel export = createExport(ApplicationExportFormat.CSV);
+
+    newJob(export).run();
+
+    export.refresh();
+    assertThat(export.getStatus()).isEqualTo(ApplicationExportStatus.COMPLETE);
+    assertThat(export.getExportedApplicationCount()).isEqualTo(3);
+    assertThat(fakeApplicantStorageClient.getUploadedFile(export.getFileKey().get()))
+        .contains(
+            csvExporterService.getProgramAllVersionsCsv(
+                fakeProgram.id, SubmittedApplicationFilter.EMPTY));
+  }
+
+  @Test
+  public void run_json_uploadsSameApplicationsAsSynchronousExport() throws Exception {
+    ApplicationExportModel export = createExport(ApplicationExportFormat.JSON);
+
+    newJob(export).run();
+
+    export.refresh();
+    assertThat(export.getStatus()).isEqualTo(ApplicationExportStatus.COMPLETE);
+    String expectedJson =
+        jsonExporterService.export(
+            fakeProgram.getProgramDefinition(),
+            SubmitTimeSequentialAccessPaginationSpec.APPLICATION_MODEL_MAX_PAGE_SIZE_SPEC,
+            SubmittedApplicationFilter.EMPTY);
+    String uploadedJson =
+        fakeApplicantStorageClient.getUploadedFile(export.getFileKey().get()).get();
+    List<Integer> expectedIds = JsonPath.read(expectedJson, "$[*].application_id");
+    List<Integer> uploadedIds = JsonPath.read(uploadedJson, "$[*].application_id");
+    assertThat(uploadedIds).hasSize(3);
+    assertThat(uploadedIds).containsExactlyElementsOf(expectedIds);
+  }
+
+  @Test
+  public void run_resumesAfterLastSavedChunk() throws Exception {
+    ApplicationExportModel export = createExport(ApplicationExportFormat.CSV);
+    // Simulate an earlier attempt that exported the header and the first application before it
+    // was interrupted.
+    CsvExporterService.PagedCsvExport pagedExport =
+        csvExporterService.startPagedProgramAllVersionsCsv(
+            fakeProgram.id, SubmittedApplicationFilter.EMPTY);
+    ImmutableList<ApplicationModel> firstPage =
+        programService
+            .getSubmittedProgramApplicationsAllVersions(
+                fakeProgram.id,
+                new SubmitTimeSequentialAccessPaginationSpec(1, Instant.MAX, Long.MAX_VALUE),
+                SubmittedApplicationFilter.EMPTY)
+            .getPageContents();
+    saveChunk(export, pagedExport.renderHeader(), ImmutableList.of());
+    saveChunk(export, pagedExport.renderRecords(firstPage), firstPage);
+
+    newJob(export).run();
+
+    export.refresh();
+    assertThat(export.getExportedApplicationCount()).isEqualTo(3);
+    assertThat(fakeApplicantStorageClient.getUploadedFile(export.getFileKey().get()))
+        .contains(
+            csvExporterService.getProgramAllVersionsCsv(
+                fakeProgram.id, SubmittedApplicationFilter.EMPTY));
+  }
+
+  @Test
+  public void run_chunksCannotBeDeleted_keepsChunksInApplicantStorage() {
+    fakeApplicantStorageClient =
+        new FakeApplicantStorageClient() {
+          @Override
+          public void deleteFile(String fileKey) throws FileDeletionFailureException {
+            throw new FileDeletionFailureException(new IOException("Storage is unavailable"));
+          }
+        };
+    ApplicationExportModel export = createExport(ApplicationExportFormat.CSV);
+
+    newJob(export).run();
+
+    export.refresh();
+    assertThat(export.getStatus()).isEqualTo(ApplicationExportStatus.COMPLETE);
+    ImmutableList<ApplicationExportChunkModel> chunks =
+        applicationExportRepository.getChunks(export);
+    assertThat(chunks).isNotEmpty();
+    String chunkContent =
+        chunks.stream()
+            .map(chunk -> fakeApplicantStorageClient.getUploadedFile(chunk.getFileKey()).get())
+            .collect(Collectors.joining());
+    assertThat(fakeApplicantStorageClient.getUploadedFile(export.getFileKey().get()))
+        .contains(chunkContent);
+  }
+
+  @Test
+  public void run_deletesChunksOnceUploaded() {
+    ApplicationExportModel export = createExport(ApplicationExportFormat.CSV);
+
+    newJob(export).run();
+
+    export.refresh();
+    assertThat(
+            database
+                .find(ApplicationExportChunkModel.class)
+                .where()
+                .eq("application_export_id", export.id)
+                .findCount())
+        .isEqualTo(0);
+    assertThat(fakeApplicantStorageClient.getUploadedFileKeys())
+        .containsExactly(export.getFileKey().get());
+  }
+
+  /** Uploads and records a chunk the way an earlier attempt of the job would have. */
+  private void saveChunk(
+      ApplicationExportModel export, String content, ImmutableList<ApplicationModel> applications)
+      throws Exception {
+    String chunkKey = "chunk-" + export.getNextChunkIndex();
+    byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    fakeApplicantStorageClient.uploadFile(chunkKey, new ByteArrayInputStream(bytes), bytes.length);
+    applicationExportRepository.saveChunk(
+        export, chunkKey, bytes.length, applications, /* isLastChunk= */ false);
+  }
+
+  private ApplicationExportModel createExport(ApplicationExportFormat exportFormat) {
+    return applicationExportRepository.createExport(
+        new ApplicationExportModel(fakeProgram.id, exportFormat, Instant.now()),
+        new PersistedDurableJobModel(
+            DurableJobName.APPLICATION_EXPORT.getJobNameString(),
+            JobType.ON_DEMAND,
+            Instant.now()));
+  }
+
+  private ApplicationExportJob newJob(ApplicationExportModel export) {
+    return new ApplicationExportJob(
+        fakeApplicantStorageClient,
+        applicationExportRepository,
+        csvExporterService,
+        jsonExporterService,
+        programService,
+        applicationExportRepository.getJobForExport(export).get());
+  }
+}
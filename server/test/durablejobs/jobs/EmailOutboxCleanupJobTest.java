@@ -0,0 +1,68 @@
+package durablejobs.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import durablejobs.DurableJobName;
+import io.ebean.DB;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import models.EmailOutboxMessageModel;
+import models.JobType;
+import models.PersistedDurableJobModel;
+import org.junit.Before;
+import org.junit.Test;
+import repository.EmailOutboxRepository;
+import repository.ResetPostgres;
+
+public class EmailOutboxCleanupJobTest extends ResetPostgres {
+  private static final Instant NOW = Instant.parse("2024-06-15T12:00:00Z");
+  private static final Duration RETENTION_PERIOD = Duration.ofDays(7);
+
+  private EmailOutboxRepository emailOutboxRepository;
+
+  @Before
+  public void setUp() {
+    emailOutboxRepository = new EmailOutboxRepository(Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  public void run_deletesOldMessagesThatAreSentOrGivenUpOn() {
+    EmailOutboxMessageModel oldSent = createMessage(NOW.minus(Duration.ofDays(8)));
+    emailOutboxRepository.markSent(ImmutableList.of(oldSent));
+    EmailOutboxMessageModel oldGivenUp = createMessage(NOW.minus(Duration.ofDays(8)));
+    DB.sqlUpdate("UPDATE email_outbox SET remaining_attempts = 0 WHERE id = :id")
+        .setParameter("id", oldGivenUp.id)
+        .execute();
+    EmailOutboxMessageModel oldPending = createMessage(NOW.minus(Duration.ofDays(8)));
+    EmailOutboxMessageModel recentSent = createMessage(NOW.minus(Duration.ofDays(1)));
+    emailOutboxRepository.markSent(ImmutableList.of(recentSent));
+
+    newJob().run();
+
+    assertThat(DB.getDefault().find(EmailOutboxMessageModel.class).findList())
+        .extracting(message -> message.id)
+        .containsExactlyInAnyOrder(oldPending.id, recentSent.id);
+  }
+
+  private EmailOutboxMessageModel createMessage(Instant createTime) {
+    EmailOutboxMessageModel message =
+        emailOutboxRepository.enqueue(ImmutableList.of("a@example.com"), "subject", "body");
+    DB.sqlUpdate("UPDATE email_outbox SET create_time = :createTime WHERE id = :id")
+        .setParameter("createTime", createTime)
+        .setParameter("id", message.id)
+        .execute();
+    return message;
+  }
+
+  private EmailOutboxCleanupJob newJob() {
+    return new EmailOutboxCleanupJob(
+        emailOutboxRepository,
+        Clock.fixed(NOW, ZoneOffset.UTC),
+        RETENTION_PERIOD,
+        new PersistedDurableJobModel(
+            DurableJobName.EMAIL_OUTBOX_CLEANUP.getJobNameString(), JobType.RECURRING, NOW));
+  }
+}
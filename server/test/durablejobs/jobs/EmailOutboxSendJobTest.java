@@ -0,0 +1,148 @@
+package durablejobs.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.RateLimiter;
+import durablejobs.DurableJobName;
+import io.ebean.DB;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import models.EmailOutboxMessageModel;
+import models.JobType;
+import models.PersistedDurableJobModel;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import repository.EmailOutboxRepository;
+import repository.ResetPostgres;
+import services.email.EmailSendClient;
+import services.email.EmailSendException;
+import services.monitoring.EmailSendMetrics;
+
+public class EmailOutboxSendJobTest extends ResetPostgres {
+  private static final Instant START = Instant.parse("2024-06-15T12:00:00Z");
+
+  private Instant now = START;
+  private EmailSendClient emailSendClient;
+  private EmailOutboxRepository emailOutboxRepository;
+  private Clock clock;
+
+  @Before
+  public void setUp() {
+    clock = mock(Clock.class);
+    when(clock.instant()).thenAnswer(invocation -> now);
+    emailSendClient = mock(EmailSendClient.class);
+    emailOutboxRepository = new EmailOutboxRepository(clock);
+  }
+
+  @Test
+  public void run_sendsDueMessagesAndMarksThemSent() {
+    EmailOutboxMessageModel message =
+        emailOutboxRepository.enqueue(ImmutableList.of("a@example.com"), "subject", "body");
+
+    newJob().run();
+
+    verify(emailSendClient).send(ImmutableList.of("a@example.com"), "subject", "body");
+    assertThat(reload(message).getSentTime()).contains(START);
+    assertThat(emailOutboxRepository.countPendingMessages()).isEqualTo(0);
+  }
+
+  @Test
+  public void run_sendFails_retriesWithExponentialBackoff() {
+    failSends();
+    EmailOutboxMessageModel message =
+        emailOutboxRepository.enqueue(ImmutableList.of("a@example.com"), "subject", "body");
+
+    newJob().run();
+
+    EmailOutboxMessageModel failed = reload(message);
+    assertThat(failed.getSentTime()).isEmpty();
+    assertThat(failed.getErrorMessage())
+        .hasValueSatisfying(error -> assertThat(error).contains("Provider is unavailable"));
+    assertThat(failed.getRemainingAttempts()).isEqualTo(EmailOutboxMessageModel.MAX_ATTEMPTS - 1);
+    assertThat(failed.getNextAttemptTime()).isEqualTo(START.plus(Duration.ofMinutes(1)));
+
+    // The message isn't retried before its next attempt time.
+    newJob().run();
+    verify(emailSendClient, times(1)).send(anyAddresses(), anyString(), anyString());
+
+    // Each failed attempt doubles the wait before the next one.
+    now = START.plus(Duration.ofMinutes(1));
+    newJob().run();
+
+    verify(emailSendClient, times(2)).send(anyAddresses(), anyString(), anyString());
+    assertThat(reload(message).getNextAttemptTime()).isEqualTo(now.plus(Duration.ofMinutes(2)));
+  }
+
+  @Test
+  public void run_retrySucceeds_marksMessageSent() {
+    failSends();
+    EmailOutboxMessageModel message =
+        emailOutboxRepository.enqueue(ImmutableList.of("a@example.com"), "subject", "body");
+    newJob().run();
+
+    doNothing().when(emailSendClient).send(anyAddresses(), anyString(), anyString());
+    now = START.plus(Duration.ofMinutes(1));
+    newJob().run();
+
+    assertThat(reload(message).getSentTime()).contains(now);
+    assertThat(emailOutboxRepository.countPendingMessages()).isEqualTo(0);
+  }
+
+  @Test
+  public void run_lastAttemptFails_givesUpOnMessage() {
+    failSends();
+    EmailOutboxMessageModel message =
+        emailOutboxRepository.enqueue(ImmutableList.of("a@example.com"), "subject", "body");
+
+    for (int attempt = 0; attempt < EmailOutboxMessageModel.MAX_ATTEMPTS; attempt++) {
+      newJob().run();
+      now = now.plus(Duration.ofHours(1));
+    }
+
+    EmailOutboxMessageModel givenUp = reload(message);
+    assertThat(givenUp.getRemainingAttempts()).isEqualTo(0);
+    assertThat(givenUp.getSentTime()).isEmpty();
+    assertThat(emailOutboxRepository.countPendingMessages()).isEqualTo(0);
+
+    // A message that has been given up on isn't attempted again.
+    newJob().run();
+    verify(emailSendClient, times(EmailOutboxMessageModel.MAX_ATTEMPTS))
+        .send(anyAddresses(), anyString(), anyString());
+  }
+
+  private void failSends() {
+    doThrow(new EmailSendException(new IOException("Provider is unavailable")))
+        .when(emailSendClient)
+        .send(anyAddresses(), anyString(), anyString());
+  }
+
+  private static ImmutableList<String> anyAddresses() {
+    return ArgumentMatchers.any();
+  }
+
+  private static EmailOutboxMessageModel reload(EmailOutboxMessageModel message) {
+    return DB.getDefault().find(EmailOutboxMessageModel.class, message.id);
+  }
+
+  private EmailOutboxSendJob newJob() {
+    return new EmailOutboxSendJob(
+        emailOutboxRepository,
+        emailSendClient,
+        instanceOf(EmailSendMetrics.class),
+        RateLimiter.create(1000),
+        clock,
+        new PersistedDurableJobModel(
+            DurableJobName.EMAIL_OUTBOX_SEND.getJobNameString(), JobType.RECURRING, now));
+  }
+}
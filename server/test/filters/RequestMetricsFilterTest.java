@@ -0,0 +1,56 @@
+package filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static support.FakeRequestBuilder.fakeRequestBuilder;
+
+import io.prometheus.client.Histogram;
+import org.apache.pekko.stream.testkit.NoMaterializer$;
+import org.junit.Test;
+import play.libs.streams.Accumulator;
+import play.mvc.EssentialAction;
+import play.mvc.Result;
+import play.mvc.Results;
+
+public class RequestMetricsFilterTest {
+  private final RequestMetricsFilter filter = new RequestMetricsFilter(Runnable::run);
+
+  private Result runFilter(Result result) throws Exception {
+    return filter
+        .apply(EssentialAction.of(r -> Accumulator.done(result)))
+        .apply(fakeRequestBuilder().method("GET").build())
+        .run(NoMaterializer$.MODULE$)
+        .toCompletableFuture()
+        .get();
+  }
+
+  private static Histogram.Child.Value getHistogramValue(Histogram histogram, String statusClass) {
+    return histogram.labels(RequestMetricsFilter.UNMATCHED_ROUTE, "GET", statusClass).get();
+  }
+
+  private static double getCount(Histogram histogram, String statusClass) {
+    double[] buckets = getHistogramValue(histogram, statusClass).buckets;
+    // Buckets are cumulative, so the last one counts every observation.
+    return buckets[buckets.length - 1];
+  }
+
+  @Test
+  public void recordsLatencyAndResponseSizeByStatusClass() throws Exception {
+    double okCount = getCount(RequestMetricsFilter.REQUEST_LATENCY, "2xx");
+    double notFoundCount = getCount(RequestMetricsFilter.REQUEST_LATENCY, "4xx");
+    double okSizeSum = getHistogramValue(RequestMetricsFilter.RESPONSE_SIZE, "2xx").sum;
+
+    assertThat(runFilter(Results.ok("12345")).status()).isEqualTo(200);
+    assertThat(runFilter(Results.notFound()).status()).isEqualTo(404);
+
+    assertThat(getCount(RequestMetricsFilter.REQUEST_LATENCY, "2xx")).isEqualTo(okCount + 1);
+    assertThat(getCount(RequestMetricsFilter.REQUEST_LATENCY, "4xx")).isEqualTo(notFoundCount + 1);
+    assertThat(getHistogramValue(RequestMetricsFilter.RESPONSE_SIZE, "2xx").sum)
+        .isEqualTo(okSizeSum + 5);
+    // Every request has finished.
+    assertThat(
+            RequestMetricsFilter.REQUESTS_IN_FLIGHT
+                .labels(RequestMetricsFilter.UNMATCHED_ROUTE, "GET")
+                .get())
+        .isEqualTo(0.0);
+  }
+}
@@ -10,6 +10,8 @@ import repository.ApplicationEventRepository;
 import repository.ApplicationStatusesRepository;
 import repository.ResetPostgres;
 import services.LocalizedStrings;
+import services.Path;
+import services.applicant.ApplicantData;
 import services.application.ApplicationEventDetails;
 import services.statuses.StatusDefinitions;
 import support.ProgramBuilder;
@@ -64,6 +66,23 @@ public class ApplicationModelTest extends ResetPostgres {
     assertThat(application.getLatestStatus()).isEqualTo(Optional.of(APPROVED_STATUS.statusText()));
   }
 
+  @Test
+  public void getApplicantData_returnsIndependentCopiesOfLatestData() {
+    ProgramModel program = ProgramBuilder.newActiveProgram("test program", "description").build();
+    ApplicationModel application =
+        resourceCreator.insertActiveApplication(
+            resourceCreator.insertApplicantWithAccount(), program);
+    Path path = Path.create("applicant.name.first_name");
+
+    ApplicantData data = application.getApplicantData();
+    data.putString(path, "First");
+    assertThat(application.getApplicantData().hasPath(path)).isFalse();
+
+    application.setApplicantData(data);
+    assertThat(application.getApplicantData().readString(path)).hasValue("First");
+    assertThat(application.getApplicantData()).isNotSameAs(application.getApplicantData());
+  }
+
   @Test
   public void isAdmin_applicant_isFalse() {
     ProgramModel program = ProgramBuilder.newActiveProgram("test program", "description").build();
@@ -349,7 +349,12 @@ public class AccountRepositoryTest extends ResetPostgres {
     oldUsedGuest.setWhenCreated(timeInPast).save();
     oldUnusedAuthenticated.setWhenCreated(timeInPast).save();
 
-    var numberDeleted = repo.deleteUnusedGuestAccounts(5);
+    ImmutableList<Long> unusedGuestIds =
+        repo.findUnusedGuestApplicantIds(
+            /* minAgeInDays= */ 5, /* afterApplicantId= */ 0L, /* limit= */ 100);
+    assertThat(unusedGuestIds).containsExactly(oldUnusedGuest.id);
+
+    var numberDeleted = repo.deleteUnusedGuestAccounts(/* minAgeInDays= */ 5, unusedGuestIds);
     var remainingApplicants = repo.listApplicants().toCompletableFuture().join();
     var remainingAccounts = repo.listAccounts();
 
@@ -369,6 +374,45 @@ public class AccountRepositoryTest extends ResetPostgres {
     assertThat(remainingApplicants).hasSize(3);
   }
 
+  @Test
+  public void deleteUnusedGuestAccounts_guestsChangedSinceTheyWereFound_areNotDeleted() {
+    var testProgram = resourceCreator.insertActiveProgram("test-program");
+    Instant timeInPast = Instant.now().minus(10, ChronoUnit.DAYS);
+    ApplicantModel signedIn = resourceCreator.insertApplicantWithAccount();
+    ApplicantModel applied = resourceCreator.insertApplicantWithAccount();
+    ApplicantModel tooNew = resourceCreator.insertApplicantWithAccount();
+    signedIn.setWhenCreated(timeInPast).save();
+    applied.setWhenCreated(timeInPast).save();
+    tooNew.setWhenCreated(timeInPast).save();
+    ImmutableList<Long> unusedGuestIds =
+        repo.findUnusedGuestApplicantIds(
+            /* minAgeInDays= */ 5, /* afterApplicantId= */ 0L, /* limit= */ 100);
+    assertThat(unusedGuestIds).containsExactly(signedIn.id, applied.id, tooNew.id);
+
+    signedIn.getAccount().setAuthorityId("authority-id").save();
+    resourceCreator.insertApplication(applied, testProgram, LifecycleStage.DRAFT);
+    tooNew.setWhenCreated(Instant.now()).save();
+
+    assertThat(repo.deleteUnusedGuestAccounts(/* minAgeInDays= */ 5, unusedGuestIds)).isZero();
+    assertThat(repo.listApplicants().toCompletableFuture().join())
+        .contains(signedIn, applied, tooNew);
+  }
+
+  @Test
+  public void findUnusedGuestApplicantIds_pagesById() {
+    Instant timeInPast = Instant.now().minus(10, ChronoUnit.DAYS);
+    ApplicantModel first = resourceCreator.insertApplicantWithAccount();
+    ApplicantModel second = resourceCreator.insertApplicantWithAccount();
+    ApplicantModel third = resourceCreator.insertApplicantWithAccount();
+    first.setWhenCreated(timeInPast).save();
+    second.setWhenCreated(timeInPast).save();
+    third.setWhenCreated(timeInPast).save();
+
+    assertThat(repo.findUnusedGuestApplicantIds(5, 0L, 2)).containsExactly(first.id, second.id);
+    assertThat(repo.findUnusedGuestApplicantIds(5, second.id, 2)).containsExactly(third.id);
+    assertThat(repo.findUnusedGuestApplicantIds(5, third.id, 2)).isEmpty();
+  }
+
   @Test
   public void addIdTokenAndPrune() {
     when(mockSettingsManifest.getSessionReplayProtectionEnabled()).thenReturn(false);
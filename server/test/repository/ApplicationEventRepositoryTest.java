@@ -104,7 +104,7 @@ public class ApplicationEventRepositoryTest extends ResetPostgres {
             .build();
 
     repo.insertStatusEvents(
-        ImmutableList.of(application1, application2),
+        ImmutableList.of(application1.id, application2.id),
         Optional.of(actor),
         initialStatus.statusEvent().get());
 
@@ -176,14 +176,14 @@ public class ApplicationEventRepositoryTest extends ResetPostgres {
 
     // insert initial status
     repo.insertStatusEvents(
-        ImmutableList.of(application1, application2),
+        ImmutableList.of(application1.id, application2.id),
         Optional.of(actor),
         initialStatus.statusEvent().get());
 
     repo.insertStatusEvents(
-        ImmutableList.of(application1), Optional.of(actor), statusChange.statusEvent().get());
+        ImmutableList.of(application1.id), Optional.of(actor), statusChange.statusEvent().get());
     repo.insertStatusEvents(
-        ImmutableList.of(application2), Optional.of(actor), statusRemoved.statusEvent().get());
+        ImmutableList.of(application2.id), Optional.of(actor), statusRemoved.statusEvent().get());
 
     ImmutableList<ApplicationEventModel> insertedEventFor1 =
         repo.getEventsOrderByCreateTimeDesc(application1.id);
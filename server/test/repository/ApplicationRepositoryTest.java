@@ -5,13 +5,17 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import auth.ProgramAcls;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 import models.AccountModel;
 import models.ApplicantModel;
+import models.ApplicationEventModel;
 import models.ApplicationModel;
 import models.ApplicationStep;
 import models.DisplayMode;
@@ -22,7 +26,9 @@ import org.junit.Before;
 import org.junit.Test;
 import services.DateConverter;
 import services.Path;
+import services.applicant.ApplicantData;
 import services.applicant.exception.DuplicateApplicationException;
+import services.application.ApplicationEventDetails.StatusEvent;
 import services.program.ProgramType;
 import support.CfTestHelpers;
 
@@ -131,6 +137,147 @@ public class ApplicationRepositoryTest extends ResetPostgres {
     assertThat(appDraft2.getApplicantData().asJsonString()).isEqualTo("{}");
   }
 
+  @Test
+  public void saveApplicantAndCreateDraftIfMissing_createsOneDraftPerProgram() throws Exception {
+    ApplicantModel applicant = saveApplicant("Alice");
+    ProgramModel program = createActiveProgram("Program");
+    ProgramModel programV2 = createDraftProgram("Program");
+    ProgramModel otherProgram = createActiveProgram("OtherProgram");
+    applicant.getApplicantData().putString(Path.create("text"), "text");
+
+    repo.saveApplicantAndCreateDraftIfMissing(
+            applicant,
+            program.getProgramDefinition(),
+            /* saveApplicant= */ true,
+            /* changedAnswerPaths= */ ImmutableSet.of())
+        .toCompletableFuture()
+        .join();
+    // A draft to another version of the same program counts as the draft.
+    repo.saveApplicantAndCreateDraftIfMissing(
+            applicant,
+            programV2.getProgramDefinition(),
+            /* saveApplicant= */ false,
+            /* changedAnswerPaths= */ ImmutableSet.of())
+        .toCompletableFuture()
+        .join();
+    repo.saveApplicantAndCreateDraftIfMissing(
+            applicant,
+            otherProgram.getProgramDefinition(),
+            /* saveApplicant= */ false,
+            /* changedAnswerPaths= */ ImmutableSet.of())
+        .toCompletableFuture()
+        .join();
+
+    ImmutableSet<ApplicationModel> drafts =
+        repo.getApplicationsForApplicant(applicant.id, ImmutableSet.of(LifecycleStage.DRAFT))
+            .toCompletableFuture()
+            .get();
+    assertThat(drafts.stream().map(draft -> draft.getProgram().id))
+        .containsExactlyInAnyOrder(program.id, otherProgram.id);
+    assertThat(drafts.stream().map(draft -> draft.getApplicantData().asJsonString()))
+        .containsOnly("{}");
+    applicant.refresh();
+    assertThat(applicant.getApplicantData().readString(Path.create("text"))).contains("text");
+  }
+
+  @Test
+  public void saveApplicantAndCreateDraftIfMissing_concurrentSavesCreateOneDraft() {
+    ApplicantModel applicant = saveApplicant("Alice");
+    ProgramModel program = createActiveProgram("Program");
+
+    ImmutableList<CompletableFuture<Void>> saves =
+        IntStream.range(0, 8)
+            .mapToObj(
+                i ->
+                    repo.saveApplicantAndCreateDraftIfMissing(
+                            lookupApplicant(applicant.id),
+                            program.getProgramDefinition(),
+                            /* saveApplicant= */ false,
+                            /* changedAnswerPaths= */ ImmutableSet.of())
+                        .toCompletableFuture())
+            .collect(ImmutableList.toImmutableList());
+    CompletableFuture.allOf(saves.toArray(new CompletableFuture<?>[0])).join();
+
+    assertThat(
+            repo.getApplicationsForApplicant(applicant.id, ImmutableSet.of(LifecycleStage.DRAFT))
+                .toCompletableFuture()
+                .join())
+        .hasSize(1);
+  }
+
+  @Test
+  public void saveApplicantAndCreateDraftIfMissing_draftOfAdminIsAdmin() {
+    ApplicantModel applicant = saveApplicant("Alice");
+    applicant.getAccount().setGlobalAdmin(true).save();
+    ProgramModel program = createActiveProgram("Program");
+
+    repo.saveApplicantAndCreateDraftIfMissing(
+            applicant,
+            program.getProgramDefinition(),
+            /* saveApplicant= */ false,
+            /* changedAnswerPaths= */ ImmutableSet.of())
+        .toCompletableFuture()
+        .join();
+
+    assertThat(
+            repo.getApplicationsForApplicant(applicant.id, ImmutableSet.of(LifecycleStage.DRAFT))
+                .toCompletableFuture()
+                .join())
+        .extracting(ApplicationModel::getIsAdmin)
+        .containsExactly(true);
+  }
+
+  @Test
+  public void saveApplicantAndCreateDraftIfMissing_writesOnlyChangedAnswers() {
+    ApplicantModel applicant = saveApplicant("Alice");
+    applicant.getApplicantData().putString(Path.create("applicant.kept"), "kept");
+    applicant.getApplicantData().putString(Path.create("applicant.deleted"), "deleted");
+    applicant.save();
+    ProgramModel program = createActiveProgram("Program");
+    ApplicantModel loadedApplicant = lookupApplicant(applicant.id);
+    loadedApplicant.getApplicantData().putString(Path.create("applicant.changed.text"), "changed");
+    loadedApplicant.getApplicantData().maybeDelete(Path.create("applicant.deleted"));
+    // Not one of the changed paths, so it isn't written.
+    loadedApplicant.getApplicantData().putString(Path.create("applicant.kept"), "unsaved");
+
+    repo.saveApplicantAndCreateDraftIfMissing(
+            loadedApplicant,
+            program.getProgramDefinition(),
+            /* saveApplicant= */ true,
+            ImmutableSet.of(
+                Path.create("applicant.changed.text"), Path.create("applicant.deleted")))
+        .toCompletableFuture()
+        .join();
+
+    ApplicantData savedData = lookupApplicant(applicant.id).getApplicantData();
+    assertThat(savedData.readString(Path.create("applicant.changed.text"))).contains("changed");
+    assertThat(savedData.hasPath(Path.create("applicant.deleted"))).isFalse();
+    assertThat(savedData.readString(Path.create("applicant.kept"))).contains("kept");
+  }
+
+  @Test
+  public void saveApplicantAndCreateDraftIfMissing_rewritesApplicantChangedSinceLoaded() {
+    ApplicantModel applicant = saveApplicant("Alice");
+    ProgramModel program = createActiveProgram("Program");
+    ApplicantModel loadedApplicant = lookupApplicant(applicant.id);
+    loadedApplicant.getApplicantData().putString(Path.create("applicant.changed"), "changed");
+    applicant.getApplicantData().putString(Path.create("applicant.concurrent"), "concurrent");
+    applicant.save();
+
+    repo.saveApplicantAndCreateDraftIfMissing(
+            loadedApplicant,
+            program.getProgramDefinition(),
+            /* saveApplicant= */ true,
+            ImmutableSet.of(Path.create("applicant.changed")))
+        .toCompletableFuture()
+        .join();
+
+    // The whole applicant is saved, as if the answers had been written without checking.
+    ApplicantData savedData = lookupApplicant(applicant.id).getApplicantData();
+    assertThat(savedData.readString(Path.create("applicant.changed"))).contains("changed");
+    assertThat(savedData.hasPath(Path.create("applicant.concurrent"))).isFalse();
+  }
+
   @Test
   public void submitApplication_twoDraftsThrowsException() {
     ApplicantModel applicant = saveApplicant("Alice");
@@ -209,56 +356,18 @@ public class ApplicationRepositoryTest extends ResetPostgres {
   }
 
   @Test
-  public void getApplications() {
+  public void getProgramAdminNames() {
     ProgramModel programOne = createDraftProgram("first");
     ProgramModel programTwo = createDraftProgram("second");
-
-    Instant yesterday = dateConverter.parseIso8601DateToStartOfLocalDateInstant("2022-01-02");
     Instant today = dateConverter.parseIso8601DateToStartOfLocalDateInstant("2022-01-03");
-    Instant tomorrow = dateConverter.parseIso8601DateToStartOfLocalDateInstant("2022-01-04");
-
-    // Create applications at each instant in each program.
-    ApplicationModel programOneYesterday = createSubmittedAppAtInstant(programOne, yesterday, "a");
-    ApplicationModel programOneToday = createSubmittedAppAtInstant(programOne, today, "b");
-    ApplicationModel programOneTomorrow = createSubmittedAppAtInstant(programOne, tomorrow, "c");
-    ApplicationModel programTwoYesterday = createSubmittedAppAtInstant(programTwo, yesterday, "d");
-    ApplicationModel programTwoToday = createSubmittedAppAtInstant(programTwo, today, "e");
-    ApplicationModel programTwoTomorrow = createSubmittedAppAtInstant(programTwo, tomorrow, "f");
-
-    // No filters. Includes all.
-    assertThat(repo.getApplications(TimeFilter.EMPTY).stream().map(a -> a.id))
-        .containsExactly(
-            programOneYesterday.id,
-            programOneToday.id,
-            programOneTomorrow.id,
-            programTwoYesterday.id,
-            programTwoToday.id,
-            programTwoTomorrow.id);
-
-    // Only from.
-    TimeFilter fromFilter = TimeFilter.builder().setFromTime(Optional.of(today)).build();
-    assertThat(repo.getApplications(fromFilter).stream().map(a -> a.id))
-        .containsExactly(
-            programOneToday.id, programOneTomorrow.id, programTwoToday.id, programTwoTomorrow.id);
-
-    // Only to.
-    TimeFilter toFilter = TimeFilter.builder().setUntilTime(Optional.of(today)).build();
-    assertThat(repo.getApplications(toFilter).stream().map(a -> a.id))
-        .containsExactly(programOneYesterday.id, programTwoYesterday.id);
-
-    // Both.
-    TimeFilter bothFilter =
-        TimeFilter.builder()
-            .setFromTime(Optional.of(today))
-            .setUntilTime(Optional.of(tomorrow))
-            .build();
-    assertThat(repo.getApplications(bothFilter).stream().map(a -> a.id))
-        .containsExactly(programOneToday.id, programTwoToday.id);
-
-    // Overly restrictive, no apps.
-    TimeFilter restrictiveFilter =
-        TimeFilter.builder().setFromTime(Optional.of(Instant.now())).build();
-    assertThat(repo.getApplications(restrictiveFilter)).isEmpty();
+    ApplicationModel programOneApp = createSubmittedAppAtInstant(programOne, today, "a");
+    ApplicationModel programTwoApp = createSubmittedAppAtInstant(programTwo, today, "b");
+
+    assertThat(
+            repo.getProgramAdminNames(
+                ImmutableList.of(programOneApp.id, programTwoApp.id, Long.MAX_VALUE)))
+        .containsExactlyInAnyOrderEntriesOf(
+            ImmutableMap.of(programOneApp.id, "first", programTwoApp.id, "second"));
   }
 
   @Test
@@ -313,6 +422,99 @@ public class ApplicationRepositoryTest extends ResetPostgres {
     assertThat(result).isEmpty();
   }
 
+  @Test
+  public void getApplicationSummariesForApplicant() {
+    ApplicantModel applicant = saveApplicant("Applicant");
+    ApplicantModel otherApplicant = saveApplicant("Other");
+    ProgramModel program = createActiveProgram("Program");
+    ApplicationModel submitted =
+        repo.submitApplication(applicant, program, Optional.empty()).toCompletableFuture().join();
+    ApplicationModel draft = ApplicationModel.create(applicant, program, LifecycleStage.DRAFT);
+    draft.save();
+    ApplicationModel.create(applicant, program, LifecycleStage.OBSOLETE).save();
+    ApplicationModel.create(otherApplicant, program, LifecycleStage.ACTIVE).save();
+    ApplicationEventRepository eventRepository = instanceOf(ApplicationEventRepository.class);
+    for (String status : ImmutableList.of("Approved", "Denied", "Approved", "Denied")) {
+      eventRepository
+          .insertStatusEvent(
+              submitted,
+              Optional.empty(),
+              StatusEvent.builder().setStatusText(status).setEmailSent(false).build())
+          .toCompletableFuture()
+          .join();
+    }
+    ApplicationEventModel latestEvent =
+        eventRepository.getEventsOrderByCreateTimeDesc(submitted.id).get(0);
+    // Compare with the times as they were stored.
+    draft.refresh();
+    submitted.refresh();
+
+    ImmutableList<ApplicationSummary> summaries =
+        repo.getApplicationSummariesForApplicant(
+                applicant.id, ImmutableSet.of(LifecycleStage.DRAFT, LifecycleStage.ACTIVE))
+            .toCompletableFuture()
+            .join();
+
+    assertThat(summaries)
+        .containsExactlyInAnyOrder(
+            ApplicationSummary.builder()
+                .setApplicationId(draft.id)
+                .setProgramId(program.id)
+                .setProgramName("Program")
+                .setLifecycleStage(LifecycleStage.DRAFT)
+                .setCreateTime(draft.getCreateTime())
+                .setSubmitTime(Optional.empty())
+                .setLatestStatus(Optional.empty())
+                .setLatestStatusTime(Optional.empty())
+                .build(),
+            ApplicationSummary.builder()
+                .setApplicationId(submitted.id)
+                .setProgramId(program.id)
+                .setProgramName("Program")
+                .setLifecycleStage(LifecycleStage.ACTIVE)
+                .setCreateTime(submitted.getCreateTime())
+                .setSubmitTime(Optional.of(submitted.getSubmitTime()))
+                .setLatestStatus(Optional.of("Denied"))
+                .setLatestStatusTime(Optional.of(latestEvent.getCreateTime()))
+                .build());
+    assertThat(
+            repo.getApplicationSummariesForApplicant(applicant.id, ImmutableSet.of())
+                .toCompletableFuture()
+                .join())
+        .isEmpty();
+  }
+
+  @Test
+  public void getApplicationSummariesForApplicant_loadsAnswersForNamedPrograms() {
+    ApplicantModel applicant = saveApplicant("Applicant");
+    applicant.getApplicantData().setPreferredLocale(Locale.FRENCH);
+    applicant.getApplicantData().putString(Path.create("text"), "text");
+    applicant.save();
+    ProgramModel program = createActiveProgram("Program");
+    ProgramModel otherProgram = createActiveProgram("Other");
+    ApplicationModel submitted =
+        repo.submitApplication(applicant, program, Optional.empty()).toCompletableFuture().join();
+    repo.submitApplication(applicant, otherProgram, Optional.empty()).toCompletableFuture().join();
+
+    ImmutableList<ApplicationSummary> summaries =
+        repo.getApplicationSummariesForApplicant(
+                applicant.id, ImmutableSet.of(LifecycleStage.ACTIVE), ImmutableSet.of("Program"))
+            .toCompletableFuture()
+            .join();
+
+    assertThat(summaries).hasSize(2);
+    ApplicationSummary summary =
+        summaries.stream().filter(s -> s.applicationId() == submitted.id).findFirst().get();
+    assertThat(summary.applicantData()).isPresent();
+    assertThat(summary.applicantData().get().preferredLocale()).isEqualTo(Locale.FRENCH);
+    assertThat(summary.applicantData().get().readString(Path.create("text"))).contains("text");
+    assertThat(
+            summaries.stream()
+                .filter(s -> s.applicationId() != submitted.id)
+                .map(ApplicationSummary::applicantData))
+        .containsExactly(Optional.empty());
+  }
+
   @Test
   public void getApplicationsForApplicant_filtersById() throws Exception {
     ApplicantModel primaryApplicant = saveApplicant("Applicant");
@@ -393,6 +595,10 @@ public class ApplicationRepositoryTest extends ResetPostgres {
         .hasMessageContaining("Program not found");
   }
 
+  private ApplicantModel lookupApplicant(long applicantId) {
+    return instanceOf(AccountRepository.class).lookupApplicantSync(applicantId).get();
+  }
+
   private ApplicantModel saveApplicant(String name) {
     AccountModel account = new AccountModel();
     // TODO (#5503): This can be removed when we are no longer checking name
@@ -0,0 +1,85 @@
+package repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.DB;
+import java.time.Duration;
+import java.time.Instant;
+import models.EmailOutboxMessageModel;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EmailOutboxRepositoryTest extends ResetPostgres {
+  private static final Duration LEASE = Duration.ofMinutes(10);
+
+  private EmailOutboxRepository repo;
+
+  @Before
+  public void setUp() {
+    repo = instanceOf(EmailOutboxRepository.class);
+  }
+
+  @Test
+  public void claimMessagesForSending_claimsDueMessagesOnce() {
+    EmailOutboxMessageModel first = repo.enqueue(ImmutableList.of("a@example.com"), "one", "body");
+    EmailOutboxMessageModel second = repo.enqueue(ImmutableList.of("b@example.com"), "two", "body");
+
+    ImmutableList<EmailOutboxMessageModel> claimed = repo.claimMessagesForSending(10, LEASE);
+
+    assertThat(claimed).extracting(message -> message.id).containsExactly(first.id, second.id);
+    assertThat(claimed)
+        .extracting(EmailOutboxMessageModel::getRemainingAttempts)
+        .containsOnly(EmailOutboxMessageModel.MAX_ATTEMPTS - 1);
+    assertThat(claimed.get(0).getToAddresses()).containsExactly("a@example.com");
+    // The claimed messages are leased, so they aren't claimed again.
+    assertThat(repo.claimMessagesForSending(10, LEASE)).isEmpty();
+  }
+
+  @Test
+  public void claimMessagesForSending_respectsLimit() {
+    repo.enqueue(ImmutableList.of("a@example.com"), "one", "body");
+    repo.enqueue(ImmutableList.of("b@example.com"), "two", "body");
+
+    assertThat(repo.claimMessagesForSending(1, LEASE)).hasSize(1);
+    assertThat(repo.claimMessagesForSending(1, LEASE)).hasSize(1);
+    assertThat(repo.claimMessagesForSending(1, LEASE)).isEmpty();
+  }
+
+  @Test
+  public void claimMessagesForSending_claimsExpiredLeases() {
+    repo.enqueue(ImmutableList.of("a@example.com"), "one", "body");
+
+    assertThat(repo.claimMessagesForSending(10, Duration.ofMinutes(-1))).hasSize(1);
+    assertThat(repo.claimMessagesForSending(10, LEASE)).hasSize(1);
+  }
+
+  @Test
+  public void markSent_removesMessagesFromPending() {
+    repo.enqueue(ImmutableList.of("a@example.com"), "one", "body");
+    repo.enqueue(ImmutableList.of("b@example.com"), "two", "body");
+    assertThat(repo.countPendingMessages()).isEqualTo(2);
+
+    ImmutableList<EmailOutboxMessageModel> claimed = repo.claimMessagesForSending(1, LEASE);
+    repo.markSent(claimed);
+
+    assertThat(repo.countPendingMessages()).isEqualTo(1);
+    EmailOutboxMessageModel sent =
+        DB.getDefault().find(EmailOutboxMessageModel.class, claimed.get(0).id);
+    assertThat(sent.getSentTime()).isPresent();
+  }
+
+  @Test
+  public void markFailed_retriesAtNextAttemptTime() {
+    repo.enqueue(ImmutableList.of("a@example.com"), "one", "body");
+    EmailOutboxMessageModel claimed = repo.claimMessagesForSending(10, LEASE).get(0);
+
+    repo.markFailed(claimed, "RuntimeException: failed", Instant.now().minusSeconds(1));
+
+    ImmutableList<EmailOutboxMessageModel> retried = repo.claimMessagesForSending(10, LEASE);
+    assertThat(retried).hasSize(1);
+    assertThat(retried.get(0).getErrorMessage()).contains("RuntimeException: failed");
+    assertThat(retried.get(0).getRemainingAttempts())
+        .isEqualTo(EmailOutboxMessageModel.MAX_ATTEMPTS - 2);
+  }
+}
@@ -2,14 +2,23 @@ package repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.time.Instant;
 import java.util.Locale;
+import java.util.Optional;
+import models.ApplicationModel;
 import models.LifecycleStage;
+import models.ProgramModel;
 import models.QuestionModel;
 import org.junit.Before;
 import org.junit.Test;
 import services.LocalizedStrings;
+import services.Path;
+import services.applicant.ApplicantData;
 import services.question.QuestionOption;
 import services.question.QuestionService;
 import services.question.types.MultiOptionQuestionDefinition;
@@ -147,6 +156,176 @@ public class ExportServiceRepositoryTest extends ResetPostgres {
 
   // TODO(#5957): Structuring this using the Builder pattern would make this easier to extend or
   // customize
+  @Test
+  public void getProgramVersionIdsWithSubmittedApplications_excludesDraftApplications() {
+    ProgramModel programWithApplication = resourceCreator.insertActiveProgram("with application");
+    ProgramModel programWithDraft = resourceCreator.insertActiveProgram("with draft");
+    resourceCreator.insertActiveApplication(
+        resourceCreator.insertApplicantWithAccount(), programWithApplication);
+    resourceCreator.insertDraftApplication(
+        resourceCreator.insertApplicantWithAccount(), programWithDraft);
+
+    assertThat(
+            repo.getProgramVersionIdsWithSubmittedApplications(
+                programWithApplication.id, SubmittedApplicationFilter.EMPTY))
+        .containsExactly(programWithApplication.id);
+    assertThat(
+            repo.getProgramVersionIdsWithSubmittedApplications(
+                programWithDraft.id, SubmittedApplicationFilter.EMPTY))
+        .isEmpty();
+  }
+
+  @Test
+  public void getMaxRepeatedEntityCountsByProgramVersion_returnsLargestCount() {
+    ProgramModel program = resourceCreator.insertActiveProgram("program");
+    Path enumeratorPath = ApplicantData.APPLICANT_PATH.join("household_members[]");
+    insertApplicationWithEntities(program, enumeratorPath, "a", "b");
+    insertApplicationWithEntities(program, enumeratorPath, "c", "d", "e");
+    resourceCreator.insertActiveApplication(resourceCreator.insertApplicantWithAccount(), program);
+
+    assertThat(
+            repo.getMaxRepeatedEntityCountsByProgramVersion(
+                program.id, SubmittedApplicationFilter.EMPTY))
+        .containsExactly(entry(enumeratorPath, ImmutableMap.of(program.id, 3)));
+  }
+
+  @Test
+  public void getMaxRepeatedEntityCountsByProgramVersion_includesEveryNestingLevel() {
+    ProgramModel program = resourceCreator.insertActiveProgram("program");
+    Path enumeratorPath = ApplicantData.APPLICANT_PATH.join("household_members[]");
+    Path nestedEnumeratorPath = enumeratorPath.atIndex(1).join("jobs[]");
+    ApplicantData applicantData = new ApplicantData();
+    applicantData.putRepeatedEntities(enumeratorPath, ImmutableList.of("a", "b"));
+    applicantData.putRepeatedEntities(nestedEnumeratorPath, ImmutableList.of("x", "y", "z", "w"));
+    // Arrays of scalars, like checkbox selections, aren't repeated entities.
+    applicantData.putArray(
+        ApplicantData.APPLICANT_PATH.join("kitchen").join("selections"), ImmutableList.of(1L, 2L));
+    resourceCreator
+        .insertActiveApplication(resourceCreator.insertApplicantWithAccount(), program)
+        .setApplicantData(applicantData)
+        .save();
+
+    assertThat(
+            repo.getMaxRepeatedEntityCountsByProgramVersion(
+                program.id, SubmittedApplicationFilter.EMPTY))
+        .containsOnly(
+            entry(enumeratorPath, ImmutableMap.of(program.id, 2)),
+            entry(nestedEnumeratorPath, ImmutableMap.of(program.id, 4)));
+  }
+
+  @Test
+  public void getDemographicsApplicationsPage_pagesInOrderOfId() {
+    ProgramModel program = resourceCreator.insertActiveProgram("program");
+    ApplicationModel first =
+        resourceCreator.insertActiveApplication(
+            resourceCreator.insertApplicantWithAccount(), program);
+    ApplicationModel second =
+        resourceCreator.insertActiveApplication(
+            resourceCreator.insertApplicantWithAccount(), program);
+    ApplicationModel third =
+        resourceCreator.insertActiveApplication(
+            resourceCreator.insertApplicantWithAccount(), program);
+
+    assertThat(
+            repo.getDemographicsApplicationsPage(TimeFilter.EMPTY, /* afterId= */ 0L, 2).stream()
+                .map(a -> a.id))
+        .containsExactly(first.id, second.id);
+    assertThat(
+            repo.getDemographicsApplicationsPage(TimeFilter.EMPTY, second.id, 2).stream()
+                .map(a -> a.id))
+        .containsExactly(third.id);
+    assertThat(repo.getDemographicsApplicationsPage(TimeFilter.EMPTY, third.id, 2)).isEmpty();
+  }
+
+  @Test
+  public void getDemographicsApplicationsPage_filtersBySubmitTime() {
+    ProgramModel program = resourceCreator.insertActiveProgram("program");
+    Instant yesterday = Instant.parse("2022-01-02T00:00:00Z");
+    Instant today = Instant.parse("2022-01-03T00:00:00Z");
+    Instant tomorrow = Instant.parse("2022-01-04T00:00:00Z");
+    ImmutableList<Long> ids =
+        ImmutableList.of(yesterday, today, tomorrow).stream()
+            .map(
+                submitTime -> {
+                  ApplicationModel application =
+                      resourceCreator.insertActiveApplication(
+                          resourceCreator.insertApplicantWithAccount(), program);
+                  application.setSubmitTimeForTest(submitTime).save();
+                  return application.id;
+                })
+            .collect(ImmutableList.toImmutableList());
+
+    assertThat(
+            repo.getDemographicsApplicationsPage(
+                    TimeFilter.builder().setFromTime(Optional.of(today)).build(),
+                    /* afterId= */ 0L,
+                    10)
+                .stream()
+                .map(a -> a.id))
+        .containsExactly(ids.get(1), ids.get(2));
+    assertThat(
+            repo.getDemographicsApplicationsPage(
+                    TimeFilter.builder().setUntilTime(Optional.of(today)).build(),
+                    /* afterId= */ 0L,
+                    10)
+                .stream()
+                .map(a -> a.id))
+        .containsExactly(ids.get(0));
+    assertThat(
+            repo.getDemographicsApplicationsPage(
+                    TimeFilter.builder()
+                        .setFromTime(Optional.of(today))
+                        .setUntilTime(Optional.of(tomorrow))
+                        .build(),
+                    /* afterId= */ 0L,
+                    10)
+                .stream()
+                .map(a -> a.id))
+        .containsExactly(ids.get(1));
+  }
+
+  @Test
+  public void getAnswersWithKeys_onlyIncludesAnswersWithKeys() {
+    ProgramModel program = resourceCreator.insertActiveProgram("program");
+    ApplicantData applicantData = new ApplicantData();
+    applicantData.putString(ApplicantData.APPLICANT_PATH.join("name").join("first_name"), "Ada");
+    applicantData.putString(ApplicantData.APPLICANT_PATH.join("color").join("text"), "blue");
+    applicantData.putString(ApplicantData.APPLICANT_PATH.join("ssn").join("text"), "123");
+    ApplicationModel application =
+        resourceCreator
+            .insertActiveApplication(resourceCreator.insertApplicantWithAccount(), program)
+            .setApplicantData(applicantData);
+    application.save();
+    ApplicationModel withoutAnswers =
+        resourceCreator.insertActiveApplication(
+            resourceCreator.insertApplicantWithAccount(), program);
+
+    ImmutableMap<Long, String> answers =
+        repo.getAnswersWithKeys(
+            ImmutableList.of(application.id, withoutAnswers.id),
+            ImmutableSet.of("name", "color", "missing"));
+
+    ApplicantData filtered = new ApplicantData(answers.get(application.id));
+    assertThat(filtered.readString(ApplicantData.APPLICANT_PATH.join("name").join("first_name")))
+        .hasValue("Ada");
+    assertThat(filtered.readString(ApplicantData.APPLICANT_PATH.join("color").join("text")))
+        .hasValue("blue");
+    assertThat(filtered.readString(ApplicantData.APPLICANT_PATH.join("ssn").join("text")))
+        .isEmpty();
+    ApplicantData empty = new ApplicantData(answers.get(withoutAnswers.id));
+    assertThat(empty.hasPath(ApplicantData.APPLICANT_PATH.join("name"))).isFalse();
+  }
+
+  private void insertApplicationWithEntities(
+      ProgramModel program, Path enumeratorPath, String... entityNames) {
+    ApplicantData applicantData = new ApplicantData();
+    applicantData.putRepeatedEntities(enumeratorPath, ImmutableList.copyOf(entityNames));
+    resourceCreator
+        .insertActiveApplication(resourceCreator.insertApplicantWithAccount(), program)
+        .setApplicantData(applicantData)
+        .save();
+  }
+
   private QuestionModel createMultiSelectQuestion(
       String name, String option1, String option2, String option3, LifecycleStage stage) {
     QuestionDefinitionConfig config =
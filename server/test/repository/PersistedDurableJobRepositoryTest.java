@@ -6,6 +6,7 @@ import com.google.common.collect.ImmutableList;
 import io.ebean.DB;
 import io.ebean.Database;
 import io.ebean.Transaction;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
@@ -45,6 +46,33 @@ public class PersistedDurableJobRepositoryTest extends ResetPostgres {
     assertThat(repo.findScheduledJob("fake-name")).contains(job);
   }
 
+  @Test
+  public void claimRecurringJobsForExecution_leasesJobsUntilTheLeaseExpires() {
+    Instant yesterday = Instant.now().minus(1, ChronoUnit.DAYS);
+    var jobA = new PersistedDurableJobModel("fake-name", JobType.RECURRING, yesterday);
+    jobA.save();
+    var jobB = new PersistedDurableJobModel("fake-name", JobType.ON_DEMAND, yesterday);
+    jobB.save();
+
+    ImmutableList<PersistedDurableJobModel> claimed =
+        repo.claimRecurringJobsForExecution(/* limit= */ 1, Duration.ofMinutes(5));
+    assertThat(claimed).hasSize(1);
+    assertThat(claimed.get(0).getRemainingAttempts()).isEqualTo(2);
+    assertThat(claimed.get(0).getLeaseExpirationTime()).isPresent();
+
+    // The leased job isn't claimed again, or handed to the runner that locks jobs.
+    ImmutableList<PersistedDurableJobModel> claimedNext =
+        repo.claimRecurringJobsForExecution(/* limit= */ 2, Duration.ofMinutes(5));
+    assertThat(claimedNext).hasSize(1);
+    assertThat(claimedNext.get(0)).isNotEqualTo(claimed.get(0));
+    assertThat(repo.getRecurringJobForExecution()).isEmpty();
+
+    // Once the leases expire, the jobs can be claimed again.
+    repo.renewLeases(ImmutableList.of(jobA.id, jobB.id), Duration.ofMinutes(-1));
+    assertThat(repo.claimRecurringJobsForExecution(/* limit= */ 2, Duration.ofMinutes(5)))
+        .hasSize(2);
+  }
+
   @Test
   public void getRecurringJobForExecution_locksRowsForUpdateAndSkipsThem() throws Throwable {
     Instant yesterday = Instant.now().minus(1, ChronoUnit.DAYS);
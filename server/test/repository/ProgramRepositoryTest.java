@@ -470,6 +470,82 @@ public class ProgramRepositoryTest extends ResetPostgres {
         .containsExactly(emailOne);
   }
 
+  @Test
+  public void getApplicationsForAllProgramVersions_searchesByLastNameFirstAndSubmitterEmail() {
+    ProgramModel program = resourceCreator.insertActiveProgram("test program");
+
+    makeApplicantWithAccountAndApplication(
+        "OneFirst", "OneLast", "one@email.com", "1234567890", program);
+    makeApplicantWithAccountAndApplication(
+        "TwoFirst", "TwoLast", "two@email.com", "0987654321", program);
+    ApplicantModel applicantThree =
+        resourceCreator.insertApplicantWithAccount(Optional.of("three@email.com"));
+    resourceCreator
+        .insertActiveApplication(applicantThree, program)
+        .setSubmitterEmail("ti@email.com")
+        .save();
+
+    PaginationResult<ApplicationModel> byLastNameFirst =
+        repo.getApplicationsForAllProgramVersions(
+            program.id,
+            RowIdSequentialAccessPaginationSpec.APPLICATION_MODEL_MAX_PAGE_SIZE_SPEC,
+            SubmittedApplicationFilter.builder()
+                .setSearchNameFragment(Optional.of("twolast, twof"))
+                .setSubmitTimeFilter(TimeFilter.EMPTY)
+                .build());
+
+    assertThat(
+            byLastNameFirst.getPageContents().stream()
+                .map(a -> a.getApplicant().getEmailAddress().get())
+                .collect(ImmutableSet.toImmutableSet()))
+        .containsExactly("two@email.com");
+
+    PaginationResult<ApplicationModel> bySubmitterEmail =
+        repo.getApplicationsForAllProgramVersions(
+            program.id,
+            RowIdSequentialAccessPaginationSpec.APPLICATION_MODEL_MAX_PAGE_SIZE_SPEC,
+            SubmittedApplicationFilter.builder()
+                .setSearchNameFragment(Optional.of("ti@email"))
+                .setSubmitTimeFilter(TimeFilter.EMPTY)
+                .build());
+
+    assertThat(bySubmitterEmail.getPageContents()).hasSize(1);
+    assertThat(bySubmitterEmail.getPageContents().get(0).getApplicant().id)
+        .isEqualTo(applicantThree.id);
+
+    // A page of one name match out of two has a next page, and two pages in all.
+    PaginationResult<ApplicationModel> pagedByName =
+        repo.getApplicationsForAllProgramVersions(
+            program.id,
+            new PageNumberPaginationSpec(
+                /* pageSize= */ 1, PageNumberPaginationSpec.OrderByEnum.SUBMIT_TIME),
+            SubmittedApplicationFilter.builder()
+                .setSearchNameFragment(Optional.of("first"))
+                .setSubmitTimeFilter(TimeFilter.EMPTY)
+                .build());
+
+    assertThat(pagedByName.getPageContents()).hasSize(1);
+    assertThat(pagedByName.hasMorePages()).isTrue();
+    assertThat(pagedByName.getNumPages()).isEqualTo(2);
+
+    // The last page counts the pages before it too.
+    PaginationResult<ApplicationModel> lastPageByName =
+        repo.getApplicationsForAllProgramVersions(
+            program.id,
+            new PageNumberPaginationSpec(
+                /* pageSize= */ 1,
+                /* currentPage= */ 2,
+                PageNumberPaginationSpec.OrderByEnum.SUBMIT_TIME),
+            SubmittedApplicationFilter.builder()
+                .setSearchNameFragment(Optional.of("first"))
+                .setSubmitTimeFilter(TimeFilter.EMPTY)
+                .build());
+
+    assertThat(lastPageByName.getPageContents()).hasSize(1);
+    assertThat(lastPageByName.hasMorePages()).isFalse();
+    assertThat(lastPageByName.getNumPages()).isEqualTo(2);
+  }
+
   private void makeApplicantWithAccountAndApplication(
       String firstName, String lastName, String email, String phoneNumber, ProgramModel program) {
 
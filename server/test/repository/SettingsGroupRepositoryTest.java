@@ -35,4 +35,28 @@ public class SettingsGroupRepositoryTest extends ResetPostgres {
 
     assertThat(result.getSettings()).isEqualTo(groupB.getSettings());
   }
+
+  @Test
+  public void getCurrentSettingsId_returnsTheIdOfTheMostRecentGroup() {
+    DB.getDefault().truncate(SettingsGroupModel.class);
+
+    var groupA = new SettingsGroupModel(ImmutableMap.of("TEST", "true"), "test");
+    groupA.save();
+    groupA.setCreateTimeForTest("2041-01-01T00:00:00Z").save();
+
+    var groupB = new SettingsGroupModel(ImmutableMap.of("TEST", "false"), "test");
+    groupB.save();
+    groupB.setCreateTimeForTest("2040-01-01T00:00:00Z").save();
+
+    assertThat(settingsGroupRepository.getCurrentSettingsId().toCompletableFuture().join())
+        .contains(groupA.id);
+  }
+
+  @Test
+  public void getCurrentSettingsId_noGroups_returnsEmpty() {
+    DB.getDefault().truncate(SettingsGroupModel.class);
+
+    assertThat(settingsGroupRepository.getCurrentSettingsId().toCompletableFuture().join())
+        .isEmpty();
+  }
 }
@@ -19,6 +19,8 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import play.cache.SyncCacheApi;
 import services.applicant.question.Scalar;
+import services.cache.CacheInvalidator;
+import services.cache.CacheWarmer;
 import services.program.CantPublishProgramWithSharedQuestionsException;
 import services.program.EligibilityDefinition;
 import services.program.ProgramDefinition;
@@ -55,7 +57,9 @@ public class VersionRepositoryTest extends ResetPostgres {
             instanceOf(DatabaseExecutionContext.class),
             mockSettingsManifest,
             questionsByVersionCache,
-            programsByVersionCache);
+            programsByVersionCache,
+            instanceOf(CacheInvalidator.class),
+            () -> instanceOf(CacheWarmer.class));
   }
 
   @Test
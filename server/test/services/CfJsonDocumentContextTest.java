@@ -102,6 +102,32 @@ public class CfJsonDocumentContextTest {
     assertThat(data.hasPath(Path.create("I_don't_exist!"))).isFalse();
   }
 
+  @Test
+  public void hasPath_returnsFalseForArrayIndexOutOfRange() {
+    CfJsonDocumentContext data = new CfJsonDocumentContext();
+    data.putString(Path.create("applicant.chores[0]"), "wash dishes");
+
+    assertThat(data.hasPath(Path.create("applicant.chores[1]"))).isFalse();
+  }
+
+  @Test
+  public void hasPath_returnsFalseForPathThroughScalarOrNull() {
+    CfJsonDocumentContext data = new CfJsonDocumentContext();
+    data.putString(Path.create("applicant.school"), "Elementary School");
+    data.putLong(Path.create("applicant.horses"), "");
+
+    assertThat(data.hasPath(Path.create("applicant.school.name"))).isFalse();
+    assertThat(data.hasPath(Path.create("applicant.school[0]"))).isFalse();
+    assertThat(data.hasPath(Path.create("applicant.horses.count"))).isFalse();
+  }
+
+  @Test
+  public void hasPath_rootPath_isTrue() {
+    CfJsonDocumentContext data = new CfJsonDocumentContext();
+
+    assertThat(data.hasPath(Path.empty())).isTrue();
+  }
+
   @Test
   public void hasValueAtPath_returnsTrueIfValuePresent() {
     CfJsonDocumentContext data = new CfJsonDocumentContext();
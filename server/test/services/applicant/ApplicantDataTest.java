@@ -52,6 +52,23 @@ public class ApplicantDataTest extends ResetPostgres {
     assertThatThrownBy(data::asJsonString).isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  public void copy_canBeChangedIndependently() {
+    ApplicantData original =
+        new ApplicantData(
+            "{\"applicant\":{\"children\":[{\"name\":{\"first_name\":\"First\"}}]}}");
+    Path firstNamePath = Path.create("applicant.children[0].name.first_name");
+
+    ApplicantData copy = new ApplicantData(Optional.of(Locale.FRENCH), original);
+    copy.putString(firstNamePath, "Changed");
+    copy.putString(Path.create("applicant.children[1].name.first_name"), "Second");
+
+    assertThat(copy.preferredLocale()).isEqualTo(Locale.FRENCH);
+    assertThat(copy.readString(firstNamePath)).hasValue("Changed");
+    assertThat(original.readString(firstNamePath)).hasValue("First");
+    assertThat(original.hasPath(Path.create("applicant.children[1]"))).isFalse();
+  }
+
   @Test
   public void isDuplicate_returnsTrue() {
     ApplicantData data1 =
@@ -374,6 +374,79 @@ public class ReadOnlyApplicantProgramServiceTest extends ResetPostgres {
     assertThat(allBlocks).hasSize(2);
   }
 
+  @Test
+  public void getAllBlocks_afterUpdate_reevaluatesBlocksThatDependOnUpdatedQuestions() {
+    PredicateDefinition predicate =
+        PredicateDefinition.create(
+            PredicateExpressionNode.create(
+                LeafOperationExpressionNode.create(
+                    colorQuestion.getId(),
+                    Scalar.TEXT,
+                    Operator.EQUAL_TO,
+                    PredicateValue.of("blue"))),
+            PredicateAction.HIDE_BLOCK);
+    ProgramDefinition program =
+        ProgramBuilder.newActiveProgram()
+            .withBlock() // Block with color question
+            .withRequiredQuestionDefinition(colorQuestion)
+            .withBlock() // Block with predicate
+            .withVisibilityPredicate(predicate)
+            .withRequiredQuestionDefinition(addressQuestion)
+            .buildDefinition();
+    answerColorQuestion(program.id(), "red");
+    ReadOnlyApplicantProgramService before =
+        new ReadOnlyApplicantProgramService(
+            jsonPathPredicateGeneratorFactory, applicant, applicantData, program);
+    assertThat(before.getAllActiveBlocks()).hasSize(2);
+
+    // Update the color block so that the block with the predicate is hidden.
+    answerColorQuestion(program.id(), "blue");
+    ReadOnlyApplicantProgramService subject =
+        new ReadOnlyApplicantProgramService(
+            before, applicantData, before.getActiveBlock("1").get(), ImmutableMap.of());
+
+    assertThat(subject.getAllActiveBlocks()).hasSize(1);
+    assertThat(subject.getAllHiddenBlocks()).hasSize(1);
+  }
+
+  @Test
+  public void getAllBlocks_afterUpdate_carriesForwardBlocksThatDoNotDependOnUpdatedQuestions() {
+    PredicateDefinition predicate =
+        PredicateDefinition.create(
+            PredicateExpressionNode.create(
+                LeafOperationExpressionNode.create(
+                    colorQuestion.getId(),
+                    Scalar.TEXT,
+                    Operator.EQUAL_TO,
+                    PredicateValue.of("blue"))),
+            PredicateAction.HIDE_BLOCK);
+    ProgramDefinition program =
+        ProgramBuilder.newActiveProgram()
+            .withBlock() // Block with color question
+            .withRequiredQuestionDefinition(colorQuestion)
+            .withBlock() // Block with name question
+            .withRequiredQuestionDefinition(nameQuestion)
+            .withBlock() // Block with predicate
+            .withVisibilityPredicate(predicate)
+            .withRequiredQuestionDefinition(addressQuestion)
+            .buildDefinition();
+    answerColorQuestion(program.id(), "red");
+    ReadOnlyApplicantProgramService before =
+        new ReadOnlyApplicantProgramService(
+            jsonPathPredicateGeneratorFactory, applicant, applicantData, program);
+    assertThat(before.getAllActiveBlocks()).hasSize(3);
+
+    // Update the name block. The color answer is also changed, which an update to the name block
+    // can't do, only to show that the predicate on the color isn't evaluated again.
+    answerNameQuestion(program.id());
+    answerColorQuestion(program.id(), "blue");
+    ReadOnlyApplicantProgramService subject =
+        new ReadOnlyApplicantProgramService(
+            before, applicantData, before.getActiveBlock("2").get(), ImmutableMap.of());
+
+    assertThat(subject.getAllActiveBlocks()).hasSize(3);
+  }
+
   @Test
   public void getAllBlocks_doesNotIncludeRepeatedEntitiesThatAreHidden() {
     PredicateDefinition predicate =
@@ -0,0 +1,300 @@
+package services.applicant.predicate;
+
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+import models.ApplicantModel;
+import org.junit.Before;
+import org.junit.Test;
+import services.DateConverter;
+import services.Path;
+import services.applicant.ApplicantData;
+import services.applicant.RepeatedEntity;
+import services.applicant.question.ApplicantQuestion;
+import services.applicant.question.Scalar;
+import services.program.predicate.AndNode;
+import services.program.predicate.LeafOperationExpressionNode;
+import services.program.predicate.Operator;
+import services.program.predicate.OrNode;
+import services.program.predicate.PredicateExpressionNode;
+import services.program.predicate.PredicateValue;
+import services.question.QuestionAnswerer;
+import services.question.types.EnumeratorQuestionDefinition;
+import services.question.types.QuestionDefinition;
+import services.question.types.QuestionDefinitionBuilder;
+import support.TestQuestionBank;
+
+public class CompiledPredicateTest {
+
+  private final Clock clock =
+      Clock.fixed(Instant.parse("2030-01-01T00:00:00.00Z"), ZoneId.of("UTC"));
+  private final DateConverter dateConverter = new DateConverter(clock);
+  private final TestQuestionBank questionBank = new TestQuestionBank(false);
+  private final QuestionDefinition textQuestion =
+      questionBank.textApplicantFavoriteColor().getQuestionDefinition();
+  private final QuestionDefinition numberQuestion =
+      questionBank.numberApplicantJugglingNumber().getQuestionDefinition();
+  private final QuestionDefinition dateQuestion =
+      questionBank.dateApplicantBirthdate().getQuestionDefinition();
+  private final QuestionDefinition dropdownQuestion =
+      questionBank.dropdownApplicantIceCream().getQuestionDefinition();
+  private final QuestionDefinition checkboxQuestion =
+      questionBank.checkboxApplicantKitchenTools().getQuestionDefinition();
+  private final QuestionDefinition addressQuestion =
+      questionBank.addressApplicantAddress().getQuestionDefinition();
+
+  private ApplicantData applicantData;
+  private ImmutableMap<Long, QuestionDefinition> questionsById;
+
+  @Before
+  public void setUp() {
+    applicantData = new ApplicantData();
+    questionsById =
+        ImmutableList.of(
+                textQuestion,
+                numberQuestion,
+                dateQuestion,
+                dropdownQuestion,
+                checkboxQuestion,
+                addressQuestion)
+            .stream()
+            .collect(toImmutableMap(QuestionDefinition::getId, q -> q));
+  }
+
+  @Test
+  public void evaluate_text_matchesJsonPath() {
+    QuestionAnswerer.answerTextQuestion(applicantData, answerPath(textQuestion), "blue");
+
+    assertEvaluatesTo(leaf(textQuestion, Scalar.TEXT, Operator.EQUAL_TO, "blue"), true);
+    assertEvaluatesTo(leaf(textQuestion, Scalar.TEXT, Operator.EQUAL_TO, "red"), false);
+    assertEvaluatesTo(leaf(textQuestion, Scalar.TEXT, Operator.NOT_EQUAL_TO, "red"), true);
+    assertEvaluatesTo(
+        leaf(
+            textQuestion,
+            Scalar.TEXT,
+            Operator.IN,
+            PredicateValue.listOfStrings(ImmutableList.of("red", "blue"))),
+        true);
+    assertEvaluatesTo(
+        leaf(
+            textQuestion,
+            Scalar.TEXT,
+            Operator.NOT_IN,
+            PredicateValue.listOfStrings(ImmutableList.of("red", "blue"))),
+        false);
+  }
+
+  @Test
+  public void evaluate_numberAndDate_matchesJsonPath() {
+    QuestionAnswerer.answerNumberQuestion(applicantData, answerPath(numberQuestion), 5L);
+    QuestionAnswerer.answerDateQuestion(applicantData, answerPath(dateQuestion), "2000-06-01");
+
+    assertEvaluatesTo(
+        leaf(numberQuestion, Scalar.NUMBER, Operator.GREATER_THAN, PredicateValue.of(4)), true);
+    assertEvaluatesTo(
+        leaf(numberQuestion, Scalar.NUMBER, Operator.LESS_THAN, PredicateValue.of(5)), false);
+    assertEvaluatesTo(
+        leaf(numberQuestion, Scalar.NUMBER, Operator.EQUAL_TO, PredicateValue.of(5)), true);
+    assertEvaluatesTo(
+        leaf(numberQuestion, Scalar.NUMBER, Operator.EQUAL_TO, PredicateValue.of("5")), true);
+    assertEvaluatesTo(
+        leaf(numberQuestion, Scalar.NUMBER, Operator.BETWEEN, PredicateValue.pairOfLongs(5, 10)),
+        true);
+    assertEvaluatesTo(
+        leaf(numberQuestion, Scalar.NUMBER, Operator.BETWEEN, PredicateValue.pairOfLongs(6, 10)),
+        false);
+    assertEvaluatesTo(
+        leaf(dateQuestion, Scalar.DATE, Operator.AGE_OLDER_THAN, PredicateValue.of(29)), true);
+    assertEvaluatesTo(
+        leaf(dateQuestion, Scalar.DATE, Operator.AGE_OLDER_THAN, PredicateValue.of(29.75)), false);
+    assertEvaluatesTo(
+        leaf(dateQuestion, Scalar.DATE, Operator.AGE_YOUNGER_THAN, PredicateValue.of(30)), true);
+    assertEvaluatesTo(
+        leaf(dateQuestion, Scalar.DATE, Operator.AGE_BETWEEN, PredicateValue.pairOfLongs(30, 18)),
+        true);
+  }
+
+  @Test
+  public void evaluate_selections_matchesJsonPath() {
+    // Options are answered with their IDs as numbers, and compared with strings.
+    QuestionAnswerer.answerSingleSelectQuestion(applicantData, answerPath(dropdownQuestion), 2L);
+    QuestionAnswerer.answerMultiSelectQuestion(applicantData, answerPath(checkboxQuestion), 0, 1L);
+    QuestionAnswerer.answerMultiSelectQuestion(applicantData, answerPath(checkboxQuestion), 1, 2L);
+
+    assertEvaluatesTo(
+        leaf(
+            dropdownQuestion,
+            Scalar.SELECTION,
+            Operator.IN,
+            PredicateValue.listOfStrings(ImmutableList.of("2", "3"))),
+        true);
+    assertEvaluatesTo(
+        leaf(
+            checkboxQuestion,
+            Scalar.SELECTIONS,
+            Operator.ANY_OF,
+            PredicateValue.listOfStrings(ImmutableList.of("2", "3"))),
+        true);
+    assertEvaluatesTo(
+        leaf(
+            checkboxQuestion,
+            Scalar.SELECTIONS,
+            Operator.NONE_OF,
+            PredicateValue.listOfStrings(ImmutableList.of("3"))),
+        true);
+    assertEvaluatesTo(
+        leaf(
+            checkboxQuestion,
+            Scalar.SELECTIONS,
+            Operator.SUBSET_OF,
+            PredicateValue.listOfStrings(ImmutableList.of("1", "2", "3"))),
+        true);
+    assertEvaluatesTo(
+        leaf(
+            checkboxQuestion,
+            Scalar.SELECTIONS,
+            Operator.SUBSET_OF,
+            PredicateValue.listOfStrings(ImmutableList.of("1"))),
+        false);
+  }
+
+  @Test
+  public void evaluate_unansweredQuestion_isFalse() {
+    assertEvaluatesTo(leaf(textQuestion, Scalar.TEXT, Operator.EQUAL_TO, "blue"), false);
+    assertEvaluatesTo(leaf(textQuestion, Scalar.TEXT, Operator.NOT_EQUAL_TO, "blue"), false);
+  }
+
+  @Test
+  public void evaluate_questionNotInProgram_isFalse() {
+    QuestionDefinition otherQuestion = questionBank.emailApplicantEmail().getQuestionDefinition();
+    QuestionAnswerer.answerEmailQuestion(
+        applicantData, answerPath(otherQuestion), "test@example.com");
+
+    assertEvaluatesTo(
+        leaf(otherQuestion, Scalar.EMAIL, Operator.EQUAL_TO, "test@example.com"), false);
+  }
+
+  @Test
+  public void evaluate_valueWithQueryCharacters_matchesJsonPath() {
+    QuestionAnswerer.answerTextQuestion(applicantData, answerPath(textQuestion), "it's blue");
+
+    assertEvaluatesTo(leaf(textQuestion, Scalar.TEXT, Operator.EQUAL_TO, "it's blue"), true);
+  }
+
+  @Test
+  public void evaluate_andOrTree_matchesJsonPath() {
+    QuestionAnswerer.answerTextQuestion(applicantData, answerPath(textQuestion), "blue");
+    QuestionAnswerer.answerNumberQuestion(applicantData, answerPath(numberQuestion), 5L);
+
+    PredicateExpressionNode tree =
+        PredicateExpressionNode.create(
+            AndNode.create(
+                ImmutableList.of(
+                    PredicateExpressionNode.create(
+                        OrNode.create(
+                            ImmutableList.of(
+                                leaf(textQuestion, Scalar.TEXT, Operator.EQUAL_TO, "red"),
+                                leaf(textQuestion, Scalar.TEXT, Operator.EQUAL_TO, "blue")))),
+                    leaf(
+                        numberQuestion,
+                        Scalar.NUMBER,
+                        Operator.GREATER_THAN_OR_EQUAL_TO,
+                        PredicateValue.of(5)))));
+
+    assertEvaluatesTo(tree, true);
+  }
+
+  @Test
+  public void evaluate_simpleAnswers_doNotFallBackToJsonPath() {
+    QuestionAnswerer.answerTextQuestion(applicantData, answerPath(textQuestion), "blue");
+    CompiledPredicate predicate =
+        CompiledPredicate.compile(
+            leaf(textQuestion, Scalar.TEXT, Operator.EQUAL_TO, "blue"), questionsById);
+
+    boolean result =
+        predicate.evaluate(
+            new CompiledPredicate.Evaluation(
+                applicantData,
+                Optional.empty(),
+                dateConverter,
+                () -> {
+                  throw new AssertionError("Fell back to JsonPath");
+                }));
+
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  public void evaluate_repeatedQuestion_usesRepeatedContext() {
+    EnumeratorQuestionDefinition enumerator =
+        (EnumeratorQuestionDefinition)
+            questionBank.enumeratorApplicantHouseholdMembers().getQuestionDefinition();
+    QuestionDefinition repeatedName =
+        new QuestionDefinitionBuilder(
+                questionBank.nameRepeatedApplicantHouseholdMemberName().getQuestionDefinition())
+            .setEnumeratorId(Optional.of(enumerator.getId()))
+            .build();
+    questionsById =
+        ImmutableMap.of(enumerator.getId(), enumerator, repeatedName.getId(), repeatedName);
+    ApplicantQuestion applicantEnumerator =
+        new ApplicantQuestion(enumerator, new ApplicantModel(), applicantData, Optional.empty());
+    applicantData.putRepeatedEntities(
+        applicantEnumerator.getContextualizedPath(), ImmutableList.of("Bernard", "Alice"));
+    ImmutableList<RepeatedEntity> repeatedEntities =
+        RepeatedEntity.createRepeatedEntities(enumerator, Optional.empty(), applicantData);
+    for (RepeatedEntity repeatedEntity : repeatedEntities) {
+      applicantData.putString(
+          repeatedName
+              .getContextualizedPath(Optional.of(repeatedEntity), ApplicantData.APPLICANT_PATH)
+              .join(Scalar.FIRST_NAME),
+          repeatedEntity.entityName());
+    }
+    PredicateExpressionNode node =
+        leaf(repeatedName, Scalar.FIRST_NAME, Operator.EQUAL_TO, "Alice");
+
+    assertEvaluatesTo(node, Optional.of(repeatedEntities.get(0)), false);
+    assertEvaluatesTo(node, Optional.of(repeatedEntities.get(1)), true);
+  }
+
+  private void assertEvaluatesTo(PredicateExpressionNode node, boolean expected) {
+    assertEvaluatesTo(node, Optional.empty(), expected);
+  }
+
+  /** Asserts that the compiled predicate and the JsonPath query both give the expected result. */
+  private void assertEvaluatesTo(
+      PredicateExpressionNode node, Optional<RepeatedEntity> repeatedContext, boolean expected) {
+    PredicateEvaluator jsonPathEvaluator =
+        new PredicateEvaluator(
+            applicantData,
+            new JsonPathPredicateGenerator(dateConverter, questionsById, repeatedContext));
+    boolean compiledResult =
+        CompiledPredicate.compile(node, questionsById)
+            .evaluate(
+                new CompiledPredicate.Evaluation(
+                    applicantData, repeatedContext, dateConverter, () -> jsonPathEvaluator));
+
+    assertThat(jsonPathEvaluator.evaluate(node)).isEqualTo(expected);
+    assertThat(compiledResult).isEqualTo(expected);
+  }
+
+  private Path answerPath(QuestionDefinition question) {
+    return question.getContextualizedPath(Optional.empty(), ApplicantData.APPLICANT_PATH);
+  }
+
+  private static PredicateExpressionNode leaf(
+      QuestionDefinition question, Scalar scalar, Operator operator, String value) {
+    return leaf(question, scalar, operator, PredicateValue.of(value));
+  }
+
+  private static PredicateExpressionNode leaf(
+      QuestionDefinition question, Scalar scalar, Operator operator, PredicateValue value) {
+    return PredicateExpressionNode.create(
+        LeafOperationExpressionNode.create(question.getId(), scalar, operator, value));
+  }
+}
@@ -0,0 +1,75 @@
+package services.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import models.ProgramModel;
+import org.junit.Before;
+import org.junit.Test;
+import repository.ProgramRepository;
+import repository.QuestionRepository;
+import repository.ResetPostgres;
+import repository.VersionRepository;
+import services.program.ActiveProgramCatalog;
+import services.program.ProgramService;
+import services.settings.SettingsManifest;
+import support.ProgramBuilder;
+
+public class CacheWarmerTest extends ResetPostgres {
+
+  private ProgramRepository programRepository;
+  private VersionRepository versionRepository;
+  private SettingsManifest mockSettingsManifest;
+  private CacheWarmer cacheWarmer;
+
+  @Before
+  public void setUp() {
+    programRepository = instanceOf(ProgramRepository.class);
+    versionRepository = instanceOf(VersionRepository.class);
+    mockSettingsManifest = mock(SettingsManifest.class);
+    when(mockSettingsManifest.getCacheWarmupEnabled()).thenReturn(true);
+    cacheWarmer =
+        new CacheWarmer(
+            instanceOf(ActiveProgramCatalog.class),
+            instanceOf(CacheWarmerExecutionContext.class),
+            programRepository,
+            instanceOf(ProgramService.class),
+            instanceOf(QuestionRepository.class),
+            mockSettingsManifest,
+            versionRepository);
+  }
+
+  @Test
+  public void warmActiveVersion_cachesFullProgramDefinitionsOfActivePrograms() {
+    ProgramModel activeProgram = ProgramBuilder.newActiveProgram("active").build();
+    ProgramModel draftProgram = ProgramBuilder.newDraftProgram("draft").build();
+
+    cacheWarmer.warmActiveVersion().toCompletableFuture().join();
+
+    assertThat(programRepository.getFullProgramDefinitionFromCache(activeProgram.id)).isPresent();
+    assertThat(programRepository.getFullProgramDefinitionFromCache(draftProgram.id)).isEmpty();
+  }
+
+  @Test
+  public void warmActiveVersion_disabled_doesNotCacheAnything() {
+    when(mockSettingsManifest.getCacheWarmupEnabled()).thenReturn(false);
+    ProgramModel activeProgram = ProgramBuilder.newActiveProgram("active").build();
+
+    cacheWarmer.warmActiveVersion().toCompletableFuture().join();
+
+    assertThat(programRepository.getFullProgramDefinitionFromCache(activeProgram.id)).isEmpty();
+  }
+
+  @Test
+  public void warmActiveVersionIfChanged_warmsTheNewlyPublishedVersion() {
+    ProgramBuilder.newActiveProgram("active").build();
+    cacheWarmer.warmActiveVersion().toCompletableFuture().join();
+    ProgramModel draftProgram = ProgramBuilder.newDraftProgram("draft").build();
+    versionRepository.publishNewSynchronizedVersion();
+
+    cacheWarmer.warmActiveVersionIfChanged().toCompletableFuture().join();
+
+    assertThat(programRepository.getFullProgramDefinitionFromCache(draftProgram.id)).isPresent();
+  }
+}
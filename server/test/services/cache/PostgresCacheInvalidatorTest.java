@@ -0,0 +1,161 @@
+package services.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.ebean.DB;
+import io.ebean.Transaction;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.apache.pekko.Done;
+import org.junit.Before;
+import org.junit.Test;
+import play.cache.AsyncCacheApi;
+import repository.CacheInvalidationRepository;
+import repository.ResetPostgres;
+
+public class PostgresCacheInvalidatorTest extends ResetPostgres {
+
+  private AsyncCacheApi programCache;
+  private AsyncCacheApi apiKeysCache;
+  private CacheInvalidationRepository cacheInvalidationRepository;
+  private PostgresCacheInvalidator cacheInvalidator;
+
+  @Before
+  public void setUp() {
+    programCache = mockCache();
+    apiKeysCache = mockCache();
+    NamedCaches namedCaches =
+        new NamedCaches(
+            apiKeysCache,
+            mockCache(),
+            mockCache(),
+            mockCache(),
+            programCache,
+            mockCache(),
+            mockCache(),
+            mockCache());
+    cacheInvalidationRepository = instanceOf(CacheInvalidationRepository.class);
+    cacheInvalidator =
+        new PostgresCacheInvalidator(namedCaches, cacheInvalidationRepository, testClock);
+  }
+
+  @Test
+  public void invalidate_removesTheKeyLocallyAndRecordsTheInvalidation() {
+    CacheInvalidationCursor cursor = cacheInvalidationRepository.getStartingCursor();
+
+    cacheInvalidator.invalidate("program", "1");
+
+    verify(programCache).remove("1");
+    assertThat(cacheInvalidationRepository.getCommittedInvalidationsAfter(cursor).invalidations())
+        .extracting(CacheInvalidation::cacheName, CacheInvalidation::cacheKey)
+        .containsExactly(tuple("program", Optional.of("1")));
+  }
+
+  @Test
+  public void invalidateAll_removesAllLocallyAndRecordsTheInvalidation() {
+    CacheInvalidationCursor cursor = cacheInvalidationRepository.getStartingCursor();
+
+    cacheInvalidator.invalidateAll("program");
+
+    verify(programCache).removeAll();
+    assertThat(cacheInvalidationRepository.getCommittedInvalidationsAfter(cursor).invalidations())
+        .extracting(CacheInvalidation::cacheName, CacheInvalidation::cacheKey)
+        .containsExactly(tuple("program", Optional.empty()));
+  }
+
+  @Test
+  public void applyRecordedInvalidations_firstCall_onlyRecordsWhereToStart() {
+    cacheInvalidationRepository.insertInvalidation("program", Optional.of("1"));
+
+    cacheInvalidator.applyRecordedInvalidations();
+
+    verifyNoInteractions(programCache);
+  }
+
+  @Test
+  public void applyRecordedInvalidations_appliesInvalidationsRecordedSinceTheLastCall() {
+    cacheInvalidator.applyRecordedInvalidations();
+    cacheInvalidationRepository.insertInvalidation("program", Optional.of("1"));
+    cacheInvalidationRepository.insertInvalidation("api-keys", Optional.empty());
+
+    cacheInvalidator.applyRecordedInvalidations();
+
+    verify(programCache).remove("1");
+    verify(apiKeysCache).removeAll();
+
+    // Invalidations are only applied once.
+    cacheInvalidator.applyRecordedInvalidations();
+
+    verify(programCache).remove("1");
+    verify(apiKeysCache).removeAll();
+  }
+
+  @Test
+  public void applyRecordedInvalidations_invalidationCommittedLate_isNotSkipped() {
+    cacheInvalidator.applyRecordedInvalidations();
+    // Record an invalidation in a transaction that commits after a later invalidation, which has a
+    // greater id.
+    Transaction transaction = DB.getDefault().createTransaction();
+    DB.getDefault()
+        .sqlUpdate(
+            "INSERT INTO cache_invalidations (cache_name, cache_key) VALUES ('program', '1')")
+        .usingTransaction(transaction)
+        .execute();
+    cacheInvalidationRepository.insertInvalidation("api-keys", Optional.empty());
+
+    cacheInvalidator.applyRecordedInvalidations();
+
+    verify(apiKeysCache).removeAll();
+    verifyNoInteractions(programCache);
+
+    transaction.commit();
+    cacheInvalidator.applyRecordedInvalidations();
+
+    verify(programCache).remove("1");
+    verify(apiKeysCache).removeAll();
+  }
+
+  @Test
+  public void applyRecordedInvalidations_unrelatedTransactionStillOpen_appliesInvalidations() {
+    // An open transaction that has been assigned an id, like a durable job holding its lease.
+    Transaction unrelatedTransaction = DB.getDefault().createTransaction();
+    DB.getDefault()
+        .sqlQuery("SELECT pg_current_xact_id()::text")
+        .usingTransaction(unrelatedTransaction)
+        .findOne();
+    try {
+      cacheInvalidator.applyRecordedInvalidations();
+      cacheInvalidationRepository.insertInvalidation("program", Optional.of("1"));
+
+      cacheInvalidator.applyRecordedInvalidations();
+
+      verify(programCache).remove("1");
+    } finally {
+      unrelatedTransaction.rollback();
+    }
+  }
+
+  @Test
+  public void applyRecordedInvalidations_ignoresUnknownCaches() {
+    cacheInvalidator.applyRecordedInvalidations();
+    cacheInvalidationRepository.insertInvalidation("not-a-cache", Optional.of("1"));
+
+    cacheInvalidator.applyRecordedInvalidations();
+
+    verify(programCache, never()).remove(anyString());
+  }
+
+  private static AsyncCacheApi mockCache() {
+    AsyncCacheApi cache = mock(AsyncCacheApi.class);
+    when(cache.remove(anyString())).thenReturn(CompletableFuture.completedFuture(Done.done()));
+    when(cache.removeAll()).thenReturn(CompletableFuture.completedFuture(Done.done()));
+    return cache;
+  }
+}
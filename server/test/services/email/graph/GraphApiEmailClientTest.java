@@ -26,6 +26,7 @@ import org.mockito.ArgumentCaptor;
 import play.Environment;
 import repository.ResetPostgres;
 import services.cloud.azure.Credentials;
+import services.email.EmailSendException;
 import services.monitoring.EmailSendMetrics;
 import services.settings.SettingsManifest;
 
@@ -163,7 +164,8 @@ public class GraphApiEmailClientTest extends ResetPostgres {
     // Simulate an API exception
     when(graphClient.users().byUserId(GRAPH_ACCOUNT_ID).sendMail()).thenThrow(new ApiException());
 
-    emailClient.send(toAddress, subject, body);
+    // The failure is rethrown so that the email outbox retries the message.
+    assertThrows(EmailSendException.class, () -> emailClient.send(toAddress, subject, body));
 
     assertThrows(
         ApiException.class, () -> graphClient.users().byUserId(GRAPH_ACCOUNT_ID).sendMail());
@@ -182,7 +184,8 @@ public class GraphApiEmailClientTest extends ResetPostgres {
     // Simulate an API exception
     when(graphClient.users().byUserId(GRAPH_ACCOUNT_ID).sendMail()).thenThrow(new ApiException());
 
-    emailClient.send(toAddress, subject, body);
+    // The failure is rethrown so that the email outbox retries the message.
+    assertThrows(EmailSendException.class, () -> emailClient.send(toAddress, subject, body));
 
     assertThrows(
         ApiException.class, () -> graphClient.users().byUserId(GRAPH_ACCOUNT_ID).sendMail());
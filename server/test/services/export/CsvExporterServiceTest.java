@@ -8,7 +8,9 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.hash.Hashing;
 import com.typesafe.config.ConfigFactory;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -21,8 +23,12 @@ import models.QuestionTag;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.util.ByteString;
 import org.junit.Before;
 import org.junit.Test;
+import repository.DatabaseExecutionContext;
+import repository.ExportServiceRepository;
 import repository.SubmittedApplicationFilter;
 import repository.TimeFilter;
 import repository.VersionRepository;
@@ -76,14 +82,21 @@ public class CsvExporterServiceTest extends AbstractExporterTest {
   public void setUp() {
     questionService = instanceOf(QuestionService.class);
     versionRepository = instanceOf(VersionRepository.class);
-    exporterService =
-        new CsvExporterService(
-            instanceOf(ProgramService.class),
-            instanceOf(QuestionService.class),
-            instanceOf(ApplicantService.class),
-            ConfigFactory.parseMap(ImmutableMap.of("play.http.secret.key", SECRET_SALT)),
-            instanceOf(DateConverter.class),
-            instanceOf(CsvColumnFactory.class));
+    exporterService = createExporterService(instanceOf(Clock.class));
+  }
+
+  private CsvExporterService createExporterService(Clock clock) {
+    return new CsvExporterService(
+        instanceOf(ProgramService.class),
+        instanceOf(QuestionService.class),
+        instanceOf(ApplicantService.class),
+        ConfigFactory.parseMap(ImmutableMap.of("play.http.secret.key", SECRET_SALT)),
+        instanceOf(DateConverter.class),
+        instanceOf(CsvColumnFactory.class),
+        instanceOf(ExportServiceRepository.class),
+        instanceOf(ParallelExportRenderer.class),
+        instanceOf(DatabaseExecutionContext.class),
+        clock);
   }
 
   @Test
@@ -2075,6 +2088,51 @@ public class CsvExporterServiceTest extends AbstractExporterTest {
     assertThat(record.get("applicant favorite color (text)")).isEqualTo(fakeHash("red 💖"));
   }
 
+  @Test
+  public void streamProgramAllVersionsCsv_matchesInMemoryExport() throws Exception {
+    createFakeQuestions();
+    createFakeProgram();
+    createFakeApplications();
+
+    String inMemoryCsv =
+        exporterService.getProgramAllVersionsCsv(fakeProgram.id, SubmittedApplicationFilter.EMPTY);
+
+    assertThat(streamCsv(fakeProgram.id)).isEqualTo(inMemoryCsv);
+  }
+
+  @Test
+  public void streamProgramAllVersionsCsv_noApplications_onlyHeaderIsStreamed() throws Exception {
+    ProgramModel fakeProgram = FakeProgramBuilder.newActiveProgram().build();
+
+    CSVParser parser = CSVParser.parse(streamCsv(fakeProgram.id), DEFAULT_FORMAT);
+
+    assertThat(parser.getRecords()).hasSize(0);
+    assertThat(parser.getHeaderNames()).containsExactlyElementsOf(metadataHeaders);
+  }
+
+  @Test
+  public void streamProgramAllVersionsCsv_excludesApplicationsSubmittedAfterItStarts()
+      throws Exception {
+    createFakeQuestions();
+    createFakeProgram();
+    createFakeApplications();
+    // The applications were all submitted after the export started.
+    exporterService = createExporterService(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+
+    CSVParser parser = CSVParser.parse(streamCsv(fakeProgram.id), DEFAULT_FORMAT);
+
+    assertThat(parser.getRecords()).isEmpty();
+  }
+
+  private String streamCsv(long programId) throws Exception {
+    return exporterService
+        .streamProgramAllVersionsCsv(programId, SubmittedApplicationFilter.EMPTY)
+        .runFold(ByteString.emptyByteString(), ByteString::concat, instanceOf(Materializer.class))
+        .toCompletableFuture()
+        .join()
+        .utf8String();
+  }
+
   private String fakeHash(String toHash) {
     return Hashing.sha256()
         .newHasher()
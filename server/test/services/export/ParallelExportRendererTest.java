@@ -0,0 +1,175 @@
+package services.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Test;
+
+public class ParallelExportRendererTest {
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void renderInOrder_preservesOrder() {
+    ParallelExportRenderer renderer = new ParallelExportRenderer(executor, /* parallelism= */ 4);
+    ImmutableList<Integer> items =
+        IntStream.range(0, 50).boxed().collect(ImmutableList.toImmutableList());
+    List<String> results = new ArrayList<>();
+
+    renderer.renderInOrder(
+        items,
+        item -> {
+          // Make earlier items finish later than the items after them.
+          sleepMillis((50 - item) % 5);
+          return "item-" + item;
+        },
+        results::add);
+
+    assertThat(results)
+        .containsExactlyElementsOf(
+            items.stream().map(item -> "item-" + item).collect(ImmutableList.toImmutableList()));
+  }
+
+  @Test
+  public void renderInOrder_limitsItemsInFlight() {
+    ParallelExportRenderer renderer = new ParallelExportRenderer(executor, /* parallelism= */ 2);
+    AtomicInteger started = new AtomicInteger();
+    AtomicInteger consumed = new AtomicInteger();
+    AtomicInteger maxUnconsumed = new AtomicInteger();
+
+    renderer.renderInOrder(
+        IntStream.range(0, 20).boxed().collect(ImmutableList.toImmutableList()),
+        item -> {
+          int unconsumed = started.incrementAndGet() - consumed.get();
+          maxUnconsumed.accumulateAndGet(unconsumed, Math::max);
+          return item;
+        },
+        item -> consumed.incrementAndGet());
+
+    assertThat(consumed.get()).isEqualTo(20);
+    assertThat(maxUnconsumed.get()).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  public void renderInOrder_parallelismOfOne_rendersOnCallingThread() {
+    ParallelExportRenderer renderer = new ParallelExportRenderer(executor, /* parallelism= */ 1);
+    List<Thread> renderThreads = new ArrayList<>();
+
+    renderer.renderInOrder(
+        ImmutableList.of(1, 2, 3),
+        item -> {
+          renderThreads.add(Thread.currentThread());
+          return item;
+        },
+        item -> {});
+
+    assertThat(renderThreads).containsOnly(Thread.currentThread());
+  }
+
+  @Test
+  public void renderInOrder_renderThrows_rethrowsOriginalException() {
+    ParallelExportRenderer renderer = new ParallelExportRenderer(executor, /* parallelism= */ 4);
+
+    assertThatThrownBy(
+            () ->
+                renderer.renderInOrder(
+                    ImmutableList.of(1, 2, 3),
+                    item -> {
+                      if (item == 2) {
+                        throw new IllegalStateException("render failed");
+                      }
+                      return item;
+                    },
+                    item -> {}))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("render failed");
+  }
+
+  @Test
+  public void renderAllAsync_preservesOrder() {
+    ParallelExportRenderer renderer = new ParallelExportRenderer(executor, /* parallelism= */ 4);
+    ImmutableList<Integer> items =
+        IntStream.range(0, 50).boxed().collect(ImmutableList.toImmutableList());
+
+    ImmutableList<String> results =
+        renderer
+            .renderAllAsync(
+                items,
+                item -> {
+                  // Make earlier batches finish later than the batches after them.
+                  sleepMillis(50 - item);
+                  return "item-" + item;
+                })
+            .join();
+
+    assertThat(results)
+        .containsExactlyElementsOf(
+            items.stream().map(item -> "item-" + item).collect(ImmutableList.toImmutableList()));
+  }
+
+  @Test
+  public void renderAllAsync_parallelismOfOne_rendersOnPool() {
+    ParallelExportRenderer renderer = new ParallelExportRenderer(executor, /* parallelism= */ 1);
+    List<Thread> renderThreads = new ArrayList<>();
+
+    renderer
+        .renderAllAsync(
+            ImmutableList.of(1, 2, 3),
+            item -> {
+              renderThreads.add(Thread.currentThread());
+              return item;
+            })
+        .join();
+
+    assertThat(renderThreads).hasSize(3).doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  public void renderAllAsync_noItems_completesWithNoResults() {
+    ParallelExportRenderer renderer = new ParallelExportRenderer(executor, /* parallelism= */ 4);
+
+    assertThat(renderer.renderAllAsync(ImmutableList.of(), item -> item).join()).isEmpty();
+  }
+
+  @Test
+  public void renderAllAsync_renderThrows_completesExceptionally() {
+    ParallelExportRenderer renderer = new ParallelExportRenderer(executor, /* parallelism= */ 4);
+
+    assertThatThrownBy(
+            () ->
+                renderer
+                    .renderAllAsync(
+                        ImmutableList.of(1, 2, 3),
+                        item -> {
+                          if (item == 2) {
+                            throw new IllegalStateException("render failed");
+                          }
+                          return item;
+                        })
+                    .join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class)
+        .hasRootCauseMessage("render failed");
+  }
+
+  private static void sleepMillis(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package services.program;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.typesafe.config.Config;
+import models.DisplayMode;
+import models.ProgramModel;
+import org.junit.Before;
+import org.junit.Test;
+import repository.DatabaseExecutionContext;
+import repository.ProgramRepository;
+import repository.ResetPostgres;
+import repository.VersionRepository;
+import services.settings.SettingsManifest;
+import support.ProgramBuilder;
+
+public class ActiveProgramCatalogTest extends ResetPostgres {
+
+  private VersionRepository versionRepository;
+  private SettingsManifest mockSettingsManifest;
+  private ActiveProgramCatalog activeProgramCatalog;
+
+  @Before
+  public void setUp() {
+    versionRepository = instanceOf(VersionRepository.class);
+    mockSettingsManifest = mock(SettingsManifest.class);
+    when(mockSettingsManifest.getVersionCacheEnabled()).thenReturn(true);
+    activeProgramCatalog =
+        new ActiveProgramCatalog(
+            instanceOf(Config.class),
+            instanceOf(DatabaseExecutionContext.class),
+            instanceOf(ProgramRepository.class),
+            instanceOf(ProgramService.class),
+            mockSettingsManifest,
+            versionRepository);
+  }
+
+  @Test
+  public void get_partitionsActiveProgramsByDisplayMode() {
+    ProgramModel publicProgram = ProgramBuilder.newActiveProgram("public").build();
+    ProgramModel tiOnlyProgram = ProgramBuilder.newActiveTiOnlyProgram("ti-only").build();
+    ProgramBuilder.newDraftProgram("draft").build();
+
+    ProgramCatalog catalog = activeProgramCatalog.get();
+
+    assertThat(catalog.programs())
+        .extracting(ProgramDefinition::id)
+        .containsExactly(publicProgram.id, tiOnlyProgram.id);
+    assertThat(catalog.programsWithDisplayMode(DisplayMode.PUBLIC))
+        .extracting(ProgramDefinition::id)
+        .containsExactly(publicProgram.id);
+    assertThat(catalog.programsWithDisplayMode(DisplayMode.TI_ONLY))
+        .extracting(ProgramDefinition::id)
+        .containsExactly(tiOnlyProgram.id);
+    assertThat(catalog.program(tiOnlyProgram.id)).isPresent();
+  }
+
+  @Test
+  public void get_reusesTheCatalogUntilANewVersionIsPublished() {
+    ProgramBuilder.newActiveProgram("active").build();
+    ProgramCatalog catalog = activeProgramCatalog.get();
+
+    assertThat(activeProgramCatalog.get()).isSameAs(catalog);
+
+    ProgramModel draftProgram = ProgramBuilder.newDraftProgram("draft").build();
+    versionRepository.publishNewSynchronizedVersion();
+    ProgramCatalog published = activeProgramCatalog.get();
+
+    assertThat(published).isNotSameAs(catalog);
+    assertThat(published.versionId()).isGreaterThan(catalog.versionId());
+    assertThat(published.program(draftProgram.id)).isPresent();
+  }
+
+  @Test
+  public void get_versionCacheDisabled_buildsTheCatalogEachTime() {
+    when(mockSettingsManifest.getVersionCacheEnabled()).thenReturn(false);
+    ProgramBuilder.newActiveProgram("active").build();
+
+    assertThat(activeProgramCatalog.get()).isNotSameAs(activeProgramCatalog.get());
+  }
+}
@@ -11,6 +11,9 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.typesafe.config.ConfigFactory;
 import io.ebean.DB;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
@@ -128,7 +131,7 @@ public class SettingsServiceTest extends ResetPostgres {
     when(testProfile.getAuthorityId())
         .thenReturn(CompletableFuture.completedFuture(TEST_AUTHORITY_ID));
 
-    settingsService = new SettingsService(instanceOf(SettingsGroupRepository.class), testManifest);
+    settingsService = createSettingsService(/* refreshIntervalSeconds= */ 0, testClock);
   }
 
   @Test
@@ -163,6 +166,50 @@ public class SettingsServiceTest extends ResetPostgres {
         .isFalse();
   }
 
+  @Test
+  public void applySettingsToRequest_withinRefreshInterval_usesSnapshot() {
+    Clock clock = mock(Clock.class);
+    Instant start = Instant.parse("2021-01-15T00:00:00.00Z");
+    when(clock.instant()).thenReturn(start);
+    SettingsService cachingSettingsService =
+        createSettingsService(/* refreshIntervalSeconds= */ 60, clock);
+    var initialSettings = getAppliedSettings(cachingSettingsService);
+
+    createTestSettings();
+    when(clock.instant()).thenReturn(start.plus(Duration.ofSeconds(59)));
+
+    assertThat(getAppliedSettings(cachingSettingsService)).isEqualTo(initialSettings);
+  }
+
+  @Test
+  public void applySettingsToRequest_afterRefreshInterval_picksUpChangedSettings() {
+    Clock clock = mock(Clock.class);
+    Instant start = Instant.parse("2021-01-15T00:00:00.00Z");
+    when(clock.instant()).thenReturn(start);
+    SettingsService cachingSettingsService =
+        createSettingsService(/* refreshIntervalSeconds= */ 60, clock);
+    assertThat(getAppliedSettings(cachingSettingsService)).isNotEqualTo(TEST_SETTINGS);
+
+    createTestSettings();
+    when(clock.instant()).thenReturn(start.plus(Duration.ofSeconds(60)));
+
+    assertThat(getAppliedSettings(cachingSettingsService)).isEqualTo(TEST_SETTINGS);
+  }
+
+  @Test
+  public void applySettingsToRequest_afterUpdateSettings_usesUpdatedSettingsImmediately() {
+    Clock clock = mock(Clock.class);
+    when(clock.instant()).thenReturn(Instant.parse("2021-01-15T00:00:00.00Z"));
+    SettingsService cachingSettingsService =
+        createSettingsService(/* refreshIntervalSeconds= */ 60, clock);
+    assertThat(getAppliedSettings(cachingSettingsService)).isNotEqualTo(TEST_SETTINGS);
+
+    assertThat(cachingSettingsService.updateSettings(TEST_SETTINGS, testProfile).updated())
+        .isTrue();
+
+    assertThat(getAppliedSettings(cachingSettingsService)).isEqualTo(TEST_SETTINGS);
+  }
+
   @Test
   public void updateSettings_newSettingsAreDifferent_insertsANewSettingsGroup() {
     var initialSettings = settingsService.loadSettings().toCompletableFuture().join().get();
@@ -231,6 +278,24 @@ public class SettingsServiceTest extends ResetPostgres {
     assertThat(settingsAfterSecondMigration.id).isEqualTo(settings.id);
   }
 
+  private SettingsService createSettingsService(long refreshIntervalSeconds, Clock clock) {
+    return new SettingsService(
+        instanceOf(SettingsGroupRepository.class),
+        testManifest,
+        ConfigFactory.parseMap(
+            ImmutableMap.of("settings.refresh_interval_seconds", refreshIntervalSeconds)),
+        clock);
+  }
+
+  private ImmutableMap<String, String> getAppliedSettings(SettingsService service) {
+    return service
+        .applySettingsToRequest(fakeRequest())
+        .toCompletableFuture()
+        .join()
+        .attrs()
+        .get(SettingsService.CIVIFORM_SETTINGS_ATTRIBUTE_KEY);
+  }
+
   private Optional<SettingsGroupModel> getCurrentSettingsGroup() {
     return instanceOf(SettingsGroupRepository.class)
         .getCurrentSettings()
@@ -347,7 +347,7 @@ public class TrustedIntermediaryServiceTest extends WithMockedProfiles {
             .setYearQuery(Optional.of("2022"))
             .build();
     TrustedIntermediarySearchResult tiResult =
-        service.getManagedAccounts(searchParameters, tiGroup);
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 10, /* page= */ 1);
     assertThat(tiResult.accounts().size()).isEqualTo(1);
     assertThat(tiResult.accounts().get(0).getEmailAddress()).isEqualTo("email3");
   }
@@ -360,11 +360,38 @@ public class TrustedIntermediaryServiceTest extends WithMockedProfiles {
     SearchParameters searchParameters =
         SearchParameters.builder().setNameQuery(Optional.of("Emily")).build();
     TrustedIntermediarySearchResult tiResult =
-        service.getManagedAccounts(searchParameters, tiGroup);
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 10, /* page= */ 1);
     assertThat(tiResult.accounts().size()).isEqualTo(1);
     assertThat(tiResult.accounts().get(0).getEmailAddress()).isEqualTo("email20");
   }
 
+  @Test
+  public void getManagedAccounts_SearchByNameWithWildcards_matchesThemLiterally() {
+    setupTiClientAccountWithApplicant("Emily", "2022-07-08", "email10", tiGroup);
+    setupTiClientAccountWithApplicant("Em_ly", "2022-07-08", "email20", tiGroup);
+    setupTiClientAccountWithApplicant("100%\\", "2022-07-10", "email30", tiGroup);
+
+    TrustedIntermediarySearchResult underscoreResult =
+        service.getManagedAccounts(
+            SearchParameters.builder().setNameQuery(Optional.of("Em_ly")).build(),
+            tiGroup,
+            /* pageSize= */ 10,
+            /* page= */ 1);
+    TrustedIntermediarySearchResult percentResult =
+        service.getManagedAccounts(
+            SearchParameters.builder().setNameQuery(Optional.of("0%\\")).build(),
+            tiGroup,
+            /* pageSize= */ 10,
+            /* page= */ 1);
+
+    assertThat(underscoreResult.accounts())
+        .extracting(AccountModel::getEmailAddress)
+        .containsExactly("email20");
+    assertThat(percentResult.accounts())
+        .extracting(AccountModel::getEmailAddress)
+        .containsExactly("email30");
+  }
+
   @Test
   public void getManagedAccounts_SearchWithEmptyStringNameAndDob_returnsFullList() {
     setupTiClientAccountWithApplicant("Bobo", "2022-07-08", "bobo@clown.test", tiGroup);
@@ -376,7 +403,7 @@ public class TrustedIntermediaryServiceTest extends WithMockedProfiles {
             .setYearQuery(Optional.of(""))
             .build();
     TrustedIntermediarySearchResult tiResult =
-        service.getManagedAccounts(searchParameters, tiGroup);
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 10, /* page= */ 1);
     // The size is 3 because two other accounts are added to the tiGroup in setup()
     assertThat(tiResult.accounts().size()).isEqualTo(3);
   }
@@ -392,7 +419,7 @@ public class TrustedIntermediaryServiceTest extends WithMockedProfiles {
             .setYearQuery(Optional.empty())
             .build();
     TrustedIntermediarySearchResult tiResult =
-        service.getManagedAccounts(searchParameters, tiGroup);
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 10, /* page= */ 1);
     // The size is 3 because two other accounts are added to the tiGroup in setup()
     assertThat(tiResult.accounts().size()).isEqualTo(3);
   }
@@ -410,7 +437,7 @@ public class TrustedIntermediaryServiceTest extends WithMockedProfiles {
             .setYearQuery(Optional.of(""))
             .build();
     TrustedIntermediarySearchResult tiResult =
-        service.getManagedAccounts(searchParameters, tiGroup);
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 10, /* page= */ 1);
     assertThat(tiResult.accounts().size()).isEqualTo(0);
   }
 
@@ -426,11 +453,36 @@ public class TrustedIntermediaryServiceTest extends WithMockedProfiles {
             .setYearQuery(Optional.of(""))
             .build();
     TrustedIntermediarySearchResult tiResult =
-        service.getManagedAccounts(searchParameters, tiGroup);
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 10, /* page= */ 1);
     assertThat(tiResult.accounts().size()).isEqualTo(1);
     assertThat(tiResult.accounts().get(0).getApplicantDisplayName()).contains("Bobo");
   }
 
+  @Test
+  public void getManagedAccounts_returnsPageSortedByName() {
+    setupTiClientAccountWithApplicant("Beta", "2022-07-08", "email12", tiGroup);
+    setupTiClientAccountWithApplicant("Alpha", "2022-07-08", "email22", tiGroup);
+    SearchParameters searchParameters =
+        SearchParameters.builder()
+            .setNameQuery(Optional.empty())
+            .setDayQuery(Optional.empty())
+            .setMonthQuery(Optional.empty())
+            .setYearQuery(Optional.empty())
+            .build();
+
+    TrustedIntermediarySearchResult firstPage =
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 3, /* page= */ 1);
+    TrustedIntermediarySearchResult secondPage =
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 3, /* page= */ 2);
+
+    // The unnamed account added to the tiGroup in setup() sorts last.
+    assertThat(firstPage.accounts().stream().map(AccountModel::getApplicantDisplayName))
+        .containsExactly("Last, Alpha", "Last, Beta", "Last, clientFirst");
+    assertThat(firstPage.pageCount()).isEqualTo(2);
+    assertThat(secondPage.accounts()).hasSize(1);
+    assertThat(secondPage.pageCount()).isEqualTo(2);
+  }
+
   @Test
   public void getManagedAccounts_ExpectUnformattedDobException() {
     setupTiClientAccountWithApplicant("First", "2022-07-08", "email11", tiGroup);
@@ -444,7 +496,7 @@ public class TrustedIntermediaryServiceTest extends WithMockedProfiles {
             .setYearQuery(Optional.of("2"))
             .build();
     TrustedIntermediarySearchResult tiResult =
-        service.getManagedAccounts(searchParameters, tiGroup);
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 10, /* page= */ 1);
     assertThat(tiResult.accounts().size()).isEqualTo(tiGroup.getManagedAccounts().size());
     assertThat(tiResult.errorMessage().get()).isEqualTo("Please enter a valid birth date.");
   }
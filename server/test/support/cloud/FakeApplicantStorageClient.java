@@ -1,11 +1,24 @@
 package support.cloud;
 
+import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import services.cloud.ApplicantStorageClient;
+import services.cloud.FileDeletionFailureException;
+import services.cloud.FileDownloadFailureException;
+import services.cloud.FileUploadFailureException;
 import services.cloud.StorageServiceName;
 import services.cloud.StorageUploadRequest;
 
 public class FakeApplicantStorageClient implements ApplicantStorageClient {
+  private final Map<String, String> uploadedFiles = new HashMap<>();
+
   @Override
   public int getFileLimitMb() {
     return 1;
@@ -32,6 +45,40 @@ public class FakeApplicantStorageClient implements ApplicantStorageClient {
     };
   }
 
+  @Override
+  public void uploadFile(String fileKey, InputStream content, long contentLength)
+      throws FileUploadFailureException {
+    try {
+      uploadedFiles.put(fileKey, new String(content.readAllBytes(), StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new FileUploadFailureException(e);
+    }
+  }
+
+  @Override
+  public InputStream downloadFile(String fileKey) throws FileDownloadFailureException {
+    String content = uploadedFiles.get(fileKey);
+    if (content == null) {
+      throw new FileDownloadFailureException(new FileNotFoundException(fileKey));
+    }
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void deleteFile(String fileKey) throws FileDeletionFailureException {
+    uploadedFiles.remove(fileKey);
+  }
+
+  /** Returns the content of the file uploaded with {@code fileKey}, if there is one. */
+  public Optional<String> getUploadedFile(String fileKey) {
+    return Optional.ofNullable(uploadedFiles.get(fileKey));
+  }
+
+  /** Returns the keys of the files that are currently stored. */
+  public ImmutableSet<String> getUploadedFileKeys() {
+    return ImmutableSet.copyOf(uploadedFiles.keySet());
+  }
+
   @Override
   public StorageServiceName getStorageServiceName() {
     return StorageServiceName.AWS_S3;
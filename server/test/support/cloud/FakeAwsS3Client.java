@@ -4,9 +4,9 @@ import com.google.common.collect.ImmutableList;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import services.cloud.FileDeletionFailureException;
 import services.cloud.aws.AwsS3ClientWrapper;
 import services.cloud.aws.Credentials;
-import services.cloud.aws.FileDeletionFailureException;
 import services.cloud.aws.FileListFailureException;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.regions.Region;